@@ -10,6 +10,7 @@ import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
@@ -23,12 +24,16 @@ import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionCompiler;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
 
 @Warmup(iterations = 1)
 @Measurement(iterations = 3)
@@ -48,6 +53,23 @@ public class ComparisonOperatorBenchmark {
           .put("date", fromObjectValue("2022-01-12", DATE))
           .build();
 
+  private Environment<Expression, ExprValue> row;
+
+  private Expression predicate;
+
+  private Expression compiledPredicate;
+
+  /** Build the predicate (a = b AND NOT a < b) OR a > b on a row of the test data type. */
+  @Setup
+  public void setUp() {
+    ExprValue param = params.get(testDataType);
+    row = ExprTupleValue.fromExprValueMap(ImmutableMap.of("a", param, "b", param)).bindingTuples();
+    Expression a = ref("a", param.type());
+    Expression b = ref("b", param.type());
+    predicate = DSL.or(DSL.and(DSL.equal(a, b), DSL.not(DSL.less(a, b))), DSL.greater(a, b));
+    compiledPredicate = ExpressionCompiler.compile(predicate);
+  }
+
   @Benchmark
   public void testEqualOperator() {
     run(DSL::equal);
@@ -63,6 +85,16 @@ public class ComparisonOperatorBenchmark {
     run(DSL::greater);
   }
 
+  @Benchmark
+  public ExprValue testInterpretedPredicate() {
+    return predicate.valueOf(row);
+  }
+
+  @Benchmark
+  public ExprValue testCompiledPredicate() {
+    return compiledPredicate.valueOf(row);
+  }
+
   private void run(Function<Expression[], FunctionExpression> dsl) {
     ExprValue param = params.get(testDataType);
     FunctionExpression func = dsl.apply(new Expression[] {literal(param), literal(param)});
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.data.value;
+
+import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.SearchHit;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDateType;
+
+/**
+ * Compare constructing rows from the source of search hits converted to a String with constructing
+ * them from the source bytes by {@link OpenSearchExprValueFactory#construct(
+ * org.opensearch.core.common.bytes.BytesReference, List, boolean)}.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class OpenSearchExprValueFactoryBenchmark {
+
+  private static final int HITS = 10_000;
+
+  private static final int KEYWORDS = 8;
+
+  private static final int NUMBERS = 8;
+
+  /** All fields, or a few of them, as pushed down by a projection. */
+  @Param(value = {"all", "subset"})
+  private String includedFields;
+
+  private List<SearchHit> hits;
+
+  private List<String> includes;
+
+  private OpenSearchExprValueFactory factory;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Map<String, OpenSearchDataType> mapping = new LinkedHashMap<>();
+    mapping.put("id", OpenSearchDataType.of(LONG));
+    mapping.put("timestamp", OpenSearchDateType.of(TIMESTAMP));
+    mapping.put("active", OpenSearchDataType.of(BOOLEAN));
+    for (int i = 0; i < KEYWORDS; i++) {
+      mapping.put("keyword" + i, OpenSearchDataType.of(STRING));
+    }
+    for (int i = 0; i < NUMBERS; i++) {
+      mapping.put("number" + i, OpenSearchDataType.of(DOUBLE));
+    }
+    mapping.put("address", OpenSearchDataType.of(STRUCT));
+    mapping.put("address.city", OpenSearchDataType.of(STRING));
+    mapping.put("address.zip", OpenSearchDataType.of(INTEGER));
+    mapping.put("tags", OpenSearchDataType.of(ARRAY));
+    mapping.put("tags.name", OpenSearchDataType.of(STRING));
+    factory = new OpenSearchExprValueFactory(mapping);
+
+    includes =
+        includedFields.equals("all")
+            ? List.of()
+            : List.of("id", "timestamp", "keyword0", "number0", "address.city");
+
+    Random random = new Random(42);
+    hits = new ArrayList<>(HITS);
+    for (int i = 0; i < HITS; i++) {
+      SearchHit hit = new SearchHit(i);
+      hit.sourceRef(new BytesArray(source(i, random)));
+      hits.add(hit);
+    }
+  }
+
+  @Benchmark
+  public List<ExprValue> testConstructFromSourceString() {
+    List<ExprValue> result = new ArrayList<>(hits.size());
+    for (SearchHit hit : hits) {
+      result.add(factory.construct(hit.getSourceAsString(), false));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<ExprValue> testConstructFromSourceBytes() {
+    List<ExprValue> result = new ArrayList<>(hits.size());
+    for (SearchHit hit : hits) {
+      result.add(factory.construct(hit.getSourceRef(), includes, false));
+    }
+    return result;
+  }
+
+  private String source(int id, Random random) {
+    StringBuilder source = new StringBuilder();
+    source.append("{\"id\":").append(id);
+    source
+        .append(",\"timestamp\":\"")
+        .append(Instant.ofEpochSecond(1_600_000_000L + random.nextInt(86_400 * 365)))
+        .append('"');
+    source.append(",\"active\":").append(random.nextBoolean());
+    for (int i = 0; i < KEYWORDS; i++) {
+      source.append(",\"keyword").append(i).append("\":\"value_").append(random.nextInt(1000));
+      source.append('"');
+    }
+    for (int i = 0; i < NUMBERS; i++) {
+      source.append(",\"number").append(i).append("\":").append(random.nextGaussian());
+    }
+    source.append(",\"address\":{\"city\":\"city_").append(random.nextInt(100));
+    source.append("\",\"zip\":").append(10_000 + random.nextInt(90_000)).append('}');
+    source.append(",\"tags\":[");
+    for (int i = 0; i < 3; i++) {
+      source.append(i == 0 ? "" : ",").append("{\"name\":\"tag_").append(random.nextInt(50));
+      source.append("\"}");
+    }
+    return source.append("]}").toString();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.utils.ExprValueOrdering;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+/**
+ * Compare sorting rows by evaluating the sort expression on every comparison with sorting rows
+ * decorated once by {@link Sorter#key(ExprValue)}.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class SortOperatorBenchmark {
+
+  private static final int ROWS = 1_000_000;
+
+  private static final Map<String, ExprCoreType> TYPES =
+      ImmutableMap.of("long", LONG, "double", DOUBLE, "string", STRING, "timestamp", TIMESTAMP);
+
+  @Param(value = {"long", "double", "string", "timestamp"})
+  private String testDataType;
+
+  private List<ExprValue> rows;
+
+  private Expression expression;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    rows = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      LinkedHashMap<String, ExprValue> row = new LinkedHashMap<>();
+      row.put("id", new ExprLongValue(i));
+      row.put("field", value(random));
+      rows.add(new ExprTupleValue(row));
+    }
+    expression = ref("field", TYPES.get(testDataType));
+  }
+
+  @Benchmark
+  public List<ExprValue> testEvaluatePerComparison() {
+    Comparator<ExprValue> ordering = ExprValueOrdering.natural().nullsFirst();
+    List<ExprValue> result = new ArrayList<>(rows);
+    result.sort(
+        (o1, o2) ->
+            ordering.compare(
+                expression.valueOf(o1.bindingTuples()), expression.valueOf(o2.bindingTuples())));
+    return result;
+  }
+
+  @Benchmark
+  public List<SortKey> testPrecomputedSortKey() {
+    Sorter sorter = Sorter.of(ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, expression)));
+    List<SortKey> result = new ArrayList<>(rows.size());
+    for (ExprValue row : rows) {
+      result.add(sorter.key(row));
+    }
+    result.sort(sorter);
+    return result;
+  }
+
+  private ExprValue value(Random random) {
+    switch (testDataType) {
+      case "long":
+        return new ExprLongValue(random.nextLong());
+      case "double":
+        return new ExprDoubleValue(random.nextGaussian());
+      case "string":
+        // shared prefixes exercise the fallback to full string comparison
+        return new ExprStringValue("user_" + random.nextInt(ROWS));
+      default:
+        return new ExprTimestampValue(
+            Instant.ofEpochSecond(random.nextInt(86_400), random.nextInt(1_000_000_000)));
+    }
+  }
+}
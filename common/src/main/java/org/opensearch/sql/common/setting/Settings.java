@@ -22,6 +22,8 @@ public abstract class Settings {
     SQL_ENABLED("plugins.sql.enabled"),
     SQL_SLOWLOG("plugins.sql.slowlog"),
     SQL_CURSOR_KEEP_ALIVE("plugins.sql.cursor.keep_alive"),
+    SQL_CURSOR_STORE_ENABLED("plugins.sql.cursor.store.enabled"),
+    SQL_PAGINATION_API_SEARCH_AFTER("plugins.sql.pagination.api"),
     SQL_DELETE_ENABLED("plugins.sql.delete.enabled"),
 
     /** PPL Settings. */
@@ -29,7 +31,13 @@ public abstract class Settings {
 
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
+    QUERY_BREAKER_LIMIT("plugins.query.breaker.limit"),
+    QUERY_BREAKER_PER_QUERY_LIMIT("plugins.query.breaker.per_query_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_SORT_SPILL_THRESHOLD("plugins.query.sort.spill_threshold"),
+    QUERY_SCAN_PREFETCH_BATCHES("plugins.query.scan.prefetch_batches"),
+    QUERY_SCAN_MAX_SLICES("plugins.query.scan.max_slices"),
+    QUERY_STATEMENT_CACHE_SIZE("plugins.query.statement_cache.size"),
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_HOSTS_DENY_LIST("plugins.query.datasources.uri.hosts.denylist"),
     DATASOURCES_LIMIT("plugins.query.datasources.limit"),
@@ -389,13 +389,11 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
       }
     }
 
-    // For each unresolved window function, analyze it by "insert" a window and sort operator
+    // For the unresolved window functions, analyze them by "insert" window and sort operators
     // between project and its child.
-    for (UnresolvedExpression expr : node.getProjectList()) {
-      WindowExpressionAnalyzer windowAnalyzer =
-          new WindowExpressionAnalyzer(expressionAnalyzer, child);
-      child = windowAnalyzer.analyze(expr, context);
-    }
+    child =
+        new WindowExpressionAnalyzer(expressionAnalyzer, child)
+            .analyze(node.getProjectList(), context);
 
     for (UnresolvedExpression expr : node.getProjectList()) {
       HighlightAnalyzer highlightAnalyzer = new HighlightAnalyzer(expressionAnalyzer, child);
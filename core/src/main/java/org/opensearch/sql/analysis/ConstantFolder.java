@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.analysis;
+
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.expression.window.ranking.RankingWindowFunction;
+
+/**
+ * Fold a function of which all the arguments are literals into the literal of its value, so that
+ * the function is evaluated once per query instead of once per row. For example, {@code now() -
+ * interval 1 day} is folded into a timestamp literal, because NOW returns the query start time.
+ * The {@link ExpressionAnalyzer} folds each function it resolves, so constant subtrees are folded
+ * bottom up.
+ */
+@UtilityClass
+public class ConstantFolder {
+
+  /** Functions which return a different value each time they are evaluated. */
+  private static final Set<FunctionName> NON_DETERMINISTIC_FUNCTIONS =
+      Set.of(BuiltinFunctionName.RAND.getName(), BuiltinFunctionName.SYSDATE.getName());
+
+  /** Functions which depend on the row besides their arguments. */
+  private static final Set<FunctionName> ROW_FUNCTIONS =
+      Set.of(BuiltinFunctionName.NESTED.getName());
+
+  /**
+   * Fold an expression.
+   *
+   * @param expression resolved expression
+   * @return literal of the expression value if it is a constant function, otherwise the expression
+   */
+  public static Expression fold(Expression expression) {
+    if (!isConstant(expression)) {
+      return expression;
+    }
+    ExprValue value;
+    try {
+      value = expression.valueOf();
+    } catch (RuntimeException e) {
+      // The error is reported when the function is evaluated for a row.
+      return expression;
+    }
+    // A NULL or MISSING literal would lose the type of the function.
+    if (value.isNull() || value.isMissing() || !value.type().equals(expression.type())) {
+      return expression;
+    }
+    return DSL.literal(value);
+  }
+
+  private static boolean isConstant(Expression expression) {
+    if (!(expression instanceof FunctionExpression)
+        || expression instanceof Aggregator
+        || expression instanceof RankingWindowFunction
+        || expression instanceof OpenSearchFunctions.OpenSearchFunction) {
+      return false;
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    return !NON_DETERMINISTIC_FUNCTIONS.contains(function.getFunctionName())
+        && !ROW_FUNCTIONS.contains(function.getFunctionName())
+        && function.getArguments().stream().allMatch(arg -> arg instanceof LiteralExpression);
+  }
+}
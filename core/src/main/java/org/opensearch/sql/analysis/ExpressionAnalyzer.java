@@ -73,7 +73,7 @@ import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 
 /**
  * Analyze the {@link UnresolvedExpression} in the {@link AnalysisContext} to construct the {@link
- * Expression}.
+ * Expression}. The functions of literals are folded into literals by {@link ConstantFolder}.
  */
 public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, AnalysisContext> {
   @Getter private final BuiltinFunctionRepository repository;
@@ -81,11 +81,12 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
   @Override
   public Expression visitCast(Cast node, AnalysisContext context) {
     final Expression expression = node.getExpression().accept(this, context);
-    return (Expression)
-        repository.compile(
-            context.getFunctionProperties(),
-            node.convertFunctionName(),
-            Collections.singletonList(expression));
+    return ConstantFolder.fold(
+        (Expression)
+            repository.compile(
+                context.getFunctionProperties(),
+                node.convertFunctionName(),
+                Collections.singletonList(expression)));
   }
 
   public ExpressionAnalyzer(BuiltinFunctionRepository repository) {
@@ -106,7 +107,7 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     Expression left = node.getLeft().accept(this, context);
     Expression right = node.getRight().accept(this, context);
 
-    return DSL.equal(left, right);
+    return ConstantFolder.fold(DSL.equal(left, right));
   }
 
   @Override
@@ -119,7 +120,7 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
   public Expression visitInterval(Interval node, AnalysisContext context) {
     Expression value = node.getValue().accept(this, context);
     Expression unit = DSL.literal(node.getUnit().name());
-    return DSL.interval(value, unit);
+    return ConstantFolder.fold(DSL.interval(value, unit));
   }
 
   @Override
@@ -127,7 +128,7 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     Expression left = node.getLeft().accept(this, context);
     Expression right = node.getRight().accept(this, context);
 
-    return DSL.and(left, right);
+    return ConstantFolder.fold(DSL.and(left, right));
   }
 
   @Override
@@ -135,7 +136,7 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     Expression left = node.getLeft().accept(this, context);
     Expression right = node.getRight().accept(this, context);
 
-    return DSL.or(left, right);
+    return ConstantFolder.fold(DSL.or(left, right));
   }
 
   @Override
@@ -143,12 +144,12 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     Expression left = node.getLeft().accept(this, context);
     Expression right = node.getRight().accept(this, context);
 
-    return DSL.xor(left, right);
+    return ConstantFolder.fold(DSL.xor(left, right));
   }
 
   @Override
   public Expression visitNot(Not node, AnalysisContext context) {
-    return DSL.not(node.getExpression().accept(this, context));
+    return ConstantFolder.fold(DSL.not(node.getExpression().accept(this, context)));
   }
 
   @Override
@@ -199,8 +200,9 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
                   }
                 })
             .collect(Collectors.toList());
-    return (Expression)
-        repository.compile(context.getFunctionProperties(), functionName, arguments);
+    return ConstantFolder.fold(
+        (Expression)
+            repository.compile(context.getFunctionProperties(), functionName, arguments));
   }
 
   @SuppressWarnings("unchecked")
@@ -290,9 +292,10 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     if (valueList.size() == 1) {
       return visitCompare(new Compare("=", field, valueList.get(0)), context);
     } else if (valueList.size() > 1) {
-      return DSL.or(
-          visitCompare(new Compare("=", field, valueList.get(0)), context),
-          visitIn(field, valueList.subList(1, valueList.size()), context));
+      return ConstantFolder.fold(
+          DSL.or(
+              visitCompare(new Compare("=", field, valueList.get(0)), context),
+              visitIn(field, valueList.subList(1, valueList.size()), context)));
     } else {
       throw new SemanticCheckException("Values in In clause should not be empty");
     }
@@ -303,9 +306,10 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     FunctionName functionName = FunctionName.of(node.getOperator());
     Expression left = analyze(node.getLeft(), context);
     Expression right = analyze(node.getRight(), context);
-    return (Expression)
-        repository.compile(
-            context.getFunctionProperties(), functionName, Arrays.asList(left, right));
+    return ConstantFolder.fold(
+        (Expression)
+            repository.compile(
+                context.getFunctionProperties(), functionName, Arrays.asList(left, right)));
   }
 
   @Override
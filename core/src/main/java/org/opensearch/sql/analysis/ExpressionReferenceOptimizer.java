@@ -150,10 +150,12 @@ public class ExpressionReferenceOptimizer
 
     @Override
     public Void visitWindow(LogicalWindow plan, Void context) {
-      Expression windowFunc = plan.getWindowFunction();
-      expressionMap.put(
-          windowFunc,
-          new ReferenceExpression(((NamedExpression) windowFunc).getName(), windowFunc.type()));
+      plan.getWindowFunctions()
+          .forEach(
+              windowFunc ->
+                  expressionMap.put(
+                      windowFunc,
+                      new ReferenceExpression(windowFunc.getName(), windowFunc.type())));
       return visitNode(plan, context);
     }
   }
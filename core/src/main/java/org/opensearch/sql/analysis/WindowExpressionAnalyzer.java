@@ -10,7 +10,12 @@ import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -19,7 +24,13 @@ import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.expression.Alias;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
 import org.opensearch.sql.ast.expression.WindowFunction;
+import org.opensearch.sql.ast.expression.WindowFunction.BoundType;
+import org.opensearch.sql.ast.expression.WindowFunction.Frame;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameUnit;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
@@ -29,7 +40,9 @@ import org.opensearch.sql.planner.logical.LogicalWindow;
 
 /**
  * Window expression analyzer that analyzes window function expression in expression list in project
- * operator.
+ * operator. Window functions of the same window definition are computed by one window operator, and
+ * the sort of a window definition is skipped if its sort items are a prefix of those of the window
+ * operator below.
  */
 @RequiredArgsConstructor
 public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext> {
@@ -49,10 +62,52 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
    * @return window operator or original child if not windowed
    */
   public LogicalPlan analyze(UnresolvedExpression projectItem, AnalysisContext context) {
-    LogicalPlan window = projectItem.accept(this, context);
-    return (window == null) ? child : window;
+    return analyze(Collections.singletonList(projectItem), context);
   }
 
+  /**
+   * Analyze the given project items and return window operators (with child node inside) for the
+   * window functions among them. The window definitions with more sort items are planned first, so
+   * that a window definition whose sort items are a prefix reuses the sort of the former.
+   *
+   * @param projectList project items
+   * @param context analysis context
+   * @return window operators or original child if none windowed
+   */
+  public LogicalPlan analyze(List<UnresolvedExpression> projectList, AnalysisContext context) {
+    Map<WindowDefinition, List<NamedExpression>> windowFunctions = new LinkedHashMap<>();
+    for (UnresolvedExpression projectItem : projectList) {
+      LogicalWindow window = (LogicalWindow) projectItem.accept(this, context);
+      if (window != null) {
+        windowFunctions
+            .computeIfAbsent(window.getWindowDefinition(), definition -> new ArrayList<>())
+            .addAll(window.getWindowFunctions());
+      }
+    }
+
+    List<WindowDefinition> windowDefinitions = new ArrayList<>(windowFunctions.keySet());
+    windowDefinitions.sort(
+        Comparator.comparingInt(
+                (WindowDefinition definition) -> definition.getAllSortItems().size())
+            .reversed());
+
+    LogicalPlan plan = child;
+    List<Pair<SortOption, Expression>> sortedItems = Collections.emptyList();
+    for (WindowDefinition windowDefinition : windowDefinitions) {
+      List<Pair<SortOption, Expression>> allSortItems = windowDefinition.getAllSortItems();
+      if (!isPrefix(allSortItems, sortedItems)) {
+        plan = new LogicalSort(plan, allSortItems);
+        sortedItems = allSortItems;
+      }
+      plan = new LogicalWindow(plan, windowFunctions.get(windowDefinition), windowDefinition);
+    }
+    return plan;
+  }
+
+  /**
+   * Analyze the window function and return window operator without sort, which is used to collect
+   * the window function and its definition only.
+   */
   @Override
   public LogicalPlan visitAlias(Alias node, AnalysisContext context) {
     if (!(node.getDelegated() instanceof WindowFunction)) {
@@ -64,16 +119,18 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
     List<Expression> partitionByList = analyzePartitionList(unresolved, context);
     List<Pair<SortOption, Expression>> sortList = analyzeSortList(unresolved, context);
 
-    WindowDefinition windowDefinition = new WindowDefinition(partitionByList, sortList);
+    WindowDefinition windowDefinition =
+        new WindowDefinition(partitionByList, sortList, analyzeFrame(unresolved, sortList));
     NamedExpression namedWindowFunction =
         new NamedExpression(node.getName(), windowFunction, node.getAlias());
-    List<Pair<SortOption, Expression>> allSortItems = windowDefinition.getAllSortItems();
+    return new LogicalWindow(child, namedWindowFunction, windowDefinition);
+  }
 
-    if (allSortItems.isEmpty()) {
-      return new LogicalWindow(child, namedWindowFunction, windowDefinition);
-    }
-    return new LogicalWindow(
-        new LogicalSort(child, allSortItems), namedWindowFunction, windowDefinition);
+  private boolean isPrefix(
+      List<Pair<SortOption, Expression>> sortItems,
+      List<Pair<SortOption, Expression>> sortedItems) {
+    return sortItems.size() <= sortedItems.size()
+        && sortItems.equals(sortedItems.subList(0, sortItems.size()));
   }
 
   private List<Expression> analyzePartitionList(WindowFunction node, AnalysisContext context) {
@@ -93,6 +150,44 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
         .collect(Collectors.toList());
   }
 
+  /**
+   * Check the frame bounds, which are in the order of positions, with offsets valid for the frame
+   * unit. The offset of RANGE frame is the difference of the only sort key, which must be numeric.
+   */
+  private Frame analyzeFrame(WindowFunction node, List<Pair<SortOption, Expression>> sortList) {
+    Frame frame = node.getFrame();
+    if (frame == null) {
+      return null;
+    }
+
+    BoundType start = frame.getStart().getType();
+    BoundType end = frame.getEnd().getType();
+    if (start == BoundType.UNBOUNDED_FOLLOWING
+        || end == BoundType.UNBOUNDED_PRECEDING
+        || start.compareTo(end) > 0) {
+      throw new SemanticCheckException(
+          String.format("Window frame can't start from %s and end at %s", start, end));
+    }
+
+    for (FrameBound bound : List.of(frame.getStart(), frame.getEnd())) {
+      if (bound.getOffset() == null) {
+        continue;
+      }
+      if (frame.getUnit() == FrameUnit.ROWS
+          && !(bound.getOffset() instanceof Integer || bound.getOffset() instanceof Long)) {
+        throw new SemanticCheckException(
+            String.format("ROWS frame offset must be an integer: %s", bound.getOffset()));
+      }
+      if (frame.getUnit() == FrameUnit.RANGE
+          && (sortList.size() != 1
+              || !ExprCoreType.numberTypes().contains(sortList.get(0).getRight().type()))) {
+        throw new SemanticCheckException(
+            "RANGE frame with offset requires exactly one numeric sort key in window definition");
+      }
+    }
+    return frame;
+  }
+
   /**
    * Frontend creates sort option from query directly which means sort or null order may be null.
    * The final and default value for each is determined here during expression analysis.
@@ -302,6 +302,14 @@ public class AstDSL {
     return new WindowFunction(function, partitionByList, sortList);
   }
 
+  public UnresolvedExpression window(
+      UnresolvedExpression function,
+      List<UnresolvedExpression> partitionByList,
+      List<Pair<SortOption, UnresolvedExpression>> sortList,
+      WindowFunction.Frame frame) {
+    return new WindowFunction(function, partitionByList, sortList, frame);
+  }
+
   public static UnresolvedExpression not(UnresolvedExpression expression) {
     return new Not(expression);
   }
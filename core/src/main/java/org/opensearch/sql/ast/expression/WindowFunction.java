@@ -8,6 +8,7 @@ package org.opensearch.sql.ast.expression;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
 import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,17 @@ public class WindowFunction extends UnresolvedExpression {
   private List<UnresolvedExpression> partitionByList;
   private List<Pair<SortOption, UnresolvedExpression>> sortList;
 
+  /** Frame of the window function, which is null if not specified. */
+  private Frame frame;
+
+  /** Window function without frame specified. */
+  public WindowFunction(
+      UnresolvedExpression function,
+      List<UnresolvedExpression> partitionByList,
+      List<Pair<SortOption, UnresolvedExpression>> sortList) {
+    this(function, partitionByList, sortList, null);
+  }
+
   @Override
   public List<? extends Node> getChild() {
     ImmutableList.Builder<UnresolvedExpression> children = ImmutableList.builder();
@@ -41,4 +53,37 @@ public class WindowFunction extends UnresolvedExpression {
   public <T, C> T accept(AbstractNodeVisitor<T, C> nodeVisitor, C context) {
     return nodeVisitor.visitWindowFunction(this, context);
   }
+
+  /**
+   * Window frame, which is the rows of the partition from the start bound to the end bound relative
+   * to the current row. The offset of the bounds is the number of rows in ROWS frame, or the
+   * difference of the sort key value in RANGE frame.
+   */
+  @Data
+  public static class Frame {
+    private final FrameUnit unit;
+    private final FrameBound start;
+    private final FrameBound end;
+  }
+
+  /** Frame bound with the offset of n PRECEDING or n FOLLOWING, which is null for the others. */
+  @Data
+  public static class FrameBound {
+    private final BoundType type;
+    private final Number offset;
+  }
+
+  public enum FrameUnit {
+    ROWS,
+    RANGE
+  }
+
+  /** Type of frame bound, in the order of position relative to the current row. */
+  public enum BoundType {
+    UNBOUNDED_PRECEDING,
+    PRECEDING,
+    CURRENT_ROW,
+    FOLLOWING,
+    UNBOUNDED_FOLLOWING
+  }
 }
@@ -8,17 +8,27 @@
 
 package org.opensearch.sql.ast.statement;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
+import org.opensearch.sql.executor.profile.QueryProfile;
 
 /** Explain Statement. */
 @Data
+@AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 public class Explain extends Statement {
 
   private final Statement statement;
 
+  /** Profile of the statement executed to be explained, or null to explain without executing. */
+  private final QueryProfile profile;
+
+  public Explain(Statement statement) {
+    this(statement, null);
+  }
+
   @Override
   public <R, C> R accept(AbstractNodeVisitor<R, C> visitor, C context) {
     return visitor.visitExplain(this, context);
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * Tuple value stored as an array of values with a {@link RowSchema} shared by all rows of an
+ * operator, instead of a map per row. The {@link #tupleValue()} is a read-only map view of the
+ * slots, so a row is equal to the {@link ExprTupleValue} of the same fields in the same order.
+ */
+public class ExprRowValue extends ExprTupleValue {
+
+  @Getter private final RowSchema schema;
+
+  private final ExprValue[] values;
+
+  /**
+   * Constructor. The values are not copied, so the array must not be modified afterward.
+   *
+   * @param schema schema of the row
+   * @param values value of each slot of the schema
+   */
+  public ExprRowValue(RowSchema schema, ExprValue[] values) {
+    super(new RowMap(schema, values));
+    if (schema.size() != values.length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "%d values don't match the %d fields of schema %s",
+              values.length, schema.size(), schema));
+    }
+    this.schema = schema;
+    this.values = values;
+  }
+
+  /**
+   * Get the value of a slot.
+   *
+   * @param slot slot in the schema
+   * @return value
+   */
+  public ExprValue slotValue(int slot) {
+    return values[slot];
+  }
+
+  /**
+   * Create the row of the same values with another schema of the same size, without copying them.
+   * For example, the fields of the row are renamed by the schema.
+   *
+   * @param newSchema new schema
+   * @return row
+   */
+  public ExprRowValue withSchema(RowSchema newSchema) {
+    return new ExprRowValue(newSchema, values);
+  }
+
+  @Override
+  public ExprValue keyValue(String key) {
+    int slot = schema.slotOf(key);
+    return slot < 0 ? ExprMissingValue.of() : values[slot];
+  }
+
+  /** Read-only map view of the slots of a row, in the order of the schema. */
+  private static class RowMap extends AbstractMap<String, ExprValue> implements Serializable {
+    private final RowSchema schema;
+
+    private final ExprValue[] values;
+
+    RowMap(RowSchema schema, ExprValue[] values) {
+      this.schema = schema;
+      this.values = values;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof String && schema.slotOf((String) key) >= 0;
+    }
+
+    @Override
+    public ExprValue get(Object key) {
+      int slot = key instanceof String ? schema.slotOf((String) key) : -1;
+      return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    public Set<Entry<String, ExprValue>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return values.length;
+        }
+
+        @Override
+        public Iterator<Entry<String, ExprValue>> iterator() {
+          return new Iterator<>() {
+            private int slot = 0;
+
+            @Override
+            public boolean hasNext() {
+              return slot < values.length;
+            }
+
+            @Override
+            public Entry<String, ExprValue> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              Map.Entry<String, ExprValue> entry =
+                  new SimpleImmutableEntry<>(schema.fieldName(slot), values[slot]);
+              slot++;
+              return entry;
+            }
+          };
+        }
+      };
+    }
+  }
+}
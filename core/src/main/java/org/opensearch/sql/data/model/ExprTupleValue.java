@@ -11,17 +11,24 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 import org.opensearch.sql.storage.bindingtuple.LazyBindingTuple;
 
 /** Expression Tuple Value. */
-@RequiredArgsConstructor
 public class ExprTupleValue extends AbstractExprValue {
 
-  private final LinkedHashMap<String, ExprValue> valueMap;
+  private final Map<String, ExprValue> valueMap;
+
+  public ExprTupleValue(LinkedHashMap<String, ExprValue> valueMap) {
+    this.valueMap = valueMap;
+  }
+
+  /** Constructor of subclass which stores the values by itself and provides a map view. */
+  protected ExprTupleValue(Map<String, ExprValue> valueMap) {
+    this.valueMap = valueMap;
+  }
 
   public static ExprTupleValue fromExprValueMap(Map<String, ExprValue> map) {
     LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>(map);
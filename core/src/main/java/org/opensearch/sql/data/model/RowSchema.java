@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable field names of the rows produced by an operator, shared by all the {@link ExprRowValue}
+ * it produces. Each field is stored in a slot of the row, so a field is looked up once per schema
+ * instead of once per row.
+ */
+@EqualsAndHashCode(of = "fieldNames")
+@ToString(of = "fieldNames")
+public class RowSchema implements Serializable {
+
+  /** Field names, in the order of the slots. */
+  @Getter private final List<String> fieldNames;
+
+  private final Map<String, Integer> slots;
+
+  /**
+   * Constructor.
+   *
+   * @param fieldNames field names, in the order of the slots
+   * @throws IllegalArgumentException if a field name is duplicated
+   */
+  public RowSchema(List<String> fieldNames) {
+    this.fieldNames = List.copyOf(fieldNames);
+    this.slots = new HashMap<>(fieldNames.size() * 2);
+    for (int slot = 0; slot < fieldNames.size(); slot++) {
+      if (slots.put(fieldNames.get(slot), slot) != null) {
+        throw new IllegalArgumentException(
+            String.format("Multiple entries with same key: %s", fieldNames.get(slot)));
+      }
+    }
+  }
+
+  public int size() {
+    return fieldNames.size();
+  }
+
+  /**
+   * Get the slot of a field.
+   *
+   * @param fieldName field name
+   * @return slot of the field, or -1 if there is no such field
+   */
+  public int slotOf(String fieldName) {
+    Integer slot = slots.get(fieldName);
+    return slot == null ? -1 : slot;
+  }
+
+  public String fieldName(int slot) {
+    return fieldNames.get(slot);
+  }
+
+  /**
+   * Create the schema of the same slots with the fields renamed.
+   *
+   * @param rename function from the field name to the new field name
+   * @return renamed schema
+   */
+  public RowSchema rename(UnaryOperator<String> rename) {
+    return new RowSchema(fieldNames.stream().map(rename).collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+/**
+ * Compact binary encoding of {@link ExprValue}. Every value is written as a one byte tag followed
+ * by its payload. Core value classes are encoded natively, any other value (for example storage
+ * specific values or intervals) falls back to Java serialization so that the round trip is always
+ * lossless.
+ */
+@UtilityClass
+public class ExprValueCodec {
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte TIMESTAMP = 12;
+  private static final byte STRUCT = 13;
+  private static final byte ARRAY = 14;
+  private static final byte SERIALIZED = 15;
+
+  /** Natively encoded value classes. Sub-classes are deliberately not matched. */
+  private static final Map<Class<?>, Byte> NATIVE_TAGS =
+      new ImmutableMap.Builder<Class<?>, Byte>()
+          .put(ExprBooleanValue.class, BOOLEAN)
+          .put(ExprByteValue.class, BYTE)
+          .put(ExprShortValue.class, SHORT)
+          .put(ExprIntegerValue.class, INTEGER)
+          .put(ExprLongValue.class, LONG)
+          .put(ExprFloatValue.class, FLOAT)
+          .put(ExprDoubleValue.class, DOUBLE)
+          .put(ExprStringValue.class, STRING)
+          .put(ExprDateValue.class, DATE)
+          .put(ExprTimeValue.class, TIME)
+          .put(ExprTimestampValue.class, TIMESTAMP)
+          .put(ExprTupleValue.class, STRUCT)
+          .put(ExprRowValue.class, STRUCT)
+          .put(ExprCollectionValue.class, ARRAY)
+          .build();
+
+  /**
+   * Write the value to output.
+   *
+   * @param out data output
+   * @param value value to write
+   */
+  public static void write(DataOutput out, ExprValue value) throws IOException {
+    if (value.isNull()) {
+      out.writeByte(NULL);
+      return;
+    }
+    if (value.isMissing()) {
+      out.writeByte(MISSING);
+      return;
+    }
+
+    byte tag = NATIVE_TAGS.getOrDefault(value.getClass(), SERIALIZED);
+    out.writeByte(tag);
+    switch (tag) {
+      case BOOLEAN:
+        out.writeBoolean(value.booleanValue());
+        break;
+      case BYTE:
+        out.writeByte(value.byteValue());
+        break;
+      case SHORT:
+        out.writeShort(value.shortValue());
+        break;
+      case INTEGER:
+        out.writeInt(value.integerValue());
+        break;
+      case LONG:
+        out.writeLong(value.longValue());
+        break;
+      case FLOAT:
+        out.writeFloat(value.floatValue());
+        break;
+      case DOUBLE:
+        out.writeDouble(value.doubleValue());
+        break;
+      case STRING:
+        writeString(out, value.stringValue());
+        break;
+      case DATE:
+        out.writeLong(value.dateValue().toEpochDay());
+        break;
+      case TIME:
+        out.writeLong(value.timeValue().toNanoOfDay());
+        break;
+      case TIMESTAMP:
+        Instant instant = value.timestampValue();
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+        break;
+      case STRUCT:
+        Map<String, ExprValue> tuple = value.tupleValue();
+        out.writeInt(tuple.size());
+        for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+          writeString(out, entry.getKey());
+          write(out, entry.getValue());
+        }
+        break;
+      case ARRAY:
+        List<ExprValue> collection = value.collectionValue();
+        out.writeInt(collection.size());
+        for (ExprValue element : collection) {
+          write(out, element);
+        }
+        break;
+      default:
+        writeSerialized(out, value);
+    }
+  }
+
+  /**
+   * Read a value previously written by {@link #write(DataOutput, ExprValue)}.
+   *
+   * @param in data input
+   * @return value
+   */
+  public static ExprValue read(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return ExprValueUtils.nullValue();
+      case MISSING:
+        return ExprValueUtils.missingValue();
+      case BOOLEAN:
+        return ExprBooleanValue.of(in.readBoolean());
+      case BYTE:
+        return new ExprByteValue(in.readByte());
+      case SHORT:
+        return new ExprShortValue(in.readShort());
+      case INTEGER:
+        return new ExprIntegerValue(in.readInt());
+      case LONG:
+        return new ExprLongValue(in.readLong());
+      case FLOAT:
+        return new ExprFloatValue(in.readFloat());
+      case DOUBLE:
+        return new ExprDoubleValue(in.readDouble());
+      case STRING:
+        return new ExprStringValue(readString(in));
+      case DATE:
+        return new ExprDateValue(LocalDate.ofEpochDay(in.readLong()));
+      case TIME:
+        return new ExprTimeValue(LocalTime.ofNanoOfDay(in.readLong()));
+      case TIMESTAMP:
+        return new ExprTimestampValue(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+      case STRUCT:
+        int size = in.readInt();
+        LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+          String key = readString(in);
+          valueMap.put(key, read(in));
+        }
+        return new ExprTupleValue(valueMap);
+      case ARRAY:
+        int length = in.readInt();
+        List<ExprValue> valueList = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+          valueList.add(read(in));
+        }
+        return new ExprCollectionValue(valueList);
+      case SERIALIZED:
+        return readSerialized(in);
+      default:
+        throw new IllegalStateException("Unknown value tag: " + tag);
+    }
+  }
+
+  private static void writeString(DataOutput out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeSerialized(DataOutput out, ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+      objectOutput.writeObject(value);
+    }
+    out.writeInt(bytes.size());
+    out.write(bytes.toByteArray());
+  }
+
+  private static ExprValue readSerialized(DataInput in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (ExprValue) objectInput.readObject();
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Failed to deserialize value", e);
+    }
+  }
+}
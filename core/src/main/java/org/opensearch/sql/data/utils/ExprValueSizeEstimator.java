@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Estimate of the heap bytes retained by an {@link ExprValue}. The estimate is based on the
+ * typical object layout of a 64-bit JVM with compressed references and is only meant for memory
+ * accounting, it is not exact. Field names and row schemas are shared between rows, so they are
+ * not counted.
+ */
+@UtilityClass
+public class ExprValueSizeEstimator {
+
+  /** Null and missing values are singletons. */
+  private static final long SHARED_BYTES = 0;
+
+  /** Value object wrapping a boxed primitive or a small immutable object. */
+  private static final long SCALAR_BYTES = 32;
+
+  /** Value object, {@link String} and its byte array header. */
+  private static final long STRING_BYTES = 56;
+
+  /** Value object and its map, list or array header. */
+  private static final long CONTAINER_BYTES = 48;
+
+  /** Hash map entry or list slot referencing an element. */
+  private static final long ENTRY_BYTES = 32;
+
+  /** Array slot referencing an element. */
+  private static final long SLOT_BYTES = 4;
+
+  /**
+   * Estimate the heap bytes retained by the value.
+   *
+   * @param value value
+   * @return estimated bytes
+   */
+  public static long estimate(ExprValue value) {
+    if (value.isNull() || value.isMissing()) {
+      return SHARED_BYTES;
+    }
+    if (value instanceof ExprStringValue) {
+      return STRING_BYTES + value.stringValue().length();
+    }
+    if (value instanceof ExprRowValue) {
+      ExprRowValue row = (ExprRowValue) value;
+      long bytes = CONTAINER_BYTES;
+      for (int slot = 0; slot < row.getSchema().size(); slot++) {
+        bytes += SLOT_BYTES + estimate(row.slotValue(slot));
+      }
+      return bytes;
+    }
+    if (value instanceof ExprTupleValue) {
+      long bytes = CONTAINER_BYTES;
+      for (Map.Entry<String, ExprValue> entry : value.tupleValue().entrySet()) {
+        bytes += ENTRY_BYTES + estimate(entry.getValue());
+      }
+      return bytes;
+    }
+    if (value instanceof ExprCollectionValue) {
+      long bytes = CONTAINER_BYTES;
+      for (ExprValue element : value.collectionValue()) {
+        bytes += ENTRY_BYTES + estimate(element);
+      }
+      return bytes;
+    }
+    return SCALAR_BYTES;
+  }
+}
@@ -7,13 +7,13 @@ package org.opensearch.sql.executor;
 
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 
 /** Execution engine that encapsulates execution details. */
@@ -42,6 +42,20 @@ public interface ExecutionEngine {
    */
   void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener);
 
+  /**
+   * Execute physical plan without returning its rows, and explain it with the rows and time of
+   * each operator recorded to the profile.
+   *
+   * @param plan physical plan to profile
+   * @param profile profile of the query
+   * @param listener response listener
+   */
+  default void profile(
+      PhysicalPlan plan, QueryProfile profile, ResponseListener<ExplainResponse> listener) {
+    listener.onFailure(
+        new UnsupportedOperationException("profile is not supported by the execution engine"));
+  }
+
   /** Data class that encapsulates ExprValue. */
   @Data
   class QueryResponse {
@@ -69,14 +83,27 @@ public interface ExecutionEngine {
   @Data
   class ExplainResponse {
     private final ExplainResponseNode root;
+
+    /** Time of each phase of the query, only if the query is profiled. */
+    private Map<String, Long> profile;
   }
 
-  @AllArgsConstructor
   @Data
   @RequiredArgsConstructor
   class ExplainResponseNode {
     private final String name;
     private Map<String, Object> description;
     private List<ExplainResponseNode> children;
+
+    /** Rows and time of the operator, only if the query is profiled. */
+    private Map<String, Object> profile;
+
+    /** Constructor of explained operator. */
+    public ExplainResponseNode(
+        String name, Map<String, Object> description, List<ExplainResponseNode> children) {
+      this.name = name;
+      this.description = description;
+      this.children = children;
+    }
   }
 }
@@ -7,8 +7,10 @@ package org.opensearch.sql.executor;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -16,6 +18,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.profile.OperatorProfile;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
@@ -30,17 +34,36 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
 
-/** Visitor that explains a physical plan to JSON format. */
+/**
+ * Visitor that explains a physical plan to JSON format. If the plan is executed with a {@link
+ * QueryProfile}, the rows and time of each operator are explained too.
+ */
 public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object>
     implements Function<PhysicalPlan, ExplainResponse> {
 
+  /** Profile of the plan executed, or null if the plan is not executed. */
+  private final QueryProfile profile;
+
+  public Explain() {
+    this(null);
+  }
+
+  public Explain(QueryProfile profile) {
+    this.profile = profile;
+  }
+
   @Override
   public ExplainResponse apply(PhysicalPlan plan) {
-    return new ExplainResponse(plan.accept(this, null));
+    ExplainResponse response = new ExplainResponse(plan.accept(this, null));
+    if (profile != null) {
+      response.setProfile(profile.phaseTimes());
+    }
+    return response;
   }
 
   @Override
@@ -101,7 +124,10 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
         explainNode ->
             explainNode.setDescription(
                 ImmutableMap.of(
-                    "function", node.getWindowFunction().toString(),
+                    "function",
+                        node.getWindowFunctions().stream()
+                            .map(Object::toString)
+                            .collect(Collectors.joining(", ")),
                     "definition",
                         ImmutableMap.of(
                             "partitionBy",
@@ -189,6 +215,19 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
                 ImmutableMap.of("limit", node.getLimit(), "offset", node.getOffset())));
   }
 
+  @Override
+  public ExplainResponseNode visitTopN(TopNOperator node, Object context) {
+    return explain(
+        node,
+        context,
+        explainNode ->
+            explainNode.setDescription(
+                ImmutableMap.of(
+                    "sortList", describeSortList(node.getSortList()),
+                    "limit", node.getLimit(),
+                    "offset", node.getOffset())));
+  }
+
   @Override
   public ExplainResponseNode visitNested(NestedOperator node, Object context) {
     return explain(
@@ -207,10 +246,32 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
     }
     explainNode.setChildren(children);
 
+    if (profile != null) {
+      profile
+          .operator(node)
+          .ifPresent(operator -> explainNode.setProfile(describeProfile(node, operator)));
+    }
     doExplain.accept(explainNode);
     return explainNode;
   }
 
+  private Map<String, Object> describeProfile(PhysicalPlan node, OperatorProfile operator) {
+    Map<String, Object> description = new LinkedHashMap<>();
+    if (!node.getChild().isEmpty()) {
+      description.put(
+          "rows_in",
+          node.getChild().stream()
+              .map(profile::operator)
+              .flatMap(Optional::stream)
+              .mapToLong(OperatorProfile::getRows)
+              .sum());
+    }
+    description.put("rows_out", operator.getRows());
+    description.put("open_time_in_nanos", operator.getOpenNanos());
+    description.put("next_time_in_nanos", operator.getNextNanos());
+    return description;
+  }
+
   private String getOperatorName(PhysicalPlan node) {
     return node.getClass().getSimpleName();
   }
@@ -13,6 +13,7 @@ import org.opensearch.sql.analysis.AnalysisContext;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -86,6 +87,27 @@ public class QueryService {
     }
   }
 
+  /**
+   * Execute the query in {@link UnresolvedPlan} and explain it with the time of each phase and the
+   * rows and time of each operator recorded to {@link QueryProfile}.
+   *
+   * @param plan {@link UnresolvedPlan}
+   * @param profile {@link QueryProfile} of the query
+   * @param listener {@link ResponseListener} for explain response
+   */
+  public void profile(
+      UnresolvedPlan plan,
+      QueryProfile profile,
+      ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    try {
+      LogicalPlan logicalPlan = profile.time(QueryProfile.ANALYZE, () -> analyze(plan));
+      PhysicalPlan physicalPlan = profile.time(QueryProfile.PLAN, () -> plan(logicalPlan));
+      executionEngine.profile(physicalPlan, profile, listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
   /** Analyze {@link UnresolvedPlan}. */
   public LogicalPlan analyze(UnresolvedPlan plan) {
     return analyzer.analyze(plan, new AnalysisContext());
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.Value;
+import org.opensearch.sql.ast.statement.Statement;
+
+/**
+ * Cache of the statements parsed from query texts, so that a query which is submitted repeatedly is
+ * parsed by ANTLR and converted to AST only once. The statement is analyzed and planned for each
+ * request, because the analysis depends on the index mapping and the query start time. The cache
+ * is bounded by the total length of the query texts cached, and the least recently used entries
+ * are evicted first.
+ */
+public class StatementCache {
+
+  private final LongSupplier maximumSize;
+
+  private final Runnable hitCounter;
+
+  private final Runnable missCounter;
+
+  private final AtomicReference<SizedCache> cache = new AtomicReference<>(new SizedCache(0));
+
+  /**
+   * Constructor.
+   *
+   * @param maximumSize maximum total length of the query texts cached, 0 disables the cache. The
+   *     cache is emptied when the maximum size changes.
+   * @param hitCounter called when a statement is found in the cache
+   * @param missCounter called when a statement is parsed
+   */
+  public StatementCache(LongSupplier maximumSize, Runnable hitCounter, Runnable missCounter) {
+    this.maximumSize = maximumSize;
+    this.hitCounter = hitCounter;
+    this.missCounter = missCounter;
+  }
+
+  /** Cache which never keeps a statement. */
+  public static StatementCache disabled() {
+    return new StatementCache(() -> 0L, () -> {}, () -> {});
+  }
+
+  /**
+   * Get the statement of the key from the cache, or parse and cache it. The errors of the parser
+   * are thrown as is and nothing is cached.
+   *
+   * @param key query text and the request options which affect the statement
+   * @param parser parses the query text into statement
+   * @return statement
+   */
+  public Statement get(Key key, Supplier<Statement> parser) {
+    long size = maximumSize.getAsLong();
+    SizedCache sizedCache =
+        cache.updateAndGet(current -> current.size == size ? current : new SizedCache(size));
+    Statement statement = sizedCache.cache.getIfPresent(key);
+    if (statement != null) {
+      hitCounter.run();
+      return statement;
+    }
+    missCounter.run();
+    statement = parser.get();
+    if (size > 0) {
+      sizedCache.cache.put(key, statement);
+    }
+    return statement;
+  }
+
+  /** Cache of which the maximum size is known to compare with the setting. */
+  private static class SizedCache {
+    private final long size;
+
+    private final Cache<Key, Statement> cache;
+
+    SizedCache(long size) {
+      this.size = size;
+      this.cache =
+          CacheBuilder.newBuilder()
+              .maximumWeight(size)
+              .<Key, Statement>weigher((key, statement) -> key.getQuery().length())
+              .build();
+    }
+  }
+
+  /**
+   * Statement cache key. The query text is not normalized, because the AST builders take column
+   * names from the query text as is.
+   */
+  @Value
+  public static class Key {
+    String language;
+    String query;
+    boolean explain;
+    int fetchSize;
+  }
+}
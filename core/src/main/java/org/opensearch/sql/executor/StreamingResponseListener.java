@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.List;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+/**
+ * Query response listener which receives the result rows in batches as they are produced, instead
+ * of one {@link QueryResponse} holding all rows. An execution engine which supports streaming calls
+ * {@link #onSchema(Schema)} once, then {@link #onBatch(List)} for each batch of rows and finally
+ * {@link #onComplete(Cursor)}. {@link #onFailure(Exception)} may be called at any point instead of
+ * the remaining callbacks.
+ *
+ * <p>An execution engine which doesn't support streaming calls {@link #onResponse(QueryResponse)},
+ * which delivers the whole response as a single batch.
+ */
+public interface StreamingResponseListener extends ResponseListener<QueryResponse> {
+
+  /**
+   * Handle the schema of the response, before any row.
+   *
+   * @param schema response schema
+   */
+  void onSchema(Schema schema);
+
+  /**
+   * Handle a batch of result rows.
+   *
+   * @param rows result rows
+   */
+  void onBatch(List<ExprValue> rows);
+
+  /**
+   * Handle the end of the response, after all rows.
+   *
+   * @param cursor cursor of the next page, or {@link Cursor#None}
+   */
+  void onComplete(Cursor cursor);
+
+  @Override
+  default void onResponse(QueryResponse response) {
+    onSchema(response.getSchema());
+    onBatch(response.getResults());
+    onComplete(response.getCursor());
+  }
+}
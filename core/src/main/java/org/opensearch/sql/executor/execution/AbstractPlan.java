@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.profile.QueryProfile;
 
 /** AbstractPlan represent the execution entity of the Statement. */
 @RequiredArgsConstructor
@@ -30,4 +31,16 @@ public abstract class AbstractPlan {
    * @param listener query explain response listener.
    */
   public abstract void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener);
+
+  /**
+   * Execute the query and explain it with the profile of the execution.
+   *
+   * @param profile profile of the query.
+   * @param listener query explain response listener.
+   */
+  public void profile(
+      QueryProfile profile, ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " does not support profile");
+  }
 }
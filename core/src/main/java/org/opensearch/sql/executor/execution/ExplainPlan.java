@@ -11,12 +11,16 @@ package org.opensearch.sql.executor.execution;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.profile.QueryProfile;
 
 /** Explain plan. */
 public class ExplainPlan extends AbstractPlan {
 
   private final AbstractPlan plan;
 
+  /** Profile of the plan executed to be explained, or null to explain without executing. */
+  private final QueryProfile profile;
+
   private final ResponseListener<ExecutionEngine.ExplainResponse> explainListener;
 
   /** Constructor. */
@@ -24,14 +28,28 @@ public class ExplainPlan extends AbstractPlan {
       QueryId queryId,
       AbstractPlan plan,
       ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
+    this(queryId, plan, null, explainListener);
+  }
+
+  /** Constructor of the plan which executes the plan explained with the profile. */
+  public ExplainPlan(
+      QueryId queryId,
+      AbstractPlan plan,
+      QueryProfile profile,
+      ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
     super(queryId);
     this.plan = plan;
+    this.profile = profile;
     this.explainListener = explainListener;
   }
 
   @Override
   public void execute() {
-    plan.explain(explainListener);
+    if (profile == null) {
+      plan.explain(explainListener);
+    } else {
+      plan.profile(profile, explainListener);
+    }
   }
 
   @Override
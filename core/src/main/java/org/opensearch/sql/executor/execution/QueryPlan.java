@@ -16,6 +16,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.profile.QueryProfile;
 
 /** Query plan which includes a <em>select</em> query. */
 public class QueryPlan extends AbstractPlan {
@@ -76,4 +77,16 @@ public class QueryPlan extends AbstractPlan {
       queryService.explain(plan, listener);
     }
   }
+
+  @Override
+  public void profile(
+      QueryProfile profile, ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    if (pageSize.isPresent()) {
+      listener.onFailure(
+          new NotImplementedException(
+              "`profile` feature for paginated requests is not implemented yet."));
+    } else {
+      queryService.profile(plan, profile, listener);
+    }
+  }
 }
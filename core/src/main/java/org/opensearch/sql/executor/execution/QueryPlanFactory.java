@@ -26,6 +26,7 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.pagination.CanPaginateVisitor;
+import org.opensearch.sql.executor.pagination.CursorStore;
 
 /** QueryExecution Factory. */
 @RequiredArgsConstructor
@@ -39,6 +40,13 @@ public class QueryPlanFactory
   /** Query Service. */
   private final QueryService queryService;
 
+  /** Store of the cursors, which resolves the IDs of the stored cursors. */
+  private final CursorStore cursorStore;
+
+  public QueryPlanFactory(QueryService queryService) {
+    this(queryService, CursorStore.disabled());
+  }
+
   /**
    * NO_CONSUMER_RESPONSE_LISTENER should never be called. It is only used as constructor parameter
    * of {@link QueryPlan}.
@@ -75,7 +83,12 @@ public class QueryPlanFactory
       ResponseListener<ExecutionEngine.QueryResponse> queryResponseListener,
       ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
     QueryId queryId = QueryId.queryId();
-    var plan = new QueryPlan(queryId, new FetchCursor(cursor), queryService, queryResponseListener);
+    var plan =
+        new QueryPlan(
+            queryId,
+            new FetchCursor(cursorStore.resolve(cursor)),
+            queryService,
+            queryResponseListener);
     return isExplain ? new ExplainPlan(queryId, plan, explainListener) : plan;
   }
 
@@ -86,9 +99,11 @@ public class QueryPlanFactory
   /** Creates a {@link CloseCursor} command on a cursor. */
   public AbstractPlan createCloseCursor(
       String cursor, ResponseListener<ExecutionEngine.QueryResponse> queryResponseListener) {
+    String resolved = cursorStore.resolve(cursor);
+    cursorStore.remove(cursor);
     return new CommandPlan(
         QueryId.queryId(),
-        new CloseCursor().attach(new FetchCursor(cursor)),
+        new CloseCursor().attach(new FetchCursor(resolved)),
         queryService,
         queryResponseListener);
   }
@@ -134,6 +149,7 @@ public class QueryPlanFactory
     return new ExplainPlan(
         QueryId.queryId(),
         create(node.getStatement(), Optional.of(NO_CONSUMER_RESPONSE_LISTENER), Optional.empty()),
+        node.getProfile(),
         context.getRight().get());
   }
 }
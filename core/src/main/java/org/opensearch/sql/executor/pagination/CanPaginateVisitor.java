@@ -7,6 +7,7 @@ package org.opensearch.sql.executor.pagination;
 
 import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.Node;
+import org.opensearch.sql.ast.expression.AggregateFunction;
 import org.opensearch.sql.ast.expression.Alias;
 import org.opensearch.sql.ast.expression.AllFields;
 import org.opensearch.sql.ast.expression.And;
@@ -52,7 +53,8 @@ import org.opensearch.sql.expression.function.BuiltinFunctionName;
  * Currently, V2 engine does not support queries with:<br>
  *
  * <ul>
- *   <li>aggregation (GROUP BY clause or aggregation functions like min/max)
+ *   <li>aggregation without GROUP BY clause (aggregation functions like min/max)
+ *   <li>HAVING or ORDER BY clause over GROUP BY clause
  *   <li>in memory aggregation (window function)
  *   <li>LIMIT/OFFSET clause(s)
  *   <li>without FROM clause
@@ -88,7 +90,8 @@ public class CanPaginateVisitor extends AbstractNodeVisitor<Boolean, Object> {
   // https://github.com/opensearch-project/sql/issues/1471
   @Override
   public Boolean visitSort(Sort node, Object context) {
-    return node.getSortList().stream()
+    return !isOverAggregation(node)
+        && node.getSortList().stream()
             .allMatch(f -> f.getField() instanceof QualifiedName && visitField(f, context))
         && canPaginate(node, context);
   }
@@ -96,13 +99,30 @@ public class CanPaginateVisitor extends AbstractNodeVisitor<Boolean, Object> {
   // For queries with WHERE clause:
   @Override
   public Boolean visitFilter(Filter node, Object context) {
-    return canPaginate(node, context) && node.getCondition().accept(this, context);
+    return !isOverAggregation(node)
+        && canPaginate(node, context)
+        && node.getCondition().accept(this, context);
   }
 
-  // Queries with GROUP BY clause are not supported
+  // Queries with GROUP BY clause are paged through the composite buckets, only if nothing but
+  // a projection is evaluated over the buckets. Aggregation without GROUP BY is not supported.
   @Override
   public Boolean visitAggregation(Aggregation node, Object context) {
-    return Boolean.FALSE;
+    return !node.getGroupExprList().isEmpty()
+        && node.getGroupExprList().stream().allMatch(n -> n.accept(this, context))
+        && node.getAggExprList().stream().allMatch(n -> n.accept(this, context))
+        && canPaginate(node, context);
+  }
+
+  @Override
+  public Boolean visitAggregateFunction(AggregateFunction node, Object context) {
+    return canPaginate(node, context)
+        && node.getArgList().stream().allMatch(n -> n.accept(this, context))
+        && (node.getCondition() == null || node.getCondition().accept(this, context));
+  }
+
+  private boolean isOverAggregation(Node node) {
+    return node.getChild().stream().anyMatch(Aggregation.class::isInstance);
   }
 
   // For queries without FROM clause:
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.pagination;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Store of the cursors on the node, so that the client is given a short ID instead of the whole
+ * serialized plan in each page. A stored cursor is kept for the cursor keep alive time after it is
+ * last used, and is only known to the node which created it, so the requests of the next pages must
+ * be sent to the same node. Cursors are stored only if enabled, otherwise they are returned as is.
+ */
+public class CursorStore {
+  public static final String CURSOR_PREFIX = "s:";
+
+  /** Maximum total length of the cursors stored, the least recently used are evicted first. */
+  static final long MAXIMUM_WEIGHT = 64 * 1024 * 1024;
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final BooleanSupplier enabled;
+
+  private final LongSupplier keepAliveMillis;
+
+  private final AtomicReference<TimedCache> cache = new AtomicReference<>(new TimedCache(0));
+
+  /**
+   * Constructor.
+   *
+   * @param enabled whether the new cursors are stored. The stored cursors can still be resolved
+   *     after it is disabled.
+   * @param keepAliveMillis time to keep a cursor after it is last used. The stored cursors are
+   *     dropped when the keep alive changes.
+   */
+  public CursorStore(BooleanSupplier enabled, LongSupplier keepAliveMillis) {
+    this.enabled = enabled;
+    this.keepAliveMillis = keepAliveMillis;
+  }
+
+  /** Store which never stores a cursor. */
+  public static CursorStore disabled() {
+    return new CursorStore(() -> false, () -> 0L);
+  }
+
+  /**
+   * Store the cursor if enabled.
+   *
+   * @param cursor serialized cursor
+   * @return ID of the stored cursor, or the cursor itself if not stored
+   */
+  public String store(String cursor) {
+    if (!enabled.getAsBoolean()) {
+      return cursor;
+    }
+    String id = CURSOR_PREFIX + newId();
+    currentCache().cache.put(id, cursor);
+    return id;
+  }
+
+  /**
+   * Resolve the ID of a stored cursor to the cursor.
+   *
+   * @param cursor cursor, or ID of a stored cursor
+   * @return serialized cursor
+   * @throws UnsupportedOperationException if the cursor is expired or not stored on this node
+   */
+  public String resolve(String cursor) {
+    if (!cursor.startsWith(CURSOR_PREFIX)) {
+      return cursor;
+    }
+    String stored = currentCache().cache.getIfPresent(cursor);
+    if (stored == null) {
+      throw new UnsupportedOperationException("Cursor is expired or unknown to this node");
+    }
+    return stored;
+  }
+
+  /**
+   * Remove the cursor from the store, if stored.
+   *
+   * @param cursor cursor, or ID of a stored cursor
+   */
+  public void remove(String cursor) {
+    currentCache().cache.invalidate(cursor);
+  }
+
+  private TimedCache currentCache() {
+    long keepAlive = keepAliveMillis.getAsLong();
+    return cache.updateAndGet(
+        current -> current.keepAlive == keepAlive ? current : new TimedCache(keepAlive));
+  }
+
+  /** Random ID of 22 characters. */
+  private static String newId() {
+    UUID uuid = UUID.randomUUID();
+    ByteBuffer bytes = ByteBuffer.allocate(16);
+    bytes.putLong(uuid.getMostSignificantBits());
+    bytes.putLong(uuid.getLeastSignificantBits());
+    return ENCODER.encodeToString(bytes.array());
+  }
+
+  /** Cache of which the keep alive is known to compare with the setting. */
+  private static class TimedCache {
+    private final long keepAlive;
+
+    private final Cache<String, String> cache;
+
+    TimedCache(long keepAlive) {
+      this.keepAlive = keepAlive;
+      this.cache =
+          CacheBuilder.newBuilder()
+              .expireAfterAccess(keepAlive, TimeUnit.MILLISECONDS)
+              .maximumWeight(MAXIMUM_WEIGHT)
+              .<String, String>weigher((id, cursor) -> cursor.length())
+              .build();
+    }
+  }
+}
@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.executor.pagination;
 
-import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -14,9 +13,11 @@ import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Base64;
 import java.util.zip.Deflater;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.planner.SerializablePlan;
@@ -25,19 +26,34 @@ import org.opensearch.sql.storage.StorageEngine;
 
 /**
  * This class is entry point to paged requests. It is responsible to cursor serialization and
- * deserialization.
+ * deserialization. The cursors created are put in the {@link CursorStore}, which gives the client
+ * a short ID instead if enabled.
  */
 @RequiredArgsConstructor
 public class PlanSerializer {
   public static final String CURSOR_PREFIX = "n:";
 
+  /** Version of the cursor encoding, the first byte of the encoded data. */
+  static final byte FORMAT_VERSION = 1;
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
   private final StorageEngine engine;
 
+  private final CursorStore cursorStore;
+
+  public PlanSerializer(StorageEngine engine) {
+    this(engine, CursorStore.disabled());
+  }
+
   /** Converts a physical plan tree to a cursor. */
   public Cursor convertToCursor(PhysicalPlan plan) {
     try {
       return new Cursor(
-          CURSOR_PREFIX + serialize(((SerializablePlan) plan).getPlanForSerialization()));
+          cursorStore.store(
+              CURSOR_PREFIX + serialize(((SerializablePlan) plan).getPlanForSerialization())));
       // ClassCastException thrown when a plan in the tree doesn't implement SerializablePlan
     } catch (NotSerializableException | ClassCastException | NoCursorException e) {
       return Cursor.None;
@@ -45,30 +61,26 @@ public class PlanSerializer {
   }
 
   /**
-   * Serializes and compresses the object.
+   * Serializes and compresses the object. The encoded data is the {@link #FORMAT_VERSION} byte
+   * followed by the deflated serialized object, in URL safe base64 without padding.
    *
    * @param object The object.
    * @return Encoded binary data.
    */
   protected String serialize(Serializable object) throws NotSerializableException {
     try {
-      ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(object);
-      objectOutput.flush();
-
       ByteArrayOutputStream out = new ByteArrayOutputStream();
-      // GZIP provides 35-45%, lzma from apache commons-compress has few % better compression
-      GZIPOutputStream gzip =
-          new GZIPOutputStream(out) {
-            {
-              this.def.setLevel(Deflater.BEST_COMPRESSION);
-            }
-          };
-      gzip.write(output.toByteArray());
-      gzip.close();
-
-      return HashCode.fromBytes(out.toByteArray()).toString();
+      out.write(FORMAT_VERSION);
+      // raw deflate, the headers and checksum of GZIP are not needed in a cursor
+      Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+      try (ObjectOutputStream objectOutput =
+          new ObjectOutputStream(new DeflaterOutputStream(out, deflater))) {
+        objectOutput.writeObject(object);
+      } finally {
+        deflater.end();
+      }
+
+      return ENCODER.encodeToString(out.toByteArray());
     } catch (NotSerializableException e) {
       throw e;
     } catch (IOException e) {
@@ -77,23 +89,35 @@ public class PlanSerializer {
   }
 
   /**
-   * Decompresses and deserializes the binary data.
+   * Decompresses and deserializes the binary data. The cursors created before {@link
+   * #FORMAT_VERSION}, which were hex encoded GZIP data, are rejected.
    *
    * @param code Encoded binary data.
    * @return An object.
    */
   protected Serializable deserialize(String code) {
     try {
-      GZIPInputStream gzip =
-          new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(code).asBytes()));
-      ObjectInputStream objectInput =
-          new CursorDeserializationStream(new ByteArrayInputStream(gzip.readAllBytes()));
-      return (Serializable) objectInput.readObject();
+      byte[] bytes = DECODER.decode(code);
+      if (bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+        throw new IllegalArgumentException("Unsupported cursor format");
+      }
+      Inflater inflater = new Inflater(true);
+      try {
+        return read(
+            new InflaterInputStream(
+                new ByteArrayInputStream(bytes, 1, bytes.length - 1), inflater));
+      } finally {
+        inflater.end();
+      }
     } catch (Exception e) {
       throw new IllegalStateException("Failed to deserialize object", e);
     }
   }
 
+  private Serializable read(InputStream in) throws IOException, ClassNotFoundException {
+    return (Serializable) new CursorDeserializationStream(in).readObject();
+  }
+
   /** Converts a cursor to a physical plan tree. */
   public PhysicalPlan convertToPlan(String cursor) {
     if (!cursor.startsWith(CURSOR_PREFIX)) {
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import lombok.Getter;
+
+/**
+ * Rows and time of an operator recorded by {@link ProfilePlan}. The children of an operator are
+ * run in the calls to the operator, so the time of an operator includes the time of its children.
+ */
+@Getter
+public class OperatorProfile {
+
+  /** Number of rows returned. */
+  private long rows = 0;
+
+  /** Time spent in open, in nanoseconds. */
+  private long openNanos = 0;
+
+  /** Time spent in hasNext, next and nextBatch, in nanoseconds. */
+  private long nextNanos = 0;
+
+  void addOpen(long nanos) {
+    openNanos += nanos;
+  }
+
+  void addNext(long nanos, long rowCount) {
+    nextNanos += nanos;
+    rows += rowCount;
+  }
+}
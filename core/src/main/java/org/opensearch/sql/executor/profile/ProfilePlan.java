@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
+import org.opensearch.sql.storage.split.Split;
+
+/** A PhysicalPlan which records the rows and time of the delegate plan to its profile. */
+@ToString
+@RequiredArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class ProfilePlan extends PhysicalPlan {
+
+  /** Delegated PhysicalPlan. */
+  private final PhysicalPlan delegate;
+
+  /** Profile of the delegated operator. */
+  @ToString.Exclude @EqualsAndHashCode.Exclude private final OperatorProfile profile;
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return delegate.accept(visitor, context);
+  }
+
+  @Override
+  public void open() {
+    long start = System.nanoTime();
+    delegate.open();
+    profile.addOpen(System.nanoTime() - start);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return delegate.getChild();
+  }
+
+  @Override
+  public void add(Split split) {
+    delegate.add(split);
+  }
+
+  @Override
+  public ExecutionEngine.Schema schema() {
+    return delegate.schema();
+  }
+
+  @Override
+  public boolean hasNext() {
+    long start = System.nanoTime();
+    boolean hasNext = delegate.hasNext();
+    profile.addNext(System.nanoTime() - start, 0);
+    return hasNext;
+  }
+
+  @Override
+  public ExprValue next() {
+    long start = System.nanoTime();
+    ExprValue next = delegate.next();
+    profile.addNext(System.nanoTime() - start, 1);
+    return next;
+  }
+
+  @Override
+  public RowBatch nextBatch(int maxRows) {
+    long start = System.nanoTime();
+    RowBatch batch = delegate.nextBatch(maxRows);
+    profile.addNext(System.nanoTime() - start, batch.size());
+    return batch;
+  }
+}
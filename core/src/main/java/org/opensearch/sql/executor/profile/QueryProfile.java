@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+
+/**
+ * Profile of a query which is executed to be explained. It records the time of each phase of the
+ * query, and the {@link OperatorProfile} of each operator decorated by {@link ProfilePlan}. The
+ * profile of a query is recorded by one thread at a time, so it is not synchronized.
+ */
+public class QueryProfile {
+
+  public static final String PARSE = "parse";
+  public static final String ANALYZE = "analyze";
+  public static final String PLAN = "plan";
+  public static final String EXECUTE = "execute";
+
+  /** Visitor which returns the operator visited, through plans decorating it. */
+  private static final PhysicalPlanNodeVisitor<PhysicalPlan, Object> OPERATOR =
+      new PhysicalPlanNodeVisitor<>() {
+        @Override
+        public PhysicalPlan visitNode(PhysicalPlan node, Object context) {
+          return node;
+        }
+      };
+
+  /** Time of each phase in nanoseconds, in the order the phases are run. */
+  private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+  private final Map<PhysicalPlan, OperatorProfile> operators = new IdentityHashMap<>();
+
+  /**
+   * Run a phase of the query and record its time.
+   *
+   * @param phase phase name
+   * @param action phase to run
+   * @return result of the phase
+   */
+  public <T> T time(String phase, Supplier<T> action) {
+    long start = System.nanoTime();
+    T result = action.get();
+    addPhase(phase, System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * Record the time of a phase of the query.
+   *
+   * @param phase phase name
+   * @param nanos time in nanoseconds
+   */
+  public void addPhase(String phase, long nanos) {
+    phaseNanos.merge(phase, nanos, Long::sum);
+  }
+
+  /**
+   * Time of each phase of the query.
+   *
+   * @return time in nanoseconds by phase, in the order the phases are run
+   */
+  public Map<String, Long> phaseTimes() {
+    Map<String, Long> times = new LinkedHashMap<>();
+    phaseNanos.forEach((phase, nanos) -> times.put(phase + "_time_in_nanos", nanos));
+    return times;
+  }
+
+  /**
+   * Decorate a plan to record the profile of its operator.
+   *
+   * @param plan operator, or a plan decorating it
+   * @return plan decorated by {@link ProfilePlan}
+   */
+  public PhysicalPlan profile(PhysicalPlan plan) {
+    if (plan instanceof ProfilePlan) {
+      return plan;
+    }
+    return new ProfilePlan(
+        plan, operators.computeIfAbsent(plan.accept(OPERATOR, null), op -> new OperatorProfile()));
+  }
+
+  /**
+   * Get the profile recorded for an operator.
+   *
+   * @param plan operator, or a plan decorating it
+   * @return profile of the operator, or empty if the operator is not profiled
+   */
+  public Optional<OperatorProfile> operator(PhysicalPlan plan) {
+    return Optional.ofNullable(operators.get(plan.accept(OPERATOR, null)));
+  }
+}
@@ -0,0 +1,766 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.SerializableBiFunction;
+
+/**
+ * Compile a resolved expression tree into a single fused evaluator.<br>
+ * The integer, long and double arithmetic (+, -, *) and comparison (=, !=, <, <=, >, >=) functions
+ * are fused with their arguments into a tree of primitive operations. The other sub-expressions,
+ * such as references and unsupported functions, are the leaves of the tree and are evaluated by the
+ * interpreter. The leaves are checked for NULL and MISSING once for the whole tree, instead of once
+ * per function, and no intermediate {@link ExprValue} is created between the fused functions.
+ * AND, OR and NOT combine fused trees with the same NULL and MISSING logic as the interpreter.
+ *
+ * <p>A batch of environments is evaluated column by column: each leaf is evaluated on every row
+ * into a column, which is converted once to a primitive int, long or double array, and each fused
+ * function then runs in a single loop over the arrays of its arguments.
+ *
+ * <p>The only difference with the interpreter is that a tree with a NULL or MISSING leaf returns
+ * NULL or MISSING even if the arithmetic on its other leaves overflows.
+ */
+@UtilityClass
+public class ExpressionCompiler {
+
+  private static final Map<FunctionName, Operator> ARITHMETIC =
+      Map.of(
+          BuiltinFunctionName.ADD.getName(), Operator.ADD,
+          BuiltinFunctionName.ADDFUNCTION.getName(), Operator.ADD,
+          BuiltinFunctionName.SUBTRACT.getName(), Operator.SUBTRACT,
+          BuiltinFunctionName.SUBTRACTFUNCTION.getName(), Operator.SUBTRACT,
+          BuiltinFunctionName.MULTIPLY.getName(), Operator.MULTIPLY,
+          BuiltinFunctionName.MULTIPLYFUNCTION.getName(), Operator.MULTIPLY);
+
+  private static final Map<FunctionName, Operator> COMPARISON =
+      Map.of(
+          BuiltinFunctionName.EQUAL.getName(), Operator.EQUAL,
+          BuiltinFunctionName.NOTEQUAL.getName(), Operator.NOT_EQUAL,
+          BuiltinFunctionName.LESS.getName(), Operator.LESS,
+          BuiltinFunctionName.LTE.getName(), Operator.LTE,
+          BuiltinFunctionName.GREATER.getName(), Operator.GREATER,
+          BuiltinFunctionName.GTE.getName(), Operator.GTE);
+
+  private static final Set<ExprType> NUMBER_TYPES = Set.of(INTEGER, LONG, DOUBLE);
+
+  /**
+   * Compile an expression.
+   *
+   * @param expression resolved expression
+   * @return compiled expression, or the expression itself if it has no function to fuse
+   */
+  public static Expression compile(Expression expression) {
+    Evaluator evaluator = evaluator(expression);
+    return evaluator == null ? expression : new CompiledExpression(expression, evaluator);
+  }
+
+  /**
+   * Evaluate an expression on a batch of environments, column by column if it is compiled.
+   *
+   * @param expression expression, compiled or not
+   * @param envs environments
+   * @return value of the expression in each environment
+   */
+  public static ExprValue[] valuesOf(
+      Expression expression, List<? extends Environment<Expression, ExprValue>> envs) {
+    if (expression instanceof CompiledExpression) {
+      return ((CompiledExpression) expression).valuesOf(envs);
+    }
+    ExprValue[] values = new ExprValue[envs.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = expression.valueOf(envs.get(i));
+    }
+    return values;
+  }
+
+  /** Evaluator of a fusable expression, or null if the expression is not fusable. */
+  private static Evaluator evaluator(Expression expression) {
+    if (!(expression instanceof FunctionExpression)) {
+      return null;
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    FunctionName name = function.getFunctionName();
+    if (name.equals(BuiltinFunctionName.AND.getName())) {
+      Evaluator left = operand(function.getArguments().get(0));
+      Evaluator right = operand(function.getArguments().get(1));
+      return new LogicalEvaluator(left, right, ExpressionCompiler::and);
+    } else if (name.equals(BuiltinFunctionName.OR.getName())) {
+      Evaluator left = operand(function.getArguments().get(0));
+      Evaluator right = operand(function.getArguments().get(1));
+      return new LogicalEvaluator(left, right, ExpressionCompiler::or);
+    } else if (name.equals(BuiltinFunctionName.NOT.getName())) {
+      Evaluator operand = operand(function.getArguments().get(0));
+      return new LogicalEvaluator(operand, operand, (value, same) -> not(value));
+    } else if (isFusable(function)) {
+      // the vector tree is built with the leaves in the same order as the row tree
+      List<Expression> leaves = new ArrayList<>();
+      List<Expression> vectorLeaves = new ArrayList<>();
+      if (function.type() == BOOLEAN) {
+        BooleanNode node = booleanNode(function, leaves);
+        BooleanVector vector = booleanVector(function, vectorLeaves);
+        return new StrictEvaluator(
+            leaves,
+            values -> ExprBooleanValue.of(node.eval(values)),
+            (columns, results) -> {
+              boolean[] vectorValues = vector.eval(columns);
+              for (int i = 0; i < columns.size; i++) {
+                if (columns.valid[i]) {
+                  results[i] = ExprBooleanValue.of(vectorValues[i]);
+                }
+              }
+            });
+      } else if (function.type() == INTEGER) {
+        IntNode node = intNode(function, leaves);
+        IntVector vector = intVector(function, vectorLeaves);
+        return new StrictEvaluator(
+            leaves,
+            values -> new ExprIntegerValue(node.eval(values)),
+            (columns, results) -> {
+              int[] vectorValues = vector.eval(columns);
+              for (int i = 0; i < columns.size; i++) {
+                if (columns.valid[i]) {
+                  results[i] = new ExprIntegerValue(vectorValues[i]);
+                }
+              }
+            });
+      } else if (function.type() == LONG) {
+        LongNode node = longNode(function, leaves);
+        LongVector vector = longVector(function, vectorLeaves);
+        return new StrictEvaluator(
+            leaves,
+            values -> new ExprLongValue(node.eval(values)),
+            (columns, results) -> {
+              long[] vectorValues = vector.eval(columns);
+              for (int i = 0; i < columns.size; i++) {
+                if (columns.valid[i]) {
+                  results[i] = new ExprLongValue(vectorValues[i]);
+                }
+              }
+            });
+      } else {
+        DoubleNode node = doubleNode(function, leaves);
+        DoubleVector vector = doubleVector(function, vectorLeaves);
+        return new StrictEvaluator(
+            leaves,
+            values -> new ExprDoubleValue(node.eval(values)),
+            (columns, results) -> {
+              double[] vectorValues = vector.eval(columns);
+              for (int i = 0; i < columns.size; i++) {
+                if (columns.valid[i]) {
+                  results[i] = new ExprDoubleValue(vectorValues[i]);
+                }
+              }
+            });
+      }
+    }
+    return null;
+  }
+
+  /** Evaluator of an operand of AND, OR and NOT, which falls back to the interpreter. */
+  private static Evaluator operand(Expression expression) {
+    Evaluator evaluator = evaluator(expression);
+    return evaluator == null ? expression::valueOf : evaluator;
+  }
+
+  /**
+   * Whether the expression is an arithmetic or comparison function of which the arguments are
+   * all of the same integer, long or double type.
+   */
+  private static boolean isFusable(Expression expression) {
+    if (!(expression instanceof FunctionExpression)) {
+      return false;
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    FunctionName name = function.getFunctionName();
+    List<Expression> arguments = function.getArguments();
+    if (!(ARITHMETIC.containsKey(name) || COMPARISON.containsKey(name))) {
+      return false;
+    }
+    ExprType type = arguments.get(0).type();
+    return NUMBER_TYPES.contains(type) && type.equals(arguments.get(1).type());
+  }
+
+  private static BooleanNode booleanNode(FunctionExpression function, List<Expression> leaves) {
+    Operator operator = COMPARISON.get(function.getFunctionName());
+    Expression left = function.getArguments().get(0);
+    Expression right = function.getArguments().get(1);
+    if (left.type() == INTEGER) {
+      IntNode l = intNode(left, leaves);
+      IntNode r = intNode(right, leaves);
+      return values -> operator.test(Integer.compare(l.eval(values), r.eval(values)));
+    } else if (left.type() == LONG) {
+      LongNode l = longNode(left, leaves);
+      LongNode r = longNode(right, leaves);
+      return values -> operator.test(Long.compare(l.eval(values), r.eval(values)));
+    } else {
+      DoubleNode l = doubleNode(left, leaves);
+      DoubleNode r = doubleNode(right, leaves);
+      return values -> operator.test(Double.compare(l.eval(values), r.eval(values)));
+    }
+  }
+
+  private static IntNode intNode(Expression expression, List<Expression> leaves) {
+    if (expression instanceof LiteralExpression) {
+      int constant = expression.valueOf().integerValue();
+      return values -> constant;
+    } else if (!isFusable(expression)) {
+      int slot = leaf(expression, leaves);
+      return values -> values[slot].integerValue();
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    IntNode l = intNode(function.getArguments().get(0), leaves);
+    IntNode r = intNode(function.getArguments().get(1), leaves);
+    switch (ARITHMETIC.get(function.getFunctionName())) {
+      case ADD:
+        return values -> Math.addExact(l.eval(values), r.eval(values));
+      case SUBTRACT:
+        return values -> Math.subtractExact(l.eval(values), r.eval(values));
+      default:
+        return values -> Math.multiplyExact(l.eval(values), r.eval(values));
+    }
+  }
+
+  private static LongNode longNode(Expression expression, List<Expression> leaves) {
+    if (expression instanceof LiteralExpression) {
+      long constant = expression.valueOf().longValue();
+      return values -> constant;
+    } else if (!isFusable(expression)) {
+      int slot = leaf(expression, leaves);
+      return values -> values[slot].longValue();
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    LongNode l = longNode(function.getArguments().get(0), leaves);
+    LongNode r = longNode(function.getArguments().get(1), leaves);
+    switch (ARITHMETIC.get(function.getFunctionName())) {
+      case ADD:
+        return values -> Math.addExact(l.eval(values), r.eval(values));
+      case SUBTRACT:
+        return values -> Math.subtractExact(l.eval(values), r.eval(values));
+      default:
+        return values -> Math.multiplyExact(l.eval(values), r.eval(values));
+    }
+  }
+
+  private static DoubleNode doubleNode(Expression expression, List<Expression> leaves) {
+    if (expression instanceof LiteralExpression) {
+      double constant = expression.valueOf().doubleValue();
+      return values -> constant;
+    } else if (!isFusable(expression)) {
+      int slot = leaf(expression, leaves);
+      return values -> values[slot].doubleValue();
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    DoubleNode l = doubleNode(function.getArguments().get(0), leaves);
+    DoubleNode r = doubleNode(function.getArguments().get(1), leaves);
+    switch (ARITHMETIC.get(function.getFunctionName())) {
+      case ADD:
+        return values -> l.eval(values) + r.eval(values);
+      case SUBTRACT:
+        return values -> l.eval(values) - r.eval(values);
+      default:
+        return values -> l.eval(values) * r.eval(values);
+    }
+  }
+
+  private static BooleanVector booleanVector(
+      FunctionExpression function, List<Expression> leaves) {
+    Operator operator = COMPARISON.get(function.getFunctionName());
+    Expression left = function.getArguments().get(0);
+    Expression right = function.getArguments().get(1);
+    if (left.type() == INTEGER) {
+      IntVector l = intVector(left, leaves);
+      IntVector r = intVector(right, leaves);
+      return columns -> {
+        int[] a = l.eval(columns);
+        int[] b = r.eval(columns);
+        boolean[] result = new boolean[columns.size];
+        for (int i = 0; i < columns.size; i++) {
+          result[i] = operator.test(Integer.compare(a[i], b[i]));
+        }
+        return result;
+      };
+    } else if (left.type() == LONG) {
+      LongVector l = longVector(left, leaves);
+      LongVector r = longVector(right, leaves);
+      return columns -> {
+        long[] a = l.eval(columns);
+        long[] b = r.eval(columns);
+        boolean[] result = new boolean[columns.size];
+        for (int i = 0; i < columns.size; i++) {
+          result[i] = operator.test(Long.compare(a[i], b[i]));
+        }
+        return result;
+      };
+    } else {
+      DoubleVector l = doubleVector(left, leaves);
+      DoubleVector r = doubleVector(right, leaves);
+      return columns -> {
+        double[] a = l.eval(columns);
+        double[] b = r.eval(columns);
+        boolean[] result = new boolean[columns.size];
+        for (int i = 0; i < columns.size; i++) {
+          result[i] = operator.test(Double.compare(a[i], b[i]));
+        }
+        return result;
+      };
+    }
+  }
+
+  /**
+   * Build the vector of an integer sub-tree. Each call of the vector returns a new array, so the
+   * arithmetic writes its result in the array of its left argument. The rows with a NULL or MISSING
+   * leaf are skipped.
+   */
+  private static IntVector intVector(Expression expression, List<Expression> leaves) {
+    if (expression instanceof LiteralExpression) {
+      int constant = expression.valueOf().integerValue();
+      return columns -> {
+        int[] vector = new int[columns.size];
+        Arrays.fill(vector, constant);
+        return vector;
+      };
+    } else if (!isFusable(expression)) {
+      int slot = leaf(expression, leaves);
+      return columns -> {
+        int[] vector = new int[columns.size];
+        ExprValue[] column = columns.values[slot];
+        for (int i = 0; i < columns.size; i++) {
+          if (columns.valid[i]) {
+            vector[i] = column[i].integerValue();
+          }
+        }
+        return vector;
+      };
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    IntVector l = intVector(function.getArguments().get(0), leaves);
+    IntVector r = intVector(function.getArguments().get(1), leaves);
+    IntOperation operation = intOperation(ARITHMETIC.get(function.getFunctionName()));
+    return columns -> {
+      int[] a = l.eval(columns);
+      int[] b = r.eval(columns);
+      for (int i = 0; i < columns.size; i++) {
+        if (columns.valid[i]) {
+          a[i] = operation.apply(a[i], b[i]);
+        }
+      }
+      return a;
+    };
+  }
+
+  private static LongVector longVector(Expression expression, List<Expression> leaves) {
+    if (expression instanceof LiteralExpression) {
+      long constant = expression.valueOf().longValue();
+      return columns -> {
+        long[] vector = new long[columns.size];
+        Arrays.fill(vector, constant);
+        return vector;
+      };
+    } else if (!isFusable(expression)) {
+      int slot = leaf(expression, leaves);
+      return columns -> {
+        long[] vector = new long[columns.size];
+        ExprValue[] column = columns.values[slot];
+        for (int i = 0; i < columns.size; i++) {
+          if (columns.valid[i]) {
+            vector[i] = column[i].longValue();
+          }
+        }
+        return vector;
+      };
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    LongVector l = longVector(function.getArguments().get(0), leaves);
+    LongVector r = longVector(function.getArguments().get(1), leaves);
+    LongOperation operation = longOperation(ARITHMETIC.get(function.getFunctionName()));
+    return columns -> {
+      long[] a = l.eval(columns);
+      long[] b = r.eval(columns);
+      for (int i = 0; i < columns.size; i++) {
+        if (columns.valid[i]) {
+          a[i] = operation.apply(a[i], b[i]);
+        }
+      }
+      return a;
+    };
+  }
+
+  private static DoubleVector doubleVector(Expression expression, List<Expression> leaves) {
+    if (expression instanceof LiteralExpression) {
+      double constant = expression.valueOf().doubleValue();
+      return columns -> {
+        double[] vector = new double[columns.size];
+        Arrays.fill(vector, constant);
+        return vector;
+      };
+    } else if (!isFusable(expression)) {
+      int slot = leaf(expression, leaves);
+      return columns -> {
+        double[] vector = new double[columns.size];
+        ExprValue[] column = columns.values[slot];
+        for (int i = 0; i < columns.size; i++) {
+          if (columns.valid[i]) {
+            vector[i] = column[i].doubleValue();
+          }
+        }
+        return vector;
+      };
+    }
+    FunctionExpression function = (FunctionExpression) expression;
+    DoubleVector l = doubleVector(function.getArguments().get(0), leaves);
+    DoubleVector r = doubleVector(function.getArguments().get(1), leaves);
+    DoubleOperation operation = doubleOperation(ARITHMETIC.get(function.getFunctionName()));
+    return columns -> {
+      double[] a = l.eval(columns);
+      double[] b = r.eval(columns);
+      for (int i = 0; i < columns.size; i++) {
+        a[i] = operation.apply(a[i], b[i]);
+      }
+      return a;
+    };
+  }
+
+  private static IntOperation intOperation(Operator operator) {
+    switch (operator) {
+      case ADD:
+        return Math::addExact;
+      case SUBTRACT:
+        return Math::subtractExact;
+      default:
+        return Math::multiplyExact;
+    }
+  }
+
+  private static LongOperation longOperation(Operator operator) {
+    switch (operator) {
+      case ADD:
+        return Math::addExact;
+      case SUBTRACT:
+        return Math::subtractExact;
+      default:
+        return Math::multiplyExact;
+    }
+  }
+
+  private static DoubleOperation doubleOperation(Operator operator) {
+    switch (operator) {
+      case ADD:
+        return (a, b) -> a + b;
+      case SUBTRACT:
+        return (a, b) -> a - b;
+      default:
+        return (a, b) -> a * b;
+    }
+  }
+
+  /** Add a leaf evaluated by the interpreter and return its slot in the leaf values. */
+  private static int leaf(Expression expression, List<Expression> leaves) {
+    leaves.add(expression);
+    return leaves.size() - 1;
+  }
+
+  private static ExprValue and(ExprValue left, ExprValue right) {
+    if (isFalse(left) || isFalse(right)) {
+      return ExprBooleanValue.of(false);
+    } else if (left.isMissing() || right.isMissing()) {
+      return ExprMissingValue.of();
+    } else if (left.isNull() || right.isNull()) {
+      return ExprNullValue.of();
+    }
+    return ExprBooleanValue.of(true);
+  }
+
+  private static ExprValue or(ExprValue left, ExprValue right) {
+    if (isTrue(left) || isTrue(right)) {
+      return ExprBooleanValue.of(true);
+    } else if (left.isNull() || right.isNull()) {
+      return ExprNullValue.of();
+    } else if (left.isMissing() || right.isMissing()) {
+      return ExprMissingValue.of();
+    }
+    return ExprBooleanValue.of(false);
+  }
+
+  private static ExprValue not(ExprValue value) {
+    if (value.isNull() || value.isMissing()) {
+      return value;
+    }
+    return ExprBooleanValue.of(!value.booleanValue());
+  }
+
+  private static boolean isTrue(ExprValue value) {
+    return !(value.isNull() || value.isMissing()) && value.booleanValue();
+  }
+
+  private static boolean isFalse(ExprValue value) {
+    return !(value.isNull() || value.isMissing()) && !value.booleanValue();
+  }
+
+  /** Arithmetic and comparison operators. */
+  private enum Operator {
+    ADD,
+    SUBTRACT,
+    MULTIPLY,
+    EQUAL,
+    NOT_EQUAL,
+    LESS,
+    LTE,
+    GREATER,
+    GTE;
+
+    /** Test the result of comparing the left and right operands. */
+    boolean test(int compare) {
+      switch (this) {
+        case EQUAL:
+          return compare == 0;
+        case NOT_EQUAL:
+          return compare != 0;
+        case LESS:
+          return compare < 0;
+        case LTE:
+          return compare <= 0;
+        case GREATER:
+          return compare > 0;
+        default:
+          return compare >= 0;
+      }
+    }
+  }
+
+  /** Evaluate a compiled expression in the value environment. */
+  private interface Evaluator extends Serializable {
+    ExprValue evaluate(Environment<Expression, ExprValue> env);
+
+    /** Evaluate in each environment of a batch, one by one unless overridden. */
+    default ExprValue[] evaluate(List<? extends Environment<Expression, ExprValue>> envs) {
+      ExprValue[] results = new ExprValue[envs.size()];
+      for (int i = 0; i < results.length; i++) {
+        results[i] = evaluate(envs.get(i));
+      }
+      return results;
+    }
+  }
+
+  /** Build the result of a fused tree from its leaf values. */
+  private interface ResultNode extends Serializable {
+    ExprValue eval(ExprValue[] values);
+  }
+
+  private interface BooleanNode extends Serializable {
+    boolean eval(ExprValue[] values);
+  }
+
+  private interface IntNode extends Serializable {
+    int eval(ExprValue[] values);
+  }
+
+  private interface LongNode extends Serializable {
+    long eval(ExprValue[] values);
+  }
+
+  private interface DoubleNode extends Serializable {
+    double eval(ExprValue[] values);
+  }
+
+  /** Build the results of a fused tree on the valid rows of a batch from its leaf columns. */
+  private interface ResultVector extends Serializable {
+    void eval(Columns columns, ExprValue[] results);
+  }
+
+  private interface BooleanVector extends Serializable {
+    boolean[] eval(Columns columns);
+  }
+
+  private interface IntVector extends Serializable {
+    int[] eval(Columns columns);
+  }
+
+  private interface LongVector extends Serializable {
+    long[] eval(Columns columns);
+  }
+
+  private interface DoubleVector extends Serializable {
+    double[] eval(Columns columns);
+  }
+
+  private interface IntOperation extends Serializable {
+    int apply(int left, int right);
+  }
+
+  private interface LongOperation extends Serializable {
+    long apply(long left, long right);
+  }
+
+  private interface DoubleOperation extends Serializable {
+    double apply(double left, double right);
+  }
+
+  /** Leaf columns of a batch evaluated by a fused tree. */
+  @RequiredArgsConstructor
+  private static class Columns {
+    /** Values of each leaf, one column per leaf slot. */
+    private final ExprValue[][] values;
+
+    /** Whether no leaf of the row is NULL or MISSING. */
+    private final boolean[] valid;
+
+    /** Number of rows. */
+    private final int size;
+  }
+
+  /** Evaluator of AND, OR and NOT, which combines the values of its operands row by row. */
+  @RequiredArgsConstructor
+  private static class LogicalEvaluator implements Evaluator {
+    private final Evaluator left;
+
+    /** Right operand, which is the left operand for NOT. */
+    private final Evaluator right;
+
+    private final SerializableBiFunction<ExprValue, ExprValue, ExprValue> logic;
+
+    @Override
+    public ExprValue evaluate(Environment<Expression, ExprValue> env) {
+      ExprValue leftValue = left.evaluate(env);
+      return logic.apply(leftValue, left == right ? leftValue : right.evaluate(env));
+    }
+
+    @Override
+    public ExprValue[] evaluate(List<? extends Environment<Expression, ExprValue>> envs) {
+      ExprValue[] leftValues = left.evaluate(envs);
+      ExprValue[] rightValues = left == right ? leftValues : right.evaluate(envs);
+      ExprValue[] results = new ExprValue[envs.size()];
+      for (int i = 0; i < results.length; i++) {
+        results[i] = logic.apply(leftValues[i], rightValues[i]);
+      }
+      return results;
+    }
+  }
+
+  /**
+   * Evaluator of a fused tree, which returns MISSING if any leaf is MISSING, NULL if any leaf is
+   * NULL, and otherwise the result of the fused tree.
+   */
+  @RequiredArgsConstructor
+  private static class StrictEvaluator implements Evaluator {
+    private final List<Expression> leaves;
+
+    private final ResultNode result;
+
+    private final ResultVector resultVector;
+
+    @Override
+    public ExprValue evaluate(Environment<Expression, ExprValue> env) {
+      ExprValue[] values = new ExprValue[leaves.size()];
+      boolean hasMissing = false;
+      boolean hasNull = false;
+      for (int i = 0; i < values.length; i++) {
+        values[i] = leaves.get(i).valueOf(env);
+        hasMissing |= values[i].isMissing();
+        hasNull |= values[i].isNull();
+      }
+      if (hasMissing) {
+        return ExprMissingValue.of();
+      } else if (hasNull) {
+        return ExprNullValue.of();
+      }
+      return result.eval(values);
+    }
+
+    @Override
+    public ExprValue[] evaluate(List<? extends Environment<Expression, ExprValue>> envs) {
+      int size = envs.size();
+      ExprValue[][] values = new ExprValue[leaves.size()][size];
+      ExprValue[] results = new ExprValue[size];
+      for (int slot = 0; slot < values.length; slot++) {
+        Expression leaf = leaves.get(slot);
+        for (int i = 0; i < size; i++) {
+          ExprValue value = leaf.valueOf(envs.get(i));
+          values[slot][i] = value;
+          if (value.isMissing()) {
+            results[i] = ExprMissingValue.of();
+          } else if (value.isNull() && results[i] == null) {
+            results[i] = ExprNullValue.of();
+          }
+        }
+      }
+      boolean[] valid = new boolean[size];
+      for (int i = 0; i < size; i++) {
+        valid[i] = results[i] == null;
+      }
+      resultVector.eval(new Columns(values, valid, size), results);
+      return results;
+    }
+  }
+
+  /**
+   * Expression compiled by {@link ExpressionCompiler}. It is equal to, and visited as, the
+   * expression it is compiled from.
+   */
+  @EqualsAndHashCode(of = "expression")
+  @RequiredArgsConstructor
+  public static class CompiledExpression implements Expression {
+    /** Expression compiled from. */
+    @Getter private final Expression expression;
+
+    private final Evaluator evaluator;
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      return evaluator.evaluate(valueEnv);
+    }
+
+    /**
+     * Evaluate the expression on a batch of environments, column by column.
+     *
+     * @param envs environments
+     * @return value of the expression in each environment
+     */
+    public ExprValue[] valuesOf(List<? extends Environment<Expression, ExprValue>> envs) {
+      return evaluator.evaluate(envs);
+    }
+
+    @Override
+    public ExprType type() {
+      return expression.type();
+    }
+
+    @Override
+    public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+      return expression.accept(visitor, context);
+    }
+
+    @Override
+    public String toString() {
+      return expression.toString();
+    }
+  }
+}
@@ -12,8 +12,10 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
@@ -27,6 +29,12 @@ public class ReferenceExpression implements Expression {
 
   private final ExprType type;
 
+  /** Whole path joined once, see {@link #resolve(ExprTupleValue)}. */
+  private transient String wholePath;
+
+  /** Slot of the reference in the rows of the last {@link RowSchema} resolved against. */
+  private transient volatile SchemaSlot schemaSlot;
+
   /**
    * Constructor of ReferenceExpression.
    *
@@ -97,11 +105,34 @@ public class ReferenceExpression implements Expression {
    * </pre>
    */
   public ExprValue resolve(ExprTupleValue value) {
+    if (value instanceof ExprRowValue) {
+      return resolve((ExprRowValue) value);
+    }
     return resolve(value, paths);
   }
 
+  /**
+   * Resolve the reference in a row by the slot of the whole path, which is looked up once for all
+   * the rows of the same schema. The nested paths are resolved as in any other tuple.
+   */
+  private ExprValue resolve(ExprRowValue row) {
+    SchemaSlot cached = schemaSlot;
+    if (cached == null || cached.schema != row.getSchema()) {
+      cached = new SchemaSlot(row.getSchema(), row.getSchema().slotOf(wholePath()));
+      schemaSlot = cached;
+    }
+    if (cached.slot >= 0) {
+      ExprValue wholePathValue = row.slotValue(cached.slot);
+      if (!wholePathValue.isMissing() || paths.size() == 1) {
+        return wholePathValue;
+      }
+    }
+    return resolve(row, paths);
+  }
+
   private ExprValue resolve(ExprValue value, List<String> paths) {
-    ExprValue wholePathValue = value.keyValue(String.join(PATH_SEP, paths));
+    ExprValue wholePathValue =
+        value.keyValue(paths == this.paths ? wholePath() : String.join(PATH_SEP, paths));
     // For array types only first index currently supported.
     if (value.type().equals(ExprCoreType.ARRAY)) {
       wholePathValue = value.collectionValue().get(0).keyValue(paths.get(0));
@@ -113,4 +144,17 @@ public class ReferenceExpression implements Expression {
       return resolve(value.keyValue(paths.get(0)), paths.subList(1, paths.size()));
     }
   }
+
+  private String wholePath() {
+    if (wholePath == null) {
+      wholePath = String.join(PATH_SEP, paths);
+    }
+    return wholePath;
+  }
+
+  @RequiredArgsConstructor
+  private static class SchemaSlot {
+    private final RowSchema schema;
+    private final int slot;
+  }
 }
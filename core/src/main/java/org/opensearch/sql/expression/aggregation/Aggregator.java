@@ -70,12 +70,51 @@ public abstract class Aggregator<S extends AggregationState>
    */
   public S iterate(BindingTuple tuple, S state) {
     ExprValue value = getArguments().get(0).valueOf(tuple);
-    if (value.isNull() || value.isMissing() || !conditionValue(tuple)) {
+    if (isIgnored(value, tuple)) {
       return state;
     }
     return iterate(value, state);
   }
 
+  /**
+   * Is the {@link ExprValue} iterated before removable from the {@link AggregationState}, which
+   * allows a sliding window frame to be aggregated incrementally.
+   *
+   * @return true if removable
+   */
+  public boolean isRemovable() {
+    return false;
+  }
+
+  /**
+   * Remove {@link ExprValue} iterated before from the state. Only supported if {@link
+   * #isRemovable()}.
+   *
+   * @param value {@link ExprValue}
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  protected S remove(ExprValue value, S state) {
+    throw new UnsupportedOperationException(
+        String.format("can't remove value from aggregation state of %s", functionName));
+  }
+
+  /**
+   * Let the aggregator remove the {@link BindingTuple} iterated before from the state. The tuples
+   * ignored by {@link #iterate(BindingTuple, AggregationState)} are ignored too.
+   *
+   * @param tuple {@link BindingTuple}
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  public S remove(BindingTuple tuple, S state) {
+    ExprValue value = getArguments().get(0).valueOf(tuple);
+    if (isIgnored(value, tuple)) {
+      return state;
+    }
+    return remove(value, state);
+  }
+
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
     throw new ExpressionEvaluationException(
@@ -92,6 +131,14 @@ public abstract class Aggregator<S extends AggregationState>
     return visitor.visitAggregator(this, context);
   }
 
+  /**
+   * Util method to check if the value of the tuple is ignored by aggregation, because it's missing,
+   * null or the tuple can't satisfy {@link #condition}.
+   */
+  public boolean isIgnored(ExprValue value, BindingTuple tuple) {
+    return value.isNull() || value.isMissing() || !conditionValue(tuple);
+  }
+
   /** Util method to get value of condition in aggregation filter. */
   public boolean conditionValue(BindingTuple tuple) {
     if (condition == null) {
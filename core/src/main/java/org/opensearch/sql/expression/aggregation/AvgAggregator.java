@@ -63,6 +63,16 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
     return state.iterate(value);
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  protected AvgState remove(ExprValue value, AvgState state) {
+    return state.remove(value);
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "avg(%s)", format(getArguments()));
@@ -85,6 +95,11 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
       count = DSL.add(DSL.literal(count), DSL.literal(1)).valueOf();
       return this;
     }
+
+    protected AvgState remove(ExprValue value) {
+      count = DSL.subtract(DSL.literal(count), DSL.literal(1)).valueOf();
+      return this;
+    }
   }
 
   protected static class DoubleAvgState extends AvgState {
@@ -101,6 +116,12 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
       total = DSL.add(DSL.literal(total), DSL.literal(value)).valueOf();
       return super.iterate(value);
     }
+
+    @Override
+    protected AvgState remove(ExprValue value) {
+      total = DSL.subtract(DSL.literal(total), DSL.literal(value)).valueOf();
+      return super.remove(value);
+    }
   }
 
   protected static class DateAvgState extends AvgState {
@@ -123,6 +144,14 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
           DSL.add(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli())).valueOf();
       return super.iterate(value);
     }
+
+    @Override
+    protected AvgState remove(ExprValue value) {
+      total =
+          DSL.subtract(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli()))
+              .valueOf();
+      return super.remove(value);
+    }
   }
 
   protected static class TimestampAvgState extends AvgState {
@@ -143,6 +172,14 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
           DSL.add(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli())).valueOf();
       return super.iterate(value);
     }
+
+    @Override
+    protected AvgState remove(ExprValue value) {
+      total =
+          DSL.subtract(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli()))
+              .valueOf();
+      return super.remove(value);
+    }
   }
 
   protected static class TimeAvgState extends AvgState {
@@ -164,5 +201,14 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
               .valueOf();
       return super.iterate(value);
     }
+
+    @Override
+    protected AvgState remove(ExprValue value) {
+      total =
+          DSL.subtract(
+                  DSL.literal(total), DSL.literal(MILLIS.between(LocalTime.MIN, value.timeValue())))
+              .valueOf();
+      return super.remove(value);
+    }
   }
 }
@@ -35,6 +35,18 @@ public class CountAggregator extends Aggregator<CountState> {
     return state;
   }
 
+  /** Distinct count is not removable, because it's unknown if the value is counted once only. */
+  @Override
+  public boolean isRemovable() {
+    return !distinct;
+  }
+
+  @Override
+  protected CountState remove(ExprValue value, CountState state) {
+    state.count--;
+    return state;
+  }
+
   @Override
   public String toString() {
     return distinct
@@ -43,11 +43,21 @@ public class SumAggregator extends Aggregator<SumState> {
 
   @Override
   protected SumState iterate(ExprValue value, SumState state) {
-    state.isEmptyCollection = false;
     state.add(value);
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  protected SumState remove(ExprValue value, SumState state) {
+    state.remove(value);
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "sum(%s)", format(getArguments()));
@@ -58,29 +68,36 @@ public class SumAggregator extends Aggregator<SumState> {
 
     private final ExprCoreType type;
     private ExprValue sumResult;
-    private boolean isEmptyCollection;
+    private int count;
 
     SumState(ExprCoreType type) {
       this.type = type;
       sumResult = ExprValueUtils.integerValue(0);
-      isEmptyCollection = true;
+      count = 0;
     }
 
     /** Add value to current sumResult. */
     public void add(ExprValue value) {
+      sumResult = sum(value, 1);
+      count++;
+    }
+
+    /** Remove value added before from current sumResult. */
+    public void remove(ExprValue value) {
+      sumResult = sum(value, -1);
+      count--;
+    }
+
+    private ExprValue sum(ExprValue value, int sign) {
       switch (type) {
         case INTEGER:
-          sumResult = integerValue(getIntegerValue(sumResult) + getIntegerValue(value));
-          break;
+          return integerValue(getIntegerValue(sumResult) + sign * getIntegerValue(value));
         case LONG:
-          sumResult = longValue(getLongValue(sumResult) + getLongValue(value));
-          break;
+          return longValue(getLongValue(sumResult) + sign * getLongValue(value));
         case FLOAT:
-          sumResult = floatValue(getFloatValue(sumResult) + getFloatValue(value));
-          break;
+          return floatValue(getFloatValue(sumResult) + sign * getFloatValue(value));
         case DOUBLE:
-          sumResult = doubleValue(getDoubleValue(sumResult) + getDoubleValue(value));
-          break;
+          return doubleValue(getDoubleValue(sumResult) + sign * getDoubleValue(value));
         default:
           throw new ExpressionEvaluationException(
               String.format("unexpected type [%s] in sum aggregation", type));
@@ -89,7 +106,7 @@ public class SumAggregator extends Aggregator<SumState> {
 
     @Override
     public ExprValue result() {
-      return isEmptyCollection ? ExprNullValue.of() : sumResult;
+      return count == 0 ? ExprNullValue.of() : sumResult;
     }
   }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.sql.expression.datetime;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.Serializable;
 import java.text.ParsePosition;
 import java.time.Clock;
 import java.time.DateTimeException;
@@ -18,6 +19,8 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -27,6 +30,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.expression.function.SerializableFunction;
 
 /**
  * This class converts a SQL style DATE_FORMAT format specifier and converts it to a Java
@@ -217,30 +221,7 @@ class DateTimeFormatterUtil {
    */
   static ExprValue getFormattedString(
       ExprValue formatExpr, Map<String, DateTimeFormatHandler> handler, LocalDateTime datetime) {
-    StringBuffer cleanFormat = getCleanFormat(formatExpr);
-
-    final Matcher matcher = pattern.matcher(cleanFormat.toString());
-    final StringBuffer format = new StringBuffer();
-    try {
-      while (matcher.find()) {
-        matcher.appendReplacement(
-            format,
-            handler
-                .getOrDefault(
-                    matcher.group(),
-                    (d) -> String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, "")))
-                .getFormat(datetime));
-      }
-    } catch (Exception e) {
-      return ExprNullValue.of();
-    }
-    matcher.appendTail(format);
-
-    // English Locale matches SQL requirements.
-    // 'AM'/'PM' instead of 'a.m.'/'p.m.'
-    // 'Sat' instead of 'Sat.' etc
-    return new ExprStringValue(
-        datetime.format(DateTimeFormatter.ofPattern(format.toString(), Locale.ENGLISH)));
+    return new PreparedFormat(formatExpr).format(handler, datetime);
   }
 
   /**
@@ -251,8 +232,20 @@ class DateTimeFormatterUtil {
    * @return Date formatted using format and returned as a String.
    */
   static ExprValue getFormattedDate(ExprValue dateExpr, ExprValue formatExpr) {
-    final LocalDateTime date = dateExpr.timestampValue().atZone(ZoneOffset.UTC).toLocalDateTime();
-    return getFormattedString(formatExpr, DATE_HANDLERS, date);
+    return prepareDateFormat(formatExpr).apply(dateExpr);
+  }
+
+  /**
+   * Prepare the date format String once for all the dates formatted by it.
+   *
+   * @param formatExpr the format ExprValue of String type.
+   * @return function from the date ExprValue of Date/Timestamp/String type to the formatted date.
+   */
+  static SerializableFunction<ExprValue, ExprValue> prepareDateFormat(ExprValue formatExpr) {
+    PreparedFormat format = new PreparedFormat(formatExpr);
+    return dateExpr ->
+        format.format(
+            DATE_HANDLERS, dateExpr.timestampValue().atZone(ZoneOffset.UTC).toLocalDateTime());
   }
 
   static ExprValue getFormattedDateOfToday(ExprValue formatExpr, ExprValue time, Clock current) {
@@ -262,18 +255,107 @@ class DateTimeFormatterUtil {
   }
 
   /**
-   * Format the date using the date format String.
+   * Prepare the time format String once for all the times formatted by it.
    *
-   * @param timeExpr the date ExprValue of Date/Datetime/Timestamp/String type.
    * @param formatExpr the format ExprValue of String type.
-   * @return Date formatted using format and returned as a String.
+   * @return function from the time ExprValue of Date/Time/Timestamp/String type to the formatted
+   *     time.
    */
-  static ExprValue getFormattedTime(ExprValue timeExpr, ExprValue formatExpr) {
+  static SerializableFunction<ExprValue, ExprValue> prepareTimeFormat(ExprValue formatExpr) {
+    PreparedFormat format = new PreparedFormat(formatExpr);
     // Initializes DateTime with LocalDate.now(). This is safe because the date is ignored.
     // The time_format function will only return 0 or null for invalid string format specifiers.
-    final LocalDateTime time = LocalDateTime.of(LocalDate.now(), timeExpr.timeValue());
+    return timeExpr ->
+        format.format(TIME_HANDLERS, LocalDateTime.of(LocalDate.now(), timeExpr.timeValue()));
+  }
+
+  /**
+   * Format String split into its format specifiers and the literal text between them, so that a
+   * literal format String is parsed once instead of for each formatted value. The Java pattern
+   * built for the last value is kept with its {@link DateTimeFormatter}, since most specifiers
+   * build the same pattern for all values.
+   */
+  static class PreparedFormat implements Serializable {
+    /** Literal text before each specifier, and after the last specifier. */
+    private final List<String> texts = new ArrayList<>();
+
+    /** Format specifiers, such as %Y. */
+    private final List<String> specifiers = new ArrayList<>();
+
+    /** Pattern of each specifier without handler, or null if the specifier is invalid. */
+    private final List<String> defaultPatterns = new ArrayList<>();
+
+    private transient volatile Map.Entry<String, DateTimeFormatter> lastFormatter;
+
+    PreparedFormat(ExprValue formatExpr) {
+      final String cleanFormat = getCleanFormat(formatExpr).toString();
+      final Matcher matcher = pattern.matcher(cleanFormat);
+      int end = 0;
+      while (matcher.find()) {
+        texts.add(cleanFormat.substring(end, matcher.start()));
+        specifiers.add(matcher.group());
+        defaultPatterns.add(defaultPattern(matcher.group()));
+        end = matcher.end();
+      }
+      texts.add(cleanFormat.substring(end));
+    }
 
-    return getFormattedString(formatExpr, TIME_HANDLERS, time);
+    /**
+     * Format a DATETIME according to a provided handler.
+     *
+     * @param handler Map of character patterns to their associated datetime format
+     * @param datetime The datetime argument being formatted
+     * @return A formatted string expression
+     */
+    ExprValue format(Map<String, DateTimeFormatHandler> handler, LocalDateTime datetime) {
+      final StringBuilder format = new StringBuilder(texts.get(0));
+      try {
+        for (int i = 0; i < specifiers.size(); i++) {
+          DateTimeFormatHandler specifierHandler = handler.get(specifiers.get(i));
+          String specifierPattern =
+              specifierHandler == null
+                  ? defaultPatterns.get(i)
+                  : specifierHandler.getFormat(datetime);
+          if (specifierPattern == null) {
+            return ExprNullValue.of();
+          }
+          format.append(specifierPattern).append(texts.get(i + 1));
+        }
+      } catch (Exception e) {
+        return ExprNullValue.of();
+      }
+
+      // English Locale matches SQL requirements.
+      // 'AM'/'PM' instead of 'a.m.'/'p.m.'
+      // 'Sat' instead of 'Sat.' etc
+      return new ExprStringValue(datetime.format(formatter(format.toString())));
+    }
+
+    private DateTimeFormatter formatter(String javaPattern) {
+      Map.Entry<String, DateTimeFormatter> last = lastFormatter;
+      if (last == null || !last.getKey().equals(javaPattern)) {
+        last = Map.entry(javaPattern, DateTimeFormatter.ofPattern(javaPattern, Locale.ENGLISH));
+        lastFormatter = last;
+      }
+      return last.getValue();
+    }
+
+    /**
+     * Quote the character of a specifier without handler, as a replacement of the specifier in its
+     * {@link Matcher}, which interprets '$' and '\' in the replacement.
+     */
+    private static String defaultPattern(String specifier) {
+      final Matcher matcher = pattern.matcher(specifier);
+      final StringBuffer format = new StringBuffer();
+      try {
+        matcher.find();
+        matcher.appendReplacement(
+            format, String.format("'%s'", specifier.replaceFirst(MOD_LITERAL, "")));
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+      return format.toString();
+    }
   }
 
   private static boolean canGetDate(TemporalAccessor ta) {
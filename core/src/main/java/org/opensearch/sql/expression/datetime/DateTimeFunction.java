@@ -24,6 +24,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.expression.function.FunctionDSL.define;
 import static org.opensearch.sql.expression.function.FunctionDSL.impl;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithPrepare;
 import static org.opensearch.sql.expression.function.FunctionDSL.implWithProperties;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandling;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandlingWithProperties;
@@ -140,6 +141,14 @@ public class DateTimeFunction {
           .put("QUARTER", "Q")
           .build();
 
+  // Formatters of the extract formats, built once instead of for each extracted value
+  private static final Map<String, DateTimeFormatter> extract_formatters =
+      extract_formats.entrySet().stream()
+          .collect(
+              ImmutableMap.toImmutableMap(
+                  Map.Entry::getKey,
+                  entry -> DateTimeFormatter.ofPattern(entry.getValue(), Locale.ENGLISH)));
+
   // Map used to determine format output for the get_format function
   private static final Table<String, String, String> formats =
       ImmutableTable.<String, String, String>builder()
@@ -1101,8 +1110,8 @@ public class DateTimeFunction {
   private DefaultFunctionResolver date_format() {
     return define(
         BuiltinFunctionName.DATE_FORMAT.getName(),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate), STRING, STRING, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate), STRING, DATE, STRING),
+        implWithPrepare(DateTimeFormatterUtil::prepareDateFormat, 1, STRING, STRING, STRING),
+        implWithPrepare(DateTimeFormatterUtil::prepareDateFormat, 1, STRING, DATE, STRING),
         implWithProperties(
             nullMissingHandlingWithProperties(
                 (functionProperties, time, formatString) ->
@@ -1111,11 +1120,7 @@ public class DateTimeFunction {
             STRING,
             TIME,
             STRING),
-        impl(
-            nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
-            STRING,
-            TIMESTAMP,
-            STRING));
+        implWithPrepare(DateTimeFormatterUtil::prepareDateFormat, 1, STRING, TIMESTAMP, STRING));
   }
 
   private ExprValue dayOfMonthToday(Clock clock) {
@@ -1184,14 +1189,10 @@ public class DateTimeFunction {
   private DefaultFunctionResolver time_format() {
     return define(
         BuiltinFunctionName.TIME_FORMAT.getName(),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime), STRING, STRING, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime), STRING, DATE, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime), STRING, TIME, STRING),
-        impl(
-            nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
-            STRING,
-            TIMESTAMP,
-            STRING));
+        implWithPrepare(DateTimeFormatterUtil::prepareTimeFormat, 1, STRING, STRING, STRING),
+        implWithPrepare(DateTimeFormatterUtil::prepareTimeFormat, 1, STRING, DATE, STRING),
+        implWithPrepare(DateTimeFormatterUtil::prepareTimeFormat, 1, STRING, TIME, STRING),
+        implWithPrepare(DateTimeFormatterUtil::prepareTimeFormat, 1, STRING, TIMESTAMP, STRING));
   }
 
   /**
@@ -1433,8 +1434,7 @@ public class DateTimeFunction {
   public ExprLongValue formatExtractFunction(ExprValue part, ExprValue timestamp) {
     String partName = part.stringValue().toUpperCase();
     LocalDateTime arg = timestamp.timestampValue().atZone(ZoneOffset.UTC).toLocalDateTime();
-    String text =
-        arg.format(DateTimeFormatter.ofPattern(extract_formats.get(partName), Locale.ENGLISH));
+    String text = arg.format(extract_formatters.get(partName));
 
     return new ExprLongValue(Long.parseLong(text));
   }
@@ -17,6 +17,7 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver.DefaultFunctionResolverBuilder;
 
@@ -279,6 +280,92 @@ public class FunctionDSL {
         (fp, arg1, arg2) -> function.apply(arg1, arg2), returnType, args1Type, args2Type);
   }
 
+  /**
+   * Binary Function Implementation of which one argument is prepared once when it is a literal,
+   * instead of for each row. For example, a pattern is compiled into a regex once per query. NULL
+   * and MISSING are handled by default.
+   *
+   * @param prepare function from the value of the prepared argument to the function of the other
+   *     argument.
+   * @param preparedArgIndex index of the prepared argument, 0 or 1.
+   * @param returnType return type.
+   * @param args1Type argument type.
+   * @param args2Type argument type.
+   * @return Binary Function Implementation.
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      implWithPrepare(
+          SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>> prepare,
+          int preparedArgIndex,
+          ExprType returnType,
+          ExprType args1Type,
+          ExprType args2Type) {
+
+    return functionName -> {
+      FunctionSignature functionSignature =
+          new FunctionSignature(functionName, Arrays.asList(args1Type, args2Type));
+      FunctionBuilder functionBuilder =
+          (functionProperties, arguments) -> {
+            SerializableFunction<ExprValue, ExprValue> prepared =
+                prepareLiteral(prepare, arguments.get(preparedArgIndex));
+            return new FunctionExpression(functionName, arguments) {
+              @Override
+              public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+                ExprValue arg1 = arguments.get(0).valueOf(valueEnv);
+                ExprValue arg2 = arguments.get(1).valueOf(valueEnv);
+                if (arg1.isMissing() || arg2.isMissing()) {
+                  return ExprValueUtils.missingValue();
+                } else if (arg1.isNull() || arg2.isNull()) {
+                  return ExprValueUtils.nullValue();
+                }
+                ExprValue preparedArg = preparedArgIndex == 0 ? arg1 : arg2;
+                ExprValue otherArg = preparedArgIndex == 0 ? arg2 : arg1;
+                return prepared != null
+                    ? prepared.apply(otherArg)
+                    : prepare.apply(preparedArg).apply(otherArg);
+              }
+
+              @Override
+              public ExprType type() {
+                return returnType;
+              }
+
+              @Override
+              public String toString() {
+                return String.format(
+                    "%s(%s)",
+                    functionName,
+                    arguments.stream().map(Object::toString).collect(Collectors.joining(", ")));
+              }
+            };
+          };
+      return Pair.of(functionSignature, functionBuilder);
+    };
+  }
+
+  /**
+   * Prepare the argument if it is a literal.
+   *
+   * @return the prepared function, or null if the argument is not a literal or fails to be
+   *     prepared, in which case it is prepared for each row and any error is reported then.
+   */
+  private static SerializableFunction<ExprValue, ExprValue> prepareLiteral(
+      SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>> prepare,
+      Expression argument) {
+    if (!(argument instanceof LiteralExpression)) {
+      return null;
+    }
+    ExprValue value = argument.valueOf();
+    if (value.isNull() || value.isMissing()) {
+      return null;
+    }
+    try {
+      return prepare.apply(value);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
   /**
    * Triple Function Implementation.
    *
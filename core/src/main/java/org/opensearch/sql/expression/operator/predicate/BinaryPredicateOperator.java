@@ -14,6 +14,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.function.FunctionDSL.define;
 import static org.opensearch.sql.expression.function.FunctionDSL.impl;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithPrepare;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandling;
 
 import com.google.common.collect.ImmutableTable;
@@ -26,6 +27,7 @@ import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
+import org.opensearch.sql.expression.function.SerializableFunction;
 import org.opensearch.sql.utils.OperatorUtils;
 
 /**
@@ -387,21 +389,25 @@ public class BinaryPredicateOperator {
   private static DefaultFunctionResolver like() {
     return define(
         BuiltinFunctionName.LIKE.getName(),
-        impl(nullMissingHandling(OperatorUtils::matches), BOOLEAN, STRING, STRING));
+        implWithPrepare(OperatorUtils::prepareMatches, 1, BOOLEAN, STRING, STRING));
   }
 
   private static DefaultFunctionResolver regexp() {
     return define(
         BuiltinFunctionName.REGEXP.getName(),
-        impl(nullMissingHandling(OperatorUtils::matchesRegexp), INTEGER, STRING, STRING));
+        implWithPrepare(OperatorUtils::prepareMatchesRegexp, 1, INTEGER, STRING, STRING));
   }
 
   private static DefaultFunctionResolver notLike() {
     return define(
         BuiltinFunctionName.NOT_LIKE.getName(),
-        impl(
-            nullMissingHandling(
-                (v1, v2) -> UnaryPredicateOperator.not(OperatorUtils.matches(v1, v2))),
+        implWithPrepare(
+            pattern -> {
+              SerializableFunction<ExprValue, ExprValue> matches =
+                  OperatorUtils.prepareMatches(pattern);
+              return text -> UnaryPredicateOperator.not(matches.apply(text));
+            },
+            1,
             BOOLEAN,
             STRING,
             STRING));
@@ -10,18 +10,30 @@ import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 
 import java.util.ArrayList;
 import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.expression.WindowFunction.Frame;
 import org.opensearch.sql.expression.Expression;
 
 /** Window definition that consists of partition and sort by information for a window. */
+@AllArgsConstructor
 @Data
 public class WindowDefinition {
 
   private final List<Expression> partitionByList;
   private final List<Pair<SortOption, Expression>> sortList;
 
+  /** Frame of the window, which is null for the default frame of the window function. */
+  private final Frame frame;
+
+  /** Window definition with the default frame. */
+  public WindowDefinition(
+      List<Expression> partitionByList, List<Pair<SortOption, Expression>> sortList) {
+    this(partitionByList, sortList, null);
+  }
+
   /**
    * Return all items in partition by and sort list.
    *
@@ -13,13 +13,13 @@ public interface WindowFunctionExpression extends Expression {
 
   /**
    * Create specific window frame based on window definition and what's current window function. For
-   * now two types of cumulative window frame is returned:
+   * now these types of window frame is returned:
    *
    * <ol>
    *   <li>Ranking window functions: ignore frame definition and always operates on previous and
    *       current row.
-   *   <li>Aggregate window functions: frame partition into peers and sliding window is not
-   *       supported.
+   *   <li>Aggregate window functions: frame partition into peers by default, or sliding window if
+   *       ROWS or RANGE frame is specified.
    * </ol>
    *
    * @param definition window definition
@@ -7,7 +7,6 @@ package org.opensearch.sql.expression.window.aggregation;
 
 import java.util.List;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
@@ -15,26 +14,54 @@ import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.aggregation.AggregationState;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
+import org.opensearch.sql.expression.window.frame.SlidingWindowFrame;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
-/** Aggregate function adapter that adapts Aggregator for window operator use. */
+/**
+ * Aggregate function adapter that adapts Aggregator for window operator use. In a sliding window
+ * frame, the rows entering and leaving the frame are added to and removed from the aggregation
+ * state if the aggregator is removable, and min or max is kept by a monotonic deque. Otherwise, all
+ * the rows in the frame are aggregated again for each row.
+ */
 @EqualsAndHashCode
-@RequiredArgsConstructor
 public class AggregateWindowFunction implements WindowFunctionExpression {
 
   private final Aggregator<AggregationState> aggregator;
   private AggregationState state;
 
+  /** Min or max of sliding window frame, which is null for other aggregators. */
+  @EqualsAndHashCode.Exclude private final MonotonicDeque extremes;
+
+  /** Constructor of aggregate window function. */
+  public AggregateWindowFunction(Aggregator<AggregationState> aggregator) {
+    this.aggregator = aggregator;
+    if (BuiltinFunctionName.MAX.getName().equals(aggregator.getFunctionName())) {
+      this.extremes = new MonotonicDeque(aggregator, 1);
+    } else if (BuiltinFunctionName.MIN.getName().equals(aggregator.getFunctionName())) {
+      this.extremes = new MonotonicDeque(aggregator, -1);
+    } else {
+      this.extremes = null;
+    }
+  }
+
   @Override
   public WindowFrame createWindowFrame(WindowDefinition definition) {
-    return new PeerRowsWindowFrame(definition);
+    if (definition.getFrame() == null) {
+      return new PeerRowsWindowFrame(definition);
+    }
+    return new SlidingWindowFrame(definition);
   }
 
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    if (valueEnv instanceof SlidingWindowFrame) {
+      return valueOf((SlidingWindowFrame) valueEnv);
+    }
+
     PeerRowsWindowFrame frame = (PeerRowsWindowFrame) valueEnv;
     if (frame.isNewPartition()) {
       state = aggregator.create();
@@ -47,6 +74,40 @@ public class AggregateWindowFunction implements WindowFunctionExpression {
     return state.result();
   }
 
+  private ExprValue valueOf(SlidingWindowFrame frame) {
+    int leaving = Math.min(frame.getStart(), frame.getPreviousEnd());
+    int entering = Math.max(frame.getStart(), frame.getPreviousEnd());
+    if (extremes != null) {
+      if (frame.isNewPartition()) {
+        extremes.clear();
+      }
+      extremes.removeBefore(frame.getStart());
+      for (int i = entering; i < frame.getEnd(); i++) {
+        extremes.add(i, frame.get(i));
+      }
+      return extremes.result();
+    }
+
+    if (aggregator.isRemovable()) {
+      if (frame.isNewPartition()) {
+        state = aggregator.create();
+      }
+      for (int i = frame.getPreviousStart(); i < leaving; i++) {
+        state = aggregator.remove(frame.get(i).bindingTuples(), state);
+      }
+      for (int i = entering; i < frame.getEnd(); i++) {
+        state = aggregator.iterate(frame.get(i).bindingTuples(), state);
+      }
+      return state.result();
+    }
+
+    state = aggregator.create();
+    for (ExprValue row : frame.next()) {
+      state = aggregator.iterate(row.bindingTuples(), state);
+    }
+    return state.result();
+  }
+
   @Override
   public ExprType type() {
     return aggregator.type();
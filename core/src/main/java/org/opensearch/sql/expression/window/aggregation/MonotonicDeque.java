@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.window.aggregation;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Monotonic deque of the values in a sliding window frame for min or max aggregation. The values
+ * are kept in the order of their positions, and each is kept only if greater (or less for min) than
+ * all the later ones, so the first is the result. A value dropped can never be the result, because
+ * it leaves the frame before the later one. So each row is added and removed at most once.
+ */
+@RequiredArgsConstructor
+class MonotonicDeque {
+
+  private final Aggregator<?> aggregator;
+
+  /** 1 for max and -1 for min. */
+  private final int sign;
+
+  /** Positions and values in the order of positions. */
+  private final Deque<Pair<Integer, ExprValue>> values = new ArrayDeque<>();
+
+  void add(int position, ExprValue row) {
+    BindingTuple tuple = row.bindingTuples();
+    ExprValue value = aggregator.getArguments().get(0).valueOf(tuple);
+    if (aggregator.isIgnored(value, tuple)) {
+      return;
+    }
+    while (!values.isEmpty() && sign * values.peekLast().getRight().compareTo(value) <= 0) {
+      values.pollLast();
+    }
+    values.addLast(Pair.of(position, value));
+  }
+
+  /** Remove the values before the position, which have left the frame. */
+  void removeBefore(int position) {
+    while (!values.isEmpty() && values.peekFirst().getLeft() < position) {
+      values.pollFirst();
+    }
+  }
+
+  void clear() {
+    values.clear();
+  }
+
+  ExprValue result() {
+    return values.isEmpty() ? LITERAL_NULL : values.peekFirst().getRight();
+  }
+}
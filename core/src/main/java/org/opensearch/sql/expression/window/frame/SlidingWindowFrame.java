@@ -0,0 +1,286 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.window.frame;
+
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.PRECEDING;
+import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
+
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.expression.WindowFunction.Frame;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameUnit;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+/**
+ * Sliding window frame of the ROWS or RANGE frame in window definition. The frame of each row is
+ * the positions [start, end) in the partition, which only moves forward as the current row does.
+ * So the window function can aggregate incrementally by adding the rows entering and removing the
+ * rows leaving since the previous frame [previousStart, previousEnd). Only the rows from the
+ * previous frame onwards are kept, and the rows are loaded as far as the frame end requires.
+ */
+public class SlidingWindowFrame implements WindowFrame {
+
+  private final WindowDefinition windowDefinition;
+
+  private final Frame frame;
+
+  /** Rows of current partition kept, of which the first is at position {@link #first}. */
+  private final List<ExprValue> rows = new ArrayList<>();
+
+  private int first;
+
+  /** Position of current row in the partition. */
+  private int position = -1;
+
+  /** Are all the rows of current partition loaded. */
+  private boolean isPartitionLoaded = true;
+
+  /** Does current row represents a new partition. */
+  private boolean isNewPartition;
+
+  @Getter private int start;
+
+  @Getter private int end;
+
+  @Getter private int previousStart;
+
+  @Getter private int previousEnd;
+
+  public SlidingWindowFrame(WindowDefinition windowDefinition) {
+    this.windowDefinition = windowDefinition;
+    this.frame = windowDefinition.getFrame();
+  }
+
+  /** If any more pre-fetched rows not returned to window operator yet. */
+  @Override
+  public boolean hasNext() {
+    return position + 1 < loaded();
+  }
+
+  /**
+   * Rows in current frame.
+   *
+   * @return rows from the start to the end of current frame
+   */
+  @Override
+  public List<ExprValue> next() {
+    return rows.subList(start - first, end - first);
+  }
+
+  @Override
+  public ExprValue current() {
+    return get(position);
+  }
+
+  @Override
+  public boolean isNewPartition() {
+    return isNewPartition;
+  }
+
+  /**
+   * Row at the position in current partition, which must be in the previous or current frame.
+   *
+   * @param position position in the partition
+   * @return row at the position
+   */
+  public ExprValue get(int position) {
+    return rows.get(position - first);
+  }
+
+  /**
+   * Move to next row, which starts a new partition if no more row in current one, and then move
+   * the frame to that of the row.
+   *
+   * @param it rows iterator
+   */
+  @Override
+  public void load(PeekingIterator<ExprValue> it) {
+    release(Math.min(start, position));
+    previousStart = start;
+    previousEnd = end;
+    if (hasNext() || loadNext(it)) {
+      position++;
+      isNewPartition = false;
+    } else {
+      rows.clear();
+      rows.add(it.next());
+      first = 0;
+      position = 0;
+      isPartitionLoaded = false;
+      isNewPartition = true;
+      previousStart = 0;
+      previousEnd = 0;
+    }
+
+    end = endOf(frame.getEnd(), it);
+    start = startOf(frame.getStart(), end);
+  }
+
+  /** Start of the frame, which is the end if after it so that the frame is empty. */
+  private int startOf(FrameBound bound, int end) {
+    switch (bound.getType()) {
+      case UNBOUNDED_PRECEDING:
+        return 0;
+      case CURRENT_ROW:
+        return isRows() ? position : startOfPeers();
+      default:
+        return isRows()
+            ? Math.min(toPosition(position + offset(bound)), end)
+            : startOfRange(offset(bound), end);
+    }
+  }
+
+  private int endOf(FrameBound bound, PeekingIterator<ExprValue> it) {
+    switch (bound.getType()) {
+      case UNBOUNDED_FOLLOWING:
+        isLoaded(Integer.MAX_VALUE, it);
+        return loaded();
+      case CURRENT_ROW:
+        return isRows() ? position + 1 : endOfPeers(it);
+      default:
+        return isRows()
+            ? endOfRows(toPosition(position + offset(bound) + 1), it)
+            : endOfRange(offset(bound), it);
+    }
+  }
+
+  /** First row of which the distance from current row is not less than the offset. */
+  private int startOfRange(double offset, int end) {
+    int start = previousStart;
+    while (start < end && distance(start) < offset) {
+      start++;
+    }
+    return start;
+  }
+
+  /** Row after the last of which the distance from current row is not greater than the offset. */
+  private int endOfRange(double offset, PeekingIterator<ExprValue> it) {
+    int end = previousEnd;
+    while (isLoaded(end, it) && distance(end) <= offset) {
+      end++;
+    }
+    return end;
+  }
+
+  private int endOfRows(int end, PeekingIterator<ExprValue> it) {
+    isLoaded(end - 1, it);
+    return Math.min(end, loaded());
+  }
+
+  private int startOfPeers() {
+    int start = previousStart;
+    while (!isPeer(start)) {
+      start++;
+    }
+    return start;
+  }
+
+  private int endOfPeers(PeekingIterator<ExprValue> it) {
+    int end = Math.max(previousEnd, position + 1);
+    while (isLoaded(end, it) && isPeer(end)) {
+      end++;
+    }
+    return end;
+  }
+
+  /**
+   * Distance of the sort key value of the row at the position from that of current row, which is
+   * negative if the row precedes. A null sort key is infinitely far away from the others.
+   */
+  private double distance(int position) {
+    Pair<SortOption, Expression> sortItem = windowDefinition.getSortList().get(0);
+    ExprValue key = sortItem.getRight().valueOf(get(position).bindingTuples());
+    ExprValue currentKey = sortItem.getRight().valueOf(current().bindingTuples());
+    if (isNull(key) != isNull(currentKey)) {
+      return (position < this.position) ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+    if (isNull(key)) {
+      return 0;
+    }
+    double distance = key.doubleValue() - currentKey.doubleValue();
+    return (sortItem.getLeft().getSortOrder() == DESC) ? -distance : distance;
+  }
+
+  /** Signed offset of the bound, which is negative if preceding. */
+  private double offset(FrameBound bound) {
+    double offset = bound.getOffset().doubleValue();
+    return (bound.getType() == PRECEDING) ? -offset : offset;
+  }
+
+  private boolean isRows() {
+    return frame.getUnit() == FrameUnit.ROWS;
+  }
+
+  private boolean isPeer(int position) {
+    List<Expression> sortFields =
+        windowDefinition.getSortList().stream().map(Pair::getRight).collect(Collectors.toList());
+    return resolve(sortFields, get(position)).equals(resolve(sortFields, current()));
+  }
+
+  private boolean isSamePartition(ExprValue next) {
+    List<Expression> partitionByList = windowDefinition.getPartitionByList();
+    ExprValue last = rows.get(rows.size() - 1);
+    return resolve(partitionByList, last).equals(resolve(partitionByList, next));
+  }
+
+  /** Load rows of current partition until the position if not yet, return false if no such row. */
+  private boolean isLoaded(int position, PeekingIterator<ExprValue> it) {
+    while (position >= loaded()) {
+      if (!loadNext(it)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Load next row if it's in current partition. */
+  private boolean loadNext(PeekingIterator<ExprValue> it) {
+    if (!isPartitionLoaded && it.hasNext() && isSamePartition(it.peek())) {
+      rows.add(it.next());
+      return true;
+    }
+    isPartitionLoaded = true;
+    return false;
+  }
+
+  private int loaded() {
+    return first + rows.size();
+  }
+
+  /**
+   * Release the rows before the position. They are removed once at least half of the rows kept
+   * are released, so that each row is moved at most once on average.
+   */
+  private void release(int position) {
+    int released = position - first;
+    if (released * 2 >= rows.size()) {
+      rows.subList(0, released).clear();
+      first = position;
+    }
+  }
+
+  private static int toPosition(double position) {
+    return (int) Math.max(0, Math.min(position, Integer.MAX_VALUE));
+  }
+
+  private static boolean isNull(ExprValue value) {
+    return value.isNull() || value.isMissing();
+  }
+
+  private List<ExprValue> resolve(List<Expression> expressions, ExprValue row) {
+    Environment<Expression, ExprValue> valueEnv = row.bindingTuples();
+    return expressions.stream().map(expr -> expr.valueOf(valueEnv)).collect(Collectors.toList());
+  }
+}
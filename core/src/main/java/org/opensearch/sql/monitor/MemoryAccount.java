@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+/**
+ * Memory account of a query. The operators which keep rows in memory, such as sort and
+ * aggregation, reserve their estimated bytes from the account of the query before keeping them, and
+ * release them when they are closed. The account throws if the query would use more memory than
+ * allowed, so that only the query asking for the memory fails.
+ */
+public abstract class MemoryAccount {
+
+  /** Account which accepts any reservation. */
+  public static final MemoryAccount UNLIMITED =
+      new MemoryAccount() {
+        @Override
+        public void reserve(long bytes, String label) {}
+
+        @Override
+        public void release(long bytes) {}
+      };
+
+  /**
+   * Reserve memory.
+   *
+   * @param bytes bytes to reserve
+   * @param label what the memory is used for, such as the operator name
+   * @throws RuntimeException if the memory is not available for the query
+   */
+  public abstract void reserve(long bytes, String label);
+
+  /**
+   * Release memory reserved before.
+   *
+   * @param bytes bytes to release
+   */
+  public abstract void release(long bytes);
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Memory used by one operator of a query, reserved from the {@link MemoryAccount} of the query.
+ * Memory is reserved in chunks of at least {@link #CHUNK_BYTES}, so that the account is not called
+ * for each row. Freed memory is kept reserved for the operator to reuse, and all of it is released
+ * when the reservation is closed.
+ */
+@RequiredArgsConstructor
+public class MemoryReservation {
+
+  /** Minimum bytes reserved from the account at a time. */
+  public static final long CHUNK_BYTES = 64 * 1024;
+
+  private final MemoryAccount account;
+
+  /** What the memory is used for, reported when the account refuses the reservation. */
+  private final String label;
+
+  /** Estimated bytes in use. */
+  @Getter private long usedBytes = 0;
+
+  /** Bytes reserved from the account. */
+  @Getter private long reservedBytes = 0;
+
+  /**
+   * Use more memory, reserving from the account if the bytes reserved are not enough.
+   *
+   * @param bytes estimated bytes
+   */
+  public void add(long bytes) {
+    usedBytes += bytes;
+    if (usedBytes > reservedBytes) {
+      long chunk = Math.max(usedBytes - reservedBytes, CHUNK_BYTES);
+      account.reserve(chunk, label);
+      reservedBytes += chunk;
+    }
+  }
+
+  /**
+   * Stop using memory, which is still reserved for reuse.
+   *
+   * @param bytes estimated bytes added before
+   */
+  public void free(long bytes) {
+    usedBytes -= bytes;
+  }
+
+  /** Release all the memory reserved to the account. */
+  public void close() {
+    account.release(reservedBytes);
+    usedBytes = 0;
+    reservedBytes = 0;
+  }
+}
@@ -16,4 +16,13 @@ public abstract class ResourceMonitor {
    * @return true for healthy, otherwise false.
    */
   public abstract boolean isHealthy();
+
+  /**
+   * Create the memory account of a query, shared by the operators of the query.
+   *
+   * @return memory account, unlimited by default.
+   */
+  public MemoryAccount newMemoryAccount() {
+    return MemoryAccount.UNLIMITED;
+  }
 }
@@ -23,6 +23,7 @@ import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.logical.LogicalRemove;
 import org.opensearch.sql.planner.logical.LogicalRename;
 import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalTopN;
 import org.opensearch.sql.planner.logical.LogicalValues;
 import org.opensearch.sql.planner.logical.LogicalWindow;
 import org.opensearch.sql.planner.physical.AggregationOperator;
@@ -38,6 +39,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.read.TableScanBuilder;
@@ -83,7 +85,7 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
   @Override
   public PhysicalPlan visitWindow(LogicalWindow node, C context) {
     return new WindowOperator(
-        visitChild(node, context), node.getWindowFunction(), node.getWindowDefinition());
+        visitChild(node, context), node.getWindowFunctions(), node.getWindowDefinition());
   }
 
   @Override
@@ -132,6 +134,12 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
   }
 
+  @Override
+  public PhysicalPlan visitTopN(LogicalTopN node, C context) {
+    return new TopNOperator(
+        visitChild(node, context), node.getSortList(), node.getLimit(), node.getOffset());
+  }
+
   @Override
   public PhysicalPlan visitTableScanBuilder(TableScanBuilder plan, C context) {
     return plan.build();
@@ -74,6 +74,11 @@ public class LogicalPlanDSL {
     return new LogicalWindow(input, windowFunction, windowDefinition);
   }
 
+  public LogicalPlan window(
+      LogicalPlan input, List<NamedExpression> windowFunctions, WindowDefinition windowDefinition) {
+    return new LogicalWindow(input, windowFunctions, windowDefinition);
+  }
+
   public LogicalPlan highlight(
       LogicalPlan input, Expression field, Map<String, Literal> arguments) {
     return new LogicalHighlight(input, field, arguments);
@@ -138,4 +143,9 @@ public class LogicalPlanDSL {
   public static LogicalPlan limit(LogicalPlan input, Integer limit, Integer offset) {
     return new LogicalLimit(input, limit, offset);
   }
+
+  public static LogicalPlan topN(
+      LogicalPlan input, Integer limit, Integer offset, Pair<SortOption, Expression>... sorts) {
+    return new LogicalTopN(input, Arrays.asList(sorts), limit, offset);
+  }
 }
@@ -92,6 +92,10 @@ public abstract class LogicalPlanNodeVisitor<R, C> {
     return visitNode(plan, context);
   }
 
+  public R visitTopN(LogicalTopN plan, C context) {
+    return visitNode(plan, context);
+  }
+
   public R visitMLCommons(LogicalMLCommons plan, C context) {
     return visitNode(plan, context);
   }
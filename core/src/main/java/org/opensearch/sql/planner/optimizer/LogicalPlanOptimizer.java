@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.rule.MergeFilterAndFilter;
+import org.opensearch.sql.planner.optimizer.rule.MergeLimitAndSort;
 import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderSort;
 import org.opensearch.sql.planner.optimizer.rule.read.CreateTableScanBuilder;
 import org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown;
@@ -52,13 +53,19 @@ public class LogicalPlanOptimizer {
             new CreateTableScanBuilder(),
             TableScanPushDown.PUSH_DOWN_FILTER,
             TableScanPushDown.PUSH_DOWN_AGGREGATION,
+            TableScanPushDown.PUSH_DOWN_RARE_TOP_N,
             TableScanPushDown.PUSH_DOWN_SORT,
+            TableScanPushDown.PUSH_DOWN_DEDUPE,
             TableScanPushDown.PUSH_DOWN_LIMIT,
             new PushDownPageSize(),
             TableScanPushDown.PUSH_DOWN_HIGHLIGHT,
             TableScanPushDown.PUSH_DOWN_NESTED,
             TableScanPushDown.PUSH_DOWN_PROJECT,
-            new CreateTableWriteBuilder()));
+            new CreateTableWriteBuilder(),
+            /*
+             * Phase 3: Transformations on operators that can not be pushed down
+             */
+            new MergeLimitAndSort()));
   }
 
   /** Optimize {@link LogicalPlan}. */
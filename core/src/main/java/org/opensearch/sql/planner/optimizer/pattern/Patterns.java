@@ -12,12 +12,14 @@ import com.facebook.presto.matching.PropertyPattern;
 import java.util.Optional;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
 import org.opensearch.sql.planner.logical.LogicalNested;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.logical.LogicalSort;
 import org.opensearch.sql.planner.logical.LogicalWrite;
@@ -43,6 +45,16 @@ public class Patterns {
     return Pattern.typeOf(LogicalSort.class).with(source(pattern));
   }
 
+  /** Logical dedupe operator with a given pattern on inner field. */
+  public static <T extends LogicalPlan> Pattern<LogicalDedupe> dedupe(Pattern<T> pattern) {
+    return Pattern.typeOf(LogicalDedupe.class).with(source(pattern));
+  }
+
+  /** Logical rare or top operator with a given pattern on inner field. */
+  public static <T extends LogicalPlan> Pattern<LogicalRareTopN> rareTopN(Pattern<T> pattern) {
+    return Pattern.typeOf(LogicalRareTopN.class).with(source(pattern));
+  }
+
   /** Logical limit operator with a given pattern on inner field. */
   public static <T extends LogicalPlan> Pattern<LogicalLimit> limit(Pattern<T> pattern) {
     return Pattern.typeOf(LogicalLimit.class).with(source(pattern));
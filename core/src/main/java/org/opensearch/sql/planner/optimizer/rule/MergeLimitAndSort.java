@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalTopN;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Limit and Sort into TopN.<br>
+ * Limit - Sort - Child --> TopN - Child<br>
+ * The optimizer visits a parent before its children, so the rule skips a sort whose input still
+ * contains a {@link LogicalRelation}. Such a sort may be pushed down to the data source once the
+ * relation is replaced by a table scan builder, and the limit may then be pushed down as well. The
+ * rule applies when the optimizer visits the limit again after its children are optimized.
+ */
+public class MergeLimitAndSort implements Rule<LogicalLimit> {
+
+  private final Capture<LogicalSort> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalLimit> pattern;
+
+  /** Constructor of MergeLimitAndSort. */
+  public MergeLimitAndSort() {
+    this.capture = Capture.newCapture();
+    this.pattern =
+        typeOf(LogicalLimit.class)
+            .with(source().matching(typeOf(LogicalSort.class).capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalLimit limit, Captures captures) {
+    LogicalSort sort = captures.get(capture);
+    if (containsRelation(sort)) {
+      return limit;
+    }
+    return new LogicalTopN(
+        sort.getChild().get(0), sort.getSortList(), limit.getLimit(), limit.getOffset());
+  }
+
+  private boolean containsRelation(LogicalPlan plan) {
+    if (plan instanceof LogicalRelation) {
+      return true;
+    }
+    return plan.getChild().stream().anyMatch(this::containsRelation);
+  }
+}
@@ -6,11 +6,13 @@
 package org.opensearch.sql.planner.optimizer.rule.read;
 
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.aggregate;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.dedupe;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.filter;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.highlight;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.limit;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.nested;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.project;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.rareTopN;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.scanBuilder;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.sort;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.TableScanPushDownBuilder.match;
@@ -49,6 +51,16 @@ public class TableScanPushDown<T extends LogicalPlan> implements Rule<T> {
   public static final Rule<?> PUSH_DOWN_SORT =
       match(sort(scanBuilder())).apply((sort, scanBuilder) -> scanBuilder.pushDownSort(sort));
 
+  /** Push down optimize rule for rare and top operator. */
+  public static final Rule<?> PUSH_DOWN_RARE_TOP_N =
+      match(rareTopN(scanBuilder()))
+          .apply((rareTopN, scanBuilder) -> scanBuilder.pushDownRareTopN(rareTopN));
+
+  /** Push down optimize rule for dedupe operator. */
+  public static final Rule<?> PUSH_DOWN_DEDUPE =
+      match(dedupe(scanBuilder()))
+          .apply((dedupe, scanBuilder) -> scanBuilder.pushDownDedupe(dedupe));
+
   /** Push down optimize rule for limit operator. */
   public static final Rule<?> PUSH_DOWN_LIMIT =
       match(limit(scanBuilder())).apply((limit, scanBuilder) -> scanBuilder.pushDownLimit(limit));
@@ -16,12 +16,15 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 import org.opensearch.sql.planner.physical.collector.Collector;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Group the all the input {@link BindingTuple} by {@link AggregationOperator#groupByExprList},
- * calculate the aggregation result by using {@link AggregationOperator#aggregatorList}.
+ * calculate the aggregation result by using {@link AggregationOperator#aggregatorList}. The buckets
+ * kept in memory are accounted to the {@link MemoryAccount} of the query.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -33,6 +36,8 @@ public class AggregationOperator extends PhysicalPlan {
   /** {@link BindingTuple} Collector. */
   @EqualsAndHashCode.Exclude private final Collector collector;
 
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation memory;
+
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
   /**
@@ -46,10 +51,27 @@ public class AggregationOperator extends PhysicalPlan {
       PhysicalPlan input,
       List<NamedAggregator> aggregatorList,
       List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, MemoryAccount.UNLIMITED);
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param aggregatorList List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryAccount memory account of the query
+   */
+  public AggregationOperator(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByExprList,
+      MemoryAccount memoryAccount) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
     this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
+    this.memory = new MemoryReservation(memoryAccount, "aggregation");
   }
 
   @Override
@@ -75,9 +97,21 @@ public class AggregationOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    while (input.hasNext()) {
-      collector.collect(input.next().bindingTuples());
+    for (RowBatch batch = input.nextBatch(RowBatch.DEFAULT_SIZE);
+        !batch.isEmpty();
+        batch = input.nextBatch(RowBatch.DEFAULT_SIZE)) {
+      for (ExprValue row : batch) {
+        collector.collect(row.bindingTuples());
+      }
+      // account the buckets created by the batch
+      memory.add(collector.estimatedBytes() - memory.getUsedBytes());
     }
     iterator = collector.results().iterator();
   }
+
+  @Override
+  public void close() {
+    super.close();
+    memory.close();
+  }
 }
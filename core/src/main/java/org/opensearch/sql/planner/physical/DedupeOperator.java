@@ -17,12 +17,17 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Dedupe operator. Dedupe the input {@link ExprValue} by using the {@link
- * DedupeOperator#dedupeList} The result order follow the input order.
+ * DedupeOperator#dedupeList} The result order follow the input order. The dedupe keys seen are
+ * accounted to the {@link MemoryAccount} of the query, unless only the consecutive duplications are
+ * removed.
  */
 @Getter
 @EqualsAndHashCode(callSuper = false)
@@ -35,6 +40,7 @@ public class DedupeOperator extends PhysicalPlan {
 
   @EqualsAndHashCode.Exclude private final Deduper<List<ExprValue>> deduper;
   @EqualsAndHashCode.Exclude private ExprValue next;
+  @EqualsAndHashCode.Exclude private final MemoryReservation memory;
 
   private static final Integer ALL_ONE_DUPLICATION = 1;
   private static final Boolean IGNORE_EMPTY = false;
@@ -42,6 +48,9 @@ public class DedupeOperator extends PhysicalPlan {
   private static final Predicate<ExprValue> NULL_OR_MISSING = v -> v.isNull() || v.isMissing();
   private static final Integer SEEN_FIRST_TIME = 1;
 
+  /** Estimated bytes of a dedupe key and its entry in the seen map, excluding the key values. */
+  private static final long SEEN_KEY_BYTES = 96;
+
   @NonNull
   public DedupeOperator(PhysicalPlan input, List<Expression> dedupeList) {
     this(input, dedupeList, ALL_ONE_DUPLICATION, IGNORE_EMPTY, NON_CONSECUTIVE);
@@ -63,12 +72,34 @@ public class DedupeOperator extends PhysicalPlan {
       Integer allowedDuplication,
       Boolean keepEmpty,
       Boolean consecutive) {
+    this(input, dedupeList, allowedDuplication, keepEmpty, consecutive, MemoryAccount.UNLIMITED);
+  }
+
+  /**
+   * Dedup Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param dedupeList list of dedupe {@link Expression}
+   * @param allowedDuplication max allowed duplication
+   * @param keepEmpty keep empty
+   * @param consecutive consecutive mode
+   * @param memoryAccount memory account of the query
+   */
+  @NonNull
+  public DedupeOperator(
+      PhysicalPlan input,
+      List<Expression> dedupeList,
+      Integer allowedDuplication,
+      Boolean keepEmpty,
+      Boolean consecutive,
+      MemoryAccount memoryAccount) {
     this.input = input;
     this.dedupeList = dedupeList;
     this.allowedDuplication = allowedDuplication;
     this.keepEmpty = keepEmpty;
     this.consecutive = consecutive;
     this.deduper = this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper();
+    this.memory = new MemoryReservation(memoryAccount, "dedupe");
   }
 
   @Override
@@ -98,6 +129,12 @@ public class DedupeOperator extends PhysicalPlan {
     return this.next;
   }
 
+  @Override
+  public void close() {
+    super.close();
+    memory.close();
+  }
+
   /**
    * Test the {@link ExprValue} should be keep or ignore
    *
@@ -119,6 +156,13 @@ public class DedupeOperator extends PhysicalPlan {
     }
     List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
     int seenTimes = deduper.seenTimes(dedupeKey);
+    if (!consecutive && seenTimes == SEEN_FIRST_TIME) {
+      long bytes = SEEN_KEY_BYTES;
+      for (ExprValue value : dedupeKey) {
+        bytes += ExprValueSizeEstimator.estimate(value);
+      }
+      memory.add(bytes);
+    }
     return seenTimes <= allowedDuplication;
   }
 
@@ -10,11 +10,13 @@ import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,7 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionCompiler;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.env.Environment;
 
@@ -35,6 +38,9 @@ import org.opensearch.sql.expression.env.Environment;
  * <p>The {@link EvalOperator#expressionList} are evaluated from left to right. It means you can
  * reference previous evaluated field. e.g. fields velocity = distance/time, doubleVelocity = 2 *
  * velocity
+ *
+ * <p>The expressions are compiled by {@link ExpressionCompiler} before evaluating the first row,
+ * and each of them is evaluated column by column on each batch of rows.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
@@ -43,6 +49,8 @@ public class EvalOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
   @Getter private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  @ToString.Exclude @EqualsAndHashCode.Exclude private List<Expression> compiledExpressions;
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -61,7 +69,35 @@ public class EvalOperator extends PhysicalPlan {
   @Override
   public ExprValue next() {
     ExprValue inputValue = input.next();
-    Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
+    return evaluate(inputValue, eval(inputValue.bindingTuples()));
+  }
+
+  /** Evaluate each expression on the whole input batch before the next one. */
+  @Override
+  public RowBatch nextBatch(int maxRows) {
+    RowBatch batch = input.nextBatch(maxRows);
+    List<Environment<Expression, ExprValue>> envs = batch.environments();
+    List<Map<String, ExprValue>> evalMaps = new ArrayList<>(envs.size());
+    for (int i = 0; i < envs.size(); i++) {
+      evalMaps.add(new LinkedHashMap<>());
+    }
+    for (int j = 0; j < expressionList.size(); j++) {
+      ReferenceExpression var = expressionList.get(j).getKey();
+      ExprValue[] values = ExpressionCompiler.valuesOf(compiledExpressions().get(j), envs);
+      for (int i = 0; i < values.length; i++) {
+        envs.set(i, extendEnv(envs.get(i), var, values[i]));
+        evalMaps.get(i).put(var.toString(), values[i]);
+      }
+    }
+
+    RowBatch result = new RowBatch(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      result.add(evaluate(batch.get(i), evalMaps.get(i)));
+    }
+    return result;
+  }
+
+  private ExprValue evaluate(ExprValue inputValue, Map<String, ExprValue> evalMap) {
 
     if (STRUCT == inputValue.type()) {
       ImmutableMap.Builder<String, ExprValue> resultBuilder = new Builder<>();
@@ -89,12 +125,22 @@ public class EvalOperator extends PhysicalPlan {
    */
   private Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
     Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
-    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
-      ReferenceExpression var = pair.getKey();
-      ExprValue value = pair.getValue().valueOf(env);
+    for (int j = 0; j < expressionList.size(); j++) {
+      ReferenceExpression var = expressionList.get(j).getKey();
+      ExprValue value = compiledExpressions().get(j).valueOf(env);
       env = extendEnv(env, var, value);
       evalResultMap.put(var.toString(), value);
     }
     return evalResultMap;
   }
+
+  private List<Expression> compiledExpressions() {
+    if (compiledExpressions == null) {
+      compiledExpressions =
+          expressionList.stream()
+              .map(pair -> ExpressionCompiler.compile(pair.getValue()))
+              .collect(Collectors.toList());
+    }
+    return compiledExpressions;
+  }
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.collect.Iterators;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+/**
+ * External merge sorter. Rows are buffered in memory until the buffer reaches {@link
+ * #maxRowsInMemory}, then the buffer is sorted and spilled to a temporary file as a sorted run in
+ * the {@link ExprValueCodec} binary format. When all rows are added, the spilled runs and the rows
+ * remaining in memory are k-way merged. The sort is stable: rows that compare equal are returned in
+ * the order they were added.
+ *
+ * <p>Rows are decorated with their {@link SortKey} when added, so the sort expressions are
+ * evaluated once per row. Only the rows are spilled, the keys are rebuilt when a run is read back.
+ *
+ * <p>The estimated bytes of the rows buffered in memory are added to the {@link MemoryReservation}
+ * of the sort, and freed when the buffer is spilled.
+ */
+@RequiredArgsConstructor
+public class ExternalSorter implements AutoCloseable {
+
+  private static final String RUN_FILE_PREFIX = "opensearch-sql-sort-";
+
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  /** Estimated bytes of a {@link SortKey} and its slot in the buffer, excluding the row. */
+  private static final long SORT_KEY_BYTES = 96;
+
+  private final Sorter sorter;
+
+  /** Maximum number of rows kept in memory before spilling. Zero or less disables spilling. */
+  private final int maxRowsInMemory;
+
+  /** Memory of the sort, the buffered rows are accounted to. */
+  private final MemoryReservation memory;
+
+  private List<SortKey> buffer = new ArrayList<>();
+
+  /** Estimated bytes of the rows buffered in memory. */
+  private long bufferBytes = 0;
+
+  /** Spilled sorted runs, in the order they were written. */
+  @Getter private final List<Path> runs = new ArrayList<>();
+
+  private final List<RunReader> readers = new ArrayList<>();
+
+  /** Constructor of the sorter which doesn't account its memory. */
+  public ExternalSorter(Sorter sorter, int maxRowsInMemory) {
+    this(sorter, maxRowsInMemory, new MemoryReservation(MemoryAccount.UNLIMITED, "sort"));
+  }
+
+  /** Add a row, spilling the in-memory buffer if it is full. */
+  public void add(ExprValue row) {
+    long bytes = SORT_KEY_BYTES + ExprValueSizeEstimator.estimate(row);
+    memory.add(bytes);
+    bufferBytes += bytes;
+    buffer.add(sorter.key(row));
+    if (maxRowsInMemory > 0 && buffer.size() >= maxRowsInMemory) {
+      spill();
+    }
+  }
+
+  /**
+   * Iterator over all added rows in sorted order. Must be called once, after all rows are added.
+   */
+  public Iterator<ExprValue> iterator() {
+    buffer.sort(sorter);
+    if (runs.isEmpty()) {
+      return Iterators.transform(buffer.iterator(), SortKey::getRow);
+    }
+
+    List<Iterator<SortKey>> sources = new ArrayList<>();
+    for (Path run : runs) {
+      RunReader reader = new RunReader(run);
+      readers.add(reader);
+      sources.add(reader);
+    }
+    // In-memory rows were added last, so they are merged as the last run to keep stability.
+    sources.add(buffer.iterator());
+    return new MergeIterator(sources);
+  }
+
+  /** Release the in-memory buffer and delete all spilled runs. */
+  @Override
+  public void close() {
+    buffer = new ArrayList<>();
+    memory.free(bufferBytes);
+    bufferBytes = 0;
+    readers.forEach(RunReader::close);
+    readers.clear();
+    for (Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (IOException e) {
+        // best effort, temporary files are removed on node restart anyway
+      }
+    }
+    runs.clear();
+  }
+
+  private void spill() {
+    buffer.sort(sorter);
+    try {
+      Path run = Files.createTempFile(RUN_FILE_PREFIX, ".run");
+      runs.add(run);
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+        out.writeInt(buffer.size());
+        for (SortKey key : buffer) {
+          ExprValueCodec.write(out, key.getRow());
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to spill sort run to disk", e);
+    }
+    buffer = new ArrayList<>();
+    memory.free(bufferBytes);
+    bufferBytes = 0;
+  }
+
+  /** Sequential reader of a spilled run. */
+  private class RunReader implements Iterator<SortKey> {
+    private final DataInputStream in;
+    private int remaining;
+
+    RunReader(Path run) {
+      try {
+        this.in =
+            new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_SIZE));
+        this.remaining = in.readInt();
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to open sort run " + run, e);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public SortKey next() {
+      if (remaining <= 0) {
+        throw new NoSuchElementException();
+      }
+      try {
+        remaining--;
+        SortKey key = sorter.key(ExprValueCodec.read(in));
+        if (remaining == 0) {
+          close();
+        }
+        return key;
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to read sort run", e);
+      }
+    }
+
+    void close() {
+      try {
+        in.close();
+      } catch (IOException e) {
+        // ignore, the file is deleted afterwards
+      }
+    }
+  }
+
+  /** K-way merge of sorted sources. Ties are broken by source index to keep the sort stable. */
+  private class MergeIterator implements Iterator<ExprValue> {
+    private final List<Iterator<SortKey>> sources;
+    private final PriorityQueue<Head> heads;
+
+    MergeIterator(List<Iterator<SortKey>> sources) {
+      this.sources = sources;
+      this.heads =
+          new PriorityQueue<>(
+              Math.max(1, sources.size()),
+              Comparator.<Head, SortKey>comparing(head -> head.key, sorter)
+                  .thenComparingInt(head -> head.source));
+      for (int i = 0; i < sources.size(); i++) {
+        advance(i);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public ExprValue next() {
+      Head head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      advance(head.source);
+      return head.key.getRow();
+    }
+
+    private void advance(int source) {
+      Iterator<SortKey> iterator = sources.get(source);
+      if (iterator.hasNext()) {
+        heads.add(new Head(iterator.next(), source));
+      }
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class Head {
+    private final SortKey key;
+    private final int source;
+  }
+}
@@ -13,13 +13,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionCompiler;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * The Filter operator represents WHERE clause and uses the conditions to evaluate the input {@link
  * BindingTuple}. The Filter operator only returns the results that evaluated to true. The NULL and
- * MISSING are handled by the logic defined in {@link BinaryPredicateOperator}.
+ * MISSING are handled by the logic defined in {@link BinaryPredicateOperator}. The conditions are
+ * compiled by {@link ExpressionCompiler} before evaluating the first row, and evaluated column by
+ * column on each batch of rows.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -28,6 +31,7 @@ public class FilterOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
   @Getter private final Expression conditions;
   @ToString.Exclude private ExprValue next = null;
+  @ToString.Exclude @EqualsAndHashCode.Exclude private Expression compiledConditions;
 
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
@@ -43,8 +47,7 @@ public class FilterOperator extends PhysicalPlan {
   public boolean hasNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      if (test(inputValue)) {
         next = inputValue;
         return true;
       }
@@ -56,4 +59,46 @@ public class FilterOperator extends PhysicalPlan {
   public ExprValue next() {
     return next;
   }
+
+  /**
+   * Drop the rows which don't match from the selection of each input batch. It fails if rows were
+   * already consumed with {@link #hasNext()}, as the row prefetched by it would be lost.
+   */
+  @Override
+  public RowBatch nextBatch(int maxRows) {
+    if (next != null) {
+      throw new IllegalStateException(
+          "[BUG] filter can't be consumed batch by batch after row by row");
+    }
+    RowBatch batch;
+    do {
+      batch = input.nextBatch(maxRows);
+      if (batch.isEmpty()) {
+        return batch;
+      }
+      ExprValue[] values =
+          ExpressionCompiler.valuesOf(compiledConditions(), batch.environments());
+      boolean[] matched = new boolean[values.length];
+      for (int i = 0; i < values.length; i++) {
+        matched[i] = isTrue(values[i]);
+      }
+      batch.retain(matched);
+    } while (batch.isEmpty());
+    return batch;
+  }
+
+  private boolean test(ExprValue inputValue) {
+    return isTrue(compiledConditions().valueOf(inputValue.bindingTuples()));
+  }
+
+  private Expression compiledConditions() {
+    if (compiledConditions == null) {
+      compiledConditions = ExpressionCompiler.compile(conditions);
+    }
+    return compiledConditions;
+  }
+
+  private static boolean isTrue(ExprValue exprValue) {
+    return !(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue());
+  }
 }
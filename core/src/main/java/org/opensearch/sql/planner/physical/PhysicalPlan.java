@@ -33,6 +33,22 @@ public abstract class PhysicalPlan
     getChild().forEach(PhysicalPlan::close);
   }
 
+  /**
+   * Get the next batch of rows. A plan is consumed either row by row with {@link #hasNext()} and
+   * {@link #next()}, or batch by batch, never both. By default, the batch is filled row by row;
+   * operators which can process a whole batch of their input at once override it.
+   *
+   * @param maxRows maximum number of rows of the batch
+   * @return next batch, which is empty only if there is no more row
+   */
+  public RowBatch nextBatch(int maxRows) {
+    RowBatch batch = new RowBatch(maxRows);
+    while (!batch.isFull() && hasNext()) {
+      batch.add(next());
+    }
+    return batch;
+  }
+
   public void add(Split split) {
     getChild().forEach(child -> child.add(split));
   }
@@ -83,6 +83,13 @@ public class PhysicalPlanDSL {
     return new WindowOperator(input, windowFunction, windowDefinition);
   }
 
+  public WindowOperator window(
+      PhysicalPlan input,
+      List<NamedExpression> windowFunctions,
+      WindowDefinition windowDefinition) {
+    return new WindowOperator(input, windowFunctions, windowDefinition);
+  }
+
   public static RareTopNOperator rareTopN(
       PhysicalPlan input,
       CommandType commandType,
@@ -110,6 +117,11 @@ public class PhysicalPlanDSL {
     return new LimitOperator(input, limit, offset);
   }
 
+  public static TopNOperator topN(
+      PhysicalPlan input, Integer limit, Integer offset, Pair<SortOption, Expression>... sorts) {
+    return new TopNOperator(input, Arrays.asList(sorts), limit, offset);
+  }
+
   public static NestedOperator nested(
       PhysicalPlan input, Set<String> args, Map<String, List<String>> groupedFieldsByPath) {
     return new NestedOperator(input, args, groupedFieldsByPath);
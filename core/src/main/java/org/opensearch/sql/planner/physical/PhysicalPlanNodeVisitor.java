@@ -80,6 +80,10 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
     return visitNode(node, context);
   }
 
+  public R visitTopN(TopNOperator node, C context) {
+    return visitNode(node, context);
+  }
+
   public R visitMLCommons(PhysicalPlan node, C context) {
     return visitNode(node, context);
   }
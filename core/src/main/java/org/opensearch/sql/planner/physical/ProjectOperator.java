@@ -14,27 +14,52 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionCompiler;
 import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
-/** Project the fields specified in {@link ProjectOperator#projectList} from input. */
+/**
+ * Project the fields specified in {@link ProjectOperator#projectList} from input. Without parse
+ * expression, each projected expression is compiled by {@link ExpressionCompiler} and evaluated
+ * column by column on each batch of rows.
+ */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@AllArgsConstructor
 public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
   @Getter private PhysicalPlan input;
   @Getter private List<NamedExpression> projectList;
   @Getter private List<NamedExpression> namedParseExpressions;
 
+  /** Schema shared by the rows projected, created with the first row. */
+  @ToString.Exclude @EqualsAndHashCode.Exclude private transient RowSchema rowSchema;
+
+  /** Projected expressions compiled, created with the first row. */
+  @ToString.Exclude @EqualsAndHashCode.Exclude
+  private transient List<Expression> compiledProjectList;
+
+  /** Constructor of ProjectOperator. */
+  public ProjectOperator(
+      PhysicalPlan input,
+      List<NamedExpression> projectList,
+      List<NamedExpression> namedParseExpressions) {
+    this.input = input;
+    this.projectList = projectList;
+    this.namedParseExpressions = namedParseExpressions;
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitProject(this, context);
@@ -52,13 +77,70 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return project(input.next());
+  }
+
+  @Override
+  public RowBatch nextBatch(int maxRows) {
+    RowBatch batch = input.nextBatch(maxRows);
+    if (!namedParseExpressions.isEmpty()) {
+      return batch.map(this::project);
+    }
+    List<Environment<Expression, ExprValue>> envs = batch.environments();
+    ExprValue[][] columns = new ExprValue[projectList.size()][];
+    for (int j = 0; j < columns.length; j++) {
+      columns[j] = ExpressionCompiler.valuesOf(compiledProjectList().get(j), envs);
+    }
+
+    RowBatch result = new RowBatch(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      ExprValue[] values = new ExprValue[columns.length];
+      for (int j = 0; j < columns.length; j++) {
+        values[j] = columns[j][i];
+      }
+      result.add(new ExprRowValue(rowSchema(), values));
+    }
+    return result;
+  }
+
+  private List<Expression> compiledProjectList() {
+    if (compiledProjectList == null) {
+      compiledProjectList =
+          projectList.stream()
+              .map(expr -> ExpressionCompiler.compile(expr.getDelegated()))
+              .collect(Collectors.toList());
+    }
+    return compiledProjectList;
+  }
+
+  private RowSchema rowSchema() {
+    if (rowSchema == null) {
+      rowSchema =
+          new RowSchema(
+              projectList.stream()
+                  .map(NamedExpression::getNameOrAlias)
+                  .collect(Collectors.toList()));
+    }
+    return rowSchema;
+  }
+
+  private ExprValue project(ExprValue inputValue) {
+    BindingTuple bindingTuple = inputValue.bindingTuples();
+    if (namedParseExpressions.isEmpty()) {
+      // each field is stored in its slot of the row, there is no map per row
+      ExprValue[] values = new ExprValue[projectList.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = compiledProjectList().get(i).valueOf(bindingTuple);
+      }
+      return new ExprRowValue(rowSchema(), values);
+    }
+
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
 
     // ParseExpression will always override NamedExpression when identifier conflicts
     // TODO needs a better implementation, see https://github.com/opensearch-project/sql/issues/458
     for (NamedExpression expr : projectList) {
-      ExprValue exprValue = expr.valueOf(inputValue.bindingTuples());
+      ExprValue exprValue = expr.valueOf(bindingTuple);
       Optional<NamedExpression> optionalParseExpression =
           namedParseExpressions.stream()
               .filter(parseExpr -> parseExpr.getNameOrAlias().equals(expr.getNameOrAlias()))
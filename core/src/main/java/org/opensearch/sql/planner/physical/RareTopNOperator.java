@@ -24,12 +24,16 @@ import lombok.ToString;
 import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Group the all the input {@link BindingTuple} by {@link RareTopNOperator#groupByExprList},
- * Calculate the rare result by using the {@link RareTopNOperator#fieldExprList}.
+ * Calculate the rare result by using the {@link RareTopNOperator#fieldExprList}. The groups and
+ * field values counted in memory are accounted to the {@link MemoryAccount} of the query.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
@@ -43,9 +47,13 @@ public class RareTopNOperator extends PhysicalPlan {
 
   @EqualsAndHashCode.Exclude private final Group group;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation memory;
 
   private static final Integer DEFAULT_NO_OF_RESULTS = 10;
 
+  /** Estimated bytes of a {@link Key} and its map entry, excluding the key values. */
+  private static final long KEY_BYTES = 96;
+
   public RareTopNOperator(
       PhysicalPlan input,
       CommandType commandType,
@@ -69,12 +77,34 @@ public class RareTopNOperator extends PhysicalPlan {
       int noOfResults,
       List<Expression> fieldExprList,
       List<Expression> groupByExprList) {
+    this(
+        input, commandType, noOfResults, fieldExprList, groupByExprList, MemoryAccount.UNLIMITED);
+  }
+
+  /**
+   * RareTopNOperator Constructor.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param commandType Enum for Rare/TopN command.
+   * @param noOfResults Number of results
+   * @param fieldExprList List of {@link Expression}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryAccount memory account of the query
+   */
+  public RareTopNOperator(
+      PhysicalPlan input,
+      CommandType commandType,
+      int noOfResults,
+      List<Expression> fieldExprList,
+      List<Expression> groupByExprList,
+      MemoryAccount memoryAccount) {
     this.input = input;
     this.commandType = commandType;
     this.noOfResults = noOfResults;
     this.fieldExprList = fieldExprList;
     this.groupByExprList = groupByExprList;
     this.group = new Group();
+    this.memory = new MemoryReservation(memoryAccount, "rare_top_n");
   }
 
   @Override
@@ -106,6 +136,12 @@ public class RareTopNOperator extends PhysicalPlan {
     iterator = group.result().iterator();
   }
 
+  @Override
+  public void close() {
+    super.close();
+    memory.close();
+  }
+
   @VisibleForTesting
   @RequiredArgsConstructor
   public class Group {
@@ -116,24 +152,17 @@ public class RareTopNOperator extends PhysicalPlan {
     public void push(ExprValue inputValue) {
       Key groupKey = new Key(inputValue, groupByExprList);
       Key fieldKey = new Key(inputValue, fieldExprList);
-      groupListMap.computeIfAbsent(
-          groupKey,
-          k -> {
-            Map<Key, Integer> map = new HashMap<>();
-            map.put(fieldKey, 1);
-            return map;
-          });
-      groupListMap.computeIfPresent(
-          groupKey,
-          (key, map) -> {
-            map.computeIfAbsent(fieldKey, f -> 1);
-            map.computeIfPresent(
-                fieldKey,
-                (field, count) -> {
-                  return count + 1;
-                });
-            return map;
-          });
+      Map<Key, Integer> fieldMap = groupListMap.get(groupKey);
+      if (fieldMap == null) {
+        memory.add(groupKey.estimatedBytes());
+        fieldMap = new HashMap<>();
+        groupListMap.put(groupKey, fieldMap);
+      }
+      Integer count = fieldMap.get(fieldKey);
+      if (count == null) {
+        memory.add(fieldKey.estimatedBytes());
+      }
+      fieldMap.put(fieldKey, count == null ? 1 : count + 1);
     }
 
     /** Get the list of {@link BindingTuple} for each group. */
@@ -187,6 +216,15 @@ public class RareTopNOperator extends PhysicalPlan {
               .collect(Collectors.toList());
     }
 
+    /** Return the estimated bytes of the key. */
+    public long estimatedBytes() {
+      long bytes = KEY_BYTES;
+      for (ExprValue value : valueList) {
+        bytes += ExprValueSizeEstimator.estimate(value);
+      }
+      return bytes;
+    }
+
     /** Return the Map of key and key value. */
     public Map<String, ExprValue> keyMap(List<Expression> exprList) {
 
@@ -16,9 +16,11 @@ import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -39,6 +41,11 @@ public class RenameOperator extends PhysicalPlan {
   @ToString.Exclude @EqualsAndHashCode.Exclude
   private final Map<String, ReferenceExpression> nameMapping;
 
+  /** Schema of the last input row and its renamed schema, see {@link #rename(ExprRowValue)}. */
+  @ToString.Exclude @EqualsAndHashCode.Exclude private RowSchema inputSchema;
+
+  @ToString.Exclude @EqualsAndHashCode.Exclude private RowSchema renamedSchema;
+
   /** Constructor of RenameOperator. */
   public RenameOperator(PhysicalPlan input, Map<ReferenceExpression, ReferenceExpression> mapping) {
     this.input = input;
@@ -67,7 +74,9 @@ public class RenameOperator extends PhysicalPlan {
   @Override
   public ExprValue next() {
     ExprValue inputValue = input.next();
-    if (STRUCT == inputValue.type()) {
+    if (inputValue instanceof ExprRowValue) {
+      return rename((ExprRowValue) inputValue);
+    } else if (STRUCT == inputValue.type()) {
       Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
       ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
       for (String bindName : tupleValue.keySet()) {
@@ -82,4 +91,15 @@ public class RenameOperator extends PhysicalPlan {
       return inputValue;
     }
   }
+
+  /** Rename the fields of a row by its schema, without copying its values. */
+  private ExprValue rename(ExprRowValue row) {
+    if (row.getSchema() != inputSchema) {
+      inputSchema = row.getSchema();
+      renamedSchema =
+          inputSchema.rename(
+              name -> nameMapping.containsKey(name) ? nameMapping.get(name).getAttr() : name);
+    }
+    return row.withSchema(renamedSchema);
+  }
 }
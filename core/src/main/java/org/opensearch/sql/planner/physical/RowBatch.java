@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * A batch of rows returned by {@link PhysicalPlan#nextBatch(int)}. The rows of a batch are selected
+ * by a selection vector, so a filter drops rows from the batch by narrowing the selection in place,
+ * without copying the rows which pass.
+ */
+public class RowBatch implements Iterable<ExprValue> {
+
+  /** Default number of rows of a batch. */
+  public static final int DEFAULT_SIZE = 1000;
+
+  private final ExprValue[] rows;
+
+  /** Number of rows added to the batch. */
+  private int rowCount = 0;
+
+  /** Indexes of the selected rows, or null if all rows added are selected. */
+  private int[] selection = null;
+
+  /** Number of rows selected. */
+  private int size = 0;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity maximum number of rows of the batch
+   */
+  public RowBatch(int capacity) {
+    this.rows = new ExprValue[capacity];
+  }
+
+  /**
+   * Add a row to the batch, which is selected.
+   *
+   * @param row row
+   */
+  public void add(ExprValue row) {
+    if (selection != null) {
+      throw new IllegalStateException("[BUG] rows can't be added to a batch after a filter");
+    }
+    rows[rowCount++] = row;
+    size = rowCount;
+  }
+
+  public boolean isFull() {
+    return rowCount == rows.length;
+  }
+
+  /**
+   * Number of rows selected.
+   *
+   * @return number of rows selected
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Get a selected row.
+   *
+   * @param index index of the row among the selected rows
+   * @return row
+   */
+  public ExprValue get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(String.format("%d out of %d rows", index, size));
+    }
+    return rows[selection == null ? index : selection[index]];
+  }
+
+  /**
+   * Keep only the selected rows which match the predicate.
+   *
+   * @param predicate predicate
+   */
+  public void retain(Predicate<ExprValue> predicate) {
+    boolean[] matched = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      matched[i] = predicate.test(get(i));
+    }
+    retain(matched);
+  }
+
+  /**
+   * Keep only the selected rows of which the flag is set.
+   *
+   * @param matched flag of each selected row, in the order of the selected rows
+   */
+  public void retain(boolean[] matched) {
+    int[] retained = selection == null ? new int[rowCount] : selection;
+    int retainedSize = 0;
+    for (int i = 0; i < size; i++) {
+      if (matched[i]) {
+        retained[retainedSize++] = selection == null ? i : selection[i];
+      }
+    }
+    selection = retained;
+    size = retainedSize;
+  }
+
+  /**
+   * Get the binding tuples of the selected rows, to evaluate expressions on the whole batch.
+   *
+   * @return environment of each selected row, in a new list
+   */
+  public List<Environment<Expression, ExprValue>> environments() {
+    List<Environment<Expression, ExprValue>> envs = new ArrayList<>(size);
+    forEach(row -> envs.add(row.bindingTuples()));
+    return envs;
+  }
+
+  /**
+   * Apply the function to each selected row.
+   *
+   * @param function function
+   * @return new batch of the results, in the order of the selected rows
+   */
+  public RowBatch map(UnaryOperator<ExprValue> function) {
+    RowBatch result = new RowBatch(size);
+    for (int i = 0; i < size; i++) {
+      result.add(function.apply(get(i)));
+    }
+    return result;
+  }
+
+  /**
+   * Copy the selected rows to a list.
+   *
+   * @return selected rows
+   */
+  public List<ExprValue> toList() {
+    List<ExprValue> list = new ArrayList<>(size);
+    forEach(list::add);
+    return list;
+  }
+
+  @Override
+  public Iterator<ExprValue> iterator() {
+    return new Iterator<>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public ExprValue next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return get(index++);
+      }
+    };
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * A row decorated with its sort keys. The sort expressions are evaluated once when the key is
+ * created instead of on every comparison.
+ *
+ * <p>Keys of core value types are also normalized into a long whose ascending order is the
+ * natural order of the values. For numeric, boolean, date and time values the normalized long is
+ * exact. For timestamp (epoch second) and string (first 4 UTF-16 chars, compared unsigned) values
+ * it is a prefix, and equal prefixes fall back to comparing the values. Null, missing and any
+ * other values are never normalized.
+ */
+public class SortKey {
+
+  static final byte GENERIC = 0;
+  static final byte BOOLEAN = 1;
+  static final byte BYTE = 2;
+  static final byte SHORT = 3;
+  static final byte INTEGER = 4;
+  static final byte LONG = 5;
+  static final byte FLOAT = 6;
+  static final byte DOUBLE = 7;
+  static final byte DATE = 8;
+  static final byte TIME = 9;
+  static final byte TIMESTAMP = 10;
+  static final byte STRING = 11;
+
+  private static final int STRING_PREFIX_CHARS = 4;
+
+  /** Normalized value classes. Sub-classes are deliberately not matched. */
+  private static final Map<Class<?>, Byte> KINDS =
+      new ImmutableMap.Builder<Class<?>, Byte>()
+          .put(ExprBooleanValue.class, BOOLEAN)
+          .put(ExprByteValue.class, BYTE)
+          .put(ExprShortValue.class, SHORT)
+          .put(ExprIntegerValue.class, INTEGER)
+          .put(ExprLongValue.class, LONG)
+          .put(ExprFloatValue.class, FLOAT)
+          .put(ExprDoubleValue.class, DOUBLE)
+          .put(ExprDateValue.class, DATE)
+          .put(ExprTimeValue.class, TIME)
+          .put(ExprTimestampValue.class, TIMESTAMP)
+          .put(ExprStringValue.class, STRING)
+          .build();
+
+  /** The decorated row. */
+  @Getter private final ExprValue row;
+
+  final ExprValue[] values;
+
+  final byte[] kinds;
+
+  final long[] normalized;
+
+  /**
+   * Evaluate the sort expressions on the row.
+   *
+   * @param row row to decorate
+   * @param expressions sort expressions
+   */
+  SortKey(ExprValue row, List<Expression> expressions) {
+    int size = expressions.size();
+    this.row = row;
+    this.values = new ExprValue[size];
+    this.kinds = new byte[size];
+    this.normalized = new long[size];
+    for (int i = 0; i < size; i++) {
+      ExprValue value = expressions.get(i).valueOf(row.bindingTuples());
+      byte kind = KINDS.getOrDefault(value.getClass(), GENERIC);
+      values[i] = value;
+      kinds[i] = kind;
+      normalized[i] = normalize(kind, value);
+    }
+  }
+
+  /** Whether the normalized long of the kind decides the order without comparing the values. */
+  static boolean isExact(byte kind) {
+    return kind != TIMESTAMP && kind != STRING;
+  }
+
+  private static long normalize(byte kind, ExprValue value) {
+    switch (kind) {
+      case BOOLEAN:
+        return value.booleanValue() ? 1L : 0L;
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+        return value.longValue();
+      case FLOAT:
+      case DOUBLE:
+        return sortableDoubleBits(value.doubleValue());
+      case DATE:
+        return value.dateValue().toEpochDay();
+      case TIME:
+        return value.timeValue().toNanoOfDay();
+      case TIMESTAMP:
+        return value.timestampValue().getEpochSecond();
+      case STRING:
+        return stringPrefix(value.stringValue());
+      default:
+        return 0L;
+    }
+  }
+
+  /**
+   * Flip the non-sign bits of negative doubles so that the signed order of the bits matches {@link
+   * Double#compare(double, double)}, including -0.0 before 0.0 and NaN last.
+   */
+  private static long sortableDoubleBits(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /** Pack the leading chars so that the unsigned order matches {@link String#compareTo}. */
+  private static long stringPrefix(String value) {
+    long prefix = 0L;
+    for (int i = 0; i < STRING_PREFIX_CHARS; i++) {
+      prefix <<= Character.SIZE;
+      if (i < value.length()) {
+        prefix |= value.charAt(i);
+      }
+    }
+    return prefix;
+  }
+}
@@ -8,27 +8,30 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.PriorityQueue;
-import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Singular;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.utils.ExprValueOrdering;
 import org.opensearch.sql.expression.Expression;
-import org.opensearch.sql.planner.physical.SortOperator.Sorter.SorterBuilder;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}. The count indicate
  * how many sorted result should been return.
+ *
+ * <p>If {@link SortOperator#maxRowsInMemory} is positive, the input is sorted by {@link
+ * ExternalSorter} which spills sorted runs to disk whenever that many rows are buffered. The rows
+ * buffered in memory are accounted to the {@link MemoryAccount} of the query.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
@@ -36,7 +39,13 @@ public class SortOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
 
   @Getter private final List<Pair<SortOption, Expression>> sortList;
+
+  /** Maximum number of rows buffered in memory before spilling. Zero or less disables spilling. */
+  @Getter private final int maxRowsInMemory;
+
   @EqualsAndHashCode.Exclude private final Sorter sorter;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation memory;
+  @EqualsAndHashCode.Exclude private ExternalSorter externalSorter;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
   /**
@@ -47,20 +56,41 @@ public class SortOperator extends PhysicalPlan {
    *     with {@link SortOption}
    */
   public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, 0);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param maxRowsInMemory maximum number of rows buffered in memory before spilling to disk
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, int maxRowsInMemory) {
+    this(input, sortList, maxRowsInMemory, MemoryAccount.UNLIMITED);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param maxRowsInMemory maximum number of rows buffered in memory before spilling to disk
+   * @param memoryAccount memory account of the query
+   */
+  public SortOperator(
+      PhysicalPlan input,
+      List<Pair<SortOption, Expression>> sortList,
+      int maxRowsInMemory,
+      MemoryAccount memoryAccount) {
     this.input = input;
     this.sortList = sortList;
-    SorterBuilder sorterBuilder = Sorter.builder();
-    for (Pair<SortOption, Expression> pair : sortList) {
-      SortOption option = pair.getLeft();
-      ExprValueOrdering ordering =
-          ASC.equals(option.getSortOrder())
-              ? ExprValueOrdering.natural()
-              : ExprValueOrdering.natural().reverse();
-      ordering =
-          NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
-      sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
-    }
-    this.sorter = sorterBuilder.build();
+    this.maxRowsInMemory = maxRowsInMemory;
+    this.sorter = Sorter.of(sortList);
+    this.memory = new MemoryReservation(memoryAccount, "sort");
   }
 
   @Override
@@ -71,12 +101,21 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+    externalSorter = new ExternalSorter(sorter, maxRowsInMemory, memory);
     while (input.hasNext()) {
-      sorted.add(input.next());
+      externalSorter.add(input.next());
     }
 
-    iterator = iterator(sorted);
+    iterator = externalSorter.iterator();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    if (externalSorter != null) {
+      externalSorter.close();
+    }
+    memory.close();
   }
 
   @Override
@@ -94,38 +133,74 @@ public class SortOperator extends PhysicalPlan {
     return iterator.next();
   }
 
-  @Builder
-  public static class Sorter implements Comparator<ExprValue> {
-    @Singular private final List<Pair<Expression, Comparator<ExprValue>>> comparators;
+  /**
+   * Comparator of {@link SortKey}s. Rows are decorated by {@link Sorter#key(ExprValue)} once, so
+   * that the sort expressions are not evaluated again on every comparison.
+   */
+  public static class Sorter implements Comparator<SortKey> {
+    private final List<Expression> expressions;
+
+    private final List<Comparator<ExprValue>> orderings;
+
+    private final boolean[] descending;
+
+    private Sorter(
+        List<Expression> expressions, List<Comparator<ExprValue>> orderings, boolean[] descending) {
+      this.expressions = expressions;
+      this.orderings = orderings;
+      this.descending = descending;
+    }
+
+    /** Create the sorter of sort fields specified by {@link Expression} with {@link SortOption}. */
+    public static Sorter of(List<Pair<SortOption, Expression>> sortList) {
+      List<Expression> expressions = new ArrayList<>(sortList.size());
+      List<Comparator<ExprValue>> orderings = new ArrayList<>(sortList.size());
+      boolean[] descending = new boolean[sortList.size()];
+      for (int i = 0; i < sortList.size(); i++) {
+        SortOption option = sortList.get(i).getLeft();
+        ExprValueOrdering ordering =
+            ASC.equals(option.getSortOrder())
+                ? ExprValueOrdering.natural()
+                : ExprValueOrdering.natural().reverse();
+        ordering =
+            NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
+        expressions.add(sortList.get(i).getRight());
+        orderings.add(ordering);
+        descending[i] = !ASC.equals(option.getSortOrder());
+      }
+      return new Sorter(expressions, orderings, descending);
+    }
+
+    /** Decorate the row with its sort keys. */
+    public SortKey key(ExprValue row) {
+      return new SortKey(row, expressions);
+    }
 
     @Override
-    public int compare(ExprValue o1, ExprValue o2) {
-      for (Pair<Expression, Comparator<ExprValue>> comparator : comparators) {
-        Expression expression = comparator.getKey();
-        int result =
-            comparator
-                .getValue()
-                .compare(
-                    expression.valueOf(o1.bindingTuples()), expression.valueOf(o2.bindingTuples()));
+    public int compare(SortKey k1, SortKey k2) {
+      for (int i = 0; i < descending.length; i++) {
+        int result = compareField(i, k1, k2);
         if (result != 0) {
           return result;
         }
       }
       return 0;
     }
-  }
 
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
-      @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
+    private int compareField(int i, SortKey k1, SortKey k2) {
+      byte kind = k1.kinds[i];
+      if (kind == SortKey.GENERIC || kind != k2.kinds[i]) {
+        return orderings.get(i).compare(k1.values[i], k2.values[i]);
       }
 
-      @Override
-      public ExprValue next() {
-        return result.poll();
+      int result =
+          kind == SortKey.STRING
+              ? Long.compareUnsigned(k1.normalized[i], k2.normalized[i])
+              : Long.compare(k1.normalized[i], k2.normalized[i]);
+      if (result != 0) {
+        return descending[i] ? -result : result;
       }
-    };
+      return SortKey.isExact(kind) ? 0 : orderings.get(i).compare(k1.values[i], k2.values[i]);
+    }
   }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+/**
+ * Top-N Operator. It is equivalent to a {@link SortOperator} followed by a {@link LimitOperator},
+ * but only keeps the first {@link TopNOperator#offset} + {@link TopNOperator#limit} rows of the
+ * sort order in a bounded heap. The memory is O(offset + limit) instead of O(n), and the sort cost
+ * is O(n log(offset + limit)) instead of O(n log n). Like {@link SortOperator}, rows with equal
+ * sort keys are returned in input order.
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class TopNOperator extends PhysicalPlan {
+  @Getter private final PhysicalPlan input;
+
+  @Getter private final List<Pair<SortOption, Expression>> sortList;
+
+  @Getter private final Integer limit;
+
+  @Getter private final Integer offset;
+
+  @EqualsAndHashCode.Exclude private final Sorter sorter;
+
+  @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
+
+  /**
+   * Top-N Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort field. The sort field is specified by the {@link Expression} with
+   *     {@link SortOption}
+   * @param limit the number of rows to return
+   * @param offset the number of leading rows to skip
+   */
+  public TopNOperator(
+      PhysicalPlan input,
+      List<Pair<SortOption, Expression>> sortList,
+      Integer limit,
+      Integer offset) {
+    this.input = input;
+    this.sortList = sortList;
+    this.limit = limit;
+    this.offset = offset;
+    this.sorter = Sorter.of(sortList);
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTopN(this, context);
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    long size = (long) offset + limit;
+    Comparator<Row> rowOrder =
+        Comparator.<Row, SortKey>comparing(row -> row.key, sorter)
+            .thenComparingLong(row -> row.sequence);
+    // Max-heap on the sort order, the head is the worst row kept so far.
+    PriorityQueue<Row> heap = new PriorityQueue<>(rowOrder.reversed());
+    long sequence = 0;
+    while (input.hasNext()) {
+      Row row = new Row(sorter.key(input.next()), sequence++);
+      if (heap.size() < size) {
+        heap.add(row);
+      } else if (size > 0 && rowOrder.compare(row, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(row);
+      }
+    }
+
+    List<Row> sorted = new ArrayList<>(heap);
+    sorted.sort(rowOrder);
+    List<ExprValue> result = new ArrayList<>(Math.max(0, sorted.size() - offset));
+    for (int i = offset; i < sorted.size(); i++) {
+      result.add(sorted.get(i).key.getRow());
+    }
+    iterator = result.iterator();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Collections.singletonList(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+
+  /** Input row with its arrival sequence to keep the order of rows with equal sort keys. */
+  @RequiredArgsConstructor
+  private static class Row {
+    private final SortKey key;
+    private final long sequence;
+  }
+}
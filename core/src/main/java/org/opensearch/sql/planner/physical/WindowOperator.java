@@ -5,39 +5,59 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
-
-/** Physical operator for window function computation. */
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
+
+/**
+ * Physical operator for window function computation. All the window functions of the same window
+ * definition are computed in one pass over the input, each on its own window frame, and the results
+ * are added to the row at once. The rows loaded into the window frames but not returned yet are
+ * accounted to the {@link MemoryAccount} of the query.
+ */
 @EqualsAndHashCode(callSuper = false)
 @ToString
 public class WindowOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
 
-  @Getter private final NamedExpression windowFunction;
+  @Getter private final List<NamedExpression> windowFunctions;
 
   @Getter private final WindowDefinition windowDefinition;
 
-  @EqualsAndHashCode.Exclude @ToString.Exclude private final WindowFrame windowFrame;
+  /** Window frame of the window function at the same index. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final List<WindowFrame> windowFrames;
 
   /**
-   * Peeking iterator that can peek next element which is required by window frame such as peer
-   * frame to prefetch all rows related to same peer (of same sorting key).
+   * Peeking iterator of each window frame that can peek next element which is required by window
+   * frame such as peer frame to prefetch all rows related to same peer (of same sorting key).
    */
   @EqualsAndHashCode.Exclude @ToString.Exclude
-  private final PeekingIterator<ExprValue> peekingIterator;
+  private final List<PeekingIterator<ExprValue>> frameIterators;
+
+  /** Rows read from input and shared by the window frames, which may load them at times. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final SharedRows sharedRows;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation memory;
+
+  /** Number of rows returned. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private long returned;
 
   /**
    * Initialize window operator.
@@ -48,11 +68,46 @@ public class WindowOperator extends PhysicalPlan {
    */
   public WindowOperator(
       PhysicalPlan input, NamedExpression windowFunction, WindowDefinition windowDefinition) {
+    this(input, Collections.singletonList(windowFunction), windowDefinition);
+  }
+
+  /**
+   * Initialize window operator.
+   *
+   * @param input child operator
+   * @param windowFunctions window functions of the same window definition
+   * @param windowDefinition window definition
+   */
+  public WindowOperator(
+      PhysicalPlan input,
+      List<NamedExpression> windowFunctions,
+      WindowDefinition windowDefinition) {
+    this(input, windowFunctions, windowDefinition, MemoryAccount.UNLIMITED);
+  }
+
+  /**
+   * Initialize window operator.
+   *
+   * @param input child operator
+   * @param windowFunctions window functions of the same window definition
+   * @param windowDefinition window definition
+   * @param memoryAccount memory account of the query
+   */
+  public WindowOperator(
+      PhysicalPlan input,
+      List<NamedExpression> windowFunctions,
+      WindowDefinition windowDefinition,
+      MemoryAccount memoryAccount) {
     this.input = input;
-    this.windowFunction = windowFunction;
+    this.windowFunctions = windowFunctions;
     this.windowDefinition = windowDefinition;
-    this.windowFrame = createWindowFrame();
-    this.peekingIterator = Iterators.peekingIterator(input);
+    this.windowFrames =
+        windowFunctions.stream().map(this::createWindowFrame).collect(Collectors.toList());
+    this.memory = new MemoryReservation(memoryAccount, "window");
+    this.sharedRows = new SharedRows();
+    this.frameIterators = new ArrayList<>();
+    windowFunctions.forEach(
+        windowFunction -> frameIterators.add(Iterators.peekingIterator(sharedRows.iterator())));
   }
 
   @Override
@@ -67,34 +122,91 @@ public class WindowOperator extends PhysicalPlan {
 
   @Override
   public boolean hasNext() {
-    return peekingIterator.hasNext() || windowFrame.hasNext();
+    // All the window frames return the same rows, so the first one tells if there is more.
+    return frameIterators.get(0).hasNext() || windowFrames.get(0).hasNext();
   }
 
   @Override
   public ExprValue next() {
-    windowFrame.load(peekingIterator);
-    return enrichCurrentRowByWindowFunctionResult();
+    for (int i = 0; i < windowFrames.size(); i++) {
+      windowFrames.get(i).load(frameIterators.get(i));
+    }
+    ExprValue current = windowFrames.get(0).current();
+    ExprValue result = enrichCurrentRowByWindowFunctionResults(current);
+    memory.free(ExprValueSizeEstimator.estimate(current));
+    sharedRows.release(++returned);
+    return result;
   }
 
-  private WindowFrame createWindowFrame() {
-    return ((WindowFunctionExpression) windowFunction.getDelegated())
-        .createWindowFrame(windowDefinition);
+  @Override
+  public void close() {
+    super.close();
+    memory.close();
   }
 
-  private ExprValue enrichCurrentRowByWindowFunctionResult() {
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
-    preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+  private WindowFrame createWindowFrame(NamedExpression windowFunction) {
+    return ((WindowFunctionExpression) windowFunction.getDelegated())
+        .createWindowFrame(windowDefinition);
   }
 
-  private void preserveAllOriginalColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue inputValue = windowFrame.current();
-    inputValue.tupleValue().forEach(mapBuilder::put);
+  /** Preserve all original columns and add the result column of each window function. */
+  private ExprValue enrichCurrentRowByWindowFunctionResults(ExprValue current) {
+    LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>(current.tupleValue());
+    for (int i = 0; i < windowFunctions.size(); i++) {
+      NamedExpression windowFunction = windowFunctions.get(i);
+      valueMap.put(windowFunction.getName(), windowFunction.valueOf(windowFrames.get(i)));
+    }
+    return new ExprTupleValue(valueMap);
   }
 
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+  /**
+   * Rows read from input once and shared by the window frames. Each window frame iterates the rows
+   * from its own position, so a frame prefetching rows may be ahead of the others. The rows are
+   * kept until returned by the window operator, by which time all the window frames loaded them.
+   */
+  private class SharedRows {
+
+    /** Rows read from input but not released yet. */
+    private final List<ExprValue> rows = new ArrayList<>();
+
+    /** Position in input of the first row kept. */
+    private long start;
+
+    Iterator<ExprValue> iterator() {
+      return new Iterator<>() {
+        private long position;
+
+        @Override
+        public boolean hasNext() {
+          return position < start + rows.size() || input.hasNext();
+        }
+
+        @Override
+        public ExprValue next() {
+          return get(position++);
+        }
+      };
+    }
+
+    private ExprValue get(long position) {
+      if (position == start + rows.size()) {
+        ExprValue row = input.next();
+        memory.add(ExprValueSizeEstimator.estimate(row));
+        rows.add(row);
+      }
+      return rows.get((int) (position - start));
+    }
+
+    /**
+     * Release the rows before the position. They are removed once at least half of the rows kept
+     * are released, so that each row is moved at most once on average.
+     */
+    void release(long position) {
+      int released = (int) (position - start);
+      if (released * 2 >= rows.size()) {
+        rows.subList(0, released).clear();
+        start = position;
+      }
+    }
   }
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.AvgAggregator;
+import org.opensearch.sql.expression.aggregation.CountAggregator;
+import org.opensearch.sql.expression.aggregation.MaxAggregator;
+import org.opensearch.sql.expression.aggregation.MinAggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.aggregation.SumAggregator;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Aggregation states of one {@link NamedAggregator} for all groups of a {@link BucketCollector},
+ * indexed by group id. COUNT, SUM, AVG, MIN and MAX keep their states in flat arrays instead of one
+ * {@link AggregationState} object per group. Any other aggregator falls back to an array of {@link
+ * AggregationState}s.
+ */
+@RequiredArgsConstructor
+abstract class Accumulator {
+
+  protected final NamedAggregator aggregator;
+
+  /**
+   * Create the accumulator of the aggregator.
+   *
+   * @param aggregator {@link NamedAggregator}
+   * @param capacity initial number of groups
+   * @return {@link Accumulator}
+   */
+  static Accumulator of(NamedAggregator aggregator, int capacity) {
+    Aggregator<?> delegated = aggregator.getDelegated();
+    ExprType type = aggregator.type();
+    Accumulator accumulator;
+    if (delegated instanceof CountAggregator && !aggregator.distinct()) {
+      accumulator = new CountAccumulator(aggregator);
+    } else if (delegated instanceof SumAggregator
+        && (type == INTEGER || type == LONG || type == FLOAT || type == DOUBLE)) {
+      accumulator = new SumAccumulator(aggregator);
+    } else if (delegated instanceof AvgAggregator && type == DOUBLE) {
+      accumulator = new AvgAccumulator(aggregator);
+    } else if (delegated instanceof MinAggregator) {
+      accumulator = new MinMaxAccumulator(aggregator, -1);
+    } else if (delegated instanceof MaxAggregator) {
+      accumulator = new MinMaxAccumulator(aggregator, 1);
+    } else {
+      accumulator = new StateAccumulator(aggregator);
+    }
+    accumulator.resize(capacity);
+    return accumulator;
+  }
+
+  /** Resize the state arrays to hold the given number of groups. */
+  abstract void resize(int capacity);
+
+  /** Accumulate the tuple into the state of the group. */
+  abstract void accumulate(int group, BindingTuple tuple);
+
+  /** Aggregation result of the group. */
+  abstract ExprValue result(int group);
+
+  /** Accumulator of the aggregators with primitive states, which accumulate the argument value. */
+  private abstract static class ValueAccumulator extends Accumulator {
+
+    ValueAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    /**
+     * Like {@link Aggregator#iterate(BindingTuple, AggregationState)}, values which are null,
+     * missing or don't satisfy the aggregator condition are skipped.
+     */
+    @Override
+    void accumulate(int group, BindingTuple tuple) {
+      ExprValue value = aggregator.getArguments().get(0).valueOf(tuple);
+      if (value.isNull() || value.isMissing() || !aggregator.conditionValue(tuple)) {
+        return;
+      }
+      accumulate(group, value);
+    }
+
+    /** Accumulate the value, which is neither null nor missing, into the state of the group. */
+    protected abstract void accumulate(int group, ExprValue value);
+  }
+
+  /** COUNT without DISTINCT. */
+  private static class CountAccumulator extends ValueAccumulator {
+    private int[] counts;
+
+    CountAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    void resize(int capacity) {
+      counts = counts == null ? new int[capacity] : Arrays.copyOf(counts, capacity);
+    }
+
+    @Override
+    protected void accumulate(int group, ExprValue value) {
+      counts[group]++;
+    }
+
+    @Override
+    ExprValue result(int group) {
+      return ExprValueUtils.integerValue(counts[group]);
+    }
+  }
+
+  /**
+   * SUM of INTEGER, LONG, FLOAT or DOUBLE. The sum of each group is kept in the precision of the
+   * result type, so integer sums overflow and float sums round the same way as {@link
+   * SumAggregator}.
+   */
+  private static class SumAccumulator extends ValueAccumulator {
+    private long[] longSums;
+    private double[] doubleSums;
+    private boolean[] nonEmpty;
+
+    SumAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    void resize(int capacity) {
+      if (nonEmpty == null) {
+        longSums = new long[capacity];
+        doubleSums = new double[capacity];
+        nonEmpty = new boolean[capacity];
+      } else {
+        longSums = Arrays.copyOf(longSums, capacity);
+        doubleSums = Arrays.copyOf(doubleSums, capacity);
+        nonEmpty = Arrays.copyOf(nonEmpty, capacity);
+      }
+    }
+
+    @Override
+    protected void accumulate(int group, ExprValue value) {
+      nonEmpty[group] = true;
+      ExprType type = aggregator.type();
+      if (type == INTEGER) {
+        longSums[group] = (int) longSums[group] + value.integerValue();
+      } else if (type == LONG) {
+        longSums[group] += value.longValue();
+      } else if (type == FLOAT) {
+        doubleSums[group] = (float) doubleSums[group] + value.floatValue();
+      } else {
+        doubleSums[group] += value.doubleValue();
+      }
+    }
+
+    @Override
+    ExprValue result(int group) {
+      if (!nonEmpty[group]) {
+        return ExprNullValue.of();
+      }
+      ExprType type = aggregator.type();
+      if (type == INTEGER) {
+        return ExprValueUtils.integerValue((int) longSums[group]);
+      } else if (type == LONG) {
+        return ExprValueUtils.longValue(longSums[group]);
+      } else if (type == FLOAT) {
+        return ExprValueUtils.floatValue((float) doubleSums[group]);
+      } else {
+        return ExprValueUtils.doubleValue(doubleSums[group]);
+      }
+    }
+  }
+
+  /** AVG of numbers. */
+  private static class AvgAccumulator extends ValueAccumulator {
+    private double[] totals;
+    private int[] counts;
+
+    AvgAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    void resize(int capacity) {
+      if (counts == null) {
+        totals = new double[capacity];
+        counts = new int[capacity];
+      } else {
+        totals = Arrays.copyOf(totals, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+      }
+    }
+
+    @Override
+    protected void accumulate(int group, ExprValue value) {
+      totals[group] += value.doubleValue();
+      counts[group]++;
+    }
+
+    @Override
+    ExprValue result(int group) {
+      if (counts[group] == 0) {
+        return ExprNullValue.of();
+      }
+      return ExprValueUtils.doubleValue(totals[group] / counts[group]);
+    }
+  }
+
+  /**
+   * MIN or MAX. Like {@link MinAggregator} and {@link MaxAggregator}, a value equal to the current
+   * result replaces it.
+   */
+  private static class MinMaxAccumulator extends ValueAccumulator {
+    /** -1 to keep the minimum, 1 to keep the maximum. */
+    private final int direction;
+
+    private ExprValue[] results;
+
+    MinMaxAccumulator(NamedAggregator aggregator, int direction) {
+      super(aggregator);
+      this.direction = direction;
+    }
+
+    @Override
+    void resize(int capacity) {
+      results = results == null ? new ExprValue[capacity] : Arrays.copyOf(results, capacity);
+    }
+
+    @Override
+    protected void accumulate(int group, ExprValue value) {
+      ExprValue current = results[group];
+      if (current == null || Integer.signum(current.compareTo(value)) * direction <= 0) {
+        results[group] = value;
+      }
+    }
+
+    @Override
+    ExprValue result(int group) {
+      return results[group] == null ? LITERAL_NULL : results[group];
+    }
+  }
+
+  /** Any other aggregator, keeping one {@link AggregationState} per group. */
+  private static class StateAccumulator extends Accumulator {
+    private AggregationState[] states;
+
+    StateAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    void resize(int capacity) {
+      states = states == null ? new AggregationState[capacity] : Arrays.copyOf(states, capacity);
+    }
+
+    @Override
+    void accumulate(int group, BindingTuple tuple) {
+      if (states[group] == null) {
+        states[group] = aggregator.create();
+      }
+      states[group] = aggregator.iterate(tuple, states[group]);
+    }
+
+    @Override
+    ExprValue result(int group) {
+      return states[group] == null ? aggregator.create().result() : states[group].result();
+    }
+  }
+}
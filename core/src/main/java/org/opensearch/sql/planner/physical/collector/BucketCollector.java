@@ -5,105 +5,198 @@
 
 package org.opensearch.sql.planner.physical.collector;
 
-import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.TreeMap;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
-import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
 import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
-/** Collect Bucket from {@link BindingTuple}. */
-@RequiredArgsConstructor
+/**
+ * Collect Bucket from {@link BindingTuple}. The buckets of all group by expressions are kept in one
+ * flat open addressing hash table keyed on the composite bucket key, and the aggregation states of
+ * each bucket are kept in {@link Accumulator}s indexed by bucket id. The buckets are only sorted by
+ * key when the results are built.
+ */
 public class BucketCollector implements Collector {
 
-  /** Bucket Expression. */
-  private final NamedExpression bucketExpr;
+  private static final int INITIAL_CAPACITY = 16;
 
-  /** Collector Constructor. */
-  private final Supplier<Collector> supplier;
+  private static final int MISSING_RANK = 0;
+  private static final int NULL_RANK = 1;
+  private static final int VALUE_RANK = 2;
 
-  /**
-   * Map from bucketKey to nested collector sorted by key to make sure final result is in order
-   * after traversal.
-   */
-  private final Map<ExprValue, Collector> collectorMap = new TreeMap<>();
+  /** Estimated bytes of a bucket in the hash table and key list, excluding the key values. */
+  private static final long BUCKET_BYTES = 64;
+
+  /** Estimated bytes of the aggregation state of a bucket in an {@link Accumulator}. */
+  private static final long STATE_BYTES = 16;
+
+  /** Bucket Expressions. */
+  private final List<NamedExpression> bucketExprs;
+
+  /** Aggregation states of each aggregator. */
+  private final List<Accumulator> accumulators;
+
+  /** Open addressing hash table. Each slot holds bucket id + 1, or 0 if the slot is empty. */
+  private int[] slots = new int[INITIAL_CAPACITY * 2];
 
-  /** Bucket Index. */
-  private int bucketIndex = 0;
+  /** Bucket keys by bucket id. */
+  private final List<ExprValue[]> keys = new ArrayList<>();
+
+  /** Hash of bucket keys by bucket id. */
+  private int[] hashes = new int[INITIAL_CAPACITY];
+
+  /** Reusable key of the current tuple, copied only when a new bucket is created. */
+  private final ExprValue[] probe;
+
+  /** Estimated bytes of the buckets created. */
+  private long estimatedBytes = 0;
 
   /**
-   * Collect Bucket from {@link BindingTuple}. If bucket not exist, create new bucket and {@link
-   * Collector}. If bucket exist, let {@link Collector} in the bucket collect from {@link
-   * BindingTuple}.
+   * Constructor of {@link BucketCollector}.
    *
-   * @param input {@link BindingTuple}.
+   * @param bucketExprs bucket expressions.
+   * @param aggregators aggregators.
    */
-  @Override
-  public void collect(BindingTuple input) {
-    ExprValue bucketKey = bucketKey(input);
-    collectorMap.putIfAbsent(bucketKey, supplier.get());
-    collectorMap.get(bucketKey).collect(input);
+  public BucketCollector(List<NamedExpression> bucketExprs, List<NamedAggregator> aggregators) {
+    this.bucketExprs = bucketExprs;
+    this.accumulators =
+        aggregators.stream()
+            .map(aggregator -> Accumulator.of(aggregator, INITIAL_CAPACITY))
+            .collect(Collectors.toList());
+    this.probe = new ExprValue[bucketExprs.size()];
   }
 
   /**
-   * Bucket Key.
+   * Collect Bucket from {@link BindingTuple}. If bucket not exist, create new bucket. Then let the
+   * aggregators of the bucket collect from {@link BindingTuple}.
    *
-   * @param tuple {@link BindingTuple}.
-   * @return Bucket Key.
+   * @param input {@link BindingTuple}.
    */
-  protected ExprValue bucketKey(BindingTuple tuple) {
-    return bucketExpr.valueOf(tuple);
+  @Override
+  public void collect(BindingTuple input) {
+    for (int i = 0; i < probe.length; i++) {
+      probe[i] = bucketExprs.get(i).valueOf(input);
+    }
+    int bucket = findOrCreateBucket(probe);
+    for (Accumulator accumulator : accumulators) {
+      accumulator.accumulate(bucket, input);
+    }
   }
 
   /**
-   * Get result from all the buckets.
+   * Get result from all the buckets, sorted by bucket key.
    *
    * @return list of {@link ExprValue}.
    */
   @Override
   public List<ExprValue> results() {
-    ExprValue[] buckets = allocateBuckets();
-    for (Map.Entry<ExprValue, Collector> entry : collectorMap.entrySet()) {
-      ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
-      for (ExprValue tuple : entry.getValue().results()) {
-        LinkedHashMap<String, ExprValue> tmp = new LinkedHashMap<>();
-        tmp.put(bucketExpr.getNameOrAlias(), entry.getKey());
-        tmp.putAll(tuple.tupleValue());
-        builder.add(ExprTupleValue.fromExprValueMap(tmp));
+    Integer[] order = new Integer[keys.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparing(keys::get, BucketCollector::compareKeys));
+
+    List<ExprValue> results = new ArrayList<>(order.length);
+    for (int bucket : order) {
+      LinkedHashMap<String, ExprValue> tuple = new LinkedHashMap<>();
+      ExprValue[] key = keys.get(bucket);
+      for (int i = 0; i < key.length; i++) {
+        tuple.put(bucketExprs.get(i).getNameOrAlias(), key[i]);
+      }
+      for (Accumulator accumulator : accumulators) {
+        tuple.put(accumulator.aggregator.getName(), accumulator.result(bucket));
       }
-      buckets[locateBucket(entry.getKey())] = new ExprCollectionValue(builder.build());
+      results.add(ExprTupleValue.fromExprValueMap(tuple));
     }
-    return Arrays.stream(buckets)
-        .filter(Objects::nonNull)
-        .flatMap(v -> v.collectionValue().stream())
-        .collect(Collectors.toList());
+    return results;
   }
 
-  /**
-   * Allocates Buckets for building results.
-   *
-   * @return buckets.
-   */
-  protected ExprValue[] allocateBuckets() {
-    return new ExprValue[collectorMap.size()];
+  @Override
+  public long estimatedBytes() {
+    return estimatedBytes;
   }
 
-  /**
-   * Current Bucket index in allocated buckets.
-   *
-   * @param value bucket key.
-   * @return index.
-   */
-  protected int locateBucket(ExprValue value) {
-    return bucketIndex++;
+  private int findOrCreateBucket(ExprValue[] key) {
+    int hash = hash(key);
+    int mask = slots.length - 1;
+    for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+      int bucket = slots[slot] - 1;
+      if (bucket < 0) {
+        bucket = createBucket(key, hash);
+        slots[slot] = bucket + 1;
+        if (keys.size() * 2 > slots.length) {
+          rehash();
+        }
+        return bucket;
+      }
+      if (hashes[bucket] == hash && Arrays.equals(keys.get(bucket), key)) {
+        return bucket;
+      }
+    }
+  }
+
+  private int createBucket(ExprValue[] key, int hash) {
+    int bucket = keys.size();
+    if (bucket == hashes.length) {
+      int capacity = hashes.length * 2;
+      hashes = Arrays.copyOf(hashes, capacity);
+      accumulators.forEach(accumulator -> accumulator.resize(capacity));
+    }
+    keys.add(key.clone());
+    hashes[bucket] = hash;
+    estimatedBytes += BUCKET_BYTES + STATE_BYTES * accumulators.size();
+    for (ExprValue value : key) {
+      estimatedBytes += ExprValueSizeEstimator.estimate(value);
+    }
+    return bucket;
+  }
+
+  /** Double the hash table, keeping the load factor at most 0.5. */
+  private void rehash() {
+    slots = new int[slots.length * 2];
+    int mask = slots.length - 1;
+    for (int bucket = 0; bucket < keys.size(); bucket++) {
+      int slot = hashes[bucket] & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = bucket + 1;
+    }
+  }
+
+  /** Spread the bits of the key hash code, the low bits pick the slot. */
+  private static int hash(ExprValue[] key) {
+    int hash = Arrays.hashCode(key) * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /** Compare bucket keys field by field, missing and null values first. */
+  private static int compareKeys(ExprValue[] k1, ExprValue[] k2) {
+    for (int i = 0; i < k1.length; i++) {
+      int rank = rank(k1[i]);
+      int result = Integer.compare(rank, rank(k2[i]));
+      if (result == 0 && rank == VALUE_RANK) {
+        result = k1[i].compareTo(k2[i]);
+      }
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  private static int rank(ExprValue value) {
+    if (value.isMissing()) {
+      return MISSING_RANK;
+    }
+    return value.isNull() ? NULL_RANK : VALUE_RANK;
   }
 }
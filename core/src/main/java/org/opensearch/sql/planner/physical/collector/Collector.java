@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.planner.physical.collector;
 
-import com.google.common.collect.ImmutableList;
 import java.util.List;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprValue;
@@ -30,6 +29,15 @@ public interface Collector {
    */
   List<ExprValue> results();
 
+  /**
+   * Get the estimated bytes of the aggregation states kept by the Collector.
+   *
+   * @return estimated bytes, 0 if the states don't grow with the input.
+   */
+  default long estimatedBytes() {
+    return 0;
+  }
+
   /** {@link Collector} tree builder. */
   @UtilityClass
   class Builder {
@@ -39,9 +47,7 @@ public interface Collector {
       if (buckets.isEmpty()) {
         return new MetricCollector(aggregators);
       } else {
-        return new BucketCollector(
-            buckets.get(0),
-            () -> build(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
+        return new BucketCollector(buckets, aggregators);
       }
     }
   }
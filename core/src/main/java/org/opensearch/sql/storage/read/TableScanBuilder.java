@@ -7,6 +7,7 @@ package org.opensearch.sql.storage.read;
 
 import java.util.Collections;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -15,6 +16,7 @@ import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
 import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
 import org.opensearch.sql.planner.logical.LogicalSort;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -71,6 +73,28 @@ public abstract class TableScanBuilder extends LogicalPlan {
     return false;
   }
 
+  /**
+   * Can a given rare or top operator be pushed down to table scan builder. Assume no such support
+   * by default unless subclass override this.
+   *
+   * @param rareTopN logical rare or top operator
+   * @return true if pushed down, otherwise false
+   */
+  public boolean pushDownRareTopN(LogicalRareTopN rareTopN) {
+    return false;
+  }
+
+  /**
+   * Can a given dedupe operator be pushed down to table scan builder. Assume no such support by
+   * default unless subclass override this.
+   *
+   * @param dedupe logical dedupe operator
+   * @return true if pushed down, otherwise false
+   */
+  public boolean pushDownDedupe(LogicalDedupe dedupe) {
+    return false;
+  }
+
   /**
    * Can a given limit operator be pushed down to table scan builder. Assume no such support by
    * default unless subclass override this.
@@ -10,6 +10,7 @@ import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.function.SerializableFunction;
 
 @UtilityClass
 public class OperatorUtils {
@@ -22,21 +23,34 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprBooleanValue matches(ExprValue text, ExprValue pattern) {
-    return ExprBooleanValue.of(
-        Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE)
-            .matcher(text.stringValue())
-            .matches());
+    return ExprBooleanValue.of(wildcardRegex(pattern).matcher(text.stringValue()).matches());
   }
 
   /**
-   * Checks if text matches regular expression pattern.
+   * Prepare the wildcard pattern matcher of a pattern, which compiles the pattern once.
    *
    * @param pattern string pattern to match.
-   * @return if text matches pattern returns true; else return false.
+   * @return function from a text to true if the text matches pattern; else false.
    */
-  public static ExprIntegerValue matchesRegexp(ExprValue text, ExprValue pattern) {
-    return new ExprIntegerValue(
-        Pattern.compile(pattern.stringValue()).matcher(text.stringValue()).matches() ? 1 : 0);
+  public static SerializableFunction<ExprValue, ExprValue> prepareMatches(ExprValue pattern) {
+    Pattern regex = wildcardRegex(pattern);
+    return text -> ExprBooleanValue.of(regex.matcher(text.stringValue()).matches());
+  }
+
+  /**
+   * Prepare the regular expression matcher of a pattern, which compiles the pattern once.
+   *
+   * @param pattern string pattern to match.
+   * @return function from a text to 1 if the text matches pattern; else 0.
+   */
+  public static SerializableFunction<ExprValue, ExprValue> prepareMatchesRegexp(
+      ExprValue pattern) {
+    Pattern regex = Pattern.compile(pattern.stringValue());
+    return text -> new ExprIntegerValue(regex.matcher(text.stringValue()).matches() ? 1 : 0);
+  }
+
+  private static Pattern wildcardRegex(ExprValue pattern) {
+    return Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE);
   }
 
   private static final char DEFAULT_ESCAPE = '\\';
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprIntervalValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ConstantFolderTest {
+
+  @Test
+  void fold_function_of_literals() {
+    assertEquals(literal(3), ConstantFolder.fold(DSL.add(literal(1), literal(2))));
+    assertEquals(
+        literal(new ExprIntervalValue(Duration.ofDays(1))),
+        ConstantFolder.fold(DSL.interval(literal(1), literal("DAY"))));
+
+    FunctionProperties functionProperties = new FunctionProperties();
+    assertEquals(
+        literal(DSL.now(functionProperties).valueOf()),
+        ConstantFolder.fold(DSL.now(functionProperties)));
+  }
+
+  @Test
+  void function_of_non_literal_is_not_folded() {
+    assertNotFolded(DSL.abs(ref("integer_value", INTEGER)));
+    assertNotFolded(ref("integer_value", INTEGER));
+    assertNotFolded(literal(1));
+  }
+
+  @Test
+  void function_evaluated_per_row_is_not_folded() {
+    assertNotFolded(DSL.rand());
+    assertNotFolded(DSL.sysdate(new FunctionProperties()));
+    assertNotFolded(DSL.nested(literal("message")));
+    assertNotFolded(DSL.sum(literal(1)));
+    assertNotFolded(DSL.rowNumber());
+    assertNotFolded(DSL.match(DSL.namedArgument("field", literal("message"))));
+  }
+
+  @Test
+  void function_failed_to_evaluate_is_not_folded() {
+    assertNotFolded(DSL.castInt(literal("abc")));
+  }
+
+  @Test
+  void function_of_value_losing_type_is_not_folded() {
+    assertNotFolded(DSL.divide(literal(1), literal(0)));
+    assertNotFolded(function(LITERAL_MISSING, INTEGER));
+    assertNotFolded(function(integerValue(1), LONG));
+  }
+
+  private static void assertNotFolded(Expression expression) {
+    assertSame(expression, ConstantFolder.fold(expression));
+  }
+
+  private static FunctionExpression function(ExprValue value, ExprType type) {
+    return new FunctionExpression(FunctionName.of("test"), List.of()) {
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return value;
+      }
+
+      @Override
+      public ExprType type() {
+        return type;
+      }
+    };
+  }
+}
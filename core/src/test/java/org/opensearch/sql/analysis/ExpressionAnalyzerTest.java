@@ -27,6 +27,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -42,12 +44,15 @@ import org.opensearch.sql.ast.expression.SpanUnit;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.data.model.ExprIntervalValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 
 class ExpressionAnalyzerTest extends AnalyzerTestBase {
@@ -232,10 +237,21 @@ class ExpressionAnalyzerTest extends AnalyzerTestBase {
   @Test
   public void interval() {
     assertAnalyzeEqual(
-        DSL.interval(DSL.literal(1L), DSL.literal("DAY")),
+        DSL.literal(new ExprIntervalValue(Duration.ofDays(1))),
         AstDSL.intervalLiteral(1L, DataType.LONG, "DAY"));
   }
 
+  @Test
+  public void constant_function_is_folded() {
+    Expression expression =
+        analyze(
+            function(
+                "date_sub", function("now"), AstDSL.intervalLiteral(1, DataType.INTEGER, "DAY")));
+    assertTrue(expression instanceof LiteralExpression);
+    Instant now = DSL.now(analysisContext.getFunctionProperties()).valueOf().timestampValue();
+    assertEquals(new ExprTimestampValue(now.minus(Duration.ofDays(1))), expression.valueOf());
+  }
+
   @Test
   public void all_fields() {
     assertAnalyzeEqual(DSL.literal("*"), AllFields.of());
@@ -760,9 +776,10 @@ class ExpressionAnalyzerTest extends AnalyzerTestBase {
   }
 
   @Test
-  public void function_isnt_calculated_on_analyze() {
-    assertTrue(analyze(function("now")) instanceof FunctionExpression);
-    assertTrue(analyze(AstDSL.function("localtime")) instanceof FunctionExpression);
+  public void function_of_query_start_time_is_folded_on_analyze() {
+    assertTrue(analyze(function("now")) instanceof LiteralExpression);
+    assertTrue(analyze(AstDSL.function("localtime")) instanceof LiteralExpression);
+    assertTrue(analyze(function("sysdate")) instanceof FunctionExpression);
   }
 
   @Test
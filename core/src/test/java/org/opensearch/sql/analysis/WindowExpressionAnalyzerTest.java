@@ -6,6 +6,12 @@
 package org.opensearch.sql.analysis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.CURRENT_ROW;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.PRECEDING;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.UNBOUNDED_FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.UNBOUNDED_PRECEDING;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_LAST;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
@@ -17,19 +23,29 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.expression.Alias;
+import org.opensearch.sql.ast.expression.UnresolvedExpression;
+import org.opensearch.sql.ast.expression.WindowFunction.BoundType;
+import org.opensearch.sql.ast.expression.WindowFunction.Frame;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameUnit;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalWindow;
 
 class WindowExpressionAnalyzerTest extends AnalyzerTestBase {
 
@@ -91,6 +107,73 @@ class WindowExpressionAnalyzerTest extends AnalyzerTestBase {
             AstDSL.alias("string_value", AstDSL.qualifiedName("string_value")), analysisContext));
   }
 
+  @Test
+  void should_compute_window_functions_of_same_window_definition_in_one_window_operator() {
+    assertEquals(
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.relation("test", table),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING))),
+            ImmutableList.of(
+                DSL.named("row_number", DSL.rowNumber()), DSL.named("rank", DSL.rank())),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)), ImmutableList.of())),
+        analyzer.analyze(
+            ImmutableList.of(
+                window("row_number", "string_value", null),
+                AstDSL.alias("string_value", AstDSL.qualifiedName("string_value")),
+                window("rank", "string_value", null)),
+            analysisContext));
+  }
+
+  @Test
+  void should_reuse_sort_if_sort_items_are_prefix_of_sorted_items() {
+    assertEquals(
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.window(
+                LogicalPlanDSL.sort(
+                    LogicalPlanDSL.relation("test", table),
+                    ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING)),
+                    ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))),
+                DSL.named("row_number", DSL.rowNumber()),
+                new WindowDefinition(
+                    ImmutableList.of(DSL.ref("string_value", STRING)),
+                    ImmutableList.of(
+                        ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))))),
+            DSL.named("rank", DSL.rank()),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)), ImmutableList.of())),
+        analyzer.analyze(
+            ImmutableList.of(
+                window("rank", "string_value", null),
+                window("row_number", "string_value", "integer_value")),
+            analysisContext));
+  }
+
+  @Test
+  void should_sort_again_if_sort_items_are_not_prefix_of_sorted_items() {
+    assertEquals(
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.window(
+                    LogicalPlanDSL.sort(
+                        LogicalPlanDSL.relation("test", table),
+                        ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))),
+                    DSL.named("row_number", DSL.rowNumber()),
+                    new WindowDefinition(
+                        ImmutableList.of(),
+                        ImmutableList.of(
+                            ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))))),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING))),
+            DSL.named("rank", DSL.rank()),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)), ImmutableList.of())),
+        analyzer.analyze(
+            ImmutableList.of(
+                window("row_number", null, "integer_value"), window("rank", "string_value", null)),
+            analysisContext));
+  }
+
   @Test
   void can_analyze_sort_options() {
     // Mapping from input option to expected option after analysis
@@ -125,4 +208,100 @@ class WindowExpressionAnalyzerTest extends AnalyzerTestBase {
               "Assertion failed on input option: " + option);
         });
   }
+
+  @Test
+  void should_keep_window_frame_in_window_definition() {
+    Frame rowsFrame = frame(FrameUnit.ROWS, bound(PRECEDING, 1), bound(FOLLOWING, 2L));
+    assertEquals(rowsFrame, analyzeFrame(rowsFrame));
+
+    Frame rangeFrame = frame(FrameUnit.RANGE, bound(PRECEDING, 1.5), bound(CURRENT_ROW, null));
+    assertEquals(rangeFrame, analyzeFrame(rangeFrame, "integer_value"));
+
+    Frame peersFrame = frame(FrameUnit.RANGE, bound(CURRENT_ROW, null), bound(CURRENT_ROW, null));
+    assertEquals(peersFrame, analyzeFrame(peersFrame, "string_value", "integer_value"));
+  }
+
+  @Test
+  void should_fail_if_window_frame_bounds_out_of_order() {
+    for (Frame frame :
+        ImmutableList.of(
+            frame(FrameUnit.ROWS, bound(UNBOUNDED_FOLLOWING, null), bound(CURRENT_ROW, null)),
+            frame(FrameUnit.ROWS, bound(CURRENT_ROW, null), bound(UNBOUNDED_PRECEDING, null)),
+            frame(FrameUnit.ROWS, bound(CURRENT_ROW, null), bound(PRECEDING, 1)))) {
+      SemanticCheckException exception =
+          assertThrows(SemanticCheckException.class, () -> analyzeFrame(frame));
+      assertEquals(
+          String.format(
+              "Window frame can't start from %s and end at %s",
+              frame.getStart().getType(),
+              frame.getEnd().getType()),
+          exception.getMessage());
+    }
+  }
+
+  @Test
+  void should_fail_if_rows_frame_offset_not_integer() {
+    SemanticCheckException exception =
+        assertThrows(
+            SemanticCheckException.class,
+            () ->
+                analyzeFrame(
+                    frame(FrameUnit.ROWS, bound(PRECEDING, 1.5), bound(CURRENT_ROW, null))));
+    assertEquals("ROWS frame offset must be an integer: 1.5", exception.getMessage());
+  }
+
+  @Test
+  void should_fail_if_range_frame_offset_without_one_numeric_sort_key() {
+    Frame frame = frame(FrameUnit.RANGE, bound(CURRENT_ROW, null), bound(FOLLOWING, 1L));
+    for (String[] sortBy :
+        ImmutableList.of(
+            new String[] {},
+            new String[] {"string_value"},
+            new String[] {"integer_value", "string_value"})) {
+      SemanticCheckException exception =
+          assertThrows(SemanticCheckException.class, () -> analyzeFrame(frame, sortBy));
+      assertEquals(
+          "RANGE frame with offset requires exactly one numeric sort key in window definition",
+          exception.getMessage());
+    }
+  }
+
+  /** Analyze sum window function with the frame and sort keys, and return the frame analyzed. */
+  private Frame analyzeFrame(Frame frame, String... sortBy) {
+    LogicalPlan plan =
+        analyzer.analyze(
+            AstDSL.alias(
+                "sum",
+                AstDSL.window(
+                    AstDSL.aggregate("sum", AstDSL.qualifiedName("integer_value")),
+                    ImmutableList.of(),
+                    Arrays.stream(sortBy)
+                        .map(field -> Pair.of(DEFAULT_ASC, AstDSL.qualifiedName(field)))
+                        .collect(Collectors.toList()),
+                    frame)),
+            analysisContext);
+    return ((LogicalWindow) plan).getWindowDefinition().getFrame();
+  }
+
+  private Frame frame(FrameUnit unit, FrameBound start, FrameBound end) {
+    return new Frame(unit, start, end);
+  }
+
+  private FrameBound bound(BoundType type, Number offset) {
+    return new FrameBound(type, offset);
+  }
+
+  /** Window function aliased by its name, partitioned and sorted descending by the fields given. */
+  private UnresolvedExpression window(String name, String partitionBy, String sortBy) {
+    return AstDSL.alias(
+        name,
+        AstDSL.window(
+            AstDSL.function(name),
+            (partitionBy == null)
+                ? ImmutableList.of()
+                : ImmutableList.of(AstDSL.qualifiedName(partitionBy)),
+            (sortBy == null)
+                ? ImmutableList.of()
+                : ImmutableList.of(ImmutablePair.of(DEFAULT_DESC, AstDSL.qualifiedName(sortBy)))));
+  }
 }
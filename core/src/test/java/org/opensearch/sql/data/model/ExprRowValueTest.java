@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExprRowValueTest {
+
+  private final RowSchema schema = new RowSchema(List.of("name", "age"));
+
+  private final ExprRowValue row =
+      new ExprRowValue(schema, new ExprValue[] {stringValue("John"), integerValue(30)});
+
+  private final ExprValue tuple =
+      ExprValueUtils.tupleValue(ImmutableMap.of("name", "John", "age", 30));
+
+  @Test
+  void equal_to_tuple_of_same_fields() {
+    assertEquals(ExprCoreType.STRUCT, row.type());
+    assertEquals(tuple, row);
+    assertEquals(row, tuple);
+    assertEquals(tuple.hashCode(), row.hashCode());
+    assertEquals(tuple.toString(), row.toString());
+    assertEquals(tuple.value(), row.value());
+    assertFalse(row.equals(ExprValueUtils.tupleValue(ImmutableMap.of("age", 30, "name", "John"))));
+  }
+
+  @Test
+  void get_value_by_slot_and_key() {
+    assertEquals(integerValue(30), row.slotValue(1));
+    assertEquals(stringValue("John"), row.keyValue("name"));
+    assertTrue(row.keyValue("address").isMissing());
+  }
+
+  @Test
+  void tuple_value_is_map_view_of_slots() {
+    Map<String, ExprValue> map = row.tupleValue();
+    assertEquals(2, map.size());
+    assertEquals(List.of("name", "age"), List.copyOf(map.keySet()));
+    assertEquals(integerValue(30), map.get("age"));
+    assertNull(map.get("address"));
+    assertNull(map.get(1));
+    assertTrue(map.containsKey("name"));
+    assertFalse(map.containsKey("address"));
+    assertFalse(map.containsKey(1));
+    assertThrows(UnsupportedOperationException.class, () -> map.put("age", integerValue(1)));
+
+    Iterator<Map.Entry<String, ExprValue>> iterator = map.entrySet().iterator();
+    iterator.next();
+    iterator.next();
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  void with_schema_shares_values() {
+    ExprRowValue renamed = row.withSchema(schema.rename(name -> name + "_1"));
+    assertEquals(
+        ExprValueUtils.tupleValue(ImmutableMap.of("name_1", "John", "age_1", 30)), renamed);
+    assertSame(row.slotValue(0), renamed.slotValue(0));
+  }
+
+  @Test
+  void values_must_match_schema() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ExprRowValue(schema, new ExprValue[] {stringValue("John")}));
+  }
+
+  @Test
+  void serializable() {
+    ExprValue deserialized = SerializationUtils.roundtrip(row);
+    assertEquals(tuple, deserialized);
+    assertEquals(integerValue(30), deserialized.keyValue("age"));
+  }
+}
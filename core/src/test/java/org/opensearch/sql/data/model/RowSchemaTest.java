@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RowSchemaTest {
+
+  private final RowSchema schema = new RowSchema(List.of("name", "age", "address.city"));
+
+  @Test
+  void slot_of_field() {
+    assertEquals(3, schema.size());
+    assertEquals(0, schema.slotOf("name"));
+    assertEquals(2, schema.slotOf("address.city"));
+    assertEquals(-1, schema.slotOf("address"));
+    assertEquals("age", schema.fieldName(1));
+  }
+
+  @Test
+  void rename_fields() {
+    RowSchema renamed = schema.rename(name -> name.equals("age") ? "years" : name);
+    assertEquals(List.of("name", "years", "address.city"), renamed.getFieldNames());
+    assertEquals(1, renamed.slotOf("years"));
+    assertEquals(-1, renamed.slotOf("age"));
+  }
+
+  @Test
+  void equal_by_field_names() {
+    assertEquals(new RowSchema(List.of("name", "age", "address.city")), schema);
+    assertEquals("RowSchema(fieldNames=[name, age, address.city])", schema.toString());
+  }
+
+  @Test
+  void duplicate_field_should_throw() {
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> schema.rename(name -> "name"));
+    assertEquals("Multiple entries with same key: name", exception.getMessage());
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.byteValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.dateValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.intervalValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.shortValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.timeValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.timestampValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
+
+class ExprValueCodecTest {
+
+  @Test
+  public void round_trip_primitive_values() throws IOException {
+    assertRoundTrip(LITERAL_NULL);
+    assertRoundTrip(LITERAL_MISSING);
+    assertRoundTrip(LITERAL_TRUE);
+    assertRoundTrip(byteValue((byte) 1));
+    assertRoundTrip(shortValue((short) 2));
+    assertRoundTrip(integerValue(3));
+    assertRoundTrip(longValue(4L));
+    assertRoundTrip(floatValue(5.5f));
+    assertRoundTrip(doubleValue(6.5));
+    assertRoundTrip(stringValue("caf\u00e9 \uD83D\uDE00"));
+  }
+
+  @Test
+  public void round_trip_datetime_values() throws IOException {
+    assertRoundTrip(dateValue(LocalDate.of(2020, 1, 31)));
+    assertRoundTrip(timeValue(LocalTime.of(10, 20, 30, 123456789)));
+    assertRoundTrip(timestampValue(Instant.parse("2020-01-31T10:20:30.123456789Z")));
+  }
+
+  @Test
+  public void round_trip_nested_values() throws IOException {
+    assertRoundTrip(
+        tupleValue(
+            ImmutableMap.of(
+                "name", "John", "age", 30, "address", ImmutableMap.of("city", "Seattle"))));
+    assertRoundTrip(collectionValue(ImmutableList.of(1, "two", 3.0)));
+    assertRoundTrip(
+        new ExprRowValue(
+            new RowSchema(List.of("name", "age")),
+            new ExprValue[] {stringValue("John"), integerValue(30)}));
+  }
+
+  @Test
+  public void round_trip_value_without_native_encoding() throws IOException {
+    assertRoundTrip(intervalValue(Duration.ofHours(1)));
+  }
+
+  @Test
+  public void read_unknown_tag_throws_exception() {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[] {127}));
+    assertThrows(IllegalStateException.class, () -> ExprValueCodec.read(in));
+  }
+
+  private void assertRoundTrip(ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExprValueCodec.write(new DataOutputStream(bytes), value);
+    ExprValue actual =
+        ExprValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    assertEquals(value, actual);
+    assertEquals(value.type(), actual.type());
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.timestampValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprRowValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
+
+class ExprValueSizeEstimatorTest {
+
+  @Test
+  public void null_and_missing_are_shared() {
+    assertEquals(0, ExprValueSizeEstimator.estimate(LITERAL_NULL));
+    assertEquals(0, ExprValueSizeEstimator.estimate(LITERAL_MISSING));
+  }
+
+  @Test
+  public void scalar_values() {
+    assertEquals(32, ExprValueSizeEstimator.estimate(integerValue(1)));
+    assertEquals(32, ExprValueSizeEstimator.estimate(timestampValue(Instant.EPOCH)));
+    assertEquals(59, ExprValueSizeEstimator.estimate(stringValue("abc")));
+  }
+
+  @Test
+  public void tuple_counts_entries_and_values() {
+    assertEquals(
+        48 + (32 + 32) + (32 + 59),
+        ExprValueSizeEstimator.estimate(tupleValue(ImmutableMap.of("a", 1, "b", "abc"))));
+  }
+
+  @Test
+  public void row_counts_slots_and_values() {
+    ExprValue row =
+        new ExprRowValue(
+            new RowSchema(List.of("a", "b")),
+            new ExprValue[] {integerValue(1), stringValue("abc")});
+    assertEquals(48 + (4 + 32) + (4 + 59), ExprValueSizeEstimator.estimate(row));
+  }
+
+  @Test
+  public void collection_counts_elements() {
+    assertEquals(
+        48 + (32 + 32) + (32 + 59) + (32 + 48),
+        ExprValueSizeEstimator.estimate(collectionValue(List.of(1, "abc", List.of()))));
+  }
+}
@@ -8,6 +8,7 @@ package org.opensearch.sql.executor;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.opensearch.sql.ast.tree.RareTopN.CommandType.TOP;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -27,6 +28,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -42,6 +44,7 @@ import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionTestBase;
@@ -220,6 +223,25 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_top_n() {
+    PhysicalPlan plan =
+        topN(tableScan, 10, 5, ImmutablePair.of(Sort.SortOption.DEFAULT_DESC, ref("age", INTEGER)));
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "TopNOperator",
+                Map.of(
+                    "sortList",
+                    Map.of("age", Map.of("sortOrder", "DESC", "nullOrder", "NULL_LAST")),
+                    "limit",
+                    10,
+                    "offset",
+                    5),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
   @Test
   void can_explain_nested() {
     Set<String> nestedOperatorArgs = Set.of("message.info", "message");
@@ -235,6 +257,37 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_profile_of_executed_plan() {
+    QueryProfile profile = new QueryProfile();
+    PhysicalPlan plan = profile.profile(limit(profile.profile(tableScan), 10, 0));
+    plan.open();
+    plan.hasNext();
+    profile.addPhase(QueryProfile.EXECUTE, 100);
+
+    ExplainResponse response = new Explain(profile).apply(plan);
+    assertEquals(Map.of("execute_time_in_nanos", 100L), response.getProfile());
+    ExplainResponseNode limitNode = response.getRoot();
+    assertEquals(
+        List.of("rows_in", "rows_out", "open_time_in_nanos", "next_time_in_nanos"),
+        List.copyOf(limitNode.getProfile().keySet()));
+    assertEquals(0L, limitNode.getProfile().get("rows_in"));
+    assertEquals(0L, limitNode.getProfile().get("rows_out"));
+    assertEquals(
+        List.of("rows_out", "open_time_in_nanos", "next_time_in_nanos"),
+        List.copyOf(limitNode.getChildren().get(0).getProfile().keySet()));
+  }
+
+  @Test
+  void operator_not_profiled_is_explained_without_profile() {
+    QueryProfile profile = new QueryProfile();
+    PhysicalPlan plan = profile.profile(limit(tableScan, 10, 0));
+
+    ExplainResponse response = new Explain(profile).apply(plan);
+    assertEquals(0L, response.getRoot().getProfile().get("rows_in"));
+    assertNull(response.getRoot().getChildren().get(0).getProfile());
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
@@ -8,6 +8,7 @@
 
 package org.opensearch.sql.executor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -15,8 +16,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +29,7 @@ import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -55,6 +59,8 @@ class QueryServiceTest {
 
   @Mock private Split split;
 
+  @Mock private ResponseListener<ExecutionEngine.ExplainResponse> explainListener;
+
   @Test
   public void executeWithoutContext() {
     queryService().executeSuccess().handledByOnResponse();
@@ -85,6 +91,35 @@ class QueryServiceTest {
     queryService().analyzeFail().handledByOnFailure();
   }
 
+  @Test
+  public void profileShouldRecordAnalyzeAndPlanTime() {
+    queryService();
+    QueryProfile profile = new QueryProfile();
+    queryService.profile(ast, profile, explainListener);
+
+    verify(executionEngine).profile(plan, profile, explainListener);
+    assertEquals(
+        List.of("analyze_time_in_nanos", "plan_time_in_nanos"),
+        List.copyOf(profile.phaseTimes().keySet()));
+  }
+
+  @Test
+  public void profileWithIllegalQueryShouldBeCaughtByHandler() {
+    queryService().analyzeFail();
+    queryService.profile(ast, new QueryProfile(), explainListener);
+
+    verify(explainListener).onFailure(any(IllegalStateException.class));
+  }
+
+  @Test
+  public void profileIsNotSupportedByExecutionEngineByDefault() {
+    queryService();
+    new QueryService(analyzer, new DefaultExecutionEngine(), planner)
+        .profile(ast, new QueryProfile(), explainListener);
+
+    verify(explainListener).onFailure(any(UnsupportedOperationException.class));
+  }
+
   Helper queryService() {
     return new Helper();
   }
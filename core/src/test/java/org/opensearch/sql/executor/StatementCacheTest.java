@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.ast.dsl.AstDSL.relation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.statement.Query;
+import org.opensearch.sql.ast.statement.Statement;
+import org.opensearch.sql.common.antlr.SyntaxCheckException;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class StatementCacheTest {
+
+  private final AtomicLong maximumSize = new AtomicLong(100);
+
+  private final AtomicInteger hits = new AtomicInteger();
+
+  private final AtomicInteger misses = new AtomicInteger();
+
+  private final StatementCache cache =
+      new StatementCache(maximumSize::get, hits::incrementAndGet, misses::incrementAndGet);
+
+  @Test
+  void statement_of_same_key_is_parsed_once() {
+    Statement statement = cache.get(key("source=test"), () -> query("test"));
+    assertSame(statement, cache.get(key("source=test"), () -> query("test")));
+    assertNotSame(statement, cache.get(key("source=other"), () -> query("other")));
+    assertNotSame(
+        statement,
+        cache.get(new StatementCache.Key("ppl", "source=test", true, 0), () -> query("test")));
+    assertEquals(1, hits.get());
+    assertEquals(3, misses.get());
+  }
+
+  @Test
+  void statement_failed_to_parse_is_not_cached() {
+    assertThrows(
+        SyntaxCheckException.class,
+        () ->
+            cache.get(
+                key("source="),
+                () -> {
+                  throw new SyntaxCheckException("invalid query");
+                }));
+    Statement statement = cache.get(key("source="), () -> query("test"));
+    assertSame(statement, cache.get(key("source="), () -> query("test")));
+    assertEquals(1, hits.get());
+    assertEquals(2, misses.get());
+  }
+
+  @Test
+  void least_recently_used_statement_is_evicted_beyond_maximum_size() {
+    maximumSize.set(19);
+    Statement first = cache.get(key("source=a"), () -> query("a"));
+    Statement second = cache.get(key("source=b"), () -> query("b"));
+    cache.get(key("source=c"), () -> query("c"));
+    assertSame(second, cache.get(key("source=b"), () -> query("b")));
+    assertNotSame(first, cache.get(key("source=a"), () -> query("a")));
+    assertEquals(1, hits.get());
+  }
+
+  @Test
+  void cache_is_emptied_when_maximum_size_changes() {
+    Statement statement = cache.get(key("source=test"), () -> query("test"));
+    maximumSize.set(0);
+    assertNotSame(statement, cache.get(key("source=test"), () -> query("test")));
+    assertNotSame(statement, cache.get(key("source=test"), () -> query("test")));
+    assertEquals(0, hits.get());
+  }
+
+  @Test
+  void disabled_cache_parses_each_query() {
+    StatementCache disabled = StatementCache.disabled();
+    Statement statement = disabled.get(key("source=test"), () -> query("test"));
+    assertNotSame(statement, disabled.get(key("source=test"), () -> query("test")));
+  }
+
+  private static StatementCache.Key key(String query) {
+    return new StatementCache.Key("ppl", query, false, 0);
+  }
+
+  private static Statement query(String index) {
+    return new Query(relation(index), 0);
+  }
+}
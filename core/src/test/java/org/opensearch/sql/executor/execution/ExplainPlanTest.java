@@ -22,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.profile.QueryProfile;
 
 @ExtendWith(MockitoExtension.class)
 public class ExplainPlanTest {
@@ -41,6 +42,26 @@ public class ExplainPlanTest {
     verify(queryPlan, times(1)).explain(explainListener);
   }
 
+  @Test
+  public void executeWithProfile() {
+    QueryProfile profile = new QueryProfile();
+    ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, profile, explainListener);
+    explainPlan.execute();
+
+    verify(queryPlan, times(1)).profile(profile, explainListener);
+  }
+
+  @Test
+  public void profileThrowException() {
+    ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
+
+    UnsupportedOperationException unsupportedProfileException =
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> explainPlan.profile(new QueryProfile(), explainListener));
+    assertEquals("ExplainPlan does not support profile", unsupportedProfileException.getMessage());
+  }
+
   @Test
   public void explainThrowException() {
     ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
@@ -30,12 +30,14 @@ import org.opensearch.sql.ast.statement.Explain;
 import org.opensearch.sql.ast.statement.Query;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.ast.tree.CloseCursor;
+import org.opensearch.sql.ast.tree.FetchCursor;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.exception.UnsupportedCursorRequestException;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.pagination.CanPaginateVisitor;
+import org.opensearch.sql.executor.pagination.CursorStore;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -152,4 +154,29 @@ class QueryPlanFactoryTest {
     verify(queryService).execute(captor.capture(), any());
     assertTrue(captor.getValue() instanceof CloseCursor);
   }
+
+  @Test
+  public void create_from_stored_cursor() {
+    CursorStore cursorStore = new CursorStore(() -> true, () -> 60000L);
+    factory = new QueryPlanFactory(queryService, cursorStore);
+    String id = cursorStore.store("n:cursor");
+
+    factory.create(id, false, queryListener, explainListener).execute();
+    var captor = ArgumentCaptor.forClass(UnresolvedPlan.class);
+    verify(queryService).execute(captor.capture(), any());
+    assertEquals(new FetchCursor("n:cursor"), captor.getValue());
+  }
+
+  @Test
+  public void close_stored_cursor_removes_it_from_store() {
+    CursorStore cursorStore = new CursorStore(() -> true, () -> 60000L);
+    factory = new QueryPlanFactory(queryService, cursorStore);
+    String id = cursorStore.store("n:cursor");
+
+    factory.createCloseCursor(id, queryListener).execute();
+    var captor = ArgumentCaptor.forClass(UnresolvedPlan.class);
+    verify(queryService).execute(captor.capture(), any());
+    assertEquals(new FetchCursor("n:cursor"), captor.getValue().getChild().get(0));
+    assertThrows(UnsupportedOperationException.class, () -> cursorStore.resolve(id));
+  }
 }
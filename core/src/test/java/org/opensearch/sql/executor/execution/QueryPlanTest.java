@@ -29,6 +29,7 @@ import org.opensearch.sql.executor.DefaultExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.profile.QueryProfile;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -60,6 +61,15 @@ class QueryPlanTest {
     verify(queryService, times(1)).explain(plan, explainListener);
   }
 
+  @Test
+  public void profile_no_page_size() {
+    QueryPlan query = new QueryPlan(queryId, plan, queryService, queryListener);
+    QueryProfile profile = new QueryProfile();
+    query.profile(profile, explainListener);
+
+    verify(queryService, times(1)).profile(plan, profile, explainListener);
+  }
+
   @Test
   public void can_execute_paginated_plan() {
     var listener =
@@ -120,4 +130,22 @@ class QueryPlanTest {
               }
             });
   }
+
+  @Test
+  public void profile_is_not_supported_for_pagination() {
+    new QueryPlan(null, null, 0, null, null)
+        .profile(
+            new QueryProfile(),
+            new ResponseListener<>() {
+              @Override
+              public void onResponse(ExecutionEngine.ExplainResponse response) {
+                fail();
+              }
+
+              @Override
+              public void onFailure(Exception e) {
+                assertTrue(e instanceof NotImplementedException);
+              }
+            });
+  }
 }
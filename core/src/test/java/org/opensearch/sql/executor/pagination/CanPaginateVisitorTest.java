@@ -433,12 +433,57 @@ public class CanPaginateVisitorTest {
   }
 
   @Test
-  // select * from y group by z
-  public void reject_query_with_group_by() {
+  // select z from y group by z
+  public void allow_query_with_group_by() {
     var plan =
         project(
             agg(relation("dummy"), List.of(), List.of(), List.of(field("1")), List.of()),
             allFields());
+    assertTrue(plan.accept(visitor, null));
+  }
+
+  @Test
+  // select z, agg(x) from y where z = 1 group by z
+  public void allow_query_with_group_by_and_aggregation_function() {
+    var plan =
+        project(
+            agg(
+                filter(relation("dummy"), equalTo(field("1"), intLiteral(1))),
+                List.of(alias("agg", aggregate("func", field("pewpew")))),
+                List.of(),
+                List.of(field("1")),
+                List.of()),
+            field("1"),
+            alias("agg", aggregate("func", field("pewpew"))));
+    assertTrue(plan.accept(visitor, null));
+  }
+
+  @Test
+  // select z, agg(x) from y group by z having agg(x) > 1
+  public void reject_query_with_having() {
+    var plan =
+        project(
+            filter(
+                agg(
+                    relation("dummy"),
+                    List.of(alias("agg", aggregate("func", field("pewpew")))),
+                    List.of(),
+                    List.of(field("1")),
+                    List.of()),
+                compare(">", field("agg"), intLiteral(1))),
+            allFields());
+    assertFalse(plan.accept(visitor, null));
+  }
+
+  @Test
+  // select z from y group by z order by z
+  public void reject_query_with_order_by_over_group_by() {
+    var plan =
+        project(
+            sort(
+                agg(relation("dummy"), List.of(), List.of(), List.of(field("1")), List.of()),
+                field("1")),
+            allFields());
     assertFalse(plan.accept(visitor, null));
   }
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CursorStoreTest {
+
+  @Test
+  void stored_cursor_is_resolved_by_id() {
+    CursorStore store = new CursorStore(() -> true, () -> 60000L);
+    String id = store.store("n:plan");
+    String otherId = store.store("n:plan");
+
+    assertTrue(id.startsWith(CursorStore.CURSOR_PREFIX));
+    assertEquals(24, id.length());
+    assertNotEquals(id, otherId);
+    assertEquals("n:plan", store.resolve(id));
+    assertEquals("n:plan", store.resolve(otherId));
+  }
+
+  @Test
+  void cursor_is_not_stored_if_disabled() {
+    AtomicBoolean enabled = new AtomicBoolean(true);
+    CursorStore store = new CursorStore(enabled::get, () -> 60000L);
+    String id = store.store("n:plan");
+    enabled.set(false);
+
+    assertEquals("n:other", store.store("n:other"));
+    assertEquals("n:other", store.resolve("n:other"));
+    assertEquals("n:plan", store.resolve(id));
+  }
+
+  @Test
+  void disabled_store_returns_cursor_as_is() {
+    CursorStore store = CursorStore.disabled();
+    assertEquals("n:plan", store.store("n:plan"));
+    assertEquals("n:plan", store.resolve("n:plan"));
+  }
+
+  @Test
+  void removed_cursor_can_not_be_resolved() {
+    CursorStore store = new CursorStore(() -> true, () -> 60000L);
+    String id = store.store("n:plan");
+    store.remove(id);
+
+    UnsupportedOperationException exception =
+        assertThrows(UnsupportedOperationException.class, () -> store.resolve(id));
+    assertEquals("Cursor is expired or unknown to this node", exception.getMessage());
+  }
+
+  @Test
+  void unknown_cursor_id_can_not_be_resolved() {
+    CursorStore store = new CursorStore(() -> true, () -> 60000L);
+    assertThrows(UnsupportedOperationException.class, () -> store.resolve("s:unknown"));
+  }
+
+  @Test
+  void stored_cursors_are_dropped_when_keep_alive_changes() {
+    AtomicLong keepAlive = new AtomicLong(60000L);
+    CursorStore store = new CursorStore(() -> true, keepAlive::get);
+    String id = store.store("n:plan");
+    assertEquals("n:plan", store.resolve(id));
+
+    keepAlive.set(120000L);
+    assertThrows(UnsupportedOperationException.class, () -> store.resolve(id));
+  }
+}
@@ -13,10 +13,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -100,10 +103,10 @@ public class PlanSerializerTest {
   @Test
   void deserialize_throws() {
     assertAll(
-        // from gzip - damaged header
+        // unsupported format version
         () -> assertThrows(Throwable.class, () -> deserialize("00")),
-        // from HashCode::fromString
-        () -> assertThrows(Throwable.class, () -> deserialize("000")));
+        // from Base64.Decoder::decode
+        () -> assertThrows(Throwable.class, () -> deserialize("1f8b0")));
   }
 
   @Test
@@ -153,6 +156,44 @@ public class PlanSerializerTest {
     assertNotSame(plan, roundTripPlan);
   }
 
+  @Test
+  void serialized_cursor_is_url_safe_base64_of_versioned_data() {
+    var code = serialize(new TestOperator(100500));
+    assertTrue(code.matches("[A-Za-z0-9_-]+"));
+    assertEquals(PlanSerializer.FORMAT_VERSION, Base64.getUrlDecoder().decode(code)[0]);
+  }
+
+  @Test
+  void serialized_cursor_is_shorter_than_legacy_encoding() {
+    var input = "and_some_other_funny_stuff_which_could_be_generated_while_sleeping".repeat(10);
+    assertTrue(serialize(input).length() < legacySerialize(input).length());
+  }
+
+  @Test
+  void deserialize_rejects_legacy_encoding() {
+    var obj = new SerializableTestClass();
+    obj.field = 42;
+    assertThrows(IllegalStateException.class, () -> deserialize(legacySerialize(obj)));
+  }
+
+  @Test
+  void deserialize_throws_on_unsupported_version() {
+    var code = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] {2, 0});
+    assertThrows(IllegalStateException.class, () -> deserialize(code));
+    assertThrows(IllegalStateException.class, () -> deserialize(""));
+  }
+
+  @Test
+  void convertToCursor_stores_cursor_in_cursor_store() {
+    var cursorStore = new CursorStore(() -> true, () -> 60000L);
+    var serializer = new PlanSerializer(storageEngine, cursorStore);
+    var plan = new TestOperator(100500);
+
+    var cursor = serializer.convertToCursor(plan).toString();
+    assertTrue(cursor.startsWith(CursorStore.CURSOR_PREFIX));
+    assertEquals(plan, serializer.convertToPlan(cursorStore.resolve(cursor)));
+  }
+
   @Test
   @SneakyThrows
   void resolveObject() {
@@ -178,4 +219,14 @@ public class PlanSerializerTest {
   private Serializable deserialize(String input) {
     return new PlanSerializer(null).deserialize(input);
   }
+
+  /** Encoding of the cursors before versioning: GZIP of the serialized object in hex. */
+  @SneakyThrows
+  private String legacySerialize(Serializable input) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(new GZIPOutputStream(out));
+    objectOutput.writeObject(input);
+    objectOutput.close();
+    return HashCode.fromBytes(out.toByteArray()).toString();
+  }
 }
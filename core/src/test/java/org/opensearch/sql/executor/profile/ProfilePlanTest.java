@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
+import org.opensearch.sql.storage.split.Split;
+
+@ExtendWith(MockitoExtension.class)
+class ProfilePlanTest {
+
+  @Mock private PhysicalPlan plan;
+
+  @Mock private PhysicalPlanNodeVisitor<Object, Object> visitor;
+
+  private final OperatorProfile profile = new OperatorProfile();
+
+  private ProfilePlan profilePlan;
+
+  @BeforeEach
+  public void setup() {
+    profilePlan = new ProfilePlan(plan, profile);
+  }
+
+  @Test
+  void rows_returned_are_counted() {
+    when(plan.hasNext()).thenReturn(true, false);
+    when(plan.next()).thenReturn(integerValue(1));
+    RowBatch batch = new RowBatch(2);
+    batch.add(integerValue(2));
+    batch.add(integerValue(3));
+    when(plan.nextBatch(2)).thenReturn(batch);
+
+    profilePlan.open();
+    assertTrue(profilePlan.hasNext());
+    assertEquals(integerValue(1), profilePlan.next());
+    assertFalse(profilePlan.hasNext());
+    assertSame(batch, profilePlan.nextBatch(2));
+    profilePlan.close();
+
+    assertEquals(3, profile.getRows());
+    assertTrue(profile.getOpenNanos() >= 0);
+    assertTrue(profile.getNextNanos() >= 0);
+    verify(plan).open();
+    verify(plan).close();
+  }
+
+  @Test
+  void other_calls_are_delegated() {
+    Split split = () -> "split";
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(List.of());
+    when(plan.getChild()).thenReturn(List.of());
+    when(plan.schema()).thenReturn(schema);
+    when(plan.accept(visitor, null)).thenReturn("visited");
+
+    profilePlan.add(split);
+    assertEquals(List.of(), profilePlan.getChild());
+    assertSame(schema, profilePlan.schema());
+    assertEquals("visited", profilePlan.accept(visitor, null));
+    verify(plan).add(split);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+class QueryProfileTest {
+
+  private final QueryProfile profile = new QueryProfile();
+
+  @Test
+  void phases_are_timed_in_order() {
+    assertEquals("statement", profile.time(QueryProfile.PARSE, () -> "statement"));
+    profile.addPhase(QueryProfile.EXECUTE, 10);
+    profile.addPhase(QueryProfile.EXECUTE, 5);
+
+    assertEquals(
+        List.of("parse_time_in_nanos", "execute_time_in_nanos"),
+        List.copyOf(profile.phaseTimes().keySet()));
+    assertTrue(profile.phaseTimes().get("parse_time_in_nanos") >= 0);
+    assertEquals(15L, profile.phaseTimes().get("execute_time_in_nanos"));
+  }
+
+  @Test
+  void operator_is_profiled_through_decorators() {
+    PhysicalPlan operator = values(List.of(DSL.literal(1)), List.of(DSL.literal(2)));
+    PhysicalPlan plan = profile.profile(operator);
+    assertInstanceOf(ProfilePlan.class, plan);
+    assertSame(plan, profile.profile(plan));
+
+    plan.open();
+    while (plan.hasNext()) {
+      assertEquals(1, plan.next().collectionValue().size());
+    }
+    assertEquals(2, profile.operator(operator).get().getRows());
+    assertSame(profile.operator(operator).get(), profile.operator(plan).get());
+  }
+
+  @Test
+  void operator_not_profiled() {
+    assertTrue(profile.operator(values()).isEmpty());
+  }
+}
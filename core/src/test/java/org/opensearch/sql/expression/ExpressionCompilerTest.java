@@ -0,0 +1,288 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.ExpressionCompiler.CompiledExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionCompilerTest {
+
+  private static final List<Function<Expression[], FunctionExpression>> ARITHMETIC =
+      List.of(
+          DSL::add,
+          DSL::addFunction,
+          DSL::subtract,
+          DSL::subtractFunction,
+          DSL::multiply,
+          DSL::multiplyFunction);
+
+  private static final List<Function<Expression[], FunctionExpression>> COMPARISON =
+      List.of(DSL::equal, DSL::notequal, DSL::less, DSL::lte, DSL::greater, DSL::gte);
+
+  private static Stream<Arguments> numbers() {
+    return Stream.of(
+        Arguments.of(
+            INTEGER, List.of(integerValue(-2), integerValue(0), integerValue(3), integerValue(3))),
+        Arguments.of(LONG, List.of(longValue(-2L), longValue(0L), longValue(3L), longValue(3L))),
+        Arguments.of(
+            DOUBLE,
+            List.of(
+                doubleValue(-2.5),
+                doubleValue(-0.0),
+                doubleValue(0.0),
+                doubleValue(Double.NaN),
+                doubleValue(Double.POSITIVE_INFINITY))));
+  }
+
+  @ParameterizedTest
+  @MethodSource("numbers")
+  void compiled_arithmetic_and_comparison_same_as_interpreted(
+      ExprType type, List<ExprValue> numbers) {
+    List<ExprValue> values = new ArrayList<>(numbers);
+    values.add(LITERAL_NULL);
+    values.add(LITERAL_MISSING);
+    List<Function<Expression[], FunctionExpression>> functions = new ArrayList<>(ARITHMETIC);
+    functions.addAll(COMPARISON);
+
+    for (Function<Expression[], FunctionExpression> function : functions) {
+      FunctionExpression expression =
+          function.apply(new Expression[] {ref("a", type), ref("b", type)});
+      Expression compiled = ExpressionCompiler.compile(expression);
+      assertInstanceOf(CompiledExpression.class, compiled);
+      List<Environment<Expression, ExprValue>> envs = new ArrayList<>();
+      for (ExprValue a : values) {
+        for (ExprValue b : values) {
+          Environment<Expression, ExprValue> env = env(Map.of("a", a, "b", b));
+          assertEquals(expression.valueOf(env), compiled.valueOf(env), expression + " " + env);
+          envs.add(env);
+        }
+      }
+      assertBatchSameAsInterpreted(expression, compiled, envs);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("numbers")
+  void compiled_nested_functions_same_as_interpreted(ExprType type, List<ExprValue> numbers) {
+    Expression one = literal(numbers.get(2));
+    Expression expression =
+        DSL.less(
+            DSL.multiply(DSL.add(ref("a", type), ref("b", type)), one),
+            DSL.subtract(ref("c", type), DSL.abs(ref("a", type))));
+    Expression compiled = ExpressionCompiler.compile(expression);
+    assertInstanceOf(CompiledExpression.class, compiled);
+
+    List<ExprValue> values = new ArrayList<>(numbers);
+    values.add(LITERAL_NULL);
+    List<Environment<Expression, ExprValue>> envs = new ArrayList<>();
+    for (ExprValue a : values) {
+      for (ExprValue b : values) {
+        Environment<Expression, ExprValue> env = env(Map.of("a", a, "b", b, "c", numbers.get(0)));
+        assertEquals(expression.valueOf(env), compiled.valueOf(env));
+        envs.add(env);
+      }
+    }
+    assertEquals(
+        expression.valueOf(env(Map.of("a", numbers.get(0)))),
+        compiled.valueOf(env(Map.of("a", numbers.get(0)))));
+    envs.add(env(Map.of("a", numbers.get(0))));
+    assertBatchSameAsInterpreted(expression, compiled, envs);
+  }
+
+  @Test
+  void compiled_arithmetic_overflow_should_throw() {
+    Expression intAdd = ExpressionCompiler.compile(DSL.add(ref("a", INTEGER), literal(1)));
+    assertThrows(
+        ArithmeticException.class,
+        () -> intAdd.valueOf(env(Map.of("a", integerValue(Integer.MAX_VALUE)))));
+    Expression longMultiply =
+        ExpressionCompiler.compile(DSL.multiply(ref("a", LONG), literal(longValue(2L))));
+    assertThrows(
+        ArithmeticException.class,
+        () -> longMultiply.valueOf(env(Map.of("a", longValue(Long.MAX_VALUE)))));
+  }
+
+  @Test
+  void compiled_arithmetic_overflow_in_batch_should_throw_unless_leaf_is_null() {
+    Expression intAdd = ExpressionCompiler.compile(DSL.add(ref("a", INTEGER), literal(1)));
+    assertThrows(
+        ArithmeticException.class,
+        () ->
+            ExpressionCompiler.valuesOf(
+                intAdd,
+                List.of(
+                    env(Map.of("a", integerValue(1))),
+                    env(Map.of("a", integerValue(Integer.MAX_VALUE))))));
+
+    Expression overflowWithNull =
+        ExpressionCompiler.compile(
+            DSL.add(
+                ref("a", LONG), DSL.multiply(literal(longValue(Long.MAX_VALUE)), literal(2L))));
+    assertArrayEquals(
+        new ExprValue[] {LITERAL_NULL, LITERAL_MISSING},
+        ExpressionCompiler.valuesOf(
+            overflowWithNull, List.of(env(Map.of("a", LITERAL_NULL)), env(Map.of()))));
+  }
+
+  @Test
+  void compiled_logic_same_as_interpreted() {
+    List<ExprValue> values = List.of(LITERAL_TRUE, LITERAL_FALSE, LITERAL_NULL, LITERAL_MISSING);
+    List<FunctionExpression> expressions =
+        List.of(
+            DSL.and(ref("a", BOOLEAN), ref("b", BOOLEAN)),
+            DSL.or(ref("a", BOOLEAN), ref("b", BOOLEAN)),
+            DSL.not(ref("a", BOOLEAN)),
+            DSL.or(
+                DSL.not(DSL.greater(ref("x", INTEGER), literal(0))),
+                DSL.and(ref("a", BOOLEAN), DSL.equal(ref("y", LONG), literal(longValue(1L))))));
+
+    for (FunctionExpression expression : expressions) {
+      Expression compiled = ExpressionCompiler.compile(expression);
+      assertInstanceOf(CompiledExpression.class, compiled);
+      List<Environment<Expression, ExprValue>> envs = new ArrayList<>();
+      for (ExprValue a : values) {
+        for (ExprValue b : values) {
+          for (ExprValue x : List.of(integerValue(1), LITERAL_NULL, LITERAL_MISSING)) {
+            Map<String, ExprValue> row =
+                Map.of("a", a, "b", b, "x", x, "y", longValue(x.isNull() ? 1L : 2L));
+            assertEquals(expression.valueOf(env(row)), compiled.valueOf(env(row)));
+            envs.add(env(row));
+          }
+        }
+      }
+      assertBatchSameAsInterpreted(expression, compiled, envs);
+    }
+  }
+
+  @Test
+  void batch_of_expression_not_compiled_is_interpreted_row_by_row() {
+    Expression abs = DSL.abs(ref("a", INTEGER));
+    assertArrayEquals(
+        new ExprValue[] {integerValue(1), LITERAL_NULL},
+        ExpressionCompiler.valuesOf(
+            abs, List.of(env(Map.of("a", integerValue(-1))), env(Map.of("a", LITERAL_NULL)))));
+  }
+
+  @Test
+  void expression_without_fusable_function_is_not_compiled() {
+    Expression reference = ref("a", INTEGER);
+    Expression stringEqual = DSL.equal(ref("s", STRING), literal(stringValue("str")));
+    Expression abs = DSL.abs(DSL.add(ref("a", INTEGER), literal(1)));
+    assertSame(reference, ExpressionCompiler.compile(reference));
+    assertSame(stringEqual, ExpressionCompiler.compile(stringEqual));
+    assertSame(abs, ExpressionCompiler.compile(abs));
+  }
+
+  @Test
+  void function_of_different_argument_types_is_not_compiled() {
+    Expression expression =
+        new FunctionExpression(
+            BuiltinFunctionName.ADD.getName(), List.of(ref("a", INTEGER), ref("b", LONG))) {
+          @Override
+          public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+            return LITERAL_NULL;
+          }
+
+          @Override
+          public ExprType type() {
+            return LONG;
+          }
+        };
+    assertSame(expression, ExpressionCompiler.compile(expression));
+  }
+
+  @Test
+  void compiled_expression_is_equal_to_expression_compiled_from() {
+    FunctionExpression expression = DSL.equal(ref("a", INTEGER), literal(1));
+    CompiledExpression compiled = (CompiledExpression) ExpressionCompiler.compile(expression);
+    assertSame(expression, compiled.getExpression());
+    assertEquals(expression.type(), compiled.type());
+    assertEquals(expression.toString(), compiled.toString());
+    assertEquals(ExpressionCompiler.compile(expression), compiled);
+    assertEquals(
+        expression.getFunctionName(),
+        compiled.accept(
+            new ExpressionNodeVisitor<Object, Object>() {
+              @Override
+              public Object visitFunction(FunctionExpression node, Object context) {
+                return node.getFunctionName();
+              }
+            },
+            null));
+  }
+
+  @Test
+  void compiled_expression_is_serializable() {
+    Expression compiled =
+        ExpressionCompiler.compile(
+            DSL.and(
+                DSL.gte(DSL.add(ref("a", DOUBLE), literal(1.5)), literal(2.0)),
+                ref("b", BOOLEAN)));
+    Expression deserialized = SerializationUtils.roundtrip(compiled);
+    Environment<Expression, ExprValue> env =
+        env(Map.of("a", doubleValue(1.0), "b", LITERAL_TRUE));
+    assertEquals(LITERAL_TRUE, deserialized.valueOf(env));
+  }
+
+  private static void assertBatchSameAsInterpreted(
+      Expression expression, Expression compiled, List<Environment<Expression, ExprValue>> envs) {
+    ExprValue[] expected = new ExprValue[envs.size()];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = expression.valueOf(envs.get(i));
+    }
+    assertArrayEquals(expected, ExpressionCompiler.valuesOf(compiled, envs), expression.toString());
+  }
+
+  private static Environment<Expression, ExprValue> env(Map<String, ExprValue> row) {
+    Map<String, ExprValue> fields = new LinkedHashMap<>();
+    row.forEach(
+        (name, value) -> {
+          if (!value.isMissing()) {
+            fields.put(name, value);
+          }
+        });
+    return ExprTupleValue.fromExprValueMap(fields).bindingTuples();
+  }
+}
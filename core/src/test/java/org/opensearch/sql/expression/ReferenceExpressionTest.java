@@ -31,15 +31,18 @@ import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -136,6 +139,54 @@ class ReferenceExpressionTest extends ExpressionTestBase {
     assertEquals("First message in array", actualValue.stringValue());
   }
 
+  @Test
+  public void resolve_row_same_as_tuple() {
+    ExprTupleValue tuple = tuple();
+    ExprRowValue row = row(tuple);
+    for (String attr :
+        List.of(
+            "name",
+            "project.year",
+            "address.state",
+            "address.project.year",
+            "address.local.state",
+            "message.info",
+            "missing_field")) {
+      ReferenceExpression expr = new ReferenceExpression(attr, STRING);
+      assertEquals(expr.resolve(tuple), expr.resolve(row), attr);
+      // resolved again by the slot looked up for the schema
+      assertEquals(expr.resolve(tuple), expr.resolve(row), attr);
+    }
+  }
+
+  @Test
+  public void resolve_rows_of_different_schemas() {
+    ReferenceExpression expr = ref("name", STRING);
+    ExprRowValue row = row(tuple());
+    ExprRowValue renamed =
+        row.withSchema(row.getSchema().rename(name -> name.equals("name") ? "alias" : name));
+
+    assertEquals(stringValue("bob smith"), expr.resolve(row));
+    assertTrue(expr.resolve(renamed).isMissing());
+    assertEquals(stringValue("bob smith"), expr.resolve(row));
+  }
+
+  @Test
+  public void resolve_missing_slot_value_by_paths() {
+    ExprRowValue row =
+        new ExprRowValue(
+            new RowSchema(List.of("address.state", "address")),
+            new ExprValue[] {LITERAL_MISSING, tupleValue(ImmutableMap.of("state", "WA"))});
+
+    assertEquals(stringValue("WA"), ref("address.state", STRING).resolve(row));
+  }
+
+  private ExprRowValue row(ExprTupleValue tuple) {
+    return new ExprRowValue(
+        new RowSchema(List.copyOf(tuple.tupleValue().keySet())),
+        tuple.tupleValue().values().toArray(new ExprValue[0]));
+  }
+
   /**
    *
    *
@@ -159,4 +159,14 @@ public class AggregationTest extends ExpressionTestBase {
     }
     return state.result();
   }
+
+  /** Aggregate all the tuples and then remove the first. */
+  protected ExprValue aggregationWithFirstRemoved(Aggregator aggregator, List<ExprValue> tuples) {
+    AggregationState state = aggregator.create();
+    for (ExprValue tuple : tuples) {
+      aggregator.iterate(tuple.bindingTuples(), state);
+    }
+    aggregator.remove(tuples.get(0).bindingTuples(), state);
+    return state.result();
+  }
 }
@@ -122,6 +122,27 @@ class AvgAggregatorTest extends AggregationTest {
         result.timestampValue().atZone(ZoneOffset.UTC).toLocalDateTime());
   }
 
+  @Test
+  public void avg_with_value_removed() {
+    assertTrue(DSL.avg(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertEquals(
+        aggregation(DSL.avg(DSL.ref("double_value", DOUBLE)), tuples.subList(1, 4)),
+        aggregationWithFirstRemoved(DSL.avg(DSL.ref("double_value", DOUBLE)), tuples));
+  }
+
+  @Test
+  public void avg_date_time_and_timestamp_with_value_removed() {
+    for (Aggregator<?> aggregator :
+        List.of(
+            DSL.avg(DSL.date(DSL.ref("date_value", STRING))),
+            DSL.avg(DSL.time(DSL.ref("time_value", STRING))),
+            DSL.avg(DSL.timestamp(DSL.ref("timestamp_value", STRING))))) {
+      assertEquals(
+          aggregation(aggregator, tuples.subList(1, 4)),
+          aggregationWithFirstRemoved(aggregator, tuples));
+    }
+  }
+
   @Test
   public void valueOf() {
     ExpressionEvaluationException exception =
@@ -6,7 +6,9 @@
 package org.opensearch.sql.expression.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
@@ -190,4 +192,17 @@ class CountAggregatorTest extends AggregationTest {
         String.format("count(abs(%s))", DSL.ref("integer_value", INTEGER)),
         countAggregator.toString());
   }
+
+  @Test
+  public void count_with_value_removed() {
+    ExprValue result =
+        aggregationWithFirstRemoved(DSL.count(DSL.ref("integer_value", INTEGER)), tuples);
+    assertEquals(3, result.value());
+  }
+
+  @Test
+  public void count_is_removable_unless_distinct() {
+    assertTrue(DSL.count(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertFalse(DSL.distinctCount(DSL.ref("integer_value", INTEGER)).isRemovable());
+  }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.sql.expression.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
@@ -141,4 +142,15 @@ public class MaxAggregatorTest extends AggregationTest {
         String.format("max(+(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         maxAggregator.toString());
   }
+
+  @Test
+  public void test_max_is_not_removable() {
+    Aggregator maxAggregator = DSL.max(DSL.ref("integer_value", INTEGER));
+    assertFalse(maxAggregator.isRemovable());
+    UnsupportedOperationException exception =
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> aggregationWithFirstRemoved(maxAggregator, tuples));
+    assertEquals("can't remove value from aggregation state of max", exception.getMessage());
+  }
 }
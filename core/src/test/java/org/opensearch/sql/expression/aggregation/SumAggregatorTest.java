@@ -16,6 +16,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
@@ -108,6 +109,36 @@ class SumAggregatorTest extends AggregationTest {
     assertTrue(result.isNull());
   }
 
+  @Test
+  public void sum_with_value_removed() {
+    assertTrue(DSL.sum(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertEquals(
+        8, aggregationWithFirstRemoved(DSL.sum(DSL.ref("integer_value", INTEGER)), tuples).value());
+    assertEquals(
+        8L, aggregationWithFirstRemoved(DSL.sum(DSL.ref("long_value", LONG)), tuples).value());
+    assertEquals(
+        8f, aggregationWithFirstRemoved(DSL.sum(DSL.ref("float_value", FLOAT)), tuples).value());
+    assertEquals(
+        8d, aggregationWithFirstRemoved(DSL.sum(DSL.ref("double_value", DOUBLE)), tuples).value());
+  }
+
+  @Test
+  public void sum_with_all_values_removed() {
+    ExprValue result =
+        aggregationWithFirstRemoved(
+            DSL.sum(DSL.ref("integer_value", INTEGER)), tuples.subList(0, 1));
+    assertTrue(result.isNull());
+  }
+
+  @Test
+  public void sum_with_null_removed() {
+    ExprValue result =
+        aggregationWithFirstRemoved(
+            DSL.sum(DSL.ref("double_value", DOUBLE)),
+            Lists.reverse(tuples_with_null_and_missing));
+    assertEquals(7.0, result.value());
+  }
+
   @Test
   public void valueOf() {
     ExpressionEvaluationException exception =
@@ -25,6 +25,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,7 @@ import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
@@ -1404,6 +1406,32 @@ class DateTimeFunctionTest extends ExpressionTestBase {
     assertEquals("\"12 00\"", eval(expr).toString());
   }
 
+  @Test
+  public void date_format_of_rows_with_literal_format() {
+    FunctionExpression expr =
+        DSL.date_format(
+            functionProperties, DSL.ref("timestamp", TIMESTAMP), DSL.literal("%D of %M, %H:%i"));
+    assertEquals("1st of January, 10:00", formatRow(expr, "2020-01-01 10:00:00"));
+    assertEquals("1st of January, 12:30", formatRow(expr, "2020-01-01 12:30:00"));
+    assertEquals("2nd of January, 12:30", formatRow(expr, "2020-01-02 12:30:00"));
+  }
+
+  @Test
+  public void date_format_with_invalid_specifier_is_null() {
+    FunctionExpression expr =
+        DSL.date_format(
+            functionProperties, DSL.literal("2020-01-01 10:00:00"), DSL.literal("%$ %Y"));
+    assertEquals(nullValue(), eval(expr));
+  }
+
+  private String formatRow(FunctionExpression expr, String timestamp) {
+    return expr.valueOf(
+            ExprTupleValue.fromExprValueMap(
+                    Map.of("timestamp", new ExprTimestampValue(timestamp)))
+                .bindingTuples())
+        .stringValue();
+  }
+
   private static Stream<Arguments> getTestDataForTimeFormat() {
     return Stream.of(
         Arguments.of(DSL.literal("1998-01-31 13:14:15.012345"), DSL.literal("%f"), "012345"),
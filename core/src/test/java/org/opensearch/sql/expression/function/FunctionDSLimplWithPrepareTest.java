@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+
+class FunctionDSLimplWithPrepareTest extends FunctionDSLimplTestBase {
+
+  private final List<ExprValue> prepared = new ArrayList<>();
+
+  /** Repeat a string the number of times prepared. */
+  private final SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>>
+      repeat =
+          times -> {
+            prepared.add(times);
+            int count = Integer.parseInt(times.stringValue());
+            return value -> stringValue(value.stringValue().repeat(count));
+          };
+
+  @Override
+  SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      getImplementationGenerator() {
+    return FunctionDSL.implWithPrepare(times -> value -> ANY, 1, ANY_TYPE, ANY_TYPE, ANY_TYPE);
+  }
+
+  @Override
+  List<Expression> getSampleArguments() {
+    return List.of(DSL.literal(ANY), DSL.literal(ANY));
+  }
+
+  @Override
+  String getExpected_toString() {
+    return "sample(ANY, ANY)";
+  }
+
+  @Test
+  void literal_argument_is_prepared_once() {
+    FunctionExpression function =
+        build(1, List.of(DSL.ref("value", STRING), DSL.literal(stringValue("2"))));
+    assertEquals(List.of(stringValue("2")), prepared);
+
+    assertEquals(stringValue("abab"), function.valueOf(env("ab", "")));
+    assertEquals(stringValue("cdcd"), function.valueOf(env("cd", "")));
+    assertEquals(List.of(stringValue("2")), prepared);
+  }
+
+  @Test
+  void non_literal_argument_is_prepared_for_each_row() {
+    FunctionExpression function =
+        build(0, List.of(DSL.ref("times", STRING), DSL.ref("value", STRING)));
+    assertEquals(List.of(), prepared);
+
+    assertEquals(stringValue("ababab"), function.valueOf(env("ab", "3")));
+    assertEquals(stringValue("cd"), function.valueOf(env("cd", "1")));
+    assertEquals(List.of(stringValue("3"), stringValue("1")), prepared);
+  }
+
+  @Test
+  void argument_failed_to_prepare_throws_for_each_row() {
+    FunctionExpression function =
+        build(1, List.of(DSL.ref("value", STRING), DSL.literal(stringValue("twice"))));
+    assertThrows(NumberFormatException.class, () -> function.valueOf(env("ab", "")));
+    assertEquals(2, prepared.size());
+  }
+
+  @Test
+  void null_or_missing_argument_is_not_prepared() {
+    FunctionExpression nullLiteral = build(1, List.of(DSL.ref("value", STRING), DSL.literal(NULL)));
+    assertEquals(NULL, nullLiteral.valueOf(env("ab", "")));
+
+    FunctionExpression missingLiteral = build(1, List.of(DSL.literal(NULL), DSL.literal(MISSING)));
+    assertEquals(MISSING, missingLiteral.valueOf(env("ab", "")));
+    assertEquals(MISSING, build(0, List.of(DSL.literal(MISSING), DSL.literal(NULL))).valueOf());
+    assertEquals(List.of(), prepared);
+  }
+
+  @Test
+  void function_has_signature_of_argument_types() {
+    assertEquals(
+        new FunctionSignature(SAMPLE_NAME, List.of(STRING, INTEGER)),
+        FunctionDSL.implWithPrepare(repeat, 0, STRING, STRING, INTEGER)
+            .apply(SAMPLE_NAME)
+            .getKey());
+  }
+
+  private FunctionExpression build(int preparedArgIndex, List<Expression> arguments) {
+    return (FunctionExpression)
+        FunctionDSL.implWithPrepare(repeat, preparedArgIndex, STRING, STRING, STRING)
+            .apply(SAMPLE_NAME)
+            .getValue()
+            .apply(functionProperties, arguments);
+  }
+
+  private static Environment<Expression, ExprValue> env(String value, String times) {
+    return ExprTupleValue.fromExprValueMap(
+            Map.of("value", stringValue(value), "times", stringValue(times)))
+        .bindingTuples();
+  }
+}
@@ -6,25 +6,45 @@
 package org.opensearch.sql.expression.window.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.CURRENT_ROW;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.PRECEDING;
 import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.expression.WindowFunction.BoundType;
+import org.opensearch.sql.ast.expression.WindowFunction.Frame;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameUnit;
 import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.ExpressionTestBase;
 import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
+import org.opensearch.sql.expression.window.frame.SlidingWindowFrame;
+import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /** Aggregate window function test collection. */
 @SuppressWarnings("unchecked")
@@ -66,4 +86,101 @@ class AggregateWindowFunctionTest extends ExpressionTestBase {
             ImmutableList.of(fromExprValueMap(ImmutableMap.of("age", new ExprIntegerValue(30)))));
     assertEquals(new ExprIntegerValue(60), windowFunction.valueOf(windowFrame));
   }
+
+  @Test
+  void should_create_sliding_window_frame_only_if_frame_specified() {
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(DSL.sum(DSL.ref("age", INTEGER)));
+    assertTrue(
+        windowFunction.createWindowFrame(
+                new WindowDefinition(ImmutableList.of(), ImmutableList.of()))
+            instanceof PeerRowsWindowFrame);
+    assertTrue(
+        windowFunction.createWindowFrame(
+                new WindowDefinition(
+                    ImmutableList.of(),
+                    ImmutableList.of(),
+                    frame(bound(PRECEDING, 1L), bound(CURRENT_ROW, null))))
+            instanceof SlidingWindowFrame);
+  }
+
+  @Test
+  void should_add_entering_and_remove_leaving_values_in_sliding_window_frame() {
+    assertEquals(
+        Arrays.asList(3, 6, 5, 13, 13),
+        slide(
+            DSL.sum(DSL.ref("age", INTEGER)),
+            frame(bound(PRECEDING, 1L), bound(FOLLOWING, 1L)),
+            tuple("WA", 1),
+            tuple("WA", 2),
+            tuple("WA", 3),
+            tuple("CA", 5),
+            tuple("CA", 8)));
+  }
+
+  @Test
+  void should_keep_max_and_min_in_sliding_window_frame() {
+    ExprValue[] rows = {
+      tuple("WA", 3),
+      tuple("WA", 1),
+      tuple("WA", 2),
+      tuple("WA", 5),
+      tuple("WA", 4),
+      tuple("CA", null),
+      tuple("CA", 7)
+    };
+    Frame frame = frame(bound(PRECEDING, 1L), bound(CURRENT_ROW, null));
+    assertEquals(
+        Arrays.asList(3, 3, 2, 5, 5, null, 7),
+        slide(DSL.max(DSL.ref("age", INTEGER)), frame, rows));
+    assertEquals(
+        Arrays.asList(3, 1, 1, 2, 4, null, 7),
+        slide(DSL.min(DSL.ref("age", INTEGER)), frame, rows));
+  }
+
+  @Test
+  void should_aggregate_all_values_in_sliding_window_frame_if_not_removable() {
+    assertEquals(
+        Arrays.asList(1, 1, 2),
+        slide(
+            DSL.distinctCount(DSL.ref("age", INTEGER)),
+            frame(bound(PRECEDING, 1L), bound(CURRENT_ROW, null)),
+            tuple("WA", 1),
+            tuple("WA", 1),
+            tuple("WA", 2)));
+  }
+
+  /** Load the rows as window operator does, and evaluate the function on each frame. */
+  @SuppressWarnings("rawtypes")
+  private List<Object> slide(Aggregator aggregator, Frame frame, ExprValue... rows) {
+    AggregateWindowFunction windowFunction = new AggregateWindowFunction(aggregator);
+    WindowFrame windowFrame =
+        windowFunction.createWindowFrame(
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("state", STRING)), ImmutableList.of(), frame));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(Iterators.forArray(rows));
+    List<Object> values = new ArrayList<>();
+    while (tuples.hasNext() || windowFrame.hasNext()) {
+      windowFrame.load(tuples);
+      values.add(windowFunction.valueOf(windowFrame).value());
+    }
+    return values;
+  }
+
+  private Frame frame(FrameBound start, FrameBound end) {
+    return new Frame(FrameUnit.ROWS, start, end);
+  }
+
+  private FrameBound bound(BoundType type, Number offset) {
+    return new FrameBound(type, offset);
+  }
+
+  private ExprValue tuple(String state, Integer age) {
+    return fromExprValueMap(
+        ImmutableMap.of(
+            "state",
+            new ExprStringValue(state),
+            "age",
+            (age == null) ? LITERAL_NULL : new ExprIntegerValue(age)));
+  }
 }
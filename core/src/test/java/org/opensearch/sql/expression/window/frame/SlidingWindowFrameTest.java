@@ -0,0 +1,222 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.window.frame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.CURRENT_ROW;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.PRECEDING;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.UNBOUNDED_FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType.UNBOUNDED_PRECEDING;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameUnit.RANGE;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameUnit.ROWS;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.expression.WindowFunction.BoundType;
+import org.opensearch.sql.ast.expression.WindowFunction.Frame;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameUnit;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlidingWindowFrameTest {
+
+  @Test
+  void test_rows_frame_between_preceding_and_following() {
+    SlidingWindowFrame windowFrame =
+        windowFrame(DEFAULT_ASC, ROWS, bound(PRECEDING, 1L), bound(FOLLOWING, 1L));
+    assertEquals(
+        List.of(List.of(1, 2), List.of(1, 2, 3), List.of(2, 3, 5), List.of(3, 5, 8), List.of(5, 8)),
+        frames(windowFrame, 1, 2, 3, 5, 8));
+  }
+
+  @Test
+  void test_rows_frame_from_unbounded_preceding_to_current_row() {
+    SlidingWindowFrame windowFrame =
+        windowFrame(DEFAULT_ASC, ROWS, bound(UNBOUNDED_PRECEDING, null), bound(CURRENT_ROW, null));
+    assertEquals(
+        List.of(List.of(1), List.of(1, 2), List.of(1, 2, 3)),
+        frames(windowFrame, 1, 2, 3));
+  }
+
+  @Test
+  void test_rows_frame_of_current_row_releases_rows_before() {
+    SlidingWindowFrame windowFrame =
+        windowFrame(DEFAULT_ASC, ROWS, bound(CURRENT_ROW, null), bound(CURRENT_ROW, null));
+    assertEquals(
+        List.of(List.of(1), List.of(2), List.of(3), List.of(5)),
+        frames(windowFrame, 1, 2, 3, 5));
+    assertEquals(tuple("WA", 5), windowFrame.current());
+    assertEquals(tuple("WA", 5), windowFrame.get(3));
+  }
+
+  @Test
+  void test_rows_frame_ends_before_or_starts_after_the_partition() {
+    assertEquals(
+        List.of(List.of(), List.of(), List.of(1), List.of(1, 2), List.of(2, 3)),
+        frames(
+            windowFrame(DEFAULT_ASC, ROWS, bound(PRECEDING, 3L), bound(PRECEDING, 2L)),
+            1,
+            2,
+            3,
+            5,
+            8));
+    assertEquals(
+        List.of(List.of(3, 5, 8), List.of(5, 8), List.of(8), List.of(), List.of()),
+        frames(
+            windowFrame(DEFAULT_ASC, ROWS, bound(FOLLOWING, 2L), bound(UNBOUNDED_FOLLOWING, null)),
+            1,
+            2,
+            3,
+            5,
+            8));
+  }
+
+  @Test
+  void test_range_frame_between_preceding_and_following() {
+    SlidingWindowFrame windowFrame =
+        windowFrame(DEFAULT_ASC, RANGE, bound(PRECEDING, 2L), bound(FOLLOWING, 1.5));
+    assertEquals(
+        List.of(List.of(1, 2), List.of(1, 2, 3), List.of(1, 2, 3), List.of(3, 5), List.of(8)),
+        frames(windowFrame, 1, 2, 3, 5, 8));
+    assertEquals(
+        List.of(List.of(), List.of(), List.of(1), List.of(2, 3), List.of(5)),
+        frames(
+            windowFrame(DEFAULT_ASC, RANGE, bound(PRECEDING, 3L), bound(PRECEDING, 2L)),
+            1,
+            2,
+            3,
+            5,
+            8));
+  }
+
+  @Test
+  void test_range_frame_in_descending_order() {
+    SlidingWindowFrame windowFrame =
+        windowFrame(DEFAULT_DESC, RANGE, bound(PRECEDING, 1L), bound(CURRENT_ROW, null));
+    assertEquals(
+        List.of(List.of(8), List.of(5), List.of(3), List.of(3, 2), List.of(2, 1)),
+        frames(windowFrame, 8, 5, 3, 2, 1));
+  }
+
+  @Test
+  void test_range_frame_of_current_row_includes_peers() {
+    assertEquals(
+        List.of(List.of(1, 1), List.of(1, 1), List.of(1, 1, 2)),
+        frames(
+            windowFrame(
+                DEFAULT_ASC, RANGE, bound(UNBOUNDED_PRECEDING, null), bound(CURRENT_ROW, null)),
+            1,
+            1,
+            2));
+    assertEquals(
+        List.of(List.of(1, 1, 2), List.of(1, 1, 2), List.of(2)),
+        frames(
+            windowFrame(
+                DEFAULT_ASC, RANGE, bound(CURRENT_ROW, null), bound(UNBOUNDED_FOLLOWING, null)),
+            1,
+            1,
+            2));
+  }
+
+  @Test
+  void test_range_frame_with_null_sort_key() {
+    SlidingWindowFrame windowFrame =
+        windowFrame(DEFAULT_ASC, RANGE, bound(PRECEDING, 1L), bound(FOLLOWING, 1L));
+    assertEquals(
+        List.of(
+            Arrays.asList(null, null), Arrays.asList(null, null), List.of(1, 2), List.of(1, 2)),
+        frames(windowFrame, null, null, 1, 2));
+  }
+
+  @Test
+  void test_frame_is_reset_for_new_partition() {
+    SlidingWindowFrame windowFrame =
+        windowFrame(
+            DEFAULT_ASC, ROWS, bound(UNBOUNDED_PRECEDING, null), bound(UNBOUNDED_FOLLOWING, null));
+    PeekingIterator<ExprValue> tuples =
+        Iterators.peekingIterator(
+            Iterators.forArray(tuple("WA", 1), tuple("WA", 2), tuple("CA", 3)));
+
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertEquals(ImmutableList.of(tuple("WA", 1), tuple("WA", 2)), windowFrame.next());
+
+    windowFrame.load(tuples);
+    assertFalse(windowFrame.isNewPartition());
+    assertEquals(0, windowFrame.getPreviousStart());
+    assertEquals(2, windowFrame.getPreviousEnd());
+
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertEquals(0, windowFrame.getPreviousStart());
+    assertEquals(0, windowFrame.getPreviousEnd());
+    assertEquals(ImmutableList.of(tuple("CA", 3)), windowFrame.next());
+    assertFalse(windowFrame.hasNext());
+  }
+
+  private SlidingWindowFrame windowFrame(
+      SortOption sortOption, FrameUnit unit, FrameBound start, FrameBound end) {
+    return new SlidingWindowFrame(
+        new WindowDefinition(
+            ImmutableList.of(DSL.ref("state", STRING)),
+            ImmutableList.of(Pair.of(sortOption, DSL.ref("age", INTEGER))),
+            new Frame(unit, start, end)));
+  }
+
+  private FrameBound bound(BoundType type, Number offset) {
+    return new FrameBound(type, offset);
+  }
+
+  /** Load the rows of the ages as window operator does, and collect the ages in each frame. */
+  private List<List<Integer>> frames(SlidingWindowFrame windowFrame, Integer... ages) {
+    PeekingIterator<ExprValue> tuples =
+        Iterators.peekingIterator(Arrays.stream(ages).map(age -> tuple("WA", age)).iterator());
+    List<List<Integer>> frames = new ArrayList<>();
+    while (tuples.hasNext() || windowFrame.hasNext()) {
+      windowFrame.load(tuples);
+      frames.add(
+          windowFrame.next().stream()
+              .map(row -> row.tupleValue().get("age"))
+              .map(age -> age.isNull() ? null : age.integerValue())
+              .collect(Collectors.toList()));
+    }
+    return frames;
+  }
+
+  private ExprValue tuple(String state, Integer age) {
+    return fromExprValueMap(
+        ImmutableMap.of(
+            "state",
+            new ExprStringValue(state),
+            "age",
+            (age == null) ? LITERAL_NULL : new ExprIntegerValue(age)));
+  }
+}
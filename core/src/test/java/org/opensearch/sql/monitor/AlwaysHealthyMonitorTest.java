@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.monitor;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -15,4 +16,9 @@ class AlwaysHealthyMonitorTest {
   void isHealthy() {
     assertTrue(new AlwaysHealthyMonitor().isHealthy());
   }
+
+  @Test
+  void memoryIsNotLimited() {
+    assertSame(MemoryAccount.UNLIMITED, new AlwaysHealthyMonitor().newMemoryAccount());
+  }
 }
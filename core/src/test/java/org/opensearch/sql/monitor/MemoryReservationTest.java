@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.opensearch.sql.monitor.MemoryReservation.CHUNK_BYTES;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemoryReservationTest {
+
+  @Mock private MemoryAccount account;
+
+  @Test
+  public void memory_is_reserved_in_chunks() {
+    MemoryReservation memory = new MemoryReservation(account, "sort");
+    memory.add(100);
+    memory.add(CHUNK_BYTES - 100);
+    assertEquals(CHUNK_BYTES, memory.getReservedBytes());
+    memory.add(1);
+
+    verify(account, times(2)).reserve(CHUNK_BYTES, "sort");
+    assertEquals(CHUNK_BYTES + 1, memory.getUsedBytes());
+    assertEquals(2 * CHUNK_BYTES, memory.getReservedBytes());
+  }
+
+  @Test
+  public void large_memory_is_reserved_at_once() {
+    MemoryReservation memory = new MemoryReservation(account, "sort");
+    memory.add(3 * CHUNK_BYTES);
+
+    verify(account).reserve(3 * CHUNK_BYTES, "sort");
+    assertEquals(3 * CHUNK_BYTES, memory.getReservedBytes());
+  }
+
+  @Test
+  public void freed_memory_is_reused() {
+    MemoryReservation memory = new MemoryReservation(account, "sort");
+    memory.add(CHUNK_BYTES);
+    memory.free(CHUNK_BYTES);
+    memory.add(CHUNK_BYTES);
+
+    verify(account).reserve(CHUNK_BYTES, "sort");
+    verifyNoMoreInteractions(account);
+  }
+
+  @Test
+  public void close_releases_all_reserved_memory() {
+    MemoryReservation memory = new MemoryReservation(account, "sort");
+    memory.add(CHUNK_BYTES + 1);
+    memory.close();
+
+    verify(account).release(CHUNK_BYTES + 1);
+    assertEquals(0, memory.getUsedBytes());
+    assertEquals(0, memory.getReservedBytes());
+  }
+}
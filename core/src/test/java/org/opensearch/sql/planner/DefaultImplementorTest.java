@@ -179,6 +179,16 @@ class DefaultImplementorTest {
         actual);
   }
 
+  @Test
+  public void visitTopN_should_return_TopNOperator() {
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+
+    assertEquals(
+        PhysicalPlanDSL.topN(PhysicalPlanDSL.values(emptyList()), 10, 5, sortField),
+        LogicalPlanDSL.topN(values(emptyList()), 10, 5, sortField).accept(implementor, null));
+  }
+
   @Test
   public void visitRelation_should_throw_an_exception() {
     assertThrows(
@@ -17,14 +17,17 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.nested;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.paginate;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.topN;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.values;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.write;
 
@@ -42,6 +45,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
@@ -192,6 +196,51 @@ class LogicalPlanOptimizerTest {
                 Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER)))));
   }
 
+  @Test
+  void table_scan_builder_support_rare_top_n_push_down_can_apply_its_rule() {
+    when(tableScanBuilder.pushDownRareTopN(any())).thenReturn(true);
+
+    assertEquals(
+        tableScanBuilder,
+        optimize(
+            rareTopN(
+                relation("schema", table),
+                CommandType.TOP,
+                ImmutableList.of(DSL.ref("longV", LONG)),
+                DSL.ref("intV", INTEGER))));
+  }
+
+  @Test
+  void rare_top_n_is_kept_if_not_pushed_down() {
+    assertEquals(
+        rareTopN(
+            tableScanBuilder,
+            CommandType.RARE,
+            ImmutableList.of(DSL.ref("longV", LONG)),
+            DSL.ref("intV", INTEGER)),
+        optimize(
+            rareTopN(
+                relation("schema", table),
+                CommandType.RARE,
+                ImmutableList.of(DSL.ref("longV", LONG)),
+                DSL.ref("intV", INTEGER))));
+  }
+
+  @Test
+  void table_scan_builder_support_dedupe_push_down_can_apply_its_rule() {
+    when(tableScanBuilder.pushDownDedupe(any())).thenReturn(true);
+
+    assertEquals(
+        tableScanBuilder, optimize(dedupe(relation("schema", table), DSL.ref("intV", INTEGER))));
+  }
+
+  @Test
+  void dedupe_is_kept_if_not_pushed_down() {
+    assertEquals(
+        dedupe(tableScanBuilder, DSL.ref("intV", INTEGER)),
+        optimize(dedupe(relation("schema", table), DSL.ref("intV", INTEGER))));
+  }
+
   @Test
   void table_scan_builder_support_limit_push_down_can_apply_its_rule() {
     when(tableScanBuilder.pushDownLimit(any())).thenReturn(true);
@@ -199,6 +248,40 @@ class LogicalPlanOptimizerTest {
     assertEquals(tableScanBuilder, optimize(limit(relation("schema", table), 1, 1)));
   }
 
+  /** Limit - Sort --> TopN if sort can't be pushed down. */
+  @Test
+  void limit_sort_should_merge_into_top_n_if_sort_not_pushed_down() {
+    assertEquals(
+        topN(
+            tableScanBuilder,
+            1,
+            1,
+            Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.abs(DSL.ref("intV", INTEGER)))),
+        optimize(
+            limit(
+                sort(
+                    relation("schema", table),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.abs(DSL.ref("intV", INTEGER)))),
+                1,
+                1)));
+  }
+
+  @Test
+  void limit_sort_should_not_merge_into_top_n_if_sort_pushed_down() {
+    when(tableScanBuilder.pushDownSort(any())).thenReturn(true);
+    when(tableScanBuilder.pushDownLimit(any())).thenReturn(true);
+
+    assertEquals(
+        tableScanBuilder,
+        optimize(
+            limit(
+                sort(
+                    relation("schema", table),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+                1,
+                1)));
+  }
+
   @Test
   void table_scan_builder_support_highlight_push_down_can_apply_its_rule() {
     when(tableScanBuilder.pushDownHighlight(any())).thenReturn(true);
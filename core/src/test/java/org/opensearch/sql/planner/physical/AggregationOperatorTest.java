@@ -9,6 +9,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
@@ -30,6 +32,8 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 
 class AggregationOperatorTest extends PhysicalPlanTestBase {
 
@@ -765,4 +769,19 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
 
     assertEquals(plan, copy);
   }
+
+  @Test
+  public void buckets_are_accounted_to_memory_of_query() {
+    MemoryAccount memoryAccount = mock(MemoryAccount.class);
+    PhysicalPlan plan =
+        new AggregationOperator(
+            new TestScan(),
+            Collections.singletonList(DSL.named("count()", DSL.count(DSL.literal(1)))),
+            Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))),
+            memoryAccount);
+    execute(plan);
+
+    verify(memoryAccount).reserve(MemoryReservation.CHUNK_BYTES, "aggregation");
+    verify(memoryAccount).release(MemoryReservation.CHUNK_BYTES);
+  }
 }
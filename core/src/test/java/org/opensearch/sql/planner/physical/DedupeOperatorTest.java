@@ -8,12 +8,18 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -21,6 +27,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 import org.opensearch.sql.planner.physical.DedupeOperator.Deduper;
 
 @ExtendWith(MockitoExtension.class)
@@ -94,6 +102,25 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
             tupleValue(ImmutableMap.of("region", "us-east-1", "action", "POST", "response", 200))));
   }
 
+  @Test
+  public void dedupe_one_field_allow_2_duplication_keeps_input_order() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1", "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-west-2", "response", 201)))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1", "response", 202)))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-west-2", "response", 203)))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1", "response", 204)));
+
+    assertThat(
+        execute(dedupe(inputPlan, 2, false, false, DSL.ref("region", STRING))),
+        contains(
+            tupleValue(ImmutableMap.of("region", "us-east-1", "response", 200)),
+            tupleValue(ImmutableMap.of("region", "us-west-2", "response", 201)),
+            tupleValue(ImmutableMap.of("region", "us-east-1", "response", 202)),
+            tupleValue(ImmutableMap.of("region", "us-west-2", "response", 203))));
+  }
+
   @Test
   public void dedupe_one_field_in_consecutive_mode() {
     when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
@@ -254,4 +281,35 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
     // first time seen 1
     assertEquals(1, deduper.seenTimes(1));
   }
+
+  @Test
+  public void seen_keys_are_accounted_to_memory_of_query() {
+    MemoryAccount memoryAccount = mock(MemoryAccount.class);
+    execute(
+        new DedupeOperator(
+            new TestScan(),
+            Collections.singletonList(DSL.ref("action", STRING)),
+            1,
+            false,
+            false,
+            memoryAccount));
+
+    verify(memoryAccount).reserve(MemoryReservation.CHUNK_BYTES, "dedupe");
+    verify(memoryAccount).release(MemoryReservation.CHUNK_BYTES);
+  }
+
+  @Test
+  public void consecutive_dedupe_is_not_accounted_to_memory_of_query() {
+    MemoryAccount memoryAccount = mock(MemoryAccount.class);
+    execute(
+        new DedupeOperator(
+            new TestScan(),
+            Collections.singletonList(DSL.ref("action", STRING)),
+            1,
+            false,
+            true,
+            memoryAccount));
+
+    verify(memoryAccount, never()).reserve(anyLong(), anyString());
+  }
 }
@@ -9,6 +9,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -25,11 +26,42 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
 
 @ExtendWith(MockitoExtension.class)
 class EvalOperatorTest extends PhysicalPlanTestBase {
   @Mock private PhysicalPlan inputPlan;
 
+  @Test
+  public void eval_batches_same_as_rows() {
+    ImmutablePair<ReferenceExpression, Expression> doubleId =
+        ImmutablePair.of(
+            DSL.ref("doubleId", INTEGER),
+            DSL.multiply(DSL.ref("id", INTEGER), DSL.literal(2)));
+    List<ExprValue> expected = execute(eval(testScan(countTestInputs), doubleId));
+
+    assertEquals(countTestInputs.size(), expected.size());
+    assertEquals(expected, executeBatches(eval(testScan(countTestInputs), doubleId), 3));
+  }
+
+  @Test
+  public void eval_batches_reference_previous_field() {
+    ImmutablePair<ReferenceExpression, Expression> doubleId =
+        ImmutablePair.of(
+            DSL.ref("doubleId", INTEGER),
+            DSL.multiply(DSL.ref("id", INTEGER), DSL.literal(2)));
+    ImmutablePair<ReferenceExpression, Expression> id =
+        ImmutablePair.of(
+            DSL.ref("id", INTEGER), DSL.add(DSL.ref("doubleId", INTEGER), DSL.literal(1)));
+    List<ExprValue> expected = execute(eval(testScan(countTestInputs), doubleId, id));
+
+    assertEquals(
+        ExprValueUtils.tupleValue(ImmutableMap.of("id", 3, "testString", "asdf", "doubleId", 2)),
+        expected.get(0));
+    assertEquals(expected, executeBatches(eval(testScan(countTestInputs), doubleId, id), 2));
+  }
+
   @Test
   public void create_new_field_that_contain_the_result_of_a_calculation() {
     when(inputPlan.hasNext()).thenReturn(true, false);
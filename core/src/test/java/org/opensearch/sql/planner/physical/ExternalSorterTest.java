@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+class ExternalSorterTest {
+
+  private final Sorter byResponse =
+      Sorter.of(ImmutableList.of(Pair.of(DEFAULT_ASC, DSL.ref("response", INTEGER))));
+
+  @Test
+  public void sort_in_memory_without_spill() {
+    ExternalSorter sorter = new ExternalSorter(byResponse, 0);
+    rows().forEach(sorter::add);
+
+    assertThat(collect(sorter.iterator()), contains(expectedRows().toArray()));
+    assertTrue(sorter.getRuns().isEmpty());
+    sorter.close();
+  }
+
+  @Test
+  public void sort_with_spilled_runs_is_stable() {
+    ExternalSorter sorter = new ExternalSorter(byResponse, 2);
+    rows().forEach(sorter::add);
+    List<Path> runs = new ArrayList<>(sorter.getRuns());
+    assertEquals(2, runs.size());
+    runs.forEach(run -> assertTrue(Files.exists(run)));
+
+    assertThat(collect(sorter.iterator()), contains(expectedRows().toArray()));
+
+    sorter.close();
+    assertTrue(sorter.getRuns().isEmpty());
+    runs.forEach(run -> assertFalse(Files.exists(run)));
+  }
+
+  @Test
+  public void close_before_iterate_deletes_runs() {
+    ExternalSorter sorter = new ExternalSorter(byResponse, 1);
+    rows().forEach(sorter::add);
+    List<Path> runs = new ArrayList<>(sorter.getRuns());
+
+    sorter.close();
+    runs.forEach(run -> assertFalse(Files.exists(run)));
+  }
+
+  @Test
+  public void spill_frees_memory_of_buffered_rows() {
+    MemoryReservation memory = new MemoryReservation(MemoryAccount.UNLIMITED, "sort");
+    ExternalSorter sorter = new ExternalSorter(byResponse, 3, memory);
+    rows().stream().limit(2).forEach(sorter::add);
+    assertTrue(memory.getUsedBytes() > 0);
+
+    sorter.add(rows().get(2));
+    assertEquals(0, memory.getUsedBytes());
+
+    sorter.add(rows().get(3));
+    assertTrue(memory.getUsedBytes() > 0);
+    sorter.close();
+    assertEquals(0, memory.getUsedBytes());
+  }
+
+  private List<ExprValue> rows() {
+    return ImmutableList.of(
+        tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+        tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+        tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+        tupleValue(ImmutableMap.of("size", 100, "response", 404)),
+        tupleValue(ImmutableMap.of("size", 200, "response", 200)));
+  }
+
+  private List<ExprValue> expectedRows() {
+    return ImmutableList.of(
+        tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+        tupleValue(ImmutableMap.of("size", 200, "response", 200)),
+        tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+        tupleValue(ImmutableMap.of("size", 100, "response", 404)),
+        tupleValue(ImmutableMap.of("size", 399, "response", 503)));
+  }
+
+  private List<ExprValue> collect(Iterator<ExprValue> iterator) {
+    List<ExprValue> result = new ArrayList<>();
+    iterator.forEachRemaining(result::add);
+    return result;
+  }
+}
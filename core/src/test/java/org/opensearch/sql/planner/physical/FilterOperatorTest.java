@@ -8,6 +8,8 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
@@ -57,6 +59,48 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
                     "www.amazon.com"))));
   }
 
+  @Test
+  public void filter_batches_skip_batches_without_match() {
+    FilterOperator plan =
+        new FilterOperator(
+            new TestScan(), DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404)));
+    List<ExprValue> expected =
+        execute(
+            new FilterOperator(
+                new TestScan(), DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404))));
+
+    assertEquals(1, expected.size());
+    assertEquals(expected, executeBatches(plan, 1));
+  }
+
+  @Test
+  public void filter_batches_same_as_rows() {
+    FilterOperator plan =
+        new FilterOperator(
+            new FilterOperator(
+                new TestScan(), DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(200))),
+            DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(500)));
+    List<ExprValue> expected =
+        execute(
+            new FilterOperator(
+                new TestScan(),
+                DSL.and(
+                    DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(200)),
+                    DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(500)))));
+
+    assertEquals(expected, executeBatches(plan, 2));
+  }
+
+  @Test
+  public void batch_after_row_should_throw() {
+    FilterOperator plan =
+        new FilterOperator(
+            new TestScan(), DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404)));
+    plan.open();
+    assertTrue(plan.hasNext());
+    assertThrows(IllegalStateException.class, () -> plan.nextBatch(2));
+  }
+
   @Test
   public void null_value_should_been_ignored() {
     LinkedHashMap<String, ExprValue> value = new LinkedHashMap<>();
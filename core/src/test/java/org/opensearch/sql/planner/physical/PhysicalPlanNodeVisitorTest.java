@@ -22,6 +22,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -125,6 +126,8 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
 
     PhysicalPlan limit = limit(plan, 1, 1);
 
+    PhysicalPlan topN = topN(plan, 1, 1, Pair.of(SortOption.DEFAULT_ASC, ref));
+
     Set<String> nestedArgs = Set.of("nested.test");
     Map<String, List<String>> groupedFieldsByPath = Map.of("nested", List.of("nested.test"));
     PhysicalPlan nested = new NestedOperator(plan, nestedArgs, groupedFieldsByPath);
@@ -144,6 +147,7 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
         Arguments.of(values, "values"),
         Arguments.of(rareTopN, "rareTopN"),
         Arguments.of(limit, "limit"),
+        Arguments.of(topN, "topN"),
         Arguments.of(nested, "nested"),
         Arguments.of(cursorClose, "cursorClose"));
   }
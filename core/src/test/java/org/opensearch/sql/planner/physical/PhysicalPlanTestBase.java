@@ -290,6 +290,18 @@ public class PhysicalPlanTestBase {
     return builder.build();
   }
 
+  protected List<ExprValue> executeBatches(PhysicalPlan plan, int maxRows) {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    plan.open();
+    for (RowBatch batch = plan.nextBatch(maxRows);
+        !batch.isEmpty();
+        batch = plan.nextBatch(maxRows)) {
+      builder.addAll(batch);
+    }
+    plan.close();
+    return builder.build();
+  }
+
   protected static PhysicalPlan testScan(List<ExprValue> inputs) {
     return new TestScan(inputs);
   }
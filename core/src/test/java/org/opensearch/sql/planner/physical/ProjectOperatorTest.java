@@ -11,6 +11,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
@@ -30,11 +32,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.utils.TestOperator;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,81 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
   @Mock(serializable = true)
   private PhysicalPlan inputPlan;
 
+  @Test
+  public void project_batches_same_as_rows() {
+    PhysicalPlan plan =
+        project(
+            new TestScan(),
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("response", DSL.ref("response", INTEGER)),
+            DSL.named("next", DSL.add(DSL.ref("response", INTEGER), DSL.literal(1))));
+    List<ExprValue> expected =
+        execute(
+            project(
+                new TestScan(),
+                DSL.named("action", DSL.ref("action", STRING)),
+                DSL.named("response", DSL.ref("response", INTEGER)),
+                DSL.named("next", DSL.add(DSL.ref("response", INTEGER), DSL.literal(1)))));
+
+    assertEquals(inputs.size(), expected.size());
+    assertEquals(expected, executeBatches(plan, 2));
+  }
+
+  @Test
+  public void project_batches_with_parse_expressions_same_as_rows() {
+    List<ExprValue> inputs =
+        List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", "GET 200")),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", "POST 404")));
+    List<NamedExpression> projectList =
+        List.of(
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("response", DSL.ref("response", STRING)));
+    List<NamedExpression> parseExpressions =
+        List.of(
+            DSL.named(
+                "action",
+                DSL.regex(
+                    DSL.ref("response", STRING),
+                    DSL.literal("(?<action>\\w+) (?<response>\\d+)"),
+                    DSL.literal("action"))));
+    List<ExprValue> expected =
+        execute(project(testScan(inputs), projectList, parseExpressions));
+
+    assertEquals(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", "GET 200")),
+        expected.get(0));
+    assertEquals(
+        expected, executeBatches(project(testScan(inputs), projectList, parseExpressions), 1));
+  }
+
+  @Test
+  public void project_rows_share_schema() {
+    PhysicalPlan plan =
+        project(
+            new TestScan(),
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("code", DSL.ref("response", INTEGER)));
+    List<ExprValue> result = execute(plan);
+
+    assertEquals(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "code", 200)), result.get(0));
+    assertSame(
+        ((ExprRowValue) result.get(0)).getSchema(), ((ExprRowValue) result.get(1)).getSchema());
+  }
+
+  @Test
+  public void project_duplicate_field_should_throw() {
+    PhysicalPlan plan =
+        project(
+            new TestScan(),
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("action", DSL.ref("response", INTEGER)));
+    plan.open();
+    plan.hasNext();
+    assertThrows(IllegalArgumentException.class, plan::next);
+  }
+
   @Test
   public void project_one_field() {
     when(inputPlan.hasNext()).thenReturn(true, false);
@@ -8,6 +8,8 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Collections;
@@ -18,6 +20,8 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 
 public class RareTopNOperatorTest extends PhysicalPlanTestBase {
 
@@ -106,4 +110,20 @@ public class RareTopNOperatorTest extends PhysicalPlanTestBase {
             ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 200)),
             ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200))));
   }
+
+  @Test
+  public void groups_are_accounted_to_memory_of_query() {
+    MemoryAccount memoryAccount = mock(MemoryAccount.class);
+    execute(
+        new RareTopNOperator(
+            new TestScan(),
+            CommandType.TOP,
+            10,
+            Collections.singletonList(DSL.ref("response", ExprCoreType.INTEGER)),
+            Collections.singletonList(DSL.ref("action", ExprCoreType.STRING)),
+            memoryAccount));
+
+    verify(memoryAccount).reserve(MemoryReservation.CHUNK_BYTES, "rare_top_n");
+    verify(memoryAccount).release(MemoryReservation.CHUNK_BYTES);
+  }
 }
@@ -8,10 +8,12 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Collections;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprRowValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
@@ -47,6 +50,26 @@ public class RenameOperatorTest extends PhysicalPlanTestBase {
             ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "avg", 350d))));
   }
 
+  @Test
+  public void rename_row_without_copying_values() {
+    PhysicalPlan plan =
+        new RenameOperator(
+            project(
+                new TestScan(),
+                DSL.named("action", DSL.ref("action", STRING)),
+                DSL.named("response", DSL.ref("response", INTEGER))),
+            ImmutableMap.of(DSL.ref("response", INTEGER), DSL.ref("status", INTEGER)));
+    List<ExprValue> result = execute(plan);
+    assertEquals(5, result.size());
+    assertEquals(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "status", 200)), result.get(0));
+
+    ExprRowValue first = (ExprRowValue) result.get(0);
+    ExprRowValue last = (ExprRowValue) result.get(4);
+    assertSame(first.getSchema(), last.getSchema());
+    assertEquals(List.of("action", "status"), last.getSchema().getFieldNames());
+  }
+
   @Test
   public void rename_int_value() {
     when(inputPlan.hasNext()).thenReturn(true, false);
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RowBatchTest {
+
+  private RowBatch batch;
+
+  @BeforeEach
+  void setUp() {
+    batch = new RowBatch(5);
+    for (int i = 1; i <= 5; i++) {
+      batch.add(integerValue(i));
+    }
+  }
+
+  @Test
+  void all_rows_added_are_selected() {
+    assertTrue(batch.isFull());
+    assertEquals(5, batch.size());
+    assertEquals(integerValue(3), batch.get(2));
+    assertEquals(
+        List.of(
+            integerValue(1), integerValue(2), integerValue(3), integerValue(4), integerValue(5)),
+        batch.toList());
+  }
+
+  @Test
+  void retain_narrows_selection() {
+    batch.retain(row -> row.integerValue() % 2 == 1);
+    assertEquals(List.of(integerValue(1), integerValue(3), integerValue(5)), batch.toList());
+    assertEquals(integerValue(3), batch.get(1));
+
+    batch.retain(row -> row.integerValue() > 1);
+    assertEquals(List.of(integerValue(3), integerValue(5)), batch.toList());
+
+    batch.retain(row -> false);
+    assertTrue(batch.isEmpty());
+    assertFalse(batch.iterator().hasNext());
+  }
+
+  @Test
+  void environments_of_selected_rows() {
+    RowBatch tuples = new RowBatch(3);
+    for (int i = 1; i <= 3; i++) {
+      tuples.add(tupleValue(Map.of("id", i)));
+    }
+    tuples.retain(new boolean[] {true, false, true});
+
+    List<Environment<Expression, ExprValue>> envs = tuples.environments();
+    assertEquals(2, envs.size());
+    assertEquals(integerValue(1), envs.get(0).resolve(DSL.ref("id", INTEGER)));
+    assertEquals(integerValue(3), envs.get(1).resolve(DSL.ref("id", INTEGER)));
+  }
+
+  @Test
+  void map_selected_rows() {
+    batch.retain(row -> row.integerValue() > 3);
+    RowBatch result = batch.map(row -> integerValue(row.integerValue() * 10));
+    assertEquals(List.of(integerValue(40), integerValue(50)), result.toList());
+    assertTrue(result.isFull());
+  }
+
+  @Test
+  void get_out_of_selection_should_throw() {
+    batch.retain(row -> row.integerValue() == 1);
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.get(-1));
+  }
+
+  @Test
+  void add_after_retain_should_throw() {
+    RowBatch partial = new RowBatch(2);
+    partial.add(integerValue(1));
+    partial.retain(row -> true);
+    assertThrows(IllegalStateException.class, () -> partial.add(integerValue(2)));
+  }
+
+  @Test
+  void iterator_past_end_should_throw() {
+    batch.retain(row -> row.integerValue() == 5);
+    var iterator = batch.iterator();
+    ExprValue row = iterator.next();
+    assertEquals(integerValue(5), row);
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+}
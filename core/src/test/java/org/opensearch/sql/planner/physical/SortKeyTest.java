@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
+import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_LAST;
+import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
+import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
+import static org.opensearch.sql.data.model.ExprValueUtils.nullValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.utils.ExprValueOrdering;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+class SortKeyTest {
+
+  @Test
+  public void normalized_double_keys_keep_natural_order() {
+    List<ExprValue> values =
+        ImmutableList.of(
+            new ExprDoubleValue(Double.NaN),
+            new ExprDoubleValue(0.0),
+            new ExprDoubleValue(-0.0),
+            new ExprDoubleValue(Double.NEGATIVE_INFINITY),
+            new ExprDoubleValue(-1.5),
+            new ExprDoubleValue(Double.MAX_VALUE),
+            new ExprDoubleValue(1.5),
+            new ExprDoubleValue(-Double.MIN_VALUE));
+
+    assertSortedLikeOrdering(values, DOUBLE, SortOption.DEFAULT_ASC);
+    assertSortedLikeOrdering(values, DOUBLE, SortOption.DEFAULT_DESC);
+  }
+
+  @Test
+  public void string_keys_with_equal_prefix_compare_full_value() {
+    List<ExprValue> values =
+        ImmutableList.of(
+            new ExprStringValue("abcdz"),
+            new ExprStringValue("abcd"),
+            new ExprStringValue("abc"),
+            new ExprStringValue("abcda"),
+            new ExprStringValue("\uFFFFa"),
+            new ExprStringValue(""),
+            new ExprStringValue("ab\u0000"),
+            new ExprStringValue("ab"));
+
+    assertSortedLikeOrdering(values, STRING, SortOption.DEFAULT_ASC);
+    assertSortedLikeOrdering(values, STRING, SortOption.DEFAULT_DESC);
+  }
+
+  @Test
+  public void timestamp_keys_in_same_second_compare_full_value() {
+    List<ExprValue> values =
+        ImmutableList.of(
+            new ExprTimestampValue(Instant.ofEpochSecond(100, 999)),
+            new ExprTimestampValue(Instant.ofEpochSecond(-100, 5)),
+            new ExprTimestampValue(Instant.ofEpochSecond(100, 1)),
+            new ExprTimestampValue(Instant.ofEpochSecond(99, 999_999_999)));
+
+    assertSortedLikeOrdering(values, TIMESTAMP, SortOption.DEFAULT_ASC);
+    assertSortedLikeOrdering(values, TIMESTAMP, SortOption.DEFAULT_DESC);
+  }
+
+  @Test
+  public void null_keys_follow_null_order() {
+    List<ExprValue> values =
+        ImmutableList.of(
+            new ExprDoubleValue(2.0), nullValue(), new ExprDoubleValue(1.0), nullValue());
+
+    assertSortedLikeOrdering(values, DOUBLE, SortOption.DEFAULT_ASC);
+    assertSortedLikeOrdering(values, DOUBLE, SortOption.DEFAULT_DESC);
+    assertSortedLikeOrdering(values, DOUBLE, new SortOption(ASC, NULL_LAST));
+    assertSortedLikeOrdering(values, DOUBLE, new SortOption(DESC, NULL_FIRST));
+  }
+
+  @Test
+  public void key_is_evaluated_once_per_row() {
+    ExprValue row = tupleValue(ImmutableMap.of("name", "hello"));
+    Sorter sorter =
+        Sorter.of(ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, ref("name", STRING))));
+
+    SortKey key = sorter.key(row);
+    assertEquals(row, key.getRow());
+    assertEquals(new ExprStringValue("hello"), key.values[0]);
+    assertEquals(SortKey.STRING, key.kinds[0]);
+  }
+
+  private void assertSortedLikeOrdering(List<ExprValue> values, ExprType type, SortOption option) {
+    Sorter sorter = Sorter.of(ImmutableList.of(Pair.of(option, ref("field", type))));
+    List<SortKey> keys = new ArrayList<>();
+    for (ExprValue value : values) {
+      keys.add(sorter.key(tupleValue(ImmutableMap.of("field", value))));
+    }
+    keys.sort(sorter);
+
+    List<ExprValue> expected = new ArrayList<>(values);
+    expected.sort(ordering(option));
+    assertEquals(
+        expected,
+        keys.stream()
+            .map(key -> key.getRow().tupleValue().get("field"))
+            .collect(Collectors.toList()));
+  }
+
+  private Comparator<ExprValue> ordering(SortOption option) {
+    ExprValueOrdering ordering =
+        option.getSortOrder() == ASC
+            ? ExprValueOrdering.natural()
+            : ExprValueOrdering.natural().reverse();
+    return option.getNullOrder() == NULL_FIRST ? ordering.nullsFirst() : ordering.nullsLast();
+  }
+}
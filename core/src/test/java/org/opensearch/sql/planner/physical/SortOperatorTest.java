@@ -8,12 +8,15 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,6 +26,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 
 @ExtendWith(MockitoExtension.class)
 class SortOperatorTest extends PhysicalPlanTestBase {
@@ -264,4 +269,40 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         0,
         execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))).size());
   }
+
+  @Test
+  public void sort_one_field_with_spill_to_disk() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(NULL_MAP));
+
+    assertThat(
+        execute(
+            new SortOperator(
+                inputPlan,
+                ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+                2)),
+        contains(
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503))));
+  }
+
+  @Test
+  public void rows_are_accounted_to_memory_of_query() {
+    MemoryAccount memoryAccount = mock(MemoryAccount.class);
+    execute(
+        new SortOperator(
+            new TestScan(),
+            ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+            0,
+            memoryAccount));
+
+    verify(memoryAccount).reserve(MemoryReservation.CHUNK_BYTES, "sort");
+    verify(memoryAccount).release(MemoryReservation.CHUNK_BYTES);
+  }
 }
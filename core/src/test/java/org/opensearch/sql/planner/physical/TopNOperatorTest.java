@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+
+@ExtendWith(MockitoExtension.class)
+class TopNOperatorTest extends PhysicalPlanTestBase {
+  @Mock private PhysicalPlan inputPlan;
+
+  private static final Map<String, Object> NULL_MAP =
+      new HashMap<String, Object>() {
+        {
+          put("size", 399);
+          put("response", null);
+        }
+      };
+
+  @Test
+  public void top_n_one_field_asc() {
+    mockInput();
+
+    assertThat(
+        execute(topN(inputPlan, 2, 0, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200))));
+  }
+
+  @Test
+  public void top_n_one_field_desc_with_offset() {
+    mockInput();
+
+    assertThat(
+        execute(topN(inputPlan, 2, 1, Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 100, "response", 404))));
+  }
+
+  @Test
+  public void top_n_keeps_input_order_of_equal_rows() {
+    mockInput();
+
+    assertThat(
+        execute(topN(inputPlan, 1, 2, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(tupleValue(ImmutableMap.of("size", 200, "response", 200))));
+  }
+
+  @Test
+  public void top_n_larger_than_input() {
+    mockInput();
+
+    assertThat(
+        execute(topN(inputPlan, 10, 0, Pair.of(SortOption.DEFAULT_ASC, ref("size", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 100, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 200, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 503, "response", 503))));
+  }
+
+  @Test
+  public void top_n_with_zero_limit() {
+    mockInput();
+
+    assertThat(
+        execute(topN(inputPlan, 0, 0, Pair.of(SortOption.DEFAULT_ASC, ref("size", INTEGER)))),
+        empty());
+  }
+
+  @Test
+  public void top_n_without_input() {
+    when(inputPlan.hasNext()).thenReturn(false);
+
+    assertThat(
+        execute(topN(inputPlan, 10, 0, Pair.of(SortOption.DEFAULT_ASC, ref("size", INTEGER)))),
+        empty());
+  }
+
+  private void mockInput() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 503, "response", 503)))
+        .thenReturn(tupleValue(NULL_MAP))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 100, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 200, "response", 200)));
+  }
+}
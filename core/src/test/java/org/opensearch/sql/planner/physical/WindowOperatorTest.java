@@ -8,6 +8,9 @@ package org.opensearch.sql.planner.physical;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -26,12 +29,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -213,6 +219,31 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         .done();
   }
 
+  @Test
+  void test_window_functions_of_same_window_definition_computed_in_one_pass() {
+    WindowDefinition definition =
+        new WindowDefinition(List.of(), List.of(Pair.of(DEFAULT_ASC, ref("response", INTEGER))));
+    WindowOperator windowOperator =
+        new WindowOperator(
+            new SortOperator(new TestScan(), definition.getAllSortItems()),
+            List.of(
+                DSL.named(DSL.rank()),
+                DSL.named(new AggregateWindowFunction(DSL.sum(ref("response", INTEGER))))),
+            definition);
+    List<Integer> ranks = new ArrayList<>();
+    List<Integer> sums = new ArrayList<>();
+    windowOperator.open();
+    while (windowOperator.hasNext()) {
+      Map<String, ExprValue> row = windowOperator.next().tupleValue();
+      ranks.add(row.get("rank()").integerValue());
+      sums.add(row.get("sum(response)").integerValue());
+    }
+    windowOperator.close();
+
+    assertEquals(List.of(1, 1, 1, 4, 5), ranks);
+    assertEquals(List.of(600, 600, 600, 1004, 1504), sums);
+  }
+
   private WindowOperatorAssertion window(Expression windowFunction) {
     return new WindowOperatorAssertion(windowFunction);
   }
@@ -261,4 +292,24 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
       windowOperator.close();
     }
   }
+
+  @Test
+  void rows_not_returned_yet_are_accounted_to_memory_of_query() {
+    MemoryAccount memoryAccount = mock(MemoryAccount.class);
+    WindowOperator windowOperator =
+        new WindowOperator(
+            new TestScan(),
+            List.of(DSL.named(new AggregateWindowFunction(DSL.sum(ref("response", INTEGER))))),
+            new WindowDefinition(List.of(), List.of()),
+            memoryAccount);
+    windowOperator.open();
+    while (windowOperator.hasNext()) {
+      windowOperator.next();
+    }
+    windowOperator.close();
+
+    verify(memoryAccount).reserve(MemoryReservation.CHUNK_BYTES, "window");
+    verify(memoryAccount).release(MemoryReservation.CHUNK_BYTES);
+    verifyNoMoreInteractions(memoryAccount);
+  }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.missingValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.nullValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+
+class BucketCollectorTest {
+
+  private final List<NamedExpression> twoGroups =
+      ImmutableList.of(
+          DSL.named("action", DSL.ref("action", STRING)),
+          DSL.named("response", DSL.ref("response", INTEGER)));
+
+  private final List<NamedAggregator> countOnly =
+      ImmutableList.of(DSL.named("count", DSL.count(DSL.ref("size", LONG))));
+
+  @Test
+  public void results_are_sorted_by_composite_key() {
+    Collector collector = Collector.Builder.build(twoGroups, countOnly);
+    collect(collector, row("POST", 200, 1L), row("GET", 404, 2L), row("GET", 200, 3L));
+    collect(collector, row("POST", 200, 4L), row("GET", 200, 5L));
+
+    assertThat(
+        collector.results(),
+        contains(
+            tupleValue(ImmutableMap.of("action", "GET", "response", 200, "count", 2)),
+            tupleValue(ImmutableMap.of("action", "GET", "response", 404, "count", 1)),
+            tupleValue(ImmutableMap.of("action", "POST", "response", 200, "count", 2))));
+  }
+
+  @Test
+  public void missing_and_null_keys_are_sorted_first() {
+    Collector collector =
+        Collector.Builder.build(
+            ImmutableList.of(DSL.named("action", DSL.ref("action", STRING))), countOnly);
+    collect(
+        collector,
+        row("GET", 200, 1L),
+        row(nullValue(), 200, 2L),
+        row(missingValue(), 200, 3L),
+        row(nullValue(), 200, 4L));
+
+    List<ExprValue> results = collector.results();
+    assertEquals(3, results.size());
+    assertEquals(missingValue(), results.get(0).tupleValue().get("action"));
+    assertEquals(nullValue(), results.get(1).tupleValue().get("action"));
+    assertEquals(2, results.get(1).tupleValue().get("count").integerValue());
+    assertEquals("GET", results.get(2).tupleValue().get("action").stringValue());
+  }
+
+  @Test
+  public void many_buckets_grow_the_table() {
+    Collector collector = Collector.Builder.build(twoGroups, countOnly);
+    for (int i = 999; i >= 0; i--) {
+      collect(collector, row("GET", i, 1L), row("GET", i, 2L));
+    }
+
+    List<ExprValue> results = collector.results();
+    assertEquals(1000, results.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, results.get(i).tupleValue().get("response").integerValue());
+      assertEquals(2, results.get(i).tupleValue().get("count").integerValue());
+    }
+  }
+
+  @Test
+  public void aggregation_results_are_same_as_aggregation_states() {
+    List<NamedAggregator> aggregators =
+        ImmutableList.of(
+            DSL.named("count", DSL.count(DSL.ref("size", LONG))),
+            DSL.named("sum_int", DSL.sum(DSL.ref("response", INTEGER))),
+            DSL.named("sum_long", DSL.sum(DSL.ref("size", LONG))),
+            DSL.named("sum_double", DSL.sum(DSL.ref("ratio", DOUBLE))),
+            DSL.named("avg", DSL.avg(DSL.ref("size", LONG))),
+            DSL.named("min", DSL.min(DSL.ref("action", STRING))),
+            DSL.named("max", DSL.max(DSL.ref("size", LONG))),
+            DSL.named("distinct_count", DSL.distinctCount(DSL.ref("response", INTEGER))),
+            DSL.named(
+                "filtered_count",
+                DSL.count(DSL.ref("size", LONG))
+                    .condition(DSL.greater(DSL.ref("size", LONG), DSL.literal(2L)))));
+    ExprValue[] rows = {
+      row("GET", 200, 1L),
+      row("GET", 404, 3L),
+      row(nullValue(), 200, 5L),
+      row("POST", 200, nullValue())
+    };
+
+    Collector buckets =
+        Collector.Builder.build(ImmutableList.of(DSL.named("group", DSL.literal(1))), aggregators);
+    Collector metrics = Collector.Builder.build(ImmutableList.of(), aggregators);
+    collect(buckets, rows);
+    collect(metrics, rows);
+
+    LinkedHashMap<String, ExprValue> expected = new LinkedHashMap<>();
+    expected.put("group", DSL.literal(1).valueOf());
+    expected.putAll(metrics.results().get(0).tupleValue());
+    assertEquals(ImmutableList.of(ExprTupleValue.fromExprValueMap(expected)), buckets.results());
+  }
+
+  @Test
+  public void estimated_bytes_grow_with_new_buckets() {
+    Collector collector = Collector.Builder.build(twoGroups, countOnly);
+    collect(collector, row("POST", 200, 1L));
+    long oneBucket = collector.estimatedBytes();
+    assertEquals(64 + 16 + (56 + 4) + 32, oneBucket);
+
+    collect(collector, row("POST", 200, 2L));
+    assertEquals(oneBucket, collector.estimatedBytes());
+
+    collect(collector, row("GET", 404, 3L));
+    assertEquals(oneBucket + 64 + 16 + (56 + 3) + 32, collector.estimatedBytes());
+  }
+
+  @Test
+  public void metric_collector_is_not_estimated() {
+    Collector collector = Collector.Builder.build(ImmutableList.of(), countOnly);
+    collect(collector, row("GET", 200, 1L));
+    assertEquals(0, collector.estimatedBytes());
+  }
+
+  private ExprValue row(Object action, int response, Object size) {
+    Map<String, Object> row = new LinkedHashMap<>();
+    row.put("action", action);
+    row.put("response", response);
+    row.put("size", size);
+    row.put("ratio", response / 100.0);
+    return tupleValue(row);
+  }
+
+  private void collect(Collector collector, ExprValue... rows) {
+    for (ExprValue row : rows) {
+      collector.collect(row.bindingTuples());
+    }
+  }
+}
@@ -150,7 +150,12 @@ public class StandaloneIT extends PPLIntegTestCase {
   private Settings defaultSettings() {
     return new Settings() {
       private final Map<Key, Integer> defaultSettings =
-          new ImmutableMap.Builder<Key, Integer>().put(Key.QUERY_SIZE_LIMIT, 200).build();
+          new ImmutableMap.Builder<Key, Integer>()
+              .put(Key.QUERY_SIZE_LIMIT, 200)
+              .put(Key.QUERY_SORT_SPILL_THRESHOLD, 100000)
+              .put(Key.QUERY_SCAN_PREFETCH_BATCHES, 1)
+              .put(Key.QUERY_SCAN_MAX_SLICES, 1)
+              .build();
 
       @Override
       public <T> T getSettingValue(Key key) {
@@ -89,9 +89,9 @@ public class PaginationFallbackIT extends SQLIntegTestCase {
 
   @Test
   public void testGroupBy() throws IOException {
-    // GROUP BY is not paged by either engine.
+    // GROUP BY is paged through the composite buckets by V2 engine.
     var response = executeQueryTemplate("SELECT * FROM %s GROUP BY `107`", TEST_INDEX_ONLINE);
-    TestUtils.verifyNoCursor(response);
+    verifyIsV2Cursor(response);
   }
 
   @Test
@@ -165,7 +165,11 @@ public class StandalonePaginationIT extends SQLIntegTestCase {
       private final Map<Key, Object> defaultSettings =
           new ImmutableMap.Builder<Key, Object>()
               .put(Key.QUERY_SIZE_LIMIT, 200)
+              .put(Key.QUERY_SORT_SPILL_THRESHOLD, 100000)
+              .put(Key.QUERY_SCAN_PREFETCH_BATCHES, 1)
+              .put(Key.QUERY_SCAN_MAX_SLICES, 1)
               .put(Key.SQL_CURSOR_KEEP_ALIVE, TimeValue.timeValueMinutes(1))
+              .put(Key.SQL_PAGINATION_API_SEARCH_AFTER, true)
               .build();
 
       @Override
@@ -5,15 +5,13 @@
 
 package org.opensearch.sql.legacy.esdomain;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.logging.log4j.LogManager;
@@ -26,6 +24,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.esdomain.mapping.IndexMappings;
+import org.opensearch.sql.opensearch.mapping.IndexMetadataCache;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 
 /**
@@ -59,10 +58,10 @@ public class LocalClusterState {
 
   /**
    * Thread-safe mapping cache to save the computation of sourceAsMap() which is not lightweight as
-   * thought Array cannot be used as key because hashCode() always return reference address, so
-   * either use wrapper or List.
+   * thought. It is shared with the new engine on the node and invalidated when the metadata of an
+   * index changes.
    */
-  private final Cache<List<String>, IndexMappings> cache;
+  private final IndexMetadataCache cache;
 
   /** Latest setting value for each registered key. Thread-safe is required. */
   private final Map<String, Object> latestSettings = new ConcurrentHashMap<>();
@@ -91,8 +90,8 @@ public class LocalClusterState {
                   "Metadata in cluster state changed: {}",
                   new IndexMappings(clusterService.state().metadata()));
             }
-            cache.invalidateAll();
           }
+          cache.clusterChanged(event);
         });
   }
 
@@ -117,7 +116,12 @@ public class LocalClusterState {
   }
 
   private LocalClusterState() {
-    cache = CacheBuilder.newBuilder().maximumSize(100).build();
+    cache = new IndexMetadataCache(IndexMetadataCache.DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /** Get the node level cache of index metadata, which is invalidated by cluster state changes. */
+  public IndexMetadataCache getIndexMetadataCache() {
+    return cache;
   }
 
   /**
@@ -196,10 +200,17 @@ public class LocalClusterState {
     return new IndexMappings(state.metadata().findMappings(indices, fieldFilter));
   }
 
-  private IndexMappings findMappingsInCache(ClusterState state, String[] indices)
-      throws ExecutionException {
-    LOG.debug("Looking for mapping in cache: {}", cache.asMap());
-    return cache.get(sortToList(indices), () -> findMappings(state, indices, ALL_FIELDS));
+  private IndexMappings findMappingsInCache(ClusterState state, String[] indices) {
+    LOG.debug("Looking for mapping in cache: {}", Arrays.toString(indices));
+    return cache.get(
+        List.of("legacy_mappings", sortToList(indices)),
+        () -> {
+          try {
+            return findMappings(state, indices, ALL_FIELDS);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
   }
 
   private <T> List<T> sortToList(T[] array) {
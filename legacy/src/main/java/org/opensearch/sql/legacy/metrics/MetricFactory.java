@@ -16,6 +16,8 @@ public class MetricFactory {
       case DEFAULT_CURSOR_REQUEST_TOTAL:
       case DEFAULT:
       case PPL_REQ_TOTAL:
+      case STATEMENT_CACHE_HIT_COUNT:
+      case STATEMENT_CACHE_MISS_COUNT:
         return new NumericMetric<>(name.getName(), new BasicCounter());
       case CIRCUIT_BREAKER:
         return new GaugeMetric<>(name.getName(), BackOffRetryStrategy.GET_CB_STATE);
@@ -21,6 +21,8 @@ public enum MetricName {
   DEFAULT_CURSOR_REQUEST_COUNT_TOTAL("default_cursor_request_count"),
   CIRCUIT_BREAKER("circuit_breaker"),
   DEFAULT("default"),
+  STATEMENT_CACHE_HIT_COUNT("statement_cache_hit_count"),
+  STATEMENT_CACHE_MISS_COUNT("statement_cache_miss_count"),
 
   PPL_REQ_TOTAL("ppl_request_total"),
   PPL_REQ_COUNT_TOTAL("ppl_request_count"),
@@ -66,6 +68,8 @@ public enum MetricName {
 
   private static Set<MetricName> NUMERICAL_METRIC =
       new ImmutableSet.Builder<MetricName>()
+          .add(STATEMENT_CACHE_HIT_COUNT)
+          .add(STATEMENT_CACHE_MISS_COUNT)
           .add(PPL_REQ_TOTAL)
           .add(PPL_REQ_COUNT_TOTAL)
           .add(PPL_FAILED_REQ_COUNT_SYS)
@@ -15,6 +15,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.inject.Injector;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -23,12 +24,17 @@ import org.opensearch.rest.RestRequest;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.UnsupportedCursorRequestException;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.StreamingQueryResponseListener;
 import org.opensearch.sql.protocol.response.format.CommandResponseFormatter;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
@@ -36,6 +42,7 @@ import org.opensearch.sql.protocol.response.format.JdbcResponseFormatter;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 import org.opensearch.sql.protocol.response.format.RawResponseFormatter;
 import org.opensearch.sql.protocol.response.format.ResponseFormatter;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter;
 import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 
@@ -105,13 +112,21 @@ public class RestSQLQueryAction extends BaseRestHandler {
                   fallbackHandler));
     }
     // If close request, sqlService.closeCursor
-    else {
+    else if (request.isCursorCloseRequest()) {
       return channel ->
           sqlService.execute(
               request,
               fallBackListener(
                   channel,
-                  createQueryResponseListener(channel, request, executionErrorHandler),
+                  createCursorCloseResponseListener(channel, executionErrorHandler),
+                  fallbackHandler));
+    } else {
+      return channel ->
+          sqlService.execute(
+              request,
+              streamingFallBackListener(
+                  channel,
+                  createStreamingQueryResponseListener(channel, request, executionErrorHandler),
                   fallbackHandler));
     }
   }
@@ -129,7 +144,39 @@ public class RestSQLQueryAction extends BaseRestHandler {
 
       @Override
       public void onFailure(Exception e) {
-        if (e instanceof SyntaxCheckException || e instanceof UnsupportedCursorRequestException) {
+        if (shouldFallBack(e)) {
+          fallBackHandler.accept(channel, e);
+        } else {
+          next.onFailure(e);
+        }
+      }
+    };
+  }
+
+  private StreamingResponseListener streamingFallBackListener(
+      RestChannel channel,
+      StreamingResponseListener next,
+      BiConsumer<RestChannel, Exception> fallBackHandler) {
+    return new StreamingResponseListener() {
+      @Override
+      public void onSchema(Schema schema) {
+        LOG.info("[{}] Request is handled by new SQL query engine", QueryContext.getRequestId());
+        next.onSchema(schema);
+      }
+
+      @Override
+      public void onBatch(List<ExprValue> rows) {
+        next.onBatch(rows);
+      }
+
+      @Override
+      public void onComplete(Cursor cursor) {
+        next.onComplete(cursor);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        if (shouldFallBack(e)) {
           fallBackHandler.accept(channel, e);
         } else {
           next.onFailure(e);
@@ -138,6 +185,10 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
+  private static boolean shouldFallBack(Exception e) {
+    return e instanceof SyntaxCheckException || e instanceof UnsupportedCursorRequestException;
+  }
+
   private ResponseListener<ExplainResponse> createExplainResponseListener(
       RestChannel channel, BiConsumer<RestChannel, Exception> errorHandler) {
     return new ResponseListener<>() {
@@ -160,31 +211,50 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
-  private ResponseListener<QueryResponse> createQueryResponseListener(
+  private ResponseListener<QueryResponse> createCursorCloseResponseListener(
+      RestChannel channel, BiConsumer<RestChannel, Exception> errorHandler) {
+    ResponseFormatter<QueryResult> formatter = new CommandResponseFormatter();
+    return new ResponseListener<QueryResponse>() {
+      @Override
+      public void onResponse(QueryResponse response) {
+        sendResponse(
+            channel,
+            OK,
+            formatter.format(
+                new QueryResult(response.getSchema(), response.getResults(), response.getCursor())),
+            formatter.contentType());
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        errorHandler.accept(channel, e);
+      }
+    };
+  }
+
+  /**
+   * Create a listener which formats the rows into the channel output buffer batch by batch, instead
+   * of formatting the whole result after all rows are collected.
+   */
+  private StreamingResponseListener createStreamingQueryResponseListener(
       RestChannel channel,
       SQLQueryRequest request,
       BiConsumer<RestChannel, Exception> errorHandler) {
     Format format = request.format();
-    ResponseFormatter<QueryResult> formatter;
+    StreamingResponseFormatter formatter;
 
-    if (request.isCursorCloseRequest()) {
-      formatter = new CommandResponseFormatter();
-    } else if (format.equals(Format.CSV)) {
+    if (format.equals(Format.CSV)) {
       formatter = new CsvResponseFormatter(request.sanitize());
     } else if (format.equals(Format.RAW)) {
       formatter = new RawResponseFormatter();
     } else {
       formatter = new JdbcResponseFormatter(PRETTY);
     }
-    return new ResponseListener<QueryResponse>() {
+    BytesStreamOutput out = channel.bytesOutput();
+    return new StreamingQueryResponseListener(formatter, out) {
       @Override
-      public void onResponse(QueryResponse response) {
-        sendResponse(
-            channel,
-            OK,
-            formatter.format(
-                new QueryResult(response.getSchema(), response.getResults(), response.getCursor())),
-            formatter.contentType());
+      protected void onFinished() {
+        channel.sendResponse(new BytesRestResponse(OK, formatter.contentType(), out.bytes()));
       }
 
       @Override
@@ -9,7 +9,6 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,8 +22,12 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.sql.common.setting.Settings;
@@ -171,11 +174,9 @@ public class LocalClusterStateTest {
     verify(mockService.state().metadata(), times(1))
         .findMappings(eq(new String[] {INDEX_NAME}), any());
 
-    // 2.Fire cluster state change event
+    // 2.Fire cluster state change event of the index mapping
     Assert.assertNotNull(listener[0]);
-    ClusterChangedEvent mockEvent = mock(ClusterChangedEvent.class);
-    when(mockEvent.metadataChanged()).thenReturn(true);
-    listener[0].clusterChanged(mockEvent);
+    listener[0].clusterChanged(new ClusterChangedEvent("test", clusterState(2), clusterState(1)));
 
     // 3.Cache should be invalidated and call findMapping another time only
     for (int i = 0; i < 5; i++) {
@@ -185,10 +186,46 @@ public class LocalClusterStateTest {
         .findMappings(eq(new String[] {INDEX_NAME}), any());
   }
 
+  @Test
+  public void getMappingFromCacheIfIndexMetadataUnchanged() {
+    ClusterService mockService = mockClusterService(MAPPING);
+    ClusterStateListener[] listener = new ClusterStateListener[1];
+    doAnswer(
+            invocation -> {
+              listener[0] = (ClusterStateListener) invocation.getArguments()[0];
+              return null;
+            })
+        .when(mockService)
+        .addListener(any());
+    LocalClusterState.state().setClusterService(mockService);
+
+    LocalClusterState.state().getFieldMappings(new String[] {INDEX_NAME});
+    listener[0].clusterChanged(new ClusterChangedEvent("test", clusterState(1), clusterState(1)));
+    LocalClusterState.state().getFieldMappings(new String[] {INDEX_NAME});
+    verify(mockService.state().metadata(), times(1))
+        .findMappings(eq(new String[] {INDEX_NAME}), any());
+  }
+
   @Test
   public void getDefaultValueForQuerySlowLog() {
     when(clusterSettings.get(ClusterName.CLUSTER_NAME_SETTING)).thenReturn(ClusterName.DEFAULT);
     OpenSearchSettings settings = new OpenSearchSettings(clusterSettings);
     assertEquals(Integer.valueOf(2), settings.getSettingValue(Settings.Key.SQL_SLOWLOG));
   }
+
+  private static ClusterState clusterState(long mappingVersion) {
+    return ClusterState.builder(ClusterName.DEFAULT)
+        .metadata(
+            Metadata.builder()
+                .put(
+                    IndexMetadata.builder(INDEX_NAME)
+                        .settings(
+                            org.opensearch.common.settings.Settings.builder()
+                                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                                .put(IndexMetadata.SETTING_INDEX_UUID, "uuid"))
+                        .numberOfShards(1)
+                        .numberOfReplicas(0)
+                        .mappingVersion(mappingVersion)))
+        .build();
+  }
 }
@@ -52,6 +52,14 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Fetch index.number_of_shards settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of primary shards
+   */
+  Map<String, Integer> getIndexNumberOfShards(String... indexExpression);
+
   /**
    * Perform search query in the search request.
    *
@@ -88,5 +96,12 @@ public interface OpenSearchClient {
    */
   void schedule(Runnable task);
 
+  /**
+   * Schedule a task to run in the background, without waiting for it to start or complete.
+   *
+   * @param task task
+   */
+  void scheduleAsync(Runnable task);
+
   NodeClient getNodeClient();
 }
@@ -13,20 +13,32 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.logging.log4j.ThreadContext;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsRequest;
 import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.commons.ConfigConstants;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.mapping.IndexMetadataCache;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 
@@ -36,12 +48,49 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   public static final Function<String, Predicate<String>> ALL_FIELDS =
       (anyIndex -> (anyField -> true));
 
+  private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
+
+  /** Node setting registered by the security plugin only, which tells if it's installed. */
+  private static final String SECURITY_DISABLED_SETTING = "plugins.security.disabled";
+
   /** Node client provided by OpenSearch container. */
   private final NodeClient client;
 
-  /** Constructor of OpenSearchNodeClient. */
+  /** Node level cache of the index mappings and settings. */
+  private final IndexMetadataCache metadataCache;
+
+  /** Is the security plugin installed, which may filter the metadata visible to each user. */
+  private final boolean securityInstalled;
+
+  /** Constructor of OpenSearchNodeClient which reads the index metadata for each request. */
   public OpenSearchNodeClient(NodeClient client) {
+    this(client, IndexMetadataCache.disabled(), false);
+  }
+
+  /**
+   * Constructor of OpenSearchNodeClient which caches the index metadata in the cache given.
+   *
+   * @param client node client
+   * @param metadataCache index metadata cache
+   * @param securityInstalled is the security plugin installed, see {@link
+   *     #isSecurityInstalled(ClusterSettings)}
+   */
+  public OpenSearchNodeClient(
+      NodeClient client, IndexMetadataCache metadataCache, boolean securityInstalled) {
     this.client = client;
+    this.metadataCache = metadataCache;
+    this.securityInstalled = securityInstalled;
+  }
+
+  /**
+   * Is the security plugin installed on the node, which registers its settings in the cluster
+   * settings.
+   *
+   * @param clusterSettings cluster settings of the node
+   * @return true if installed
+   */
+  public static boolean isSecurityInstalled(ClusterSettings clusterSettings) {
+    return clusterSettings.get(SECURITY_DISABLED_SETTING) != null;
   }
 
   @Override
@@ -70,8 +119,8 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    * Get field mappings of index by an index expression. Majority is copied from legacy
    * LocalClusterState.
    *
-   * <p>For simplicity, removed type (deprecated) and field filter in argument list. Also removed
-   * mapping cache, cluster state listener (mainly for performance and debugging).
+   * <p>For simplicity, removed type (deprecated) and field filter in argument list. The mappings
+   * parsed are cached in {@link IndexMetadataCache} until the metadata of an index changes.
    *
    * @param indexExpression index name expression
    * @return index mapping(s) in our class to isolate OpenSearch API. IndexNotFoundException is
@@ -79,6 +128,10 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    */
   @Override
   public Map<String, IndexMapping> getIndexMappings(String... indexExpression) {
+    return getMetadata("mappings", indexExpression, () -> fetchIndexMappings(indexExpression));
+  }
+
+  private Map<String, IndexMapping> fetchIndexMappings(String... indexExpression) {
     try {
       GetMappingsResponse mappingsResponse =
           client.admin().indices().prepareGetMappings(indexExpression).setLocal(true).get();
@@ -103,6 +156,11 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    */
   @Override
   public Map<String, Integer> getIndexMaxResultWindows(String... indexExpression) {
+    return getMetadata(
+        "max_result_windows", indexExpression, () -> fetchIndexMaxResultWindows(indexExpression));
+  }
+
+  private Map<String, Integer> fetchIndexMaxResultWindows(String... indexExpression) {
     try {
       GetSettingsResponse settingsResponse =
           client.admin().indices().prepareGetSettings(indexExpression).setLocal(true).get();
@@ -123,9 +181,59 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     }
   }
 
+  /**
+   * Fetch index.number_of_shards settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of primary shards
+   */
+  @Override
+  public Map<String, Integer> getIndexNumberOfShards(String... indexExpression) {
+    return getMetadata(
+        "number_of_shards", indexExpression, () -> fetchIndexNumberOfShards(indexExpression));
+  }
+
+  private Map<String, Integer> fetchIndexNumberOfShards(String... indexExpression) {
+    try {
+      GetSettingsResponse settingsResponse =
+          client.admin().indices().prepareGetSettings(indexExpression).setLocal(true).get();
+      ImmutableMap.Builder<String, Integer> result = ImmutableMap.builder();
+      for (Map.Entry<String, Settings> indexToSetting :
+          settingsResponse.getIndexToSettings().entrySet()) {
+        result.put(
+            indexToSetting.getKey(),
+            IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.get(indexToSetting.getValue()));
+      }
+      return result.build();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read setting for index pattern [" + indexExpression + "]", e);
+    }
+  }
+
+  /**
+   * The metadata visible to a user may be filtered by the security plugin, so the cache key
+   * includes the user info of the request. If the security plugin is installed but no user info is
+   * found, the metadata is fetched without the cache, so that it's never shared with other users.
+   */
+  private <T> T getMetadata(String kind, String[] indexExpression, Supplier<T> loader) {
+    Object user =
+        client
+            .threadPool()
+            .getThreadContext()
+            .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+    if (user == null && securityInstalled) {
+      return loader.get();
+    }
+    return metadataCache.get(Arrays.asList(kind, user, List.of(indexExpression)), loader);
+  }
+
   /** TODO: Scroll doesn't work for aggregation. Support aggregation later. */
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
+    if (request instanceof OpenSearchPitRequest) {
+      createPit((OpenSearchPitRequest) request);
+    }
     return request.search(
         req -> client.search(req).actionGet(), req -> client.searchScroll(req).actionGet());
   }
@@ -160,6 +268,18 @@ public class OpenSearchNodeClient implements OpenSearchClient {
 
   @Override
   public void cleanup(OpenSearchRequest request) {
+    if (request instanceof OpenSearchPitRequest) {
+      request.clean(
+          pitId -> {
+            try {
+              client.execute(DeletePitAction.INSTANCE, new DeletePitRequest(pitId)).actionGet();
+            } catch (Exception e) {
+              throw new IllegalStateException(
+                  "Failed to clean up resources for search request " + request, e);
+            }
+          });
+      return;
+    }
     request.clean(
         scrollId -> {
           try {
@@ -171,12 +291,38 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         });
   }
 
+  private void createPit(OpenSearchPitRequest request) {
+    if (!request.isPitCreated()) {
+      try {
+        CreatePitResponse response =
+            client.execute(CreatePitAction.INSTANCE, request.createPitRequest()).actionGet();
+        request.setPitId(response.getId());
+      } catch (Exception e) {
+        throw new IllegalStateException("Failed to create point in time for " + request, e);
+      }
+    }
+  }
+
   @Override
   public void schedule(Runnable task) {
     // at that time, task already running the sql-worker ThreadPool.
     task.run();
   }
 
+  @Override
+  public void scheduleAsync(Runnable task) {
+    final Map<String, String> currentContext = ThreadContext.getImmutableContext();
+    client
+        .threadPool()
+        .schedule(
+            () -> {
+              ThreadContext.putAll(currentContext);
+              task.run();
+            },
+            new TimeValue(0),
+            SQL_WORKER_THREAD_POOL_NAME);
+  }
+
   @Override
   public NodeClient getNodeClient() {
     return client;
@@ -20,6 +20,7 @@ import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
@@ -31,6 +32,7 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 
@@ -109,8 +111,32 @@ public class OpenSearchRestClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public Map<String, Integer> getIndexNumberOfShards(String... indexExpression) {
+    GetSettingsRequest request = new GetSettingsRequest().indices(indexExpression);
+    try {
+      GetSettingsResponse response = client.indices().getSettings(request, RequestOptions.DEFAULT);
+      Map<String, Integer> result = new HashMap<>();
+      response
+          .getIndexToSettings()
+          .forEach(
+              (key, value) -> {
+                Integer numberOfShards = value.getAsInt("index.number_of_shards", null);
+                if (numberOfShards != null) {
+                  result.put(key, numberOfShards);
+                }
+              });
+      return result;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get number of shards for " + indexExpression, e);
+    }
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
+    if (request instanceof OpenSearchPitRequest) {
+      createPit((OpenSearchPitRequest) request);
+    }
     return request.search(
         req -> {
           try {
@@ -174,6 +200,18 @@ public class OpenSearchRestClient implements OpenSearchClient {
 
   @Override
   public void cleanup(OpenSearchRequest request) {
+    if (request instanceof OpenSearchPitRequest) {
+      request.clean(
+          pitId -> {
+            try {
+              client.deletePit(new DeletePitRequest(pitId), RequestOptions.DEFAULT);
+            } catch (IOException e) {
+              throw new IllegalStateException(
+                  "Failed to clean up resources for search request " + request, e);
+            }
+          });
+      return;
+    }
     request.clean(
         scrollId -> {
           try {
@@ -187,11 +225,28 @@ public class OpenSearchRestClient implements OpenSearchClient {
         });
   }
 
+  private void createPit(OpenSearchPitRequest request) {
+    if (!request.isPitCreated()) {
+      try {
+        request.setPitId(
+            client.createPit(request.createPitRequest(), RequestOptions.DEFAULT).getId());
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to create point in time for " + request, e);
+      }
+    }
+  }
+
   @Override
   public void schedule(Runnable task) {
     task.run();
   }
 
+  @Override
+  public void scheduleAsync(Runnable task) {
+    // no worker thread pool outside OpenSearch, so the task runs in the calling thread.
+    task.run();
+  }
+
   @Override
   public NodeClient getNodeClient() {
     throw new UnsupportedOperationException("Unsupported method.");
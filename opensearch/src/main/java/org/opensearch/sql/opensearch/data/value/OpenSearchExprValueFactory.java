@@ -20,10 +20,13 @@ import static org.opensearch.sql.utils.DateTimeFormatters.DATE_TIME_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -39,9 +42,11 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.common.time.FormatNames;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
 import org.opensearch.sql.data.model.ExprCollectionValue;
@@ -74,6 +79,9 @@ public class OpenSearchExprValueFactory {
   /** The Mapping of Field and ExprType. */
   private final Map<String, OpenSearchDataType> typeMapping;
 
+  /** The mapping added by {@link #extendTypeMapping}, to rebuild the factory from a cursor. */
+  @Getter private final Map<String, OpenSearchDataType> extendedTypeMapping = new LinkedHashMap<>();
+
   /**
    * Extend existing mapping by new data without overwrite. Called from aggregation only {@see
    * AggregationQueryBuilder#buildTypeMapping}.
@@ -86,6 +94,7 @@ public class OpenSearchExprValueFactory {
       // of all niceties of all types.
       if (!this.typeMapping.containsKey(field)) {
         this.typeMapping.put(field, typeMapping.get(field));
+        this.extendedTypeMapping.put(field, typeMapping.get(field));
       }
     }
   }
@@ -174,6 +183,62 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Construct ExprValue from the JSON source of a search hit. Unlike {@link #construct(String,
+   * boolean)}, the source bytes are read by a streaming parser, without copying them into a String
+   * and parsing the whole document into a JSON tree first: only the value of each included top
+   * level field is read into a tree, and the fields which are not included are skipped.
+   *
+   * @param source JSON source of a search hit
+   * @param includes top level fields or field paths to include, all fields if empty
+   * @param supportArrays Parsing the whole array if array is type nested.
+   * @return tuple of the included fields
+   */
+  public ExprValue construct(BytesReference source, List<String> includes, boolean supportArrays) {
+    BytesRef bytes = source.toBytesRef();
+    try (JsonParser parser =
+        OBJECT_MAPPER.getFactory().createParser(bytes.bytes, bytes.offset, bytes.length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException(
+            String.format("invalid json: %s.", source.utf8ToString()));
+      }
+      LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (isIncluded(field, includes)) {
+          result.put(
+              field,
+              parse(
+                  new OpenSearchJsonContent(OBJECT_MAPPER.readTree(parser)),
+                  field,
+                  type(field),
+                  supportArrays));
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return new ExprTupleValue(result);
+    } catch (IOException e) {
+      throw new IllegalStateException(String.format("invalid json: %s.", source.utf8ToString()), e);
+    }
+  }
+
+  /** Is the top level field, or any of its inner fields, in the includes. */
+  private static boolean isIncluded(String field, List<String> includes) {
+    if (includes.isEmpty()) {
+      return true;
+    }
+    for (String include : includes) {
+      if (include.equals(field)
+          || include.startsWith(field + ".")
+          || field.startsWith(include + ".")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying to construct
    * from field of unsupported type.<br>
@@ -14,16 +14,24 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.executor.StreamingResponseListener;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchSlicedIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.RowBatch;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** OpenSearch execution engine implementation. */
 @RequiredArgsConstructor
 public class OpenSearchExecutionEngine implements ExecutionEngine {
 
+  /** Number of rows delivered to a {@link StreamingResponseListener} at a time. */
+  private static final int STREAMING_BATCH_SIZE = 1000;
+
   private final OpenSearchClient client;
 
   private final ExecutionProtector executionProtector;
@@ -43,11 +51,15 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
     client.schedule(
         () -> {
           try {
-            List<ExprValue> result = new ArrayList<>();
-
             context.getSplit().ifPresent(plan::add);
             plan.open();
 
+            if (listener instanceof StreamingResponseListener) {
+              stream(plan, physicalPlan.schema(), (StreamingResponseListener) listener);
+              return;
+            }
+
+            List<ExprValue> result = new ArrayList<>();
             while (plan.hasNext()) {
               result.add(plan.next());
             }
@@ -64,29 +76,86 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
         });
   }
 
+  /**
+   * Deliver the rows of an opened plan to the listener in batches as they are produced. The plan is
+   * consumed batch by batch, so filter, eval and project process a whole batch at a time.
+   */
+  private void stream(PhysicalPlan plan, Schema schema, StreamingResponseListener listener) {
+    listener.onSchema(schema);
+    for (RowBatch batch = plan.nextBatch(STREAMING_BATCH_SIZE);
+        !batch.isEmpty();
+        batch = plan.nextBatch(STREAMING_BATCH_SIZE)) {
+      listener.onBatch(batch.toList());
+    }
+    listener.onComplete(planSerializer.convertToCursor(plan));
+  }
+
   @Override
   public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
     client.schedule(
         () -> {
           try {
-            Explain openSearchExplain =
-                new Explain() {
-                  @Override
-                  public ExplainResponseNode visitTableScan(
-                      TableScanOperator node, Object context) {
-                    return explain(
-                        node,
-                        context,
-                        explainNode -> {
-                          explainNode.setDescription(Map.of("request", node.explain()));
-                        });
-                  }
-                };
-
-            listener.onResponse(openSearchExplain.apply(plan));
+            listener.onResponse(new OpenSearchExplain(null).apply(plan));
           } catch (Exception e) {
             listener.onFailure(e);
           }
         });
   }
+
+  /**
+   * Execute the plan discarding the rows, then explain the plan executed with the rows and time of
+   * each operator. The rows are not formatted, so the time of formatting is not in the profile.
+   */
+  @Override
+  public void profile(
+      PhysicalPlan physicalPlan, QueryProfile profile, ResponseListener<ExplainResponse> listener) {
+    PhysicalPlan plan = executionProtector.protect(physicalPlan, profile);
+    client.schedule(
+        () -> {
+          try {
+            long start = System.nanoTime();
+            try {
+              plan.open();
+              while (plan.hasNext()) {
+                plan.next();
+              }
+            } finally {
+              plan.close();
+            }
+            profile.addPhase(QueryProfile.EXECUTE, System.nanoTime() - start);
+
+            listener.onResponse(new OpenSearchExplain(profile).apply(plan));
+          } catch (Exception e) {
+            listener.onFailure(e);
+          }
+        });
+  }
+
+  /** Explain with the request of the scan, and the batches fetched by it if profiled. */
+  private static class OpenSearchExplain extends Explain {
+
+    OpenSearchExplain(QueryProfile profile) {
+      super(profile);
+    }
+
+    @Override
+    public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
+      return explain(
+          node,
+          context,
+          explainNode -> {
+            explainNode.setDescription(Map.of("request", node.explain()));
+            Map<String, Object> profile = explainNode.getProfile();
+            if (profile != null && node instanceof OpenSearchIndexScan) {
+              OpenSearchIndexScan scan = (OpenSearchIndexScan) node;
+              profile.put("scan_batches", scan.getFetchedBatches());
+              profile.put("scan_bytes", scan.getFetchedBytes());
+            } else if (profile != null && node instanceof OpenSearchSlicedIndexScan) {
+              OpenSearchSlicedIndexScan scan = (OpenSearchSlicedIndexScan) node;
+              profile.put("scan_batches", scan.getFetchedBatches());
+              profile.put("scan_bytes", scan.getFetchedBytes());
+            }
+          });
+    }
+  }
 }
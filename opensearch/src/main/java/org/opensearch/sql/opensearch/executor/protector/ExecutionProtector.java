@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -13,4 +14,12 @@ public abstract class ExecutionProtector extends PhysicalPlanNodeVisitor<Physica
 
   /** Decorated the PhysicalPlan to run in resource sensitive mode. */
   public abstract PhysicalPlan protect(PhysicalPlan physicalPlan);
+
+  /**
+   * Decorated the PhysicalPlan to run in resource sensitive mode, and to record the profile of its
+   * operators. Only the root operator is profiled by default.
+   */
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, QueryProfile profile) {
+    return profile.profile(protect(physicalPlan));
+  }
 }
@@ -6,6 +6,9 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.executor.profile.ProfilePlan;
+import org.opensearch.sql.executor.profile.QueryProfile;
+import org.opensearch.sql.monitor.MemoryAccount;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
@@ -23,11 +26,17 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
 
-/** OpenSearch Execution Protector. */
+/**
+ * OpenSearch Execution Protector. The operators which keep rows in memory share the {@link
+ * MemoryAccount} of the query, which is created by the {@link ResourceMonitor} for each plan
+ * protected and passed down as the visitor context. If the query is profiled, each operator is
+ * decorated with {@link ProfilePlan} too.
+ */
 @RequiredArgsConstructor
 public class OpenSearchExecutionProtector extends ExecutionProtector {
 
@@ -35,7 +44,15 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   private final ResourceMonitor resourceMonitor;
 
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
-    return physicalPlan.accept(this, null);
+    return physicalPlan.accept(
+        this, new ProtectionContext(resourceMonitor.newMemoryAccount(), null));
+  }
+
+  @Override
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, QueryProfile profile) {
+    ProtectionContext context =
+        new ProtectionContext(resourceMonitor.newMemoryAccount(), profile);
+    return profile(physicalPlan.accept(this, context), context);
   }
 
   /**
@@ -55,7 +72,10 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
     return new AggregationOperator(
-        visitInput(node.getInput(), context), node.getAggregatorList(), node.getGroupByExprList());
+        visitInput(node.getInput(), context),
+        node.getAggregatorList(),
+        node.getGroupByExprList(),
+        memoryAccount(context));
   }
 
   @Override
@@ -65,7 +85,8 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getCommandType(),
         node.getNoOfResults(),
         node.getFieldExprList(),
-        node.getGroupByExprList());
+        node.getGroupByExprList(),
+        memoryAccount(context));
   }
 
   @Override
@@ -113,21 +134,31 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getDedupeList(),
         node.getAllowedDuplication(),
         node.getKeepEmpty(),
-        node.getConsecutive());
+        node.getConsecutive(),
+        memoryAccount(context));
   }
 
   @Override
   public PhysicalPlan visitWindow(WindowOperator node, Object context) {
     return new WindowOperator(
         doProtect(visitInput(node.getInput(), context)),
-        node.getWindowFunction(),
-        node.getWindowDefinition());
+        node.getWindowFunctions(),
+        node.getWindowDefinition(),
+        memoryAccount(context));
   }
 
-  /** Decorate with {@link ResourceMonitorPlan}. */
+  /**
+   * Decorate with {@link ResourceMonitorPlan}. The spill threshold is kept so that large sorts are
+   * spilled to disk instead of tripping the resource monitor.
+   */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
-    return doProtect(new SortOperator(visitInput(node.getInput(), context), node.getSortList()));
+    return doProtect(
+        new SortOperator(
+            visitInput(node.getInput(), context),
+            node.getSortList(),
+            node.getMaxRowsInMemory(),
+            memoryAccount(context)));
   }
 
   /**
@@ -144,6 +175,15 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         visitInput(node.getInput(), context), node.getLimit(), node.getOffset());
   }
 
+  @Override
+  public PhysicalPlan visitTopN(TopNOperator node, Object context) {
+    return new TopNOperator(
+        visitInput(node.getInput(), context),
+        node.getSortList(),
+        node.getLimit(),
+        node.getOffset());
+  }
+
   @Override
   public PhysicalPlan visitMLCommons(PhysicalPlan node, Object context) {
     MLCommonsOperator mlCommonsOperator = (MLCommonsOperator) node;
@@ -179,7 +219,7 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     if (null == node) {
       return node;
     } else {
-      return node.accept(this, context);
+      return profile(node.accept(this, context), context);
     }
   }
 
@@ -190,7 +230,31 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new ResourceMonitorPlan(node, resourceMonitor);
   }
 
+  /** The memory account of the query, or unlimited if the node is not visited by protect. */
+  private static MemoryAccount memoryAccount(Object context) {
+    return context instanceof ProtectionContext
+        ? ((ProtectionContext) context).memoryAccount
+        : MemoryAccount.UNLIMITED;
+  }
+
+  /** Decorate with {@link ProfilePlan} if the query is profiled. */
+  private static PhysicalPlan profile(PhysicalPlan node, Object context) {
+    if (context instanceof ProtectionContext && ((ProtectionContext) context).profile != null) {
+      return ((ProtectionContext) context).profile.profile(node);
+    }
+    return node;
+  }
+
   private boolean isProtected(PhysicalPlan node) {
     return (node instanceof ResourceMonitorPlan);
   }
+
+  /** Visitor context of the plan protected. */
+  @RequiredArgsConstructor
+  private static class ProtectionContext {
+    private final MemoryAccount memoryAccount;
+
+    /** Profile of the query, or null if the query is not profiled. */
+    private final QueryProfile profile;
+  }
 }
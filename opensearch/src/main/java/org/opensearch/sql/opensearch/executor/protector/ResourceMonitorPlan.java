@@ -17,6 +17,7 @@ import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
 
 /** A PhysicalPlan which will run the delegate plan in resource protection manner. */
 @ToString
@@ -73,6 +74,15 @@ public class ResourceMonitorPlan extends PhysicalPlan implements SerializablePla
     return delegate.next();
   }
 
+  /** Check the resource once per batch. */
+  @Override
+  public RowBatch nextBatch(int maxRows) {
+    if (!this.monitor.isHealthy()) {
+      throw new IllegalStateException("resource is not enough to load next batch, quit.");
+    }
+    return delegate.nextBatch(maxRows);
+  }
+
   @Override
   public SerializablePlan getPlanForSerialization() {
     return (SerializablePlan) delegate;
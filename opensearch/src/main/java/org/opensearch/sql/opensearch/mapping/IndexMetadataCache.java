@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.function.Supplier;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+
+/**
+ * Node level cache of the index metadata read by the query engines, such as the parsed index
+ * mappings and the index settings, so that a query doesn't read and parse the mapping of the
+ * indices again. As a cluster state listener, it invalidates all the entries when an index is
+ * created, deleted, opened or closed, or when the mapping, settings or aliases version of an index
+ * changes.
+ */
+public class IndexMetadataCache implements ClusterStateListener {
+
+  /** Default maximum number of entries. */
+  public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private final long maximumSize;
+
+  private final Cache<List<?>, Object> cache;
+
+  /** Incremented on each invalidation so that a value loaded before it is not cached. */
+  private long generation = 0;
+
+  /**
+   * Constructor.
+   *
+   * @param maximumSize maximum number of entries, 0 disables the cache
+   */
+  public IndexMetadataCache(long maximumSize) {
+    this.maximumSize = maximumSize;
+    this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  /** Cache which never keeps a value. */
+  public static IndexMetadataCache disabled() {
+    return new IndexMetadataCache(0);
+  }
+
+  /**
+   * Get the value of the key from the cache, or load and cache it. The errors of the loader are
+   * thrown as is and nothing is cached.
+   *
+   * @param key key of the value, such as the kind of metadata and the index expression
+   * @param loader loads the value from the cluster
+   * @return value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(List<?> key, Supplier<T> loader) {
+    long loadGeneration;
+    synchronized (this) {
+      loadGeneration = generation;
+    }
+    Object value = cache.getIfPresent(key);
+    if (value != null) {
+      return (T) value;
+    }
+    T loaded = loader.get();
+    synchronized (this) {
+      if (maximumSize > 0 && loadGeneration == generation) {
+        cache.put(key, loaded);
+      }
+    }
+    return loaded;
+  }
+
+  /** Invalidate all the entries. */
+  public synchronized void invalidateAll() {
+    generation++;
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void clusterChanged(ClusterChangedEvent event) {
+    if (event.metadataChanged()
+        && indexMetadataChanged(event.previousState().metadata(), event.state().metadata())) {
+      invalidateAll();
+    }
+  }
+
+  private static boolean indexMetadataChanged(Metadata previous, Metadata current) {
+    if (previous.indices().size() != current.indices().size()) {
+      return true;
+    }
+    for (IndexMetadata index : current.indices().values()) {
+      IndexMetadata previousIndex = previous.index(index.getIndex());
+      if (previousIndex == null
+          || previousIndex.getState() != index.getState()
+          || previousIndex.getMappingVersion() != index.getMappingVersion()
+          || previousIndex.getSettingsVersion() != index.getSettingsVersion()
+          || previousIndex.getAliasesVersion() != index.getAliasesVersion()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
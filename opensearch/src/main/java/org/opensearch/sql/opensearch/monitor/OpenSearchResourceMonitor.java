@@ -5,39 +5,24 @@
 
 package org.opensearch.sql.opensearch.monitor;
 
-import io.github.resilience4j.core.IntervalFunction;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
-import java.util.function.Supplier;
-import lombok.extern.log4j.Log4j2;
+import lombok.RequiredArgsConstructor;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.MemoryAccount;
 import org.opensearch.sql.monitor.ResourceMonitor;
 
 /**
- * {@link ResourceMonitor} implementation on Elasticsearch. When the heap memory usage exceeds
- * certain threshold, the monitor is not healthy.<br>
- * Todo, add metrics.
+ * {@link ResourceMonitor} implementation on OpenSearch. The memory of the operators which keep rows
+ * in memory is accounted to the {@link QueryCircuitBreaker}, so that the query which uses too much
+ * memory fails as soon as it asks for it. As a last resort, the monitor is not healthy when the
+ * heap memory usage exceeds certain threshold. The heap usage is checked without waiting for
+ * garbage collection, so that the query is not stalled.
  */
-@Log4j2
+@RequiredArgsConstructor
 public class OpenSearchResourceMonitor extends ResourceMonitor {
   private final Settings settings;
-  private final Retry retry;
   private final OpenSearchMemoryHealthy memoryMonitor;
-
-  /** Constructor. */
-  public OpenSearchResourceMonitor(Settings settings, OpenSearchMemoryHealthy memoryMonitor) {
-    this.settings = settings;
-    RetryConfig config =
-        RetryConfig.custom()
-            .maxAttempts(3)
-            .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(1000))
-            .retryExceptions(OpenSearchMemoryHealthy.MemoryUsageExceedException.class)
-            .ignoreExceptions(OpenSearchMemoryHealthy.MemoryUsageExceedFastFailureException.class)
-            .build();
-    retry = Retry.of("mem", config);
-    this.memoryMonitor = memoryMonitor;
-  }
+  private final QueryCircuitBreaker circuitBreaker;
 
   /**
    * Is Healthy.
@@ -48,11 +33,20 @@ public class OpenSearchResourceMonitor extends ResourceMonitor {
   public boolean isHealthy() {
     try {
       ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
-      Supplier<Boolean> booleanSupplier =
-          Retry.decorateSupplier(retry, () -> memoryMonitor.isMemoryHealthy(limit.getBytes()));
-      return booleanSupplier.get();
+      return memoryMonitor.isMemoryHealthy(limit.getBytes());
     } catch (Exception e) {
       return false;
     }
   }
+
+  /**
+   * Create the memory account of a query, limited by the per query limit of the circuit breaker.
+   *
+   * @return memory account
+   */
+  @Override
+  public MemoryAccount newMemoryAccount() {
+    ByteSizeValue queryLimit = settings.getSettingValue(Settings.Key.QUERY_BREAKER_PER_QUERY_LIMIT);
+    return circuitBreaker.newAccount(queryLimit.getBytes());
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.monitor.MemoryAccount;
+
+/**
+ * The circuit breaker of the query engine, registered to OpenSearch as a child of the parent
+ * circuit breaker. The memory accounts of all the queries running on the node reserve from it, and
+ * each query is also limited by the per query limit. A query asking for more memory than either
+ * limit fails with {@link CircuitBreakingException}, the other queries are not affected.
+ */
+@RequiredArgsConstructor
+public class QueryCircuitBreaker {
+
+  /** Name of the circuit breaker in the node stats. */
+  public static final String NAME = "sql";
+
+  private final CircuitBreaker breaker;
+
+  /** Circuit breaker which never breaks, before the breaker of the node is registered. */
+  public static QueryCircuitBreaker noop() {
+    return new QueryCircuitBreaker(new NoopCircuitBreaker(NAME));
+  }
+
+  /**
+   * Create the memory account of a query.
+   *
+   * @param queryLimitBytes maximum bytes of the query
+   * @return memory account
+   */
+  public MemoryAccount newAccount(long queryLimitBytes) {
+    return new QueryMemoryAccount(queryLimitBytes);
+  }
+
+  /**
+   * Memory account of a query. The operators of a query are executed by one thread, so the used
+   * bytes are not synchronized.
+   */
+  @RequiredArgsConstructor
+  private class QueryMemoryAccount extends MemoryAccount {
+    private final long limitBytes;
+
+    private long usedBytes = 0;
+
+    @Override
+    public void reserve(long bytes, String label) {
+      long newUsedBytes = usedBytes + bytes;
+      if (newUsedBytes > limitBytes) {
+        throw new CircuitBreakingException(
+            String.format(
+                "[%s] Data too large, data for [%s] would be [%s], which is larger than the per"
+                    + " query limit of [%s]",
+                NAME, label, new ByteSizeValue(newUsedBytes), new ByteSizeValue(limitBytes)),
+            bytes,
+            limitBytes,
+            CircuitBreaker.Durability.TRANSIENT);
+      }
+      breaker.addEstimateBytesAndMaybeBreak(bytes, label);
+      usedBytes = newUsedBytes;
+    }
+
+    @Override
+    public void release(long bytes) {
+      breaker.addWithoutBreaking(-bytes);
+      usedBytes -= bytes;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.SerializationUtils;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+/**
+ * OpenSearch search request which pages through the buckets of a composite aggregation. Each search
+ * returns one page of buckets, and the after_key of the page is kept in the composite aggregation,
+ * so the next page can be requested from any node which deserializes the request. No search context
+ * is kept between the pages.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchCompositeAggregationRequest implements OpenSearchRequest {
+
+  /** {@link OpenSearchRequest.IndexName}. */
+  private final IndexName indexName;
+
+  /** Search request source builder, including the after_key of the composite aggregation. */
+  private final SearchSourceBuilder sourceBuilder;
+
+  /** OpenSearchExprValueFactory, including the aggregation response parser. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /** List of includes expected in the response. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final List<String> includes;
+
+  /** The last response has less buckets than the page size, so there is no more. */
+  @EqualsAndHashCode.Exclude private boolean lastPage = false;
+
+  /** Constructor. */
+  public OpenSearchCompositeAggregationRequest(
+      IndexName indexName,
+      SearchSourceBuilder sourceBuilder,
+      OpenSearchExprValueFactory exprValueFactory,
+      List<String> includes) {
+    this.indexName = indexName;
+    this.sourceBuilder = sourceBuilder;
+    this.exprValueFactory = exprValueFactory;
+    this.includes = includes;
+  }
+
+  /**
+   * Find the composite aggregation of a search source.
+   *
+   * @param sourceBuilder search source
+   * @return composite aggregation, or null if the search source has none
+   */
+  public static CompositeAggregationBuilder findCompositeAggregation(
+      SearchSourceBuilder sourceBuilder) {
+    if (sourceBuilder.aggregations() == null) {
+      return null;
+    }
+    for (AggregationBuilder aggregation : sourceBuilder.aggregations().getAggregatorFactories()) {
+      if (aggregation instanceof CompositeAggregationBuilder) {
+        return (CompositeAggregationBuilder) aggregation;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    if (lastPage) {
+      return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+    }
+
+    CompositeAggregationBuilder composite = findCompositeAggregation(sourceBuilder);
+    SearchResponse openSearchResponse =
+        searchAction.apply(
+            new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder));
+
+    CompositeAggregation aggregation =
+        openSearchResponse.getAggregations() == null
+            ? null
+            : openSearchResponse.getAggregations().get(composite.getName());
+    lastPage =
+        aggregation == null
+            || aggregation.afterKey() == null
+            || aggregation.getBuckets().size() < composite.size();
+    if (!lastPage) {
+      composite.aggregateAfter(aggregation.afterKey());
+    }
+    return new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    // do nothing, no search context is kept between the pages.
+  }
+
+  @Override
+  public boolean hasAnotherBatch() {
+    return !lastPage;
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    sourceBuilder.writeTo(out);
+    out.writeStringCollection(includes);
+    indexName.writeTo(out);
+    // parser and type mapping of the aggregation are not writeable, they are java serialized.
+    out.writeByteArray(SerializationUtils.serialize(exprValueFactory.getParser()));
+    out.writeByteArray(
+        SerializationUtils.serialize(new HashMap<>(exprValueFactory.getExtendedTypeMapping())));
+  }
+
+  /**
+   * Constructs OpenSearchCompositeAggregationRequest from serialized representation.
+   *
+   * @param in stream to read data from, which has to be able to read the named writeables of the
+   *     aggregation.
+   * @param engine OpenSearchSqlEngine to get node-specific context.
+   * @throws IOException thrown if reading from input {@code in} fails.
+   */
+  public OpenSearchCompositeAggregationRequest(StreamInput in, OpenSearchStorageEngine engine)
+      throws IOException {
+    sourceBuilder = new SearchSourceBuilder(in);
+    includes = in.readStringList();
+    indexName = new IndexName(in);
+    OpenSearchAggregationResponseParser parser =
+        SerializationUtils.deserialize(in.readByteArray());
+    Map<String, OpenSearchDataType> typeMapping =
+        SerializationUtils.deserialize(in.readByteArray());
+    OpenSearchIndex index = (OpenSearchIndex) engine.getTable(null, indexName.toString());
+    exprValueFactory = new OpenSearchExprValueFactory(index.getFieldOpenSearchTypes());
+    exprValueFactory.extendTypeMapping(typeMapping);
+    exprValueFactory.setParser(parser);
+  }
+}
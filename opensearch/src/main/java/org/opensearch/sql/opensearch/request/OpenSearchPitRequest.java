@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+/**
+ * OpenSearch search request which pages through a point in time (PIT) with search_after. Unlike a
+ * scroll, no search context is kept per page: the sort values of the last hit returned are kept in
+ * the search source, so the next page can be requested from any node which deserializes it.
+ *
+ * <p>The point in time is created by the client before the first search, see {@link
+ * #createPitRequest()}, and deleted after the last page.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchPitRequest implements OpenSearchRequest {
+
+  /** {@link OpenSearchRequest.IndexName}. */
+  private final IndexName indexName;
+
+  /** Point in time keep alive, which is extended by every page. */
+  private final TimeValue keepAlive;
+
+  /** Search request source builder, including the sort values to search after. */
+  private final SearchSourceBuilder sourceBuilder;
+
+  /** OpenSearchExprValueFactory. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /** List of includes expected in the response. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final List<String> includes;
+
+  /** Point in time id which is set once the point in time is created. */
+  @Setter private String pitId = NO_PIT_ID;
+
+  public static final String NO_PIT_ID = "";
+
+  /** The last response has less hits than the page size, so there is no more. */
+  @EqualsAndHashCode.Exclude private boolean lastPage = false;
+
+  /**
+   * Delete the point in time on clean, unless a page was just fetched and more pages remain. So the
+   * point in time is deleted when the cursor deserialized is closed too.
+   */
+  @EqualsAndHashCode.Exclude private boolean needClean = true;
+
+  /** Constructor. */
+  public OpenSearchPitRequest(
+      IndexName indexName,
+      TimeValue keepAlive,
+      SearchSourceBuilder sourceBuilder,
+      OpenSearchExprValueFactory exprValueFactory,
+      List<String> includes) {
+    this.indexName = indexName;
+    this.keepAlive = keepAlive;
+    this.sourceBuilder = sourceBuilder;
+    this.exprValueFactory = exprValueFactory;
+    this.includes = includes;
+  }
+
+  /**
+   * Generate OpenSearch request to create the point in time searched by this request.
+   *
+   * @return create PIT request
+   */
+  public CreatePitRequest createPitRequest() {
+    return new CreatePitRequest(keepAlive, false, indexName.getIndexNames());
+  }
+
+  /**
+   * Is the point in time created.
+   *
+   * @return true if point in time created
+   */
+  public boolean isPitCreated() {
+    return !pitId.equals(NO_PIT_ID);
+  }
+
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    if (!isPitCreated()) {
+      throw new IllegalStateException("Point in time is not created for request " + this);
+    }
+    if (lastPage) {
+      return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+    }
+
+    sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(keepAlive));
+    SearchResponse openSearchResponse =
+        searchAction.apply(new SearchRequest().source(sourceBuilder));
+
+    SearchHit[] hits = openSearchResponse.getHits().getHits();
+    lastPage = hits.length == 0 || hits.length < sourceBuilder.size();
+    needClean = lastPage;
+    if (hits.length > 0) {
+      sourceBuilder.searchAfter(hits[hits.length - 1].getSortValues());
+    }
+    return new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    try {
+      // keep the point in time for the cursor in the middle of paging only.
+      if (needClean && isPitCreated()) {
+        cleanAction.accept(pitId);
+      }
+    } finally {
+      pitId = NO_PIT_ID;
+    }
+  }
+
+  @Override
+  public boolean hasAnotherBatch() {
+    return isPitCreated() && !lastPage;
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    sourceBuilder.writeTo(out);
+    out.writeTimeValue(keepAlive);
+    out.writeString(pitId);
+    out.writeStringCollection(includes);
+    indexName.writeTo(out);
+  }
+
+  /**
+   * Constructs OpenSearchPitRequest from serialized representation.
+   *
+   * @param in stream to read data from, which has to be able to read the named writeables of the
+   *     query.
+   * @param engine OpenSearchSqlEngine to get node-specific context.
+   * @throws IOException thrown if reading from input {@code in} fails.
+   */
+  public OpenSearchPitRequest(StreamInput in, OpenSearchStorageEngine engine) throws IOException {
+    sourceBuilder = new SearchSourceBuilder(in);
+    keepAlive = in.readTimeValue();
+    pitId = in.readString();
+    includes = in.readStringList();
+    indexName = new IndexName(in);
+    OpenSearchIndex index = (OpenSearchIndex) engine.getTable(null, indexName.toString());
+    exprValueFactory = new OpenSearchExprValueFactory(index.getFieldOpenSearchTypes());
+  }
+}
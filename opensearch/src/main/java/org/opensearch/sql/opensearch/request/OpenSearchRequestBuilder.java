@@ -33,9 +33,13 @@ import org.opensearch.index.query.NestedQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.ast.expression.Literal;
@@ -86,9 +90,34 @@ public class OpenSearchRequestBuilder {
    */
   public OpenSearchRequest build(
       OpenSearchRequest.IndexName indexName, int maxResultWindow, TimeValue scrollTimeout) {
+    return build(indexName, maxResultWindow, scrollTimeout, false);
+  }
+
+  /**
+   * Build DSL request.
+   *
+   * @param pointInTime page through a point in time with search_after instead of a scroll, which
+   *     is only consistent on an index with a single shard
+   * @return query request, scroll request, point in time request or composite aggregation request
+   */
+  public OpenSearchRequest build(
+      OpenSearchRequest.IndexName indexName,
+      int maxResultWindow,
+      TimeValue scrollTimeout,
+      boolean pointInTime) {
     int size = requestedTotalSize;
     FetchSourceContext fetchSource = this.sourceBuilder.fetchSource();
     List<String> includes = fetchSource != null ? Arrays.asList(fetchSource.includes()) : List.of();
+    CompositeAggregationBuilder composite =
+        OpenSearchCompositeAggregationRequest.findCompositeAggregation(sourceBuilder);
+    if (composite != null) {
+      // Buckets are paged by after_key, so neither hits nor a scroll are needed.
+      if (pageSize != null) {
+        composite.size(pageSize);
+      }
+      return new OpenSearchCompositeAggregationRequest(
+          indexName, sourceBuilder, exprValueFactory, includes);
+    }
     if (pageSize == null) {
       if (startFrom + size > maxResultWindow) {
         sourceBuilder.size(maxResultWindow - startFrom);
@@ -104,11 +133,63 @@ public class OpenSearchRequestBuilder {
         throw new UnsupportedOperationException("Non-zero offset is not supported with pagination");
       }
       sourceBuilder.size(pageSize);
+      if (pointInTime) {
+        addSearchAfterTiebreak();
+        return new OpenSearchPitRequest(
+            indexName, scrollTimeout, sourceBuilder, exprValueFactory, includes);
+      }
       return new OpenSearchScrollRequest(
           indexName, scrollTimeout, sourceBuilder, exprValueFactory, includes);
     }
   }
 
+  /**
+   * Check if the request is a full scan which can be split into sliced scroll requests. Only a
+   * scroll of documents in no specific order can be sliced, because the rows of the slices are
+   * merged in the order they arrive.
+   *
+   * @param maxResultWindow max result window of the index
+   * @return true if the request can be sliced
+   */
+  public boolean isSliceable(int maxResultWindow) {
+    return pageSize == null
+        && startFrom == 0
+        && requestedTotalSize > maxResultWindow
+        && sourceBuilder.aggregations() == null
+        && (sourceBuilder.sorts() == null || isSortByDocOnly());
+  }
+
+  /**
+   * Build sliced scroll requests which read disjoint parts of the index and can be run in
+   * parallel.
+   *
+   * @param slices number of slices
+   * @return scroll request of each slice
+   */
+  public List<OpenSearchRequest> buildSlices(
+      OpenSearchRequest.IndexName indexName,
+      int maxResultWindow,
+      TimeValue scrollTimeout,
+      int slices) {
+    if (!isSliceable(maxResultWindow)) {
+      throw new UnsupportedOperationException("Request can't be sliced: " + sourceBuilder);
+    }
+    FetchSourceContext fetchSource = this.sourceBuilder.fetchSource();
+    List<String> includes = fetchSource != null ? Arrays.asList(fetchSource.includes()) : List.of();
+    sourceBuilder.size(maxResultWindow);
+    List<OpenSearchRequest> requests = new ArrayList<>(slices);
+    for (int id = 0; id < slices; id++) {
+      requests.add(
+          new OpenSearchScrollRequest(
+              indexName,
+              scrollTimeout,
+              sourceBuilder.shallowCopy().slice(new SliceBuilder(id, slices)),
+              exprValueFactory,
+              includes));
+    }
+    return requests;
+  }
+
   boolean isBoolFilterQuery(QueryBuilder current) {
     return (current instanceof BoolQueryBuilder);
   }
@@ -164,6 +245,18 @@ public class OpenSearchRequestBuilder {
     }
   }
 
+  /**
+   * Push down dedupe to DSL request by collapsing the hits on the field, which keeps the first
+   * document of each value. Documents without the field are filtered out. A collapsed search can't
+   * be scrolled, so the request must fit in the max result window.
+   *
+   * @param field keyword or numeric field to collapse on
+   */
+  public void pushDownDedupe(String field) {
+    pushDownFilter(QueryBuilders.existsQuery(field));
+    sourceBuilder.collapse(new CollapseBuilder(field));
+  }
+
   /** Pushdown size (limit) and from (offset) to DSL request. */
   public void pushDownLimit(Integer limit, Integer offset) {
     requestedTotalSize = limit;
@@ -228,6 +321,24 @@ public class OpenSearchRequestBuilder {
     exprValueFactory.extendTypeMapping(typeMapping);
   }
 
+  /**
+   * Make the sort values of each hit unique, so search_after never skips or repeats hits which are
+   * equal on the sort fields. The point in time keeps the same index reader open, so the doc id is
+   * a stable tiebreak without loading any fielddata, but it is unique within a single shard only.
+   */
+  private void addSearchAfterTiebreak() {
+    boolean sortByDoc =
+        sourceBuilder.sorts() != null
+            && sourceBuilder.sorts().stream()
+                .anyMatch(
+                    sort ->
+                        sort instanceof FieldSortBuilder
+                            && DOC_FIELD_NAME.equals(((FieldSortBuilder) sort).getFieldName()));
+    if (!sortByDoc) {
+      sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+    }
+  }
+
   private boolean isSortByDocOnly() {
     List<SortBuilder<?>> sorts = sourceBuilder.sorts();
     if (sorts != null) {
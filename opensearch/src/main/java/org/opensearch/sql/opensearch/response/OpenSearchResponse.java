@@ -22,7 +22,10 @@ import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.text.Text;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregations;
@@ -85,6 +88,23 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     return aggregations != null;
   }
 
+  /**
+   * Bytes of the source of the hits, before the hits are parsed.
+   *
+   * @return bytes of the source, zero for aggregation response
+   */
+  public long getSourceBytes() {
+    long bytes = 0;
+    if (hits.getHits() != null) {
+      for (SearchHit hit : hits.getHits()) {
+        if (hit.getSourceRef() != null) {
+          bytes += hit.getSourceRef().length();
+        }
+      }
+    }
+    return bytes;
+  }
+
   /**
    * Make response iterable without need to return internal data structure explicitly.
    *
@@ -116,12 +136,15 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
    */
   private void addParsedHitsToBuilder(
       ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
-    builder.putAll(
-        exprValueFactory
-            .construct(
-                hit.getSourceAsString(),
-                !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()))
-            .tupleValue());
+    boolean supportArrays = !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty());
+    BytesReference source = hit.getSourceRef();
+    if (source != null && MediaTypeRegistry.xContentType(source) == XContentType.JSON) {
+      // read the JSON source bytes directly, without converting them to a String first
+      builder.putAll(exprValueFactory.construct(source, includes, supportArrays).tupleValue());
+    } else {
+      builder.putAll(
+          exprValueFactory.construct(hit.getSourceAsString(), supportArrays).tupleValue());
+    }
   }
 
   /**
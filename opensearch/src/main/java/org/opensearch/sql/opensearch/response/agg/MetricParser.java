@@ -13,11 +13,12 @@
 
 package org.opensearch.sql.opensearch.response.agg;
 
+import java.io.Serializable;
 import java.util.Map;
 import org.opensearch.search.aggregations.Aggregation;
 
 /** Metric Aggregation Parser. */
-public interface MetricParser {
+public interface MetricParser extends Serializable {
 
   /** Get the name of metric parser. */
   String getName();
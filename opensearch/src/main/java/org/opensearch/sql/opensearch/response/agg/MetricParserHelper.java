@@ -13,6 +13,7 @@
 
 package org.opensearch.sql.opensearch.response.agg;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,7 +27,7 @@ import org.opensearch.sql.common.utils.StringUtils;
 /** Parse multiple metrics in one bucket. */
 @EqualsAndHashCode
 @RequiredArgsConstructor
-public class MetricParserHelper {
+public class MetricParserHelper implements Serializable {
 
   private final Map<String, MetricParser> metricParserMap;
 
@@ -13,12 +13,13 @@
 
 package org.opensearch.sql.opensearch.response.agg;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import org.opensearch.search.aggregations.Aggregations;
 
 /** OpenSearch Aggregation Response Parser. */
-public interface OpenSearchAggregationResponseParser {
+public interface OpenSearchAggregationResponseParser extends Serializable {
 
   /**
    * Parse the OpenSearch Aggregation Response.
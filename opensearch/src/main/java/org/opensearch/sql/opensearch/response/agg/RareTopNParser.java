@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+
+/**
+ * Rare and top aggregation parser. The values counted of the field are the buckets of a terms
+ * aggregation, which is either the only aggregation or a sub aggregation of each composite bucket
+ * if grouped by other fields. Each value is returned as a row following the group key.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class RareTopNParser implements OpenSearchAggregationResponseParser {
+
+  /** Name of the field counted, which is also the name of the terms aggregation. */
+  private final String fieldName;
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    Aggregation aggregation = aggregations.asList().get(0);
+    if (aggregation instanceof CompositeAggregation) {
+      return ((CompositeAggregation) aggregation)
+          .getBuckets().stream()
+              .flatMap(bucket -> parse(bucket.getKey(), bucket.getAggregations().get(fieldName)))
+              .collect(Collectors.toList());
+    }
+    return parse(Collections.emptyMap(), (Terms) aggregation).collect(Collectors.toList());
+  }
+
+  private Stream<Map<String, Object>> parse(Map<String, Object> groupKey, Terms terms) {
+    return terms.getBuckets().stream()
+        .map(
+            bucket -> {
+              Map<String, Object> resultMap = new LinkedHashMap<>(groupKey);
+              resultMap.put(fieldName, bucket.getKey());
+              return resultMap;
+            });
+  }
+}
@@ -17,19 +17,19 @@ import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanInfValue
 
 import java.util.Collections;
 import java.util.Map;
-import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.search.aggregations.Aggregation;
 import org.opensearch.search.aggregations.metrics.ExtendedStats;
+import org.opensearch.sql.expression.function.SerializableFunction;
 
 /** {@link ExtendedStats} metric parser. */
 @EqualsAndHashCode
 @RequiredArgsConstructor
 public class StatsParser implements MetricParser {
 
-  private final Function<ExtendedStats, Double> valueExtractor;
+  private final SerializableFunction<ExtendedStats, Double> valueExtractor;
 
   @Getter private final String name;
 
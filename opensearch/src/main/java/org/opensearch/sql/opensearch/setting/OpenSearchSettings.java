@@ -28,6 +28,7 @@ import org.opensearch.common.settings.SecureSetting;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.MemorySizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.sql.common.setting.LegacySettings;
 import org.opensearch.sql.common.setting.Settings;
 
@@ -63,6 +64,20 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> SQL_CURSOR_STORE_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.SQL_CURSOR_STORE_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> SQL_PAGINATION_API_SEARCH_AFTER_SETTING =
+      Setting.boolSetting(
+          Key.SQL_PAGINATION_API_SEARCH_AFTER.getKeyValue(),
+          true,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> SQL_DELETE_ENABLED_SETTING =
       Setting.boolSetting(
           Key.SQL_DELETE_ENABLED.getKeyValue(),
@@ -87,6 +102,17 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<ByteSizeValue> QUERY_BREAKER_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_BREAKER_LIMIT.getKeyValue(), "20%", Setting.Property.NodeScope);
+
+  public static final Setting<?> QUERY_BREAKER_PER_QUERY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_BREAKER_PER_QUERY_LIMIT.getKeyValue(),
+          "10%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> QUERY_SIZE_LIMIT_SETTING =
       Setting.intSetting(
           Key.QUERY_SIZE_LIMIT.getKeyValue(),
@@ -95,6 +121,38 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_SORT_SPILL_THRESHOLD_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SORT_SPILL_THRESHOLD.getKeyValue(),
+          100000,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_PREFETCH_BATCHES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_PREFETCH_BATCHES.getKeyValue(),
+          1,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_MAX_SLICES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_MAX_SLICES.getKeyValue(),
+          1,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_STATEMENT_CACHE_SIZE_SETTING =
+      Setting.longSetting(
+          Key.QUERY_STATEMENT_CACHE_SIZE.getKeyValue(),
+          1000000L,
+          0L,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING =
       Setting.longSetting(
           Key.METRICS_ROLLING_WINDOW.getKeyValue(),
@@ -223,6 +281,18 @@ public class OpenSearchSettings extends Settings {
         Key.SQL_CURSOR_KEEP_ALIVE,
         SQL_CURSOR_KEEP_ALIVE_SETTING,
         new Updater(Key.SQL_CURSOR_KEEP_ALIVE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.SQL_CURSOR_STORE_ENABLED,
+        SQL_CURSOR_STORE_ENABLED_SETTING,
+        new Updater(Key.SQL_CURSOR_STORE_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.SQL_PAGINATION_API_SEARCH_AFTER,
+        SQL_PAGINATION_API_SEARCH_AFTER_SETTING,
+        new Updater(Key.SQL_PAGINATION_API_SEARCH_AFTER));
     register(
         settingBuilder,
         clusterSettings,
@@ -241,12 +311,42 @@ public class OpenSearchSettings extends Settings {
         Key.QUERY_MEMORY_LIMIT,
         QUERY_MEMORY_LIMIT_SETTING,
         new Updater(Key.QUERY_MEMORY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_BREAKER_PER_QUERY_LIMIT,
+        QUERY_BREAKER_PER_QUERY_LIMIT_SETTING,
+        new Updater(Key.QUERY_BREAKER_PER_QUERY_LIMIT));
     register(
         settingBuilder,
         clusterSettings,
         Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING,
         new Updater(Key.QUERY_SIZE_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SORT_SPILL_THRESHOLD,
+        QUERY_SORT_SPILL_THRESHOLD_SETTING,
+        new Updater(Key.QUERY_SORT_SPILL_THRESHOLD));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_PREFETCH_BATCHES,
+        QUERY_SCAN_PREFETCH_BATCHES_SETTING,
+        new Updater(Key.QUERY_SCAN_PREFETCH_BATCHES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_MAX_SLICES,
+        QUERY_SCAN_MAX_SLICES_SETTING,
+        new Updater(Key.QUERY_SCAN_MAX_SLICES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_STATEMENT_CACHE_SIZE,
+        QUERY_STATEMENT_CACHE_SIZE_SETTING,
+        new Updater(Key.QUERY_STATEMENT_CACHE_SIZE));
     register(
         settingBuilder,
         clusterSettings,
@@ -382,10 +482,17 @@ public class OpenSearchSettings extends Settings {
         .add(SQL_ENABLED_SETTING)
         .add(SQL_SLOWLOG_SETTING)
         .add(SQL_CURSOR_KEEP_ALIVE_SETTING)
+        .add(SQL_CURSOR_STORE_ENABLED_SETTING)
+        .add(SQL_PAGINATION_API_SEARCH_AFTER_SETTING)
         .add(SQL_DELETE_ENABLED_SETTING)
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
+        .add(QUERY_BREAKER_PER_QUERY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_SORT_SPILL_THRESHOLD_SETTING)
+        .add(QUERY_SCAN_PREFETCH_BATCHES_SETTING)
+        .add(QUERY_SCAN_MAX_SLICES_SETTING)
+        .add(QUERY_STATEMENT_CACHE_SIZE_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .add(DATASOURCE_URI_HOSTS_DENY_LIST)
@@ -407,6 +514,7 @@ public class OpenSearchSettings extends Settings {
     return new ImmutableList.Builder<Setting<?>>()
         .add(DATASOURCE_MASTER_SECRET_KEY)
         .add(DATASOURCE_CONFIG)
+        .add(QUERY_BREAKER_LIMIT_SETTING)
         .build();
   }
 
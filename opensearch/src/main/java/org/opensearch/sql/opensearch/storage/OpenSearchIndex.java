@@ -26,13 +26,17 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchSlicedIndexScan;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalAD;
 import org.opensearch.sql.planner.logical.LogicalML;
 import org.opensearch.sql.planner.logical.LogicalMLCommons;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalSort;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.SortOperator;
 import org.opensearch.sql.storage.Table;
+import org.opensearch.sql.storage.TableScanOperator;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 
 /** OpenSearch table (index) implementation. */
@@ -72,6 +76,9 @@ public class OpenSearchIndex implements Table {
   /** The cached max result window setting of index. */
   private Integer cachedMaxResultWindow = null;
 
+  /** The cached total number of primary shards of the indices. */
+  private Integer cachedNumberOfShards = null;
+
   /** Constructor. */
   public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName) {
     this.client = client;
@@ -151,11 +158,20 @@ public class OpenSearchIndex implements Table {
     return cachedMaxResultWindow;
   }
 
+  /** Get the total number of primary shards of the indices. */
+  public Integer getNumberOfShards() {
+    if (cachedNumberOfShards == null) {
+      cachedNumberOfShards =
+          new OpenSearchDescribeIndexRequest(client, indexName).getNumberOfShards();
+    }
+    return cachedNumberOfShards;
+  }
+
   /** TODO: Push down operations to index scan operator as much as possible in future. */
   @Override
   public PhysicalPlan implement(LogicalPlan plan) {
     // TODO: Leave it here to avoid impact Prometheus and AD operators. Need to move to Planner.
-    return plan.accept(new OpenSearchDefaultImplementor(client), null);
+    return plan.accept(new OpenSearchDefaultImplementor(client, settings), null);
   }
 
   @Override
@@ -163,14 +179,51 @@ public class OpenSearchIndex implements Table {
     final int querySizeLimit = settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT);
 
     final TimeValue cursorKeepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
+    final int prefetchBatches = settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_BATCHES);
+    final int maxSlices = settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES);
     var builder = new OpenSearchRequestBuilder(querySizeLimit, createExprValueFactory());
-    Function<OpenSearchRequestBuilder, OpenSearchIndexScan> createScanOperator =
-        requestBuilder ->
-            new OpenSearchIndexScan(
+    Function<OpenSearchRequestBuilder, TableScanOperator> createScanOperator =
+        requestBuilder -> {
+          int slices = maxSlices > 1 ? getSlices(requestBuilder, maxSlices) : 1;
+          if (slices > 1) {
+            return new OpenSearchSlicedIndexScan(
                 client,
                 requestBuilder.getMaxResponseSize(),
-                requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive));
-    return new OpenSearchIndexScanBuilder(builder, createScanOperator);
+                requestBuilder.buildSlices(
+                    indexName, getMaxResultWindow(), cursorKeepAlive, slices),
+                prefetchBatches);
+          }
+          return new OpenSearchIndexScan(
+              client,
+              requestBuilder.getMaxResponseSize(),
+              requestBuilder.build(
+                  indexName, getMaxResultWindow(), cursorKeepAlive, isPointInTime(requestBuilder)),
+              prefetchBatches);
+        };
+    return new OpenSearchIndexScanBuilder(builder, this::getMaxResultWindow, createScanOperator);
+  }
+
+  /**
+   * Page through a point in time instead of a scroll if the request is paginated. The doc id is the
+   * search_after tiebreak, which is unique only within a shard, so the indices with more than one
+   * primary shard are still scrolled.
+   */
+  private boolean isPointInTime(OpenSearchRequestBuilder requestBuilder) {
+    return requestBuilder.getPageSize() != null
+        && (Boolean) settings.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER)
+        && getNumberOfShards() == 1;
+  }
+
+  /**
+   * Number of slices to scan the index with in parallel, which is at most one per shard and one per
+   * available processor.
+   */
+  private int getSlices(OpenSearchRequestBuilder requestBuilder, int maxSlices) {
+    if (!requestBuilder.isSliceable(getMaxResultWindow())) {
+      return 1;
+    }
+    return Math.min(
+        maxSlices, Math.min(getNumberOfShards(), Runtime.getRuntime().availableProcessors()));
   }
 
   private OpenSearchExprValueFactory createExprValueFactory() {
@@ -186,6 +239,16 @@ public class OpenSearchIndex implements Table {
 
     private final OpenSearchClient client;
 
+    private final Settings settings;
+
+    @Override
+    public PhysicalPlan visitSort(LogicalSort node, OpenSearchIndexScan context) {
+      return new SortOperator(
+          visitChild(node, context),
+          node.getSortList(),
+          settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD));
+    }
+
     @Override
     public PhysicalPlan visitMLCommons(LogicalMLCommons node, OpenSearchIndexScan context) {
       return new MLCommonsOperator(
@@ -0,0 +1,230 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetches the batches of a search request ahead of the consumer in the background, so the round
+ * trip and response parsing of the next batch overlap with the processing of the current one.
+ *
+ * <p>The batches of a scroll have to be fetched one after another, so at most one fetch is in
+ * flight, and at most {@code maxBatchesAhead} fetched batches wait for the consumer. A fetch which
+ * is scheduled but not started yet when the consumer needs it is run by the consumer itself, so a
+ * busy thread pool never blocks the scan. No batch is fetched ahead once {@code maxRows} rows are
+ * fetched, so a paginated scan never moves the scroll past its cursor.
+ */
+class BatchPrefetcher {
+
+  private final OpenSearchClient client;
+
+  private final OpenSearchRequest request;
+
+  private final int maxRows;
+
+  private final int maxBatchesAhead;
+
+  /** Fetched batches waiting for the consumer. */
+  private final Deque<List<ExprValue>> batches = new ArrayDeque<>();
+
+  /** Number of rows fetched so far. */
+  private int fetchedRows = 0;
+
+  /** Number of non-empty batches fetched so far. */
+  private int fetchedBatches = 0;
+
+  /** Bytes of the source of the documents fetched so far. */
+  private long fetchedBytes = 0;
+
+  /** A fetch is scheduled or running. */
+  private boolean inFlight = false;
+
+  /** The fetch in flight is scheduled but not started yet. */
+  private boolean queued = false;
+
+  /** An empty response is fetched. */
+  private boolean exhausted = false;
+
+  private boolean closed = false;
+
+  private RuntimeException failure;
+
+  BatchPrefetcher(
+      OpenSearchClient client, OpenSearchRequest request, int maxRows, int maxBatchesAhead) {
+    this.client = client;
+    this.request = request;
+    this.maxRows = maxRows;
+    this.maxBatchesAhead = maxBatchesAhead;
+  }
+
+  /** Start fetching the first batch in the background. */
+  void start() {
+    synchronized (this) {
+      if (closed || inFlight || exhausted) {
+        return;
+      }
+      inFlight = true;
+      queued = true;
+    }
+    client.scheduleAsync(this::fetchScheduled);
+  }
+
+  /**
+   * Check if {@link #next()} returns without waiting for a fetch.
+   *
+   * @return true if a batch is fetched already, or there is no more batch
+   */
+  synchronized boolean isReady() {
+    return failure != null || !batches.isEmpty() || exhausted;
+  }
+
+  /**
+   * Get the next batch, waiting for it if it is being fetched, and start fetching the batch after.
+   *
+   * @return rows of the next batch, or null if there is no more
+   */
+  List<ExprValue> next() {
+    List<ExprValue> batch;
+    while ((batch = poll()) == null) {
+      synchronized (this) {
+        if (exhausted) {
+          return null;
+        }
+      }
+      fetch();
+    }
+    fetchAhead();
+    return batch;
+  }
+
+  synchronized int getFetchedBatches() {
+    return fetchedBatches;
+  }
+
+  synchronized long getFetchedBytes() {
+    return fetchedBytes;
+  }
+
+  /**
+   * Stop fetching ahead. A fetch scheduled but not started yet is cancelled, a running fetch is
+   * waited for, so the request can be cleaned up safely afterward.
+   */
+  synchronized void close() {
+    closed = true;
+    if (queued) {
+      queued = false;
+      inFlight = false;
+    }
+    boolean interrupted = false;
+    while (inFlight) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    batches.clear();
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Take a fetched batch. If there is none and no fetch is running, claim the fetch for the calling
+   * thread and return null. Also return null if all batches are consumed.
+   */
+  private synchronized List<ExprValue> poll() {
+    while (true) {
+      if (failure != null) {
+        throw failure;
+      }
+      if (!batches.isEmpty()) {
+        return batches.poll();
+      }
+      if (exhausted) {
+        return null;
+      }
+      if (!inFlight || queued) {
+        inFlight = true;
+        queued = false;
+        return null;
+      }
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for the next batch", e);
+      }
+    }
+  }
+
+  private void fetchAhead() {
+    synchronized (this) {
+      if (closed
+          || inFlight
+          || exhausted
+          || failure != null
+          || batches.size() >= maxBatchesAhead
+          || fetchedRows >= maxRows
+          || !request.hasAnotherBatch()) {
+        return;
+      }
+      inFlight = true;
+      queued = true;
+    }
+    client.scheduleAsync(this::fetchScheduled);
+  }
+
+  private void fetchScheduled() {
+    synchronized (this) {
+      if (!queued) {
+        // cancelled, or claimed by the consumer
+        return;
+      }
+      queued = false;
+    }
+    fetch();
+    fetchAhead();
+  }
+
+  /** Fetch one batch. Must be called by the thread which set {@link #inFlight}. */
+  private void fetch() {
+    List<ExprValue> batch = null;
+    long bytes = 0;
+    RuntimeException error = null;
+    try {
+      OpenSearchResponse response = client.search(request);
+      if (!response.isEmpty()) {
+        batch = Lists.newArrayList(response);
+        bytes = response.getSourceBytes();
+      }
+    } catch (RuntimeException e) {
+      error = e;
+    }
+
+    synchronized (this) {
+      inFlight = false;
+      if (error != null) {
+        failure = error;
+      } else if (batch == null) {
+        exhausted = true;
+      } else {
+        batches.add(batch);
+        fetchedRows += batch.size();
+        fetchedBatches++;
+        fetchedBytes += bytes;
+      }
+      notifyAll();
+    }
+  }
+}
@@ -10,17 +10,23 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.SearchModule;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchCompositeAggregationRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
-import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -39,18 +45,34 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   /** Largest number of rows allowed in the response. */
   @EqualsAndHashCode.Include @ToString.Include private int maxResponseSize;
 
+  /** Largest number of batches fetched ahead of the batch being consumed. */
+  private int prefetchBatches;
+
   /** Number of rows returned. */
   private Integer queryCount;
 
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Batches of the request, fetched ahead if prefetch is enabled. */
+  private BatchPrefetcher prefetcher;
+
   /** Creates index scan based on a provided OpenSearchRequestBuilder. */
   public OpenSearchIndexScan(
       OpenSearchClient client, int maxResponseSize, OpenSearchRequest request) {
+    this(client, maxResponseSize, request, 0);
+  }
+
+  /** Creates index scan which fetches up to the given number of batches ahead. */
+  public OpenSearchIndexScan(
+      OpenSearchClient client,
+      int maxResponseSize,
+      OpenSearchRequest request,
+      int prefetchBatches) {
     this.client = client;
     this.maxResponseSize = maxResponseSize;
     this.request = request;
+    this.prefetchBatches = prefetchBatches;
   }
 
   @Override
@@ -58,6 +80,7 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     super.open();
     iterator = Collections.emptyIterator();
     queryCount = 0;
+    prefetcher = new BatchPrefetcher(client, request, maxResponseSize, prefetchBatches);
     fetchNextBatch();
   }
 
@@ -78,9 +101,9 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   }
 
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
-    if (!response.isEmpty()) {
-      iterator = response.iterator();
+    List<ExprValue> batch = prefetcher.next();
+    if (batch != null) {
+      iterator = batch.iterator();
     }
   }
 
@@ -88,6 +111,9 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   public void close() {
     super.close();
 
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
     client.cleanup(request);
   }
 
@@ -96,6 +122,16 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     return request.toString();
   }
 
+  /** Number of batches fetched by the scan, for the profile of the query. */
+  public int getFetchedBatches() {
+    return prefetcher == null ? 0 : prefetcher.getFetchedBatches();
+  }
+
+  /** Bytes of the source of the documents fetched by the scan, for the profile of the query. */
+  public long getFetchedBytes() {
+    return prefetcher == null ? 0 : prefetcher.getFetchedBytes();
+  }
+
   /**
    * No-args constructor.
    *
@@ -106,6 +142,7 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
 
   @Override
   public void readExternal(ObjectInput in) throws IOException {
+    RequestType requestType = RequestType.valueOf(in.readUTF());
     int reqSize = in.readInt();
     byte[] requestStream = new byte[reqSize];
     int read = 0;
@@ -122,7 +159,20 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
             ((PlanSerializer.CursorDeserializationStream) in).resolveObject("engine");
 
     try (BytesStreamInput bsi = new BytesStreamInput(requestStream)) {
-      request = new OpenSearchScrollRequest(bsi, engine);
+      switch (requestType) {
+        case POINT_IN_TIME:
+          request =
+              new OpenSearchPitRequest(
+                  new NamedWriteableAwareStreamInput(bsi, SearchWriteables.REGISTRY), engine);
+          break;
+        case COMPOSITE_AGGREGATION:
+          request =
+              new OpenSearchCompositeAggregationRequest(
+                  new NamedWriteableAwareStreamInput(bsi, SearchWriteables.REGISTRY), engine);
+          break;
+        default:
+          request = new OpenSearchScrollRequest(bsi, engine);
+      }
     }
     maxResponseSize = in.readInt();
 
@@ -144,9 +194,33 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     var reqAsBytes = reqOut.bytes().toBytesRef().bytes;
 
     // 3. Write out the byte[] to object output stream.
+    out.writeUTF(RequestType.of(request).name());
     out.writeInt(reqOut.size());
     out.write(reqAsBytes, 0, reqOut.size());
 
     out.writeInt(maxResponseSize);
   }
+
+  /** Type of the serialized request, which tells how to read it. */
+  private enum RequestType {
+    SCROLL,
+    POINT_IN_TIME,
+    COMPOSITE_AGGREGATION;
+
+    static RequestType of(OpenSearchRequest request) {
+      if (request instanceof OpenSearchPitRequest) {
+        return POINT_IN_TIME;
+      } else if (request instanceof OpenSearchCompositeAggregationRequest) {
+        return COMPOSITE_AGGREGATION;
+      }
+      return SCROLL;
+    }
+  }
+
+  /** Registry to read the queries and other named writeables of a search source. */
+  private static class SearchWriteables {
+    private static final NamedWriteableRegistry REGISTRY =
+        new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables());
+  }
 }
@@ -22,6 +22,7 @@ import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQuery
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalSort;
 
 /** Index scan builder for aggregate query used by {@link OpenSearchIndexScanBuilder} internally. */
@@ -73,6 +74,16 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
     return true;
   }
 
+  @Override
+  public boolean pushDownPageSize(LogicalPaginate paginate) {
+    // Only composite buckets can be paged, see OpenSearchRequestBuilder#build.
+    if (groupByList.isEmpty()) {
+      return false;
+    }
+    requestBuilder.pushDownPageSize(paginate.getPageSize());
+    return true;
+  }
+
   private boolean hasAggregatorInSortBy(LogicalSort sort) {
     final Set<String> aggregatorNames =
         aggregatorList.stream().map(NamedAggregator::getName).collect(Collectors.toSet());
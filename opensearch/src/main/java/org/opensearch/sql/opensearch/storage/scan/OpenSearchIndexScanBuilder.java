@@ -8,16 +8,19 @@ package org.opensearch.sql.opensearch.storage.scan;
 import static org.opensearch.sql.analysis.NestedAnalyzer.isNestedFunction;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
 import org.opensearch.sql.planner.logical.LogicalNested;
 import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
 import org.opensearch.sql.planner.logical.LogicalSort;
 import org.opensearch.sql.storage.TableScanOperator;
 import org.opensearch.sql.storage.read.TableScanBuilder;
@@ -29,26 +32,39 @@ import org.opensearch.sql.storage.read.TableScanBuilder;
  */
 public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
-  private final Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory;
+  private final Function<OpenSearchRequestBuilder, TableScanOperator> scanFactory;
 
   /** Delegated index scan builder for non-aggregate or aggregate query. */
   @EqualsAndHashCode.Include private PushDownQueryBuilder delegate;
 
+  /**
+   * Is aggregation, rare or top operator pushed down. Neither can be pushed down on the result of
+   * the other.
+   */
+  private boolean isAggregationPushedDown = false;
+
   /** Is limit operator pushed down. */
   private boolean isLimitPushedDown = false;
 
+  /**
+   * Is dedupe operator pushed down. The filter, sort and aggregation after dedupe can't be pushed
+   * down any more, as they would be applied before the documents are collapsed.
+   */
+  private boolean isDedupePushedDown = false;
+
   /** Constructor used during query execution. */
   public OpenSearchIndexScanBuilder(
       OpenSearchRequestBuilder requestBuilder,
-      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
-    this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder);
+      Supplier<Integer> maxResultWindow,
+      Function<OpenSearchRequestBuilder, TableScanOperator> scanFactory) {
+    this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder, maxResultWindow);
     this.scanFactory = scanFactory;
   }
 
   /** Constructor used for unit tests. */
   protected OpenSearchIndexScanBuilder(
       PushDownQueryBuilder translator,
-      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
+      Function<OpenSearchRequestBuilder, TableScanOperator> scanFactory) {
     this.delegate = translator;
     this.scanFactory = scanFactory;
   }
@@ -60,14 +76,18 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
   @Override
   public boolean pushDownFilter(LogicalFilter filter) {
+    if (isDedupePushedDown) {
+      return false;
+    }
     return delegate.pushDownFilter(filter);
   }
 
   @Override
   public boolean pushDownAggregation(LogicalAggregation aggregation) {
-    if (isLimitPushedDown) {
+    if (isLimitPushedDown || isDedupePushedDown || isAggregationPushedDown) {
       return false;
     }
+    isAggregationPushedDown = true;
 
     // Switch to builder for aggregate query which has different push down logic
     //  for later filter, sort and limit operator.
@@ -75,6 +95,21 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
     return true;
   }
 
+  @Override
+  public boolean pushDownRareTopN(LogicalRareTopN rareTopN) {
+    if (isLimitPushedDown
+        || isDedupePushedDown
+        || isAggregationPushedDown
+        || !OpenSearchIndexScanRareTopNBuilder.canPushDown(rareTopN)) {
+      return false;
+    }
+    isAggregationPushedDown = true;
+
+    // Switch to builder for rare and top query which counts the values by aggregation
+    delegate = new OpenSearchIndexScanRareTopNBuilder(delegate.build(), rareTopN);
+    return true;
+  }
+
   @Override
   public boolean pushDownPageSize(LogicalPaginate paginate) {
     return delegate.pushDownPageSize(paginate);
@@ -82,12 +117,22 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
   @Override
   public boolean pushDownSort(LogicalSort sort) {
-    if (!sortByFieldsOnly(sort)) {
+    if (isDedupePushedDown || !sortByFieldsOnly(sort)) {
       return false;
     }
     return delegate.pushDownSort(sort);
   }
 
+  @Override
+  public boolean pushDownDedupe(LogicalDedupe dedupe) {
+    // The documents collapsed must be the first ones of the query, not of a limited page
+    if (isLimitPushedDown || isDedupePushedDown) {
+      return false;
+    }
+    isDedupePushedDown = delegate.pushDownDedupe(dedupe);
+    return isDedupePushedDown;
+  }
+
   @Override
   public boolean pushDownLimit(LogicalLimit limit) {
     // Assume limit push down happening on OpenSearchIndexScanQueryBuilder
@@ -5,27 +5,34 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATAFIELD_TYPE_MAP;
+
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.utils.StringUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.sort.SortQueryBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -42,10 +49,29 @@ import org.opensearch.sql.planner.logical.LogicalSort;
 @EqualsAndHashCode
 class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
 
+  /** Types of the fields which can be collapsed on, besides the text fields with keyword. */
+  private static final Set<ExprType> COLLAPSIBLE_TYPES =
+      Set.of(
+          ExprCoreType.BYTE,
+          ExprCoreType.SHORT,
+          ExprCoreType.INTEGER,
+          ExprCoreType.LONG,
+          ExprCoreType.FLOAT,
+          ExprCoreType.DOUBLE,
+          ExprCoreType.STRING);
+
   OpenSearchRequestBuilder requestBuilder;
 
-  public OpenSearchIndexScanQueryBuilder(OpenSearchRequestBuilder requestBuilder) {
+  /** Max result window of the index, which a collapsed search can't page beyond. */
+  @EqualsAndHashCode.Exclude private final Supplier<Integer> maxResultWindow;
+
+  /** Is the search collapsed by a dedupe pushed down. */
+  private boolean isCollapsed = false;
+
+  public OpenSearchIndexScanQueryBuilder(
+      OpenSearchRequestBuilder requestBuilder, Supplier<Integer> maxResultWindow) {
     this.requestBuilder = requestBuilder;
+    this.maxResultWindow = maxResultWindow;
   }
 
   @Override
@@ -69,8 +95,44 @@ class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
     return true;
   }
 
+  /**
+   * Push down dedupe of a single field by collapsing the hits on it. The dedupe which keeps the
+   * documents without the field, or only removes the consecutive duplicates, can't be collapsed.
+   * The fields inside an object are not collapsed either, as the object may be nested. Only the
+   * dedupe keeping one document of each value is collapsed, because the inner hits of the other
+   * documents kept come back grouped by value instead of in the input order. A collapsed search
+   * can't be scrolled, so the dedupe is not collapsed if the rows requested exceed the max result
+   * window.
+   */
+  @Override
+  public boolean pushDownDedupe(LogicalDedupe dedupe) {
+    if (dedupe.getDedupeList().size() != 1
+        || dedupe.getKeepEmpty()
+        || dedupe.getConsecutive()
+        || dedupe.getAllowedDuplication() != 1
+        || !(dedupe.getDedupeList().get(0) instanceof ReferenceExpression)) {
+      return false;
+    }
+    ReferenceExpression field = (ReferenceExpression) dedupe.getDedupeList().get(0);
+    String collapseField = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
+    boolean collapsible =
+        COLLAPSIBLE_TYPES.contains(field.type()) || !collapseField.equals(field.getAttr());
+    if (!collapsible
+        || field.getAttr().contains(".")
+        || METADATAFIELD_TYPE_MAP.containsKey(field.getAttr())
+        || requestBuilder.getRequestedTotalSize() > maxResultWindow.get()) {
+      return false;
+    }
+    requestBuilder.pushDownDedupe(collapseField);
+    isCollapsed = true;
+    return true;
+  }
+
   @Override
   public boolean pushDownLimit(LogicalLimit limit) {
+    if (isCollapsed && limit.getOffset() + limit.getLimit() > maxResultWindow.get()) {
+      return false;
+    }
     requestBuilder.pushDownLimit(limit.getLimit(), limit.getOffset());
     return true;
   }
@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATAFIELD_TYPE_MAP;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
+
+/**
+ * Index scan builder for top query used by {@link OpenSearchIndexScanBuilder} internally.
+ * The values of the field are counted by a terms aggregation in each composite bucket of the group
+ * by fields, so only the values returned leave the shards. No operator after it is pushed down.
+ */
+@EqualsAndHashCode
+class OpenSearchIndexScanRareTopNBuilder implements PushDownQueryBuilder {
+
+  /** Types of which the terms bucket key is converted to the value of the field as is. */
+  private static final Set<ExprType> COUNTABLE_TYPES =
+      Set.of(
+          ExprCoreType.BYTE,
+          ExprCoreType.SHORT,
+          ExprCoreType.INTEGER,
+          ExprCoreType.LONG,
+          ExprCoreType.FLOAT,
+          ExprCoreType.DOUBLE,
+          ExprCoreType.STRING);
+
+  /** OpenSearch index scan to be optimized. */
+  private final OpenSearchRequestBuilder requestBuilder;
+
+  /** Field of which the values are counted. */
+  private final ReferenceExpression field;
+
+  /** Grouping items pushed down. */
+  private final List<NamedExpression> groupByList;
+
+  /** Number of values returned in each group. */
+  private final int size;
+
+  /** Is the least frequent values returned. */
+  private final boolean ascending;
+
+  OpenSearchIndexScanRareTopNBuilder(
+      OpenSearchRequestBuilder requestBuilder, LogicalRareTopN rareTopN) {
+    this.requestBuilder = requestBuilder;
+    this.field = (ReferenceExpression) rareTopN.getFieldList().get(0);
+    this.groupByList =
+        rareTopN.getGroupByList().stream()
+            .map(group -> DSL.named(((ReferenceExpression) group).getAttr(), group))
+            .collect(Collectors.toList());
+    this.size = rareTopN.getNoOfResults();
+    this.ascending = CommandType.RARE.equals(rareTopN.getCommandType());
+  }
+
+  /**
+   * Can the rare or top operator be pushed down. Only top is pushed down: each shard returns its
+   * own least frequent terms, so the terms ordered by ascending count may not be rare on the whole
+   * index. Only the value of a single field, of which the terms bucket key is the value as is, can
+   * be counted. Group by items must be fields too, and can't be the field counted.
+   *
+   * @param rareTopN logical rare or top operator
+   * @return true if it can be pushed down
+   */
+  static boolean canPushDown(LogicalRareTopN rareTopN) {
+    if (CommandType.RARE.equals(rareTopN.getCommandType())
+        || rareTopN.getFieldList().size() != 1
+        || !(rareTopN.getFieldList().get(0) instanceof ReferenceExpression)) {
+      return false;
+    }
+    ReferenceExpression field = (ReferenceExpression) rareTopN.getFieldList().get(0);
+    String termsField = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
+    boolean countable =
+        COUNTABLE_TYPES.contains(field.type()) || !termsField.equals(field.getAttr());
+    if (!countable
+        || field.getAttr().contains(".")
+        || METADATAFIELD_TYPE_MAP.containsKey(field.getAttr())) {
+      return false;
+    }
+    for (Expression group : rareTopN.getGroupByList()) {
+      if (!(group instanceof ReferenceExpression)
+          || ((ReferenceExpression) group).getAttr().equals(field.getAttr())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public OpenSearchRequestBuilder build() {
+    AggregationQueryBuilder builder =
+        new AggregationQueryBuilder(new DefaultExpressionSerializer());
+    Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
+        builder.buildRareTopNAggregationBuilder(field, groupByList, size, ascending);
+    requestBuilder.pushDownAggregation(aggregationBuilder);
+    requestBuilder.pushTypeMapping(
+        builder.buildTypeMapping(
+            Collections.emptyList(),
+            ImmutableList.<NamedExpression>builder()
+                .addAll(groupByList)
+                .add(DSL.named(field.getAttr(), field))
+                .build()));
+    return requestBuilder;
+  }
+}
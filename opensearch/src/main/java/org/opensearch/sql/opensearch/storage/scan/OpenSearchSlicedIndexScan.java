@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.storage.TableScanOperator;
+
+/**
+ * OpenSearch index scan operator which reads the slices of a sliced scroll in parallel. The batches
+ * of each slice are fetched on the worker thread pool, and the rows are returned in the order the
+ * batches arrive, so it is only used for scans which don't need a specific order.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@ToString(onlyExplicitlyIncluded = true)
+public class OpenSearchSlicedIndexScan extends TableScanOperator {
+
+  /** OpenSearch client. */
+  private final OpenSearchClient client;
+
+  /** Search request of each slice. */
+  @EqualsAndHashCode.Include @ToString.Include private final List<OpenSearchRequest> requests;
+
+  /** Largest number of rows allowed in the response. */
+  @EqualsAndHashCode.Include @ToString.Include private final int maxResponseSize;
+
+  /** Largest number of batches fetched ahead for each slice. */
+  private final int prefetchBatches;
+
+  /** Number of rows returned. */
+  private int queryCount;
+
+  /** Rows of the current batch. */
+  private Iterator<ExprValue> iterator;
+
+  /** Batches of each slice. */
+  private final List<BatchPrefetcher> prefetchers = new ArrayList<>();
+
+  /** Slices which may have more batches. */
+  private final List<BatchPrefetcher> active = new ArrayList<>();
+
+  /** Position in the active slices to take the next batch from. */
+  private int current;
+
+  /** Constructor. */
+  public OpenSearchSlicedIndexScan(
+      OpenSearchClient client,
+      int maxResponseSize,
+      List<OpenSearchRequest> requests,
+      int prefetchBatches) {
+    this.client = client;
+    this.maxResponseSize = maxResponseSize;
+    this.requests = requests;
+    // a slice has to fetch ahead at least one batch to be read in parallel with the others
+    this.prefetchBatches = Math.max(1, prefetchBatches);
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    iterator = Collections.emptyIterator();
+    queryCount = 0;
+    current = 0;
+    for (OpenSearchRequest request : requests) {
+      BatchPrefetcher prefetcher =
+          new BatchPrefetcher(client, request, maxResponseSize, prefetchBatches);
+      prefetchers.add(prefetcher);
+      active.add(prefetcher);
+      prefetcher.start();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (queryCount >= maxResponseSize) {
+      // stop the other slices from fetching batches which would be discarded
+      active.forEach(BatchPrefetcher::close);
+      active.clear();
+      iterator = Collections.emptyIterator();
+      return false;
+    }
+    while (!iterator.hasNext() && !active.isEmpty()) {
+      fetchNextBatch();
+    }
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    queryCount++;
+    return iterator.next();
+  }
+
+  /**
+   * Take the next batch from a slice which has one fetched already, or wait for the slices in turn
+   * if there is none.
+   */
+  private void fetchNextBatch() {
+    int index = current;
+    for (int i = 0; i < active.size(); i++) {
+      int candidate = (current + i) % active.size();
+      if (active.get(candidate).isReady()) {
+        index = candidate;
+        break;
+      }
+    }
+
+    List<ExprValue> batch = active.get(index).next();
+    if (batch == null) {
+      active.remove(index);
+      current = active.isEmpty() ? 0 : index % active.size();
+    } else {
+      iterator = batch.iterator();
+      current = (index + 1) % active.size();
+    }
+  }
+
+  /** Number of batches fetched by all slices, for the profile of the query. */
+  public int getFetchedBatches() {
+    return prefetchers.stream().mapToInt(BatchPrefetcher::getFetchedBatches).sum();
+  }
+
+  /** Bytes of the source of the documents fetched by all slices, for the profile of the query. */
+  public long getFetchedBytes() {
+    return prefetchers.stream().mapToLong(BatchPrefetcher::getFetchedBytes).sum();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+
+    prefetchers.forEach(BatchPrefetcher::close);
+    requests.forEach(client::cleanup);
+  }
+
+  @Override
+  public String explain() {
+    return requests.stream().map(Object::toString).collect(Collectors.joining(", "));
+  }
+}
@@ -5,7 +5,11 @@
 
 package org.opensearch.sql.opensearch.storage.script;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -21,7 +25,9 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 /**
  * Custom expression script engine that supports using core engine expression code in DSL as a new
- * script language just like built-in Painless language.
+ * script language just like built-in Painless language. The script factories compiled are cached
+ * on the node by the hash of the script code, so that the same expression pushed down by repeated
+ * queries is deserialized only once.
  */
 @RequiredArgsConstructor
 public class ExpressionScriptEngine implements ScriptEngine {
@@ -36,9 +42,16 @@ public class ExpressionScriptEngine implements ScriptEngine {
           .put(AggregationScript.CONTEXT, ExpressionAggregationScriptFactory::new)
           .build();
 
+  /** Maximum number of the script factories cached, the least recently used are evicted first. */
+  static final long MAXIMUM_CACHED_FACTORIES = 1000;
+
   /** Expression serializer that (de-)serializes expression. */
   private final ExpressionSerializer serializer;
 
+  /** Script factories compiled, by the script context name and the hash of the script code. */
+  private final Cache<String, Object> factories =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_FACTORIES).build();
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -47,21 +60,28 @@ public class ExpressionScriptEngine implements ScriptEngine {
   @Override
   public <T> T compile(
       String scriptName, String scriptCode, ScriptContext<T> context, Map<String, String> params) {
-    /*
-     * Note that in fact the expression source is already compiled in query engine.
-     * The "code" is actually a serialized expression tree by our serializer.
-     * Therefore the compilation here is simply to deserialize the expression tree.
-     */
-    Expression expression = serializer.deserialize(scriptCode);
+    if (!CONTEXTS.containsKey(context)) {
+      throw new IllegalStateException(
+          String.format(
+              "Script context is currently not supported: "
+                  + "all supported contexts [%s], given context [%s] ",
+              CONTEXTS, context));
+    }
 
-    if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
+    String key =
+        context.name + ":" + Hashing.sha256().hashString(scriptCode, StandardCharsets.UTF_8);
+    Object factory = factories.getIfPresent(key);
+    if (factory == null) {
+      /*
+       * Note that in fact the expression source is already compiled in query engine.
+       * The "code" is actually a serialized expression tree by our serializer.
+       * Therefore the compilation here is simply to deserialize the expression tree.
+       */
+      Expression expression = serializer.deserialize(scriptCode);
+      factory = CONTEXTS.get(context).apply(expression);
+      factories.put(key, factory);
     }
-    throw new IllegalStateException(
-        String.format(
-            "Script context is currently not supported: "
-                + "all supported contexts [%s], given context [%s] ",
-            CONTEXTS, context));
+    return context.factoryClazz.cast(factory);
   }
 
   @Override
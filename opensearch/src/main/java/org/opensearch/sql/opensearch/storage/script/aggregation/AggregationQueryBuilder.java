@@ -20,7 +20,9 @@ import org.apache.commons.lang3.tuple.Triple;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.expression.Expression;
@@ -29,10 +31,12 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.MetricParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.BucketAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.MetricAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
@@ -96,6 +100,50 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
     }
   }
 
+  /**
+   * Build AggregationBuilder of rare or top command, which counts the values of the field by a
+   * terms aggregation ordered by the count. The terms aggregation is a sub aggregation of the
+   * composite buckets if grouped by other fields.
+   *
+   * @param field field of which the values are counted
+   * @param groupByList fields to group by
+   * @param size number of values returned in each group
+   * @param ascending true to return the least frequent values, false the most frequent ones
+   * @return aggregation builders and the response parser
+   */
+  public Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser>
+      buildRareTopNAggregationBuilder(
+          ReferenceExpression field,
+          List<NamedExpression> groupByList,
+          int size,
+          boolean ascending) {
+    TermsAggregationBuilder terms =
+        AggregationBuilders.terms(field.getAttr())
+            .field(OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type()))
+            .size(size)
+            .order(BucketOrder.count(ascending));
+    if (groupByList.isEmpty()) {
+      return Pair.of(Collections.singletonList(terms), new RareTopNParser(field.getAttr()));
+    }
+    GroupSortOrder groupSortOrder = new GroupSortOrder(null);
+    return Pair.of(
+        Collections.singletonList(
+            AggregationBuilders.composite(
+                    "composite_buckets",
+                    bucketBuilder.build(
+                        groupByList.stream()
+                            .map(
+                                expr ->
+                                    Triple.of(
+                                        expr,
+                                        groupSortOrder.sortOrder(expr),
+                                        groupSortOrder.missingOrder(expr)))
+                            .collect(Collectors.toList())))
+                .subAggregation(terms)
+                .size(AGGREGATION_BUCKET_SIZE)),
+        new RareTopNParser(field.getAttr()));
+  }
+
   /** Build mapping for OpenSearchExprValueFactory. */
   public Map<String, OpenSearchDataType> buildTypeMapping(
       List<NamedAggregator> namedAggregatorList, List<NamedExpression> groupByList) {
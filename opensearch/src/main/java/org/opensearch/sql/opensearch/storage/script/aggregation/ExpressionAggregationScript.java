@@ -17,7 +17,6 @@ import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
-import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
@@ -28,19 +27,32 @@ public class ExpressionAggregationScript extends AggregationScript {
   /** Expression Script. */
   private final ExpressionScript expressionScript;
 
+  /** Field values of the current document. */
+  @EqualsAndHashCode.Exclude private final ExpressionScript.FieldSlots slots;
+
   /** Constructor of ExpressionAggregationScript. */
   public ExpressionAggregationScript(
       Expression expression,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
+    this(new ExpressionScript(expression), lookup, context, params);
+  }
+
+  /** Constructor with the expression script compiled by the factory. */
+  public ExpressionAggregationScript(
+      ExpressionScript expressionScript,
+      SearchLookup lookup,
+      LeafReaderContext context,
+      Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
+    this.slots = expressionScript.newSlots();
   }
 
   @Override
   public Object execute() {
-    var expr = expressionScript.execute(this::getDoc, this::evaluateExpression);
+    var expr = evaluateExpression(expressionScript.execute(slots, getDoc()));
     if (expr.type() instanceof OpenSearchDataType) {
       return expr.value();
     }
@@ -56,10 +68,7 @@ public class ExpressionAggregationScript extends AggregationScript {
     }
   }
 
-  private ExprValue evaluateExpression(
-      Expression expression, Environment<Expression, ExprValue> valueEnv) {
-    ExprValue result = expression.valueOf(valueEnv);
-
+  private ExprValue evaluateExpression(ExprValue result) {
     // The missing value is treated as null value in doc_value, so we can't distinguish with them.
     if (result.isNull()) {
       return ExprNullValue.of();
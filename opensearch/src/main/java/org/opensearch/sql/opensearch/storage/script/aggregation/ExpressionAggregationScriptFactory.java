@@ -10,6 +10,7 @@ import lombok.EqualsAndHashCode;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /** Aggregation Expression script factory that generates leaf factory. */
 @EqualsAndHashCode
@@ -17,8 +18,12 @@ public class ExpressionAggregationScriptFactory implements AggregationScript.Fac
 
   private final Expression expression;
 
+  /** Expression script compiled once for all the segments. */
+  @EqualsAndHashCode.Exclude private final ExpressionScript expressionScript;
+
   public ExpressionAggregationScriptFactory(Expression expression) {
     this.expression = expression;
+    this.expressionScript = new ExpressionScript(expression);
   }
 
   @Override
@@ -29,6 +34,6 @@ public class ExpressionAggregationScriptFactory implements AggregationScript.Fac
 
   @Override
   public AggregationScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new ExpressionAggregationScriptLeafFactory(expression, params, lookup);
+    return new ExpressionAggregationScriptLeafFactory(expressionScript, params, lookup);
   }
 }
@@ -9,13 +9,13 @@ import java.util.Map;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.lookup.SearchLookup;
-import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /** Expression script leaf factory that produces script executor for each leaf. */
 public class ExpressionAggregationScriptLeafFactory implements AggregationScript.LeafFactory {
 
-  /** Expression to execute. */
-  private final Expression expression;
+  /** Expression script compiled by the factory. */
+  private final ExpressionScript expressionScript;
 
   /** Expression to execute. */
   private final Map<String, Object> params;
@@ -25,15 +25,15 @@ public class ExpressionAggregationScriptLeafFactory implements AggregationScript
 
   /** Constructor of ExpressionAggregationScriptLeafFactory. */
   public ExpressionAggregationScriptLeafFactory(
-      Expression expression, Map<String, Object> params, SearchLookup lookup) {
-    this.expression = expression;
+      ExpressionScript expressionScript, Map<String, Object> params, SearchLookup lookup) {
+    this.expressionScript = expressionScript;
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public AggregationScript newInstance(LeafReaderContext ctx) {
-    return new ExpressionAggregationScript(expression, lookup, ctx, params);
+    return new ExpressionAggregationScript(expressionScript, lookup, ctx, params);
   }
 
   @Override
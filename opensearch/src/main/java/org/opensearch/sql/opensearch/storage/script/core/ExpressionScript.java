@@ -6,22 +6,30 @@
 package org.opensearch.sql.opensearch.storage.script.core;
 
 import static java.util.stream.Collectors.toMap;
-import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
-import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.chrono.ChronoZonedDateTime;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
-import java.util.function.Supplier;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.ReferenceExpression;
@@ -33,53 +41,58 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /**
  * Expression script executor that executes the expression on each document and determine if the
- * document is supposed to be filtered out or not.
+ * document is supposed to be filtered out or not. The fields referenced by the expression and the
+ * way to read each of them from doc values are resolved once when the script is compiled, so that
+ * the script only reads the doc values and evaluates the expression on each document.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
 
   /** Expression to execute. */
-  private final Expression expression;
+  @Getter private final Expression expression;
 
-  /** ElasticsearchExprValueFactory. */
-  @EqualsAndHashCode.Exclude private final OpenSearchExprValueFactory valueFactory;
+  /** Reference Fields, each read by the reader at the same index. */
+  @EqualsAndHashCode.Exclude private final ReferenceExpression[] fields;
 
-  /** Reference Fields. */
-  @EqualsAndHashCode.Exclude private final Set<ReferenceExpression> fields;
+  /** Readers of the reference fields from doc values. */
+  @EqualsAndHashCode.Exclude private final FieldReader[] readers;
 
   /** Expression constructor. */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
     this.fields =
         AccessController.doPrivileged(
-            (PrivilegedAction<Set<ReferenceExpression>>) () -> extractFields(expression));
-    this.valueFactory =
-        AccessController.doPrivileged(
-            (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+            (PrivilegedAction<ReferenceExpression[]>) () -> extractFields(expression));
+    this.readers =
+        AccessController.doPrivileged((PrivilegedAction<FieldReader[]>) () -> buildReaders(fields));
+  }
+
+  /**
+   * Create the slots of a script instance for the field values of the current document. A script
+   * instance is used by one thread, so the slots are reused for each document.
+   *
+   * @return slots of the field values
+   */
+  public FieldSlots newSlots() {
+    return new FieldSlots(new ExprValue[fields.length]);
   }
 
   /**
-   * Evaluate on the doc generate by the doc provider.
+   * Evaluate on the doc.
    *
-   * @param docProvider doc provider.
-   * @param evaluator evaluator
+   * @param slots slots of the script instance
+   * @param doc doc values of the current document
    * @return expr value
    */
-  public ExprValue execute(
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider,
-      BiFunction<Expression, Environment<Expression, ExprValue>, ExprValue> evaluator) {
-    return AccessController.doPrivileged(
-        (PrivilegedAction<ExprValue>)
-            () -> {
-              Environment<Expression, ExprValue> valueEnv =
-                  buildValueEnv(fields, valueFactory, docProvider);
-              ExprValue result = evaluator.apply(expression, valueEnv);
-              return result;
-            });
+  public ExprValue execute(FieldSlots slots, Map<String, ScriptDocValues<?>> doc) {
+    for (int i = 0; i < readers.length; i++) {
+      slots.values[i] = readers[i].read(doc);
+    }
+    return expression.valueOf(slots);
   }
 
-  private Set<ReferenceExpression> extractFields(Expression expr) {
-    Set<ReferenceExpression> fields = new HashSet<>();
+  private ReferenceExpression[] extractFields(Expression expr) {
+    Set<ReferenceExpression> fields = new LinkedHashSet<>();
     expr.accept(
         new ExpressionNodeVisitor<Object, Set<ReferenceExpression>>() {
           @Override
@@ -95,63 +108,115 @@ public class ExpressionScript {
           }
         },
         fields);
-    return fields;
+    return fields.toArray(new ReferenceExpression[0]);
   }
 
-  private OpenSearchExprValueFactory buildValueFactory(Set<ReferenceExpression> fields) {
+  private FieldReader[] buildReaders(ReferenceExpression[] fields) {
     Map<String, OpenSearchDataType> typeEnv =
-        fields.stream()
-            .collect(toMap(ReferenceExpression::getAttr, e -> OpenSearchDataType.of(e.type())));
-    return new OpenSearchExprValueFactory(typeEnv);
+        Arrays.stream(fields)
+            .collect(
+                toMap(
+                    ReferenceExpression::getAttr,
+                    e -> OpenSearchDataType.of(e.type()),
+                    (type, duplicate) -> type));
+    OpenSearchExprValueFactory valueFactory = new OpenSearchExprValueFactory(typeEnv);
+    return Arrays.stream(fields)
+        .map(field -> buildReader(field, valueFactory))
+        .toArray(FieldReader[]::new);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields,
-      OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue =
-          valueFactory.construct(fieldName, getDocValue(field, docProvider), false);
-      valueEnv.put(field, exprValue);
+  /**
+   * Build the reader of a field. DocValue only support long and double, which are converted to the
+   * type of the field directly. The doc values of the other types are converted by the value
+   * factory, as they are in a search hit.
+   */
+  private FieldReader buildReader(
+      ReferenceExpression field, OpenSearchExprValueFactory valueFactory) {
+    String docField = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
+    Function<Object, ExprValue> parser =
+        value ->
+            valueFactory.construct(
+                field.getAttr(),
+                value instanceof ChronoZonedDateTime
+                    ? ((ChronoZonedDateTime<?>) value).toInstant()
+                    : value,
+                false);
+    if (!(field.type() instanceof ExprCoreType)) {
+      return new FieldReader(docField, parser);
     }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
-  }
-
-  private Object getDocValue(
-      ReferenceExpression field, Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
-    if (docValue == null || docValue.isEmpty()) {
-      return null; // No way to differentiate null and missing from doc value
+    switch ((ExprCoreType) field.type()) {
+      case BYTE:
+        return new FieldReader(docField, number(n -> new ExprByteValue(n.byteValue()), parser));
+      case SHORT:
+        return new FieldReader(docField, number(n -> new ExprShortValue(n.shortValue()), parser));
+      case INTEGER:
+        return new FieldReader(docField, number(n -> new ExprIntegerValue(n.intValue()), parser));
+      case LONG:
+        return new FieldReader(docField, number(n -> new ExprLongValue(n.longValue()), parser));
+      case FLOAT:
+        return new FieldReader(docField, number(n -> new ExprFloatValue(n.floatValue()), parser));
+      case DOUBLE:
+        return new FieldReader(
+            docField, number(n -> new ExprDoubleValue(n.doubleValue()), parser));
+      case TIMESTAMP:
+      case DATE:
+      case TIME:
+        return new FieldReader(
+            docField,
+            value ->
+                value instanceof ChronoZonedDateTime
+                    ? new ExprTimestampValue(((ChronoZonedDateTime<?>) value).toInstant())
+                    : parser.apply(value));
+      case STRING:
+        return new FieldReader(docField, value -> new ExprStringValue((String) value));
+      default:
+        return new FieldReader(docField, parser);
     }
+  }
 
-    Object value = docValue.get(0);
-    if (value instanceof ChronoZonedDateTime) {
-      return ((ChronoZonedDateTime<?>) value).toInstant();
-    }
-    return castNumberToFieldType(value, field.type());
+  /** Convert the value directly if it is a number, otherwise by the parser. */
+  private static Function<Object, ExprValue> number(
+      Function<Number, ExprValue> converter, Function<Object, ExprValue> parser) {
+    return value -> value instanceof Number ? converter.apply((Number) value) : parser.apply(value);
   }
 
-  /**
-   * DocValue only support long and double so cast to integer and float if needed. The doc value
-   * must be Long and Double for expr type Long/Integer and Double/Float respectively. Otherwise
-   * there must be bugs in our engine that causes the mismatch.
-   */
-  private Object castNumberToFieldType(Object value, ExprType type) {
-    if (value == null) {
-      return value;
+  /** Reader of a field from the doc values of the current document. */
+  @RequiredArgsConstructor
+  private static class FieldReader {
+
+    /** Name of the field in doc values, which is the keyword sub field of a text field. */
+    private final String docField;
+
+    private final Function<Object, ExprValue> converter;
+
+    ExprValue read(Map<String, ScriptDocValues<?>> doc) {
+      ScriptDocValues<?> docValue = doc.get(docField);
+      if (docValue == null || docValue.isEmpty()) {
+        return ExprNullValue.of(); // No way to differentiate null and missing from doc value
+      }
+      return converter.apply(docValue.get(0));
     }
+  }
 
-    if (type == INTEGER) {
-      return ((Long) value).intValue();
-    } else if (type == FLOAT) {
-      return ((Double) value).floatValue();
-    } else {
-      return value;
+  /** Values of the reference fields for the current document of a script instance. */
+  @RequiredArgsConstructor
+  public class FieldSlots implements Environment<Expression, ExprValue> {
+    private final ExprValue[] values;
+
+    @Override
+    public ExprValue resolve(Expression var) {
+      // the references in the expression are the fields extracted, so compare the identity first
+      for (int i = 0; i < fields.length; i++) {
+        if (fields[i] == var) {
+          return values[i];
+        }
+      }
+      for (int i = 0; i < fields.length; i++) {
+        if (fields[i].equals(var)) {
+          return values[i];
+        }
+      }
+      return null;
     }
   }
 }
@@ -14,7 +14,6 @@ import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
-import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
@@ -27,23 +26,34 @@ class ExpressionFilterScript extends FilterScript {
   /** Expression Script. */
   private final ExpressionScript expressionScript;
 
+  /** Field values of the current document. */
+  @EqualsAndHashCode.Exclude private final ExpressionScript.FieldSlots slots;
+
   public ExpressionFilterScript(
       Expression expression,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
+    this(new ExpressionScript(expression), lookup, context, params);
+  }
+
+  /** Constructor with the expression script compiled by the factory. */
+  public ExpressionFilterScript(
+      ExpressionScript expressionScript,
+      SearchLookup lookup,
+      LeafReaderContext context,
+      Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
+    this.slots = expressionScript.newSlots();
   }
 
   @Override
   public boolean execute() {
-    return expressionScript.execute(this::getDoc, this::evaluateExpression).booleanValue();
+    return evaluateExpression(expressionScript.execute(slots, getDoc())).booleanValue();
   }
 
-  private ExprValue evaluateExpression(
-      Expression expression, Environment<Expression, ExprValue> valueEnv) {
-    ExprValue result = expression.valueOf(valueEnv);
+  private ExprValue evaluateExpression(ExprValue result) {
     if (result.isNull()) {
       return ExprBooleanValue.of(false);
     }
@@ -53,7 +63,7 @@ class ExpressionFilterScript extends FilterScript {
           String.format(
               "Expression has wrong result type instead of boolean: "
                   + "expression [%s], result [%s]",
-              expression, result));
+              expressionScript.getExpression(), result));
     }
     return result;
   }
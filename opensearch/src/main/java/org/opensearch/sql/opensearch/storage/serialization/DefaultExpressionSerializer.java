@@ -8,22 +8,47 @@ package org.opensearch.sql.opensearch.storage.serialization;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 import org.opensearch.sql.expression.Expression;
 
-/** Default serializer that (de-)serialize expressions by JDK serialization. */
+/**
+ * Default serializer that (de-)serialize expressions by JDK serialization. The serialized
+ * expression is deflated and prefixed by the {@link #FORMAT_VERSION} byte, in URL safe base64
+ * without padding, which keeps the script source in the search request small. The plain base64
+ * code of the older encoding is still accepted.
+ */
 public class DefaultExpressionSerializer implements ExpressionSerializer {
 
+  /** Version of the expression encoding, the first byte of the encoded data. */
+  static final byte FORMAT_VERSION = 1;
+
+  /** Base64 encoded JDK serialization stream magic number, which starts the older encoding. */
+  private static final String LEGACY_MAGIC = "rO0";
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
   @Override
   public String serialize(Expression expr) {
     try {
       ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(expr);
-      objectOutput.flush();
-      return Base64.getEncoder().encodeToString(output.toByteArray());
+      output.write(FORMAT_VERSION);
+      Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+      try (ObjectOutputStream objectOutput =
+          new ObjectOutputStream(new DeflaterOutputStream(output, deflater))) {
+        objectOutput.writeObject(expr);
+      } finally {
+        deflater.end();
+      }
+      return ENCODER.encodeToString(output.toByteArray());
     } catch (IOException e) {
       throw new IllegalStateException("Failed to serialize expression: " + expr, e);
     }
@@ -32,11 +57,27 @@ public class DefaultExpressionSerializer implements ExpressionSerializer {
   @Override
   public Expression deserialize(String code) {
     try {
-      ByteArrayInputStream input = new ByteArrayInputStream(Base64.getDecoder().decode(code));
-      ObjectInputStream objectInput = new ObjectInputStream(input);
-      return (Expression) objectInput.readObject();
+      if (code.startsWith(LEGACY_MAGIC)) {
+        return read(new ByteArrayInputStream(Base64.getDecoder().decode(code)));
+      }
+      byte[] bytes = DECODER.decode(code);
+      if (bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+        throw new IllegalArgumentException("Unsupported expression code format");
+      }
+      Inflater inflater = new Inflater(true);
+      try {
+        return read(
+            new InflaterInputStream(
+                new ByteArrayInputStream(bytes, 1, bytes.length - 1), inflater));
+      } finally {
+        inflater.end();
+      }
     } catch (Exception e) {
       throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
     }
   }
+
+  private Expression read(InputStream input) throws IOException, ClassNotFoundException {
+    return (Expression) new ObjectInputStream(input).readObject();
+  }
 }
@@ -9,17 +9,21 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.commons.ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT;
 import static org.opensearch.sql.opensearch.client.OpenSearchClient.META_CLUSTER_NAME;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
 
@@ -31,6 +35,7 @@ import java.net.URL;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -40,6 +45,7 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -52,13 +58,19 @@ import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequestBuilder;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitAction;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -74,6 +86,8 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.mapping.IndexMetadataCache;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -270,6 +284,71 @@ class OpenSearchNodeClientTest {
     assertEquals(10000, indexMaxResultWindow);
   }
 
+  @Test
+  void get_index_metadata_from_cache() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_SETTINGS_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientIndicesMappings(indexName, indexMetadata);
+    mockNodeClientSettings(indexName, indexMetadata);
+    IndexMetadataCache cache = new IndexMetadataCache(10);
+    OpenSearchClient cachedClient = new OpenSearchNodeClient(nodeClient, cache, false);
+
+    Map<String, IndexMapping> indexMappings = cachedClient.getIndexMappings(indexName);
+    Map<String, Integer> maxResultWindows = cachedClient.getIndexMaxResultWindows(indexName);
+    Map<String, Integer> numberOfShards = cachedClient.getIndexNumberOfShards(indexName);
+    assertSame(indexMappings, cachedClient.getIndexMappings(indexName));
+    assertSame(maxResultWindows, cachedClient.getIndexMaxResultWindows(indexName));
+    assertSame(numberOfShards, cachedClient.getIndexNumberOfShards(indexName));
+    assertEquals(Map.of(indexName, 100), maxResultWindows);
+
+    cache.invalidateAll();
+    assertNotSame(indexMappings, cachedClient.getIndexMappings(indexName));
+  }
+
+  @Test
+  void get_index_metadata_from_cache_of_each_user() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_SETTINGS_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientIndicesMappings(indexName, indexMetadata);
+    ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    when(nodeClient.threadPool().getThreadContext()).thenReturn(threadContext);
+    OpenSearchClient cachedClient =
+        new OpenSearchNodeClient(nodeClient, new IndexMetadataCache(10), true);
+
+    Map<String, IndexMapping> aliceMappings = getIndexMappingsAs(cachedClient, "alice", indexName);
+    Map<String, IndexMapping> bobMappings = getIndexMappingsAs(cachedClient, "bob", indexName);
+    assertNotSame(aliceMappings, bobMappings);
+    assertSame(aliceMappings, getIndexMappingsAs(cachedClient, "alice", indexName));
+    assertSame(bobMappings, getIndexMappingsAs(cachedClient, "bob", indexName));
+  }
+
+  @Test
+  void get_index_metadata_without_cache_if_no_user_and_security_installed() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_SETTINGS_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientIndicesMappings(indexName, indexMetadata);
+    when(nodeClient.threadPool().getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+    OpenSearchClient cachedClient =
+        new OpenSearchNodeClient(nodeClient, new IndexMetadataCache(10), true);
+
+    assertNotSame(
+        cachedClient.getIndexMappings(indexName), cachedClient.getIndexMappings(indexName));
+  }
+
+  @Test
+  void is_security_installed_if_security_settings_registered() {
+    Setting<Boolean> securityDisabled =
+        Setting.boolSetting("plugins.security.disabled", false, Setting.Property.NodeScope);
+    assertTrue(
+        OpenSearchNodeClient.isSecurityInstalled(
+            new ClusterSettings(Settings.EMPTY, Set.of(securityDisabled))));
+    assertFalse(
+        OpenSearchNodeClient.isSecurityInstalled(new ClusterSettings(Settings.EMPTY, Set.of())));
+  }
+
   @Test
   void get_index_max_result_windows_with_IOException() {
     String indexName = "test";
@@ -278,6 +357,23 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows(indexName));
   }
 
+  @Test
+  void get_index_number_of_shards() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientSettings(indexName, indexMetadata);
+
+    assertEquals(Map.of(indexName, 5), client.getIndexNumberOfShards(indexName));
+  }
+
+  @Test
+  void get_index_number_of_shards_with_exception() {
+    when(nodeClient.admin().indices()).thenThrow(RuntimeException.class);
+
+    assertThrows(IllegalStateException.class, () -> client.getIndexNumberOfShards("test"));
+  }
+
   /** Jacoco enforce this constant lambda be tested. */
   @Test
   void test_all_fields_predicate() {
@@ -335,6 +431,19 @@ class OpenSearchNodeClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void schedule_async() {
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.scheduleAsync(() -> isRun.set(true));
+    assertFalse(isRun.get());
+
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    verify(nodeClient.threadPool())
+        .schedule(task.capture(), any(TimeValue.class), Mockito.eq("sql-worker"));
+    task.getValue().run();
+    assertTrue(isRun.get());
+  }
+
   @Test
   @SneakyThrows
   void cleanup() {
@@ -362,6 +471,44 @@ class OpenSearchNodeClientTest {
     inOrder.verify(requestBuilder).get();
   }
 
+  @Test
+  void search_with_pit_request_creates_pit() {
+    CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+    when(createPitResponse.getId()).thenReturn("pit1");
+    when(nodeClient.execute(eq(CreatePitAction.INSTANCE), any()).actionGet())
+        .thenReturn(createPitResponse);
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(nodeClient.search(any()).actionGet()).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+
+    OpenSearchPitRequest request =
+        new OpenSearchPitRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder().size(10),
+            factory,
+            List.of());
+    assertTrue(client.search(request).isEmpty());
+    assertEquals("pit1", request.getPitId());
+  }
+
+  @Test
+  @SneakyThrows
+  void cleanup_pit_request() {
+    OpenSearchPitRequest request =
+        new OpenSearchPitRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            factory,
+            List.of());
+    request.setPitId("pit1");
+    client.cleanup(request);
+
+    verify(nodeClient).execute(eq(DeletePitAction.INSTANCE), any());
+    assertFalse(request.isPitCreated());
+  }
+
   @Test
   void cleanup_without_scrollId() {
     OpenSearchScrollRequest request =
@@ -441,6 +588,16 @@ class OpenSearchNodeClientTest {
     }
   }
 
+  private Map<String, IndexMapping> getIndexMappingsAs(
+      OpenSearchClient client, String user, String indexName) {
+    ThreadContext threadContext = nodeClient.threadPool().getThreadContext();
+    try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+      threadContext.putTransient(
+          OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, user + "||all_access|");
+      return client.getIndexMappings(indexName);
+    }
+  }
+
   private void mockNodeClientSettings(String indexName, String indexMetadata) throws IOException {
     GetSettingsResponse mockResponse = mock(GetSettingsResponse.class);
     when(nodeClient.admin().indices().prepareGetSettings(any()).setLocal(anyBoolean()).get())
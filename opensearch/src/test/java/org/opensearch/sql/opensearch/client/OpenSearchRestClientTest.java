@@ -43,6 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.CreatePitResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
@@ -69,6 +70,7 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -271,6 +273,25 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows("test"));
   }
 
+  @Test
+  void get_index_number_of_shards() throws IOException {
+    String indexName = "test";
+    GetSettingsResponse response = mock(GetSettingsResponse.class);
+    Settings shardSettings = Settings.builder().put("index.number_of_shards", 3).build();
+    when(response.getIndexToSettings()).thenReturn(mockSettings(indexName, shardSettings));
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenReturn(response);
+
+    assertEquals(Map.of(indexName, 3), client.getIndexNumberOfShards(indexName));
+  }
+
+  @Test
+  void get_index_number_of_shards_with_IOException() throws IOException {
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenThrow(new IOException());
+    assertThrows(IllegalStateException.class, () -> client.getIndexNumberOfShards("test"));
+  }
+
   @Test
   void search() throws IOException {
     // Mock first scroll request
@@ -362,6 +383,13 @@ class OpenSearchRestClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void schedule_async() {
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.scheduleAsync(() -> isRun.set(true));
+    assertTrue(isRun.get());
+  }
+
   @Test
   @SneakyThrows
   void cleanup() {
@@ -380,6 +408,43 @@ class OpenSearchRestClientTest {
     assertFalse(request.isScroll());
   }
 
+  @Test
+  void search_with_pit_request_creates_pit() throws IOException {
+    CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+    when(createPitResponse.getId()).thenReturn("pit1");
+    when(restClient.createPit(any(), any())).thenReturn(createPitResponse);
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(restClient.search(any(), any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+
+    OpenSearchPitRequest request =
+        new OpenSearchPitRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder().size(10),
+            factory,
+            List.of());
+    assertTrue(client.search(request).isEmpty());
+    assertEquals("pit1", request.getPitId());
+  }
+
+  @Test
+  @SneakyThrows
+  void cleanup_pit_request() {
+    OpenSearchPitRequest request =
+        new OpenSearchPitRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            factory,
+            List.of());
+    request.setPitId("pit1");
+    client.cleanup(request);
+
+    verify(restClient).deletePit(any(), any());
+    assertFalse(request.isPitCreated());
+  }
+
   @Test
   void cleanup_without_scrollId() throws IOException {
     OpenSearchScrollRequest request =
@@ -47,6 +47,7 @@ import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
@@ -775,6 +776,55 @@ class OpenSearchExprValueFactoryTest {
     assertEquals("Unsupported type: TEST_TYPE for value: 1.", exception.getMessage());
   }
 
+  @Test
+  public void constructFromSourceBytesSameAsFromString() {
+    String source =
+        "{\"intV\":1,\"stringV\":\"text\",\"dateV\":\"1984-04-12\","
+            + "\"structV\":{\"id\":1,\"state\":\"WA\"},"
+            + "\"arrayV\":[{\"info\":\"zz\",\"author\":\"au\"}],"
+            + "\"geoV\":{\"lat\":42.60355556,\"lon\":-97.25263889},"
+            + "\"nullV\":null}";
+    assertAll(
+        () ->
+            assertEquals(
+                exprValueFactory.construct(source, false),
+                exprValueFactory.construct(new BytesArray(source), List.of(), false)),
+        () ->
+            assertEquals(
+                exprValueFactory.construct(source, true),
+                exprValueFactory.construct(new BytesArray(source), List.of(), true)));
+  }
+
+  @Test
+  public void constructFromSourceBytesSkipsFieldsNotIncluded() {
+    String source =
+        "{\"intV\":1,\"stringV\":\"text\",\"structV\":{\"id\":1,\"state\":\"WA\"},"
+            + "\"arrayV\":[{\"info\":\"zz\"}]}";
+    assertEquals(
+        ExprTupleValue.fromExprValueMap(
+            ImmutableMap.of(
+                "intV",
+                integerValue(1),
+                "structV",
+                ExprTupleValue.fromExprValueMap(
+                    ImmutableMap.of("id", integerValue(1), "state", stringValue("WA"))))),
+        exprValueFactory.construct(
+            new BytesArray(source), List.of("intV", "structV.state", "_id"), false));
+  }
+
+  @Test
+  public void constructFromInvalidSourceBytesThrowException() {
+    assertAll(
+        () ->
+            assertThrows(
+                IllegalStateException.class,
+                () -> exprValueFactory.construct(new BytesArray("[1]"), List.of(), false)),
+        () ->
+            assertThrows(
+                IllegalStateException.class,
+                () -> exprValueFactory.construct(new BytesArray("{\"intV\":"), List.of(), false)));
+  }
+
   @Test
   // aggregation adds info about new columns to the factory,
   // it is accepted without overwriting existing data.
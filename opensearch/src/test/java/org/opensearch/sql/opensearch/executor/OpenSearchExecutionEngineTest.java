@@ -19,6 +19,8 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.sql.common.setting.Settings.Key.SQL_CURSOR_KEEP_ALIVE;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import static org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanTest.employee;
+import static org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanTest.mockResponse;
 
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
@@ -26,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
@@ -43,13 +46,17 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchSlicedIndexScan;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -168,6 +175,52 @@ class OpenSearchExecutionEngineTest {
     verify(plan).close();
   }
 
+  @Test
+  void execute_with_streaming_listener_delivers_rows_in_batches() {
+    List<ExprValue> expected = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      expected.add(tupleValue(of("name", "John", "age", i)));
+    }
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    List<Integer> batchSizes = new ArrayList<>();
+    List<ExprValue> actual = new ArrayList<>();
+    AtomicReference<Cursor> cursor = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new StreamingResponseListener() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema actualSchema) {
+            assertEquals(schema, actualSchema);
+            assertTrue(actual.isEmpty());
+          }
+
+          @Override
+          public void onBatch(List<ExprValue> rows) {
+            batchSizes.add(rows.size());
+            actual.addAll(rows);
+          }
+
+          @Override
+          public void onComplete(Cursor actualCursor) {
+            cursor.set(actualCursor);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(List.of(1000, 1000, 500), batchSizes);
+    assertEquals(expected, actual);
+    assertTrue(cursor.get().toString().startsWith("n:"));
+    assertTrue(plan.hasClosed);
+  }
+
   @Test
   void explain_successfully() {
     OpenSearchExecutionEngine executor =
@@ -230,6 +283,144 @@ class OpenSearchExecutionEngineTest {
     assertNotNull(result.get());
   }
 
+  @Test
+  void profile_successfully() {
+    List<ExprValue> expected =
+        Arrays.asList(
+            tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    QueryProfile profile = new QueryProfile();
+    when(protector.protect(plan, profile)).thenReturn(profile.profile(plan));
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.profile(
+        plan,
+        profile,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertTrue(plan.hasClosed);
+    assertEquals(2L, result.get().getRoot().getProfile().get("rows_out"));
+    assertFalse(result.get().getRoot().getProfile().containsKey("scan_batches"));
+    assertTrue(result.get().getProfile().containsKey("execute_time_in_nanos"));
+  }
+
+  @Test
+  void profile_of_index_scan() {
+    OpenSearchClient scanClient = mock(OpenSearchClient.class);
+    mockResponse(scanClient);
+    Settings settings = mock(Settings.class);
+    when(settings.getSettingValue(SQL_CURSOR_KEEP_ALIVE)).thenReturn(TimeValue.timeValueMinutes(1));
+    final var requestBuilder =
+        new OpenSearchRequestBuilder(100, mock(OpenSearchExprValueFactory.class));
+    PhysicalPlan plan =
+        new OpenSearchIndexScan(
+            scanClient,
+            10000,
+            requestBuilder.build(
+                new OpenSearchRequest.IndexName("test"),
+                10000,
+                settings.getSettingValue(SQL_CURSOR_KEEP_ALIVE)));
+    QueryProfile profile = new QueryProfile();
+    when(protector.protect(plan, profile)).thenReturn(profile.profile(plan));
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.profile(
+        plan,
+        profile,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    Map<String, Object> scanProfile = result.get().getRoot().getProfile();
+    assertEquals(0L, scanProfile.get("rows_out"));
+    assertEquals(0, scanProfile.get("scan_batches"));
+    assertEquals(0L, scanProfile.get("scan_bytes"));
+  }
+
+  @Test
+  void profile_of_sliced_index_scan() {
+    OpenSearchClient scanClient = mock(OpenSearchClient.class);
+    mockResponse(scanClient, new ExprValue[] {employee(1, "John", "IT")});
+    PhysicalPlan plan =
+        new OpenSearchSlicedIndexScan(scanClient, 10000, List.of(mock(OpenSearchRequest.class)), 1);
+    QueryProfile profile = new QueryProfile();
+    when(protector.protect(plan, profile)).thenReturn(profile.profile(plan));
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.profile(
+        plan,
+        profile,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    Map<String, Object> scanProfile = result.get().getRoot().getProfile();
+    assertEquals(1L, scanProfile.get("rows_out"));
+    assertEquals(1, scanProfile.get("scan_batches"));
+    assertEquals(0L, scanProfile.get("scan_bytes"));
+  }
+
+  @Test
+  void profile_with_failure() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    RuntimeException expected = new RuntimeException("Execution error");
+    when(plan.hasNext()).thenThrow(expected);
+    QueryProfile profile = new QueryProfile();
+    when(protector.protect(plan, profile)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.profile(
+        plan,
+        profile,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            fail("Expected error didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+    assertEquals(expected, actual.get());
+    verify(plan).close();
+  }
+
   @Test
   void call_add_split_and_open_in_order() {
     List<ExprValue> expected =
@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -23,6 +24,7 @@ import org.opensearch.sql.opensearch.executor.protector.ResourceMonitorPlan;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
 
 @ExtendWith(MockitoExtension.class)
 class ResourceMonitorPlanTest {
@@ -82,6 +84,25 @@ class ResourceMonitorPlanTest {
     assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchSuccess() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    RowBatch batch = new RowBatch(1);
+    when(plan.nextBatch(1)).thenReturn(batch);
+
+    assertSame(batch, monitorPlan.nextBatch(1));
+    verify(resourceMonitor, times(1)).isHealthy();
+  }
+
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch(1));
+    assertEquals("resource is not enough to load next batch, quit.", exception.getMessage());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
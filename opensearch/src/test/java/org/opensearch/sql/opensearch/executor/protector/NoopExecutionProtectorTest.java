@@ -6,11 +6,14 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.executor.profile.ProfilePlan;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,4 +28,14 @@ class NoopExecutionProtectorTest {
 
     assertEquals(plan, protectedPlan);
   }
+
+  @Test
+  void protect_with_profile() {
+    NoopExecutionProtector executionProtector = new NoopExecutionProtector();
+    QueryProfile profile = new QueryProfile();
+    PhysicalPlan protectedPlan = executionProtector.protect(plan, profile);
+
+    assertTrue(protectedPlan instanceof ProfilePlan);
+    assertTrue(profile.operator(plan).isPresent());
+  }
 }
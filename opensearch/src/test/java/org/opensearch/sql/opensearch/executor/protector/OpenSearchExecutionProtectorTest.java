@@ -7,10 +7,13 @@ package org.opensearch.sql.opensearch.executor.protector;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -20,6 +23,7 @@ import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -45,6 +49,8 @@ import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.executor.profile.ProfilePlan;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
@@ -54,6 +60,8 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.expression.window.ranking.RankFunction;
+import org.opensearch.sql.monitor.MemoryAccount;
+import org.opensearch.sql.monitor.MemoryReservation;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -68,6 +76,8 @@ import org.opensearch.sql.planner.physical.CursorCloseOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.ValuesOperator;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -216,6 +226,47 @@ class OpenSearchExecutionProtectorTest {
             window(sort(values(emptyList()), sortItem), avg, windowDefinition)));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void test_protect_sort_keeps_spill_threshold() {
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    PhysicalPlan protectedPlan =
+        executionProtector.protect(
+            new SortOperator(values(emptyList()), ImmutableList.of(sortItem), 1000));
+    assertEquals(
+        resourceMonitor(new SortOperator(values(emptyList()), ImmutableList.of(sortItem), 1000)),
+        protectedPlan);
+  }
+
+  @Test
+  void test_protect_sort_accounts_memory_to_the_query() {
+    MemoryAccount memoryAccount = mock(MemoryAccount.class);
+    when(resourceMonitor.newMemoryAccount()).thenReturn(memoryAccount);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    Pair<Sort.SortOption, Expression> sortItem = ImmutablePair.of(DEFAULT_ASC, literal(1));
+
+    PhysicalPlan protectedPlan =
+        executionProtector.protect(
+            new SortOperator(values(ImmutableList.of(literal(1))), ImmutableList.of(sortItem), 0));
+    protectedPlan.open();
+    protectedPlan.close();
+    verify(memoryAccount).reserve(MemoryReservation.CHUNK_BYTES, "sort");
+    verify(memoryAccount).release(MemoryReservation.CHUNK_BYTES);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void test_protect_topN_input() {
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    assertEquals(
+        topN(resourceMonitor(sort(values(emptyList()), sortItem)), 10, 0, sortItem),
+        executionProtector.protect(topN(sort(values(emptyList()), sortItem), 10, 0, sortItem)));
+  }
+
   @Test
   void test_without_protection() {
     Expression filterExpr = literal(ExprBooleanValue.of(true));
@@ -306,6 +357,28 @@ class OpenSearchExecutionProtectorTest {
     verify(child, never()).accept(executionProtector, null);
   }
 
+  @Test
+  void profile_each_operator_of_profiled_query() {
+    ValuesOperator child = values(emptyList());
+    PhysicalPlan plan = filter(child, literal(ExprBooleanValue.of(true)));
+    QueryProfile profile = new QueryProfile();
+
+    PhysicalPlan protectedPlan = executionProtector.protect(plan, profile);
+    assertTrue(protectedPlan instanceof ProfilePlan);
+    assertTrue(protectedPlan.getChild().get(0) instanceof ProfilePlan);
+    assertTrue(profile.operator(child).isPresent());
+    assertTrue(profile.operator(protectedPlan).isPresent());
+  }
+
+  @Test
+  void do_not_profile_operators_of_query_not_profiled() {
+    PhysicalPlan plan = filter(values(emptyList()), literal(ExprBooleanValue.of(true)));
+
+    PhysicalPlan protectedPlan = executionProtector.protect(plan);
+    assertFalse(protectedPlan instanceof ProfilePlan);
+    assertFalse(protectedPlan.getChild().get(0) instanceof ProfilePlan);
+  }
+
   PhysicalPlan resourceMonitor(PhysicalPlan input) {
     return new ResourceMonitorPlan(input, resourceMonitor);
   }
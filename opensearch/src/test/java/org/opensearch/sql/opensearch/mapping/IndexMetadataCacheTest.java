@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IndexMetadataCacheTest {
+
+  private final IndexMetadataCache cache = new IndexMetadataCache(10);
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final ClusterState state = state(index("test", "uuid"), index("other", "uuid2"));
+
+  @Test
+  void value_is_loaded_once() {
+    assertEquals(1, load(List.of("mappings", "test")));
+    assertEquals(1, load(List.of("mappings", "test")));
+    assertEquals(2, load(List.of("mappings", "other")));
+  }
+
+  @Test
+  void value_failed_to_load_is_not_cached() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            cache.get(
+                List.of("mappings", "test"),
+                () -> {
+                  throw new IllegalStateException("failed to load");
+                }));
+    assertEquals(1, load(List.of("mappings", "test")));
+    assertEquals(1, load(List.of("mappings", "test")));
+  }
+
+  @Test
+  void value_loaded_during_invalidation_is_not_cached() {
+    cache.get(
+        List.of("mappings", "test"),
+        () -> {
+          cache.invalidateAll();
+          return 0;
+        });
+    assertEquals(1, load(List.of("mappings", "test")));
+  }
+
+  @Test
+  void disabled_cache_loads_each_time() {
+    IndexMetadataCache disabled = IndexMetadataCache.disabled();
+    assertEquals(1, (int) disabled.get(List.of("test"), loads::incrementAndGet));
+    assertEquals(2, (int) disabled.get(List.of("test"), loads::incrementAndGet));
+  }
+
+  @Test
+  void cache_is_kept_when_index_metadata_is_same() {
+    load(List.of("mappings", "test"));
+    changeState(state, state);
+    changeState(
+        state(index("test", "uuid"), index("other", "uuid2")),
+        ClusterState.builder(state).incrementVersion().build());
+    assertEquals(1, load(List.of("mappings", "test")));
+  }
+
+  @Test
+  void cache_is_invalidated_when_index_metadata_changes() {
+    List<UnaryOperator<IndexMetadata.Builder>> changes =
+        List.of(
+            index -> index.mappingVersion(2),
+            index -> index.settingsVersion(2),
+            index -> index.aliasesVersion(2),
+            index -> index.state(IndexMetadata.State.CLOSE));
+    int expected = 1;
+    for (UnaryOperator<IndexMetadata.Builder> change : changes) {
+      assertEquals(expected, load(List.of("mappings", "test")));
+      changeState(state(change.apply(index("test", "uuid")), index("other", "uuid2")), state);
+      assertEquals(++expected, load(List.of("mappings", "test")));
+      changeState(state, state(change.apply(index("test", "uuid")), index("other", "uuid2")));
+      expected++;
+    }
+  }
+
+  @Test
+  void cache_is_invalidated_when_index_is_created_or_deleted() {
+    assertEquals(1, load(List.of("mappings", "test")));
+    changeState(state(index("test", "uuid")), state);
+    assertEquals(2, load(List.of("mappings", "test")));
+    changeState(state(index("test", "uuid"), index("other", "uuid3")), state);
+    assertEquals(3, load(List.of("mappings", "test")));
+  }
+
+  private int load(List<?> key) {
+    return cache.get(key, loads::incrementAndGet);
+  }
+
+  private void changeState(ClusterState current, ClusterState previous) {
+    cache.clusterChanged(new ClusterChangedEvent("test", current, previous));
+  }
+
+  private static IndexMetadata.Builder index(String name, String uuid) {
+    return IndexMetadata.builder(name)
+        .settings(
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexMetadata.SETTING_INDEX_UUID, uuid))
+        .numberOfShards(1)
+        .numberOfReplicas(0);
+  }
+
+  private static ClusterState state(IndexMetadata.Builder... indices) {
+    Metadata.Builder metadata = Metadata.builder();
+    for (IndexMetadata.Builder index : indices) {
+      metadata.put(index);
+    }
+    return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+  }
+}
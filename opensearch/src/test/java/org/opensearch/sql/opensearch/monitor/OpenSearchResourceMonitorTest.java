@@ -6,19 +6,21 @@
 package org.opensearch.sql.opensearch.monitor;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.MemoryAccount;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchResourceMonitorTest {
@@ -27,53 +29,52 @@ class OpenSearchResourceMonitorTest {
 
   @Mock private OpenSearchMemoryHealthy memoryMonitor;
 
-  @BeforeEach
-  public void setup() {
-    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
-        .thenReturn(new ByteSizeValue(10L));
-  }
-
   @Test
   void isHealthy() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
     when(memoryMonitor.isMemoryHealthy(anyLong())).thenReturn(true);
 
     OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
+        new OpenSearchResourceMonitor(settings, memoryMonitor, QueryCircuitBreaker.noop());
     assertTrue(resourceMonitor.isHealthy());
   }
 
   @Test
   void notHealthyFastFailure() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
     when(memoryMonitor.isMemoryHealthy(anyLong()))
         .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedFastFailureException.class);
 
     OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
+        new OpenSearchResourceMonitor(settings, memoryMonitor, QueryCircuitBreaker.noop());
     assertFalse(resourceMonitor.isHealthy());
     verify(memoryMonitor, times(1)).isMemoryHealthy(anyLong());
   }
 
   @Test
-  void notHealthyWithRetry() {
+  void notHealthyWithoutWaiting() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
     when(memoryMonitor.isMemoryHealthy(anyLong()))
         .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedException.class);
 
     OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
+        new OpenSearchResourceMonitor(settings, memoryMonitor, QueryCircuitBreaker.noop());
     assertFalse(resourceMonitor.isHealthy());
-    verify(memoryMonitor, times(3)).isMemoryHealthy(anyLong());
+    verify(memoryMonitor, times(1)).isMemoryHealthy(anyLong());
   }
 
   @Test
-  void healthyWithRetry() {
-
-    when(memoryMonitor.isMemoryHealthy(anyLong()))
-        .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedException.class)
-        .thenReturn(true);
+  void memoryAccountIsLimitedByPerQueryLimit() {
+    when(settings.getSettingValue(Settings.Key.QUERY_BREAKER_PER_QUERY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
 
     OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
-    assertTrue(resourceMonitor.isHealthy());
-    verify(memoryMonitor, times(2)).isMemoryHealthy(anyLong());
+        new OpenSearchResourceMonitor(settings, memoryMonitor, QueryCircuitBreaker.noop());
+    MemoryAccount account = resourceMonitor.newMemoryAccount();
+    account.reserve(10L, "sort");
+    assertThrows(CircuitBreakingException.class, () -> account.reserve(1L, "sort"));
   }
 }
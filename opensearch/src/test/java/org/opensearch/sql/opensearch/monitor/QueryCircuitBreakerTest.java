@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreaker.Durability;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.sql.monitor.MemoryAccount;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class QueryCircuitBreakerTest {
+
+  @Mock private CircuitBreaker breaker;
+
+  @Test
+  void memory_is_reserved_from_circuit_breaker() {
+    MemoryAccount account = new QueryCircuitBreaker(breaker).newAccount(100);
+    account.reserve(60, "sort");
+    account.release(60);
+    account.reserve(100, "sort");
+
+    verify(breaker).addEstimateBytesAndMaybeBreak(60, "sort");
+    verify(breaker).addWithoutBreaking(-60);
+    verify(breaker).addEstimateBytesAndMaybeBreak(100, "sort");
+  }
+
+  @Test
+  void query_over_per_query_limit_fails_without_reserving() {
+    MemoryAccount account = new QueryCircuitBreaker(breaker).newAccount(100);
+    account.reserve(60, "sort");
+
+    CircuitBreakingException exception =
+        assertThrows(CircuitBreakingException.class, () -> account.reserve(50, "aggregation"));
+    assertEquals(
+        "[sql] Data too large, data for [aggregation] would be [110b], which is larger than the"
+            + " per query limit of [100b]",
+        exception.getMessage());
+    verify(breaker, never()).addEstimateBytesAndMaybeBreak(50, "aggregation");
+  }
+
+  @Test
+  void query_fails_when_circuit_breaker_breaks() {
+    when(breaker.addEstimateBytesAndMaybeBreak(anyLong(), anyString()))
+        .thenThrow(new CircuitBreakingException("[sql] Data too large", Durability.TRANSIENT));
+    MemoryAccount account = new QueryCircuitBreaker(breaker).newAccount(100);
+
+    assertThrows(CircuitBreakingException.class, () -> account.reserve(50, "sort"));
+  }
+
+  @Test
+  void noop_circuit_breaker_only_limits_per_query() {
+    MemoryAccount account = QueryCircuitBreaker.noop().newAccount(100);
+    account.reserve(100, "sort");
+    account.release(100);
+    account.reserve(100, "sort");
+    assertThrows(CircuitBreakingException.class, () -> account.reserve(1, "sort"));
+  }
+}
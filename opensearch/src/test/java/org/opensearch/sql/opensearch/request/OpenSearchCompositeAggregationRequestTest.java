@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
+import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchCompositeAggregationRequestTest {
+
+  private static final OpenSearchRequest.IndexName INDEX_NAME =
+      new OpenSearchRequest.IndexName("test");
+
+  private final CompositeAggregationBuilder composite =
+      AggregationBuilders.composite(
+              "composite_buckets", List.of(new TermsValuesSourceBuilder("name").field("name")))
+          .size(2);
+
+  private final SearchSourceBuilder sourceBuilder =
+      new SearchSourceBuilder().size(0).aggregation(composite);
+
+  private final OpenSearchExprValueFactory factory = new OpenSearchExprValueFactory(Map.of());
+
+  private OpenSearchCompositeAggregationRequest request;
+
+  @BeforeEach
+  void setUp() {
+    request =
+        new OpenSearchCompositeAggregationRequest(INDEX_NAME, sourceBuilder, factory, List.of());
+  }
+
+  @Test
+  void find_composite_aggregation() {
+    assertSame(
+        composite, OpenSearchCompositeAggregationRequest.findCompositeAggregation(sourceBuilder));
+    assertNull(
+        OpenSearchCompositeAggregationRequest.findCompositeAggregation(new SearchSourceBuilder()));
+    assertNull(
+        OpenSearchCompositeAggregationRequest.findCompositeAggregation(
+            new SearchSourceBuilder().aggregation(AggregationBuilders.avg("avg").field("age"))));
+  }
+
+  @Test
+  void search_after_key_of_full_page() {
+    Map<String, Object> afterKey = Map.of("name", "b");
+    SearchResponse searchResponse = mockResponse(2, afterKey);
+
+    request.search(
+        searchRequest -> {
+          assertEquals(List.of("test"), List.of(searchRequest.indices()));
+          assertNull(composite.aggregateAfter());
+          return searchResponse;
+        },
+        sr -> fail());
+
+    assertEquals(afterKey, composite.aggregateAfter());
+    assertTrue(request.hasAnotherBatch());
+  }
+
+  @Test
+  void last_page_when_less_buckets_than_page_size() {
+    SearchResponse searchResponse = mockResponse(1, Map.of("name", "a"));
+
+    assertFalse(request.search(sr -> searchResponse, sr -> fail()).isEmpty());
+    assertFalse(request.hasAnotherBatch());
+    assertNull(composite.aggregateAfter());
+    assertTrue(request.search(sr -> fail("search"), sr -> fail()).isEmpty());
+  }
+
+  @Test
+  void last_page_when_no_after_key() {
+    SearchResponse searchResponse = mockResponse(0, null);
+
+    request.search(sr -> searchResponse, sr -> fail());
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  void last_page_when_no_aggregation_in_response() {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+
+    request.search(sr -> searchResponse, sr -> fail());
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  void clean_does_nothing() {
+    request.clean(id -> fail());
+  }
+
+  @Test
+  @SneakyThrows
+  void serialize_deserialize() {
+    var parser = new CompositeAggregationParser(new SingleValueParser("avg"));
+    factory.setParser(parser);
+    factory.extendTypeMapping(Map.of("avg", OpenSearchDataType.of(DOUBLE)));
+    composite.aggregateAfter(Map.of("name", "b"));
+
+    var outStream = new BytesStreamOutput();
+    request.writeTo(outStream);
+    outStream.flush();
+
+    var registry =
+        new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables());
+    var inStream =
+        new NamedWriteableAwareStreamInput(
+            new BytesStreamInput(outStream.bytes().toBytesRef().bytes), registry);
+    var engine = mock(OpenSearchStorageEngine.class);
+    when(engine.getTable(any(), any())).thenReturn(mock(OpenSearchIndex.class));
+    var newRequest = new OpenSearchCompositeAggregationRequest(inStream, engine);
+
+    assertEquals(request, newRequest);
+    assertEquals(
+        Map.of("name", "b"),
+        OpenSearchCompositeAggregationRequest.findCompositeAggregation(
+                newRequest.getSourceBuilder())
+            .aggregateAfter());
+    assertEquals(parser, newRequest.getExprValueFactory().getParser());
+    assertEquals(
+        Map.of("avg", OpenSearchDataType.of(DOUBLE)),
+        newRequest.getExprValueFactory().getExtendedTypeMapping());
+  }
+
+  private SearchResponse mockResponse(int buckets, Map<String, Object> afterKey) {
+    CompositeAggregation aggregation = mock(CompositeAggregation.class);
+    when(aggregation.getName()).thenReturn("composite_buckets");
+    when(aggregation.afterKey()).thenReturn(afterKey);
+    doReturn(Collections.nCopies(buckets, mock(CompositeAggregation.Bucket.class)))
+        .when(aggregation)
+        .getBuckets();
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+    when(searchResponse.getAggregations()).thenReturn(new Aggregations(List.of(aggregation)));
+    return searchResponse;
+  }
+}
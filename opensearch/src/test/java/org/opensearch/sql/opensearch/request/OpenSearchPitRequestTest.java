@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.opensearch.request.OpenSearchPitRequest.NO_PIT_ID;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchPitRequestTest {
+
+  private static final OpenSearchRequest.IndexName INDEX_NAME =
+      new OpenSearchRequest.IndexName("test");
+
+  private static final TimeValue KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+  @Mock private OpenSearchExprValueFactory factory;
+
+  private final SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().size(2);
+
+  private OpenSearchPitRequest request;
+
+  @BeforeEach
+  void setUp() {
+    request = new OpenSearchPitRequest(INDEX_NAME, KEEP_ALIVE, sourceBuilder, factory, List.of());
+  }
+
+  @Test
+  void create_pit_request() {
+    var createPitRequest = request.createPitRequest();
+    assertEquals(KEEP_ALIVE, createPitRequest.getKeepAlive());
+    assertArrayEquals(new String[] {"test"}, createPitRequest.indices());
+  }
+
+  @Test
+  void search_without_pit_should_throw() {
+    assertFalse(request.isPitCreated());
+    assertThrows(
+        IllegalStateException.class, () -> request.search(sr -> fail("search"), sr -> fail()));
+  }
+
+  @Test
+  void search_after_last_hit() {
+    request.setPitId("pit1");
+    SearchResponse searchResponse = mockResponse(hit(1, "a"), hit(2, "b"));
+
+    request.search(
+        searchRequest -> {
+          assertEquals(0, searchRequest.indices().length);
+          assertEquals("pit1", searchRequest.source().pointInTimeBuilder().getId());
+          return searchResponse;
+        },
+        sr -> fail());
+
+    assertArrayEquals(new Object[] {2L, "b"}, sourceBuilder.searchAfter());
+    assertTrue(request.hasAnotherBatch());
+  }
+
+  @Test
+  void last_page_when_less_hits_than_page_size() {
+    request.setPitId("pit1");
+    SearchResponse searchResponse = mockResponse(hit(1, "a"));
+
+    assertFalse(request.search(sr -> searchResponse, sr -> fail()).isEmpty());
+    assertFalse(request.hasAnotherBatch());
+    assertTrue(request.search(sr -> fail("search"), sr -> fail()).isEmpty());
+  }
+
+  @Test
+  void clean_on_last_page() {
+    request.setPitId("pit1");
+    SearchResponse searchResponse = mockResponse();
+    request.search(sr -> searchResponse, sr -> fail());
+
+    AtomicReference<String> deleted = new AtomicReference<>();
+    request.clean(deleted::set);
+    assertEquals("pit1", deleted.get());
+    assertEquals(NO_PIT_ID, request.getPitId());
+  }
+
+  @Test
+  void no_clean_in_the_middle_of_paging() {
+    request.setPitId("pit1");
+    SearchResponse searchResponse = mockResponse(hit(1, "a"), hit(2, "b"));
+    request.search(sr -> searchResponse, sr -> fail());
+
+    request.clean(pitId -> fail());
+    assertEquals(NO_PIT_ID, request.getPitId());
+  }
+
+  @Test
+  @SneakyThrows
+  void serialize_deserialize() {
+    sourceBuilder.query(QueryBuilders.termQuery("name", "John"));
+    sourceBuilder.searchAfter(new Object[] {2L, "b"});
+    request.setPitId("pit1");
+
+    var outStream = new BytesStreamOutput();
+    request.writeTo(outStream);
+    outStream.flush();
+
+    var registry =
+        new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables());
+    var inStream =
+        new NamedWriteableAwareStreamInput(
+            new BytesStreamInput(outStream.bytes().toBytesRef().bytes), registry);
+    var engine = mock(OpenSearchStorageEngine.class);
+    when(engine.getTable(any(), any())).thenReturn(mock(OpenSearchIndex.class));
+    var newRequest = new OpenSearchPitRequest(inStream, engine);
+
+    assertEquals(request, newRequest);
+    assertEquals("pit1", newRequest.getPitId());
+    assertArrayEquals(new Object[] {2L, "b"}, newRequest.getSourceBuilder().searchAfter());
+  }
+
+  @Test
+  @SneakyThrows
+  void clean_after_deserialized_to_close_cursor() {
+    request.setPitId("pit1");
+    SearchResponse searchResponse = mockResponse(hit(1, "a"), hit(2, "b"));
+    request.search(sr -> searchResponse, sr -> fail());
+
+    var outStream = new BytesStreamOutput();
+    request.writeTo(outStream);
+    outStream.flush();
+    var inStream = new BytesStreamInput(outStream.bytes().toBytesRef().bytes);
+    var engine = mock(OpenSearchStorageEngine.class);
+    when(engine.getTable(any(), any())).thenReturn(mock(OpenSearchIndex.class));
+    var newRequest = new OpenSearchPitRequest(inStream, engine);
+
+    AtomicReference<String> deleted = new AtomicReference<>();
+    newRequest.clean(deleted::set);
+    assertEquals("pit1", deleted.get());
+    assertEquals(NO_PIT_ID, newRequest.getPitId());
+  }
+
+  private SearchHit hit(long sortValue, String id) {
+    SearchHit hit = new SearchHit((int) sortValue);
+    hit.sortValues(
+        new Object[] {sortValue, id},
+        new DocValueFormat[] {DocValueFormat.RAW, DocValueFormat.RAW});
+    return hit;
+  }
+
+  private SearchResponse mockResponse(SearchHit... hits) {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1F));
+    return searchResponse;
+  }
+}
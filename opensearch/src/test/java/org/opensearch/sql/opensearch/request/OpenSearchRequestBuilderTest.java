@@ -7,6 +7,8 @@ package org.opensearch.sql.opensearch.request;
 
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,6 +16,7 @@ import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.index.query.QueryBuilders.nestedQuery;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.search.sort.SortOrder.DESC;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
@@ -44,9 +47,12 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortBuilders;
@@ -121,6 +127,37 @@ class OpenSearchRequestBuilderTest {
         requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT));
   }
 
+  @Test
+  void build_sliced_scroll_requests() {
+    requestBuilder.pushDownLimit(800, 0);
+    requestBuilder.pushDownFilter(QueryBuilders.termQuery("intA", 1));
+
+    List<OpenSearchRequest> requests =
+        requestBuilder.buildSlices(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2);
+    assertEquals(2, requests.size());
+    for (int id = 0; id < requests.size(); id++) {
+      SearchSourceBuilder source =
+          ((OpenSearchScrollRequest) requests.get(id)).getInitialSearchRequest().source();
+      assertEquals(new SliceBuilder(id, 2), source.slice());
+      assertEquals(MAX_RESULT_WINDOW, source.size());
+      assertEquals(QueryBuilders.termQuery("intA", 1), source.query());
+    }
+  }
+
+  @Test
+  void only_unordered_full_scan_is_sliceable() {
+    assertFalse(requestBuilder.isSliceable(MAX_RESULT_WINDOW));
+
+    requestBuilder.pushDownLimit(800, 0);
+    assertTrue(requestBuilder.isSliceable(MAX_RESULT_WINDOW));
+
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort("intA")));
+    assertFalse(requestBuilder.isSliceable(MAX_RESULT_WINDOW));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> requestBuilder.buildSlices(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2));
+  }
+
   @Test
   void test_push_down_query() {
     QueryBuilder query = QueryBuilders.termQuery("intA", 1);
@@ -470,6 +507,21 @@ class OpenSearchRequestBuilderTest {
         requestBuilder);
   }
 
+  @Test
+  void test_push_down_dedupe() {
+    requestBuilder.pushDownDedupe("name");
+
+    assertSearchSourceBuilder(
+        new SearchSourceBuilder()
+            .from(DEFAULT_OFFSET)
+            .size(DEFAULT_LIMIT)
+            .timeout(DEFAULT_QUERY_TIMEOUT)
+            .query(QueryBuilders.existsQuery("name"))
+            .sort(DOC_FIELD_NAME, ASC)
+            .collapse(new CollapseBuilder("name")),
+        requestBuilder);
+  }
+
   @Test
   void test_push_type_mapping() {
     Map<String, OpenSearchDataType> typeMapping = Map.of("intA", OpenSearchDataType.of(INTEGER));
@@ -495,6 +547,89 @@ class OpenSearchRequestBuilderTest {
         requestBuilder);
   }
 
+  @Test
+  void build_pit_request_with_tiebreak_sort() {
+    requestBuilder.pushDownPageSize(3);
+
+    assertEquals(
+        new OpenSearchPitRequest(
+            indexName,
+            DEFAULT_QUERY_TIMEOUT,
+            new SearchSourceBuilder()
+                .from(DEFAULT_OFFSET)
+                .size(3)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .sort(DOC_FIELD_NAME, ASC),
+            exprValueFactory,
+            List.of()),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, true));
+  }
+
+  @Test
+  void build_composite_aggregation_request() {
+    CompositeAggregationBuilder aggBuilder =
+        AggregationBuilders.composite(
+            "composite_buckets", Collections.singletonList(new TermsValuesSourceBuilder("longA")));
+    requestBuilder.pushDownAggregation(
+        Pair.of(List.of(aggBuilder), new CompositeAggregationParser(List.of())));
+
+    assertEquals(
+        new OpenSearchCompositeAggregationRequest(
+            indexName,
+            new SearchSourceBuilder()
+                .from(DEFAULT_OFFSET)
+                .size(0)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .aggregation(aggBuilder),
+            exprValueFactory,
+            List.of()),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT));
+  }
+
+  @Test
+  void build_paged_composite_aggregation_request() {
+    CompositeAggregationBuilder aggBuilder =
+        AggregationBuilders.composite(
+            "composite_buckets", Collections.singletonList(new TermsValuesSourceBuilder("longA")));
+    requestBuilder.pushDownAggregation(
+        Pair.of(List.of(aggBuilder), new CompositeAggregationParser(List.of())));
+    requestBuilder.pushDownPageSize(3);
+
+    OpenSearchRequest request =
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, true);
+    assertTrue(request instanceof OpenSearchCompositeAggregationRequest);
+    assertEquals(3, aggBuilder.size());
+    assertEquals(0, ((OpenSearchCompositeAggregationRequest) request).getSourceBuilder().size());
+  }
+
+  @Test
+  void build_pit_request_with_tiebreak_after_sort() {
+    requestBuilder.pushDownPageSize(3);
+    requestBuilder.pushDownSort(
+        List.of(SortBuilders.scoreSort(), SortBuilders.fieldSort("intA").order(DESC)));
+
+    OpenSearchRequest request =
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, true);
+    assertEquals(
+        List.of(
+            SortBuilders.scoreSort(),
+            SortBuilders.fieldSort("intA").order(DESC),
+            SortBuilders.fieldSort(DOC_FIELD_NAME)),
+        ((OpenSearchPitRequest) request).getSourceBuilder().sorts());
+  }
+
+  @Test
+  void build_pit_request_keeps_sort_by_doc() {
+    requestBuilder.pushDownPageSize(3);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort(DOC_FIELD_NAME).order(DESC)));
+
+    OpenSearchRequest request =
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, true);
+    assertEquals(
+        List.of(SortBuilders.fieldSort(DOC_FIELD_NAME).order(DESC)),
+        ((OpenSearchPitRequest) request).getSourceBuilder().sorts());
+  }
+
   @Test
   void exception_when_non_zero_offset_and_page_size() {
     requestBuilder.pushDownPageSize(3);
@@ -26,6 +26,7 @@ import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.response.agg.StatsParser;
 import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
@@ -309,6 +310,81 @@ class OpenSearchAggregationResponseParserTest {
         contains(ImmutableMap.of("type", "take", "take", ImmutableList.of("m", "f"))));
   }
 
+  /** source=accounts | top 2 gender. */
+  @Test
+  void rare_top_n_terms_should_pass() {
+    String response =
+        "{\n"
+            + "  \"sterms#gender\": {\n"
+            + "    \"doc_count_error_upper_bound\": 0,\n"
+            + "    \"sum_other_doc_count\": 0,\n"
+            + "    \"buckets\": [\n"
+            + "      {\n"
+            + "        \"key\": \"m\",\n"
+            + "        \"doc_count\": 5\n"
+            + "      },\n"
+            + "      {\n"
+            + "        \"key\": \"f\",\n"
+            + "        \"doc_count\": 3\n"
+            + "      }\n"
+            + "    ]\n"
+            + "  }\n"
+            + "}";
+    assertThat(
+        parse(new RareTopNParser("gender"), response),
+        contains(entry("gender", "m"), entry("gender", "f")));
+  }
+
+  /** source=accounts | rare 1 age by type. */
+  @Test
+  void rare_top_n_composite_terms_should_pass() {
+    String response =
+        "{\n"
+            + "  \"composite#composite_buckets\": {\n"
+            + "    \"after_key\": {\n"
+            + "      \"type\": \"sale\"\n"
+            + "    },\n"
+            + "    \"buckets\": [\n"
+            + "      {\n"
+            + "        \"key\": {\n"
+            + "          \"type\": \"cost\"\n"
+            + "        },\n"
+            + "        \"doc_count\": 2,\n"
+            + "        \"lterms#age\": {\n"
+            + "          \"doc_count_error_upper_bound\": 0,\n"
+            + "          \"sum_other_doc_count\": 1,\n"
+            + "          \"buckets\": [\n"
+            + "            {\n"
+            + "              \"key\": 20,\n"
+            + "              \"doc_count\": 1\n"
+            + "            }\n"
+            + "          ]\n"
+            + "        }\n"
+            + "      },\n"
+            + "      {\n"
+            + "        \"key\": {\n"
+            + "          \"type\": \"sale\"\n"
+            + "        },\n"
+            + "        \"doc_count\": 1,\n"
+            + "        \"lterms#age\": {\n"
+            + "          \"doc_count_error_upper_bound\": 0,\n"
+            + "          \"sum_other_doc_count\": 0,\n"
+            + "          \"buckets\": [\n"
+            + "            {\n"
+            + "              \"key\": 30,\n"
+            + "              \"doc_count\": 1\n"
+            + "            }\n"
+            + "          ]\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ]\n"
+            + "  }\n"
+            + "}";
+    assertThat(
+        parse(new RareTopNParser("age"), response),
+        contains(entry("type", "cost", "age", 20L), entry("type", "sale", "age", 30L)));
+  }
+
   public List<Map<String, Object>> parse(OpenSearchAggregationResponseParser parser, String json) {
     return parser.parse(fromJson(json));
   }
@@ -14,6 +14,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
@@ -128,6 +130,40 @@ class OpenSearchResponseTest {
     }
   }
 
+  @Test
+  void source_bytes() {
+    SearchHit searchHit = new SearchHit(1);
+    searchHit.sourceRef(new BytesArray("{\"id1\":1}"));
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit, new SearchHit(2)},
+                new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    assertEquals(10L, new OpenSearchResponse(searchResponse, factory, includes).getSourceBytes());
+
+    when(searchResponse.getHits())
+        .thenReturn(new SearchHits(null, new TotalHits(0, TotalHits.Relation.EQUAL_TO), 0));
+    assertEquals(0L, new OpenSearchResponse(searchResponse, factory, includes).getSourceBytes());
+  }
+
+  @Test
+  void iterator_constructs_from_json_source_bytes() {
+    SearchHit searchHit = new SearchHit(1);
+    BytesArray source = new BytesArray("{\"id1\":1,\"id2\":2}");
+    searchHit.sourceRef(source);
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
+    when(factory.construct(source, List.of("id1"), false)).thenReturn(exprTupleValue1);
+
+    for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, List.of("id1"))) {
+      assertEquals(exprTupleValue1, hit);
+    }
+    verify(factory, never()).construct(anyString(), anyBoolean());
+  }
+
   @Test
   void iterator_metafields() {
 
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import org.junit.jupiter.api.Test;
@@ -13,23 +14,28 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.planner.logical.LogicalAD;
 import org.opensearch.sql.planner.logical.LogicalML;
 import org.opensearch.sql.planner.logical.LogicalMLCommons;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.physical.SortOperator;
 
 @ExtendWith(MockitoExtension.class)
 public class OpenSearchDefaultImplementorTest {
 
   @Mock OpenSearchClient client;
 
+  @Mock Settings settings;
+
   @Test
   public void visitMachineLearning() {
     LogicalMLCommons node = Mockito.mock(LogicalMLCommons.class, Answers.RETURNS_DEEP_STUBS);
     Mockito.when(node.getChild().get(0)).thenReturn(Mockito.mock(LogicalPlan.class));
     OpenSearchIndex.OpenSearchDefaultImplementor implementor =
-        new OpenSearchIndex.OpenSearchDefaultImplementor(client);
+        new OpenSearchIndex.OpenSearchDefaultImplementor(client, settings);
     assertNotNull(implementor.visitMLCommons(node, null));
   }
 
@@ -38,7 +44,7 @@ public class OpenSearchDefaultImplementorTest {
     LogicalAD node = Mockito.mock(LogicalAD.class, Answers.RETURNS_DEEP_STUBS);
     Mockito.when(node.getChild().get(0)).thenReturn(Mockito.mock(LogicalPlan.class));
     OpenSearchIndex.OpenSearchDefaultImplementor implementor =
-        new OpenSearchIndex.OpenSearchDefaultImplementor(client);
+        new OpenSearchIndex.OpenSearchDefaultImplementor(client, settings);
     assertNotNull(implementor.visitAD(node, null));
   }
 
@@ -47,7 +53,19 @@ public class OpenSearchDefaultImplementorTest {
     LogicalML node = Mockito.mock(LogicalML.class, Answers.RETURNS_DEEP_STUBS);
     Mockito.when(node.getChild().get(0)).thenReturn(Mockito.mock(LogicalPlan.class));
     OpenSearchIndex.OpenSearchDefaultImplementor implementor =
-        new OpenSearchIndex.OpenSearchDefaultImplementor(client);
+        new OpenSearchIndex.OpenSearchDefaultImplementor(client, settings);
     assertNotNull(implementor.visitML(node, null));
   }
+
+  @Test
+  public void visitSortWithSpillThreshold() {
+    LogicalSort node = Mockito.mock(LogicalSort.class, Answers.RETURNS_DEEP_STUBS);
+    Mockito.when(node.getChild().get(0)).thenReturn(Mockito.mock(LogicalPlan.class));
+    Mockito.when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD))
+        .thenReturn(1000);
+    OpenSearchIndex.OpenSearchDefaultImplementor implementor =
+        new OpenSearchIndex.OpenSearchDefaultImplementor(client, settings);
+    SortOperator sort = (SortOperator) implementor.visitSort(node, null);
+    assertEquals(1000, sort.getMaxRowsInMemory());
+  }
 }
@@ -11,6 +11,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
@@ -29,6 +30,7 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -54,8 +56,12 @@ import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchSlicedIndexScan;
+import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
 
 @ExtendWith(MockitoExtension.class)
@@ -196,6 +202,8 @@ class OpenSearchIndexTest {
   void implementRelationOperatorOnly() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_BATCHES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
     LogicalPlan plan = index.createScanBuilder();
     Integer maxResultWindow = index.getMaxResultWindow();
     final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
@@ -209,6 +217,8 @@ class OpenSearchIndexTest {
   void implementRelationOperatorWithOptimization() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_BATCHES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
     LogicalPlan plan = index.createScanBuilder();
     Integer maxResultWindow = index.getMaxResultWindow();
     final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
@@ -218,10 +228,77 @@ class OpenSearchIndexTest {
         index.implement(plan));
   }
 
+  @Test
+  void implementRelationOperatorWithSlices() {
+    assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+    when(client.getIndexNumberOfShards("test")).thenReturn(Map.of("test", 4));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(20000);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_BATCHES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(2);
+    LogicalPlan plan = index.createScanBuilder();
+
+    PhysicalPlan scan = index.implement(index.optimize(plan));
+    assertTrue(scan instanceof OpenSearchSlicedIndexScan);
+    assertEquals(4, index.getNumberOfShards());
+  }
+
+  @Test
+  void implementPaginatedRelationWithPointInTime() {
+    when(client.getIndexNumberOfShards("test")).thenReturn(Map.of("test", 1));
+    when(settings.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER)).thenReturn(true);
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    requestBuilder.pushDownPageSize(5);
+    assertEquals(
+        new OpenSearchIndexScan(
+            client, 5, requestBuilder.build(INDEX_NAME, 10000, SCROLL_TIMEOUT, true)),
+        implementPaginatedRelation(5));
+  }
+
+  @Test
+  void implementPaginatedRelationWithScrollOnMultipleShards() {
+    when(client.getIndexNumberOfShards("test")).thenReturn(Map.of("test", 2));
+    when(settings.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER)).thenReturn(true);
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    requestBuilder.pushDownPageSize(5);
+    assertEquals(
+        new OpenSearchIndexScan(
+            client, 5, requestBuilder.build(INDEX_NAME, 10000, SCROLL_TIMEOUT, false)),
+        implementPaginatedRelation(5));
+  }
+
+  @Test
+  void implementPaginatedRelationWithScrollIfSearchAfterDisabled() {
+    when(settings.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER)).thenReturn(false);
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    requestBuilder.pushDownPageSize(5);
+    assertEquals(
+        new OpenSearchIndexScan(
+            client, 5, requestBuilder.build(INDEX_NAME, 10000, SCROLL_TIMEOUT, false)),
+        implementPaginatedRelation(5));
+  }
+
+  private PhysicalPlan implementPaginatedRelation(int pageSize) {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_BATCHES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    var scanBuilder = (OpenSearchIndexScanBuilder) index.createScanBuilder();
+    scanBuilder.pushDownPageSize(new LogicalPaginate(pageSize, List.of(scanBuilder)));
+    return scanBuilder.build();
+  }
+
   @Test
   void implementOtherLogicalOperators() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_BATCHES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_MAX_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD)).thenReturn(0);
     NamedExpression include = named("age", ref("age", INTEGER));
     ReferenceExpression exclude = ref("name", STRING);
     ReferenceExpression dedupeField = ref("name", STRING);
@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanTest.employee;
+import static org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanTest.mockResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BatchPrefetcherTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchRequest request;
+
+  /** Tasks scheduled in the background, run by the test. */
+  private final List<Runnable> scheduled = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(request.hasAnotherBatch()).thenReturn(true);
+    lenient()
+        .doAnswer(
+            invocation -> {
+              scheduled.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(client)
+        .scheduleAsync(any());
+  }
+
+  @Test
+  void next_batch_is_fetched_in_background() {
+    mockResponse(
+        client,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT")});
+    BatchPrefetcher prefetcher = new BatchPrefetcher(client, request, 10, 1);
+
+    assertEquals(List.of(employee(1, "John", "IT"), employee(2, "Smith", "HR")), prefetcher.next());
+    assertEquals(1, scheduled.size());
+    verify(client, times(1)).search(request);
+
+    scheduled.get(0).run();
+    verify(client, times(2)).search(request);
+    assertEquals(List.of(employee(3, "Allen", "IT")), prefetcher.next());
+    verify(client, times(2)).search(request);
+  }
+
+  @Test
+  void scheduled_fetch_not_started_yet_is_run_by_consumer() {
+    mockResponse(
+        client,
+        new ExprValue[] {employee(1, "John", "IT")},
+        new ExprValue[] {employee(2, "Smith", "HR")});
+    BatchPrefetcher prefetcher = new BatchPrefetcher(client, request, 10, 1);
+
+    prefetcher.next();
+    assertEquals(List.of(employee(2, "Smith", "HR")), prefetcher.next());
+    verify(client, times(2)).search(request);
+
+    // only one of the scheduled tasks runs the fetch queued after the second batch
+    scheduled.get(0).run();
+    scheduled.get(1).run();
+    verify(client, times(3)).search(request);
+    assertNull(prefetcher.next());
+  }
+
+  @Test
+  void no_batch_is_fetched_ahead_after_max_rows() {
+    mockResponse(client, new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")});
+    BatchPrefetcher prefetcher = new BatchPrefetcher(client, request, 2, 1);
+
+    prefetcher.next();
+    assertTrue(scheduled.isEmpty());
+  }
+
+  @Test
+  void no_batch_is_fetched_ahead_if_prefetch_disabled() {
+    mockResponse(client, new ExprValue[] {employee(1, "John", "IT")});
+    BatchPrefetcher prefetcher = new BatchPrefetcher(client, request, 10, 0);
+
+    prefetcher.next();
+    assertTrue(scheduled.isEmpty());
+    assertNull(prefetcher.next());
+  }
+
+  @Test
+  void failure_of_background_fetch_is_thrown_to_consumer() {
+    RuntimeException failure = new IllegalStateException("search failed");
+    mockResponse(client, new ExprValue[] {employee(1, "John", "IT")});
+    BatchPrefetcher prefetcher = new BatchPrefetcher(client, request, 10, 1);
+    prefetcher.next();
+
+    when(client.search(request)).thenThrow(failure);
+    scheduled.get(0).run();
+    assertSame(failure, assertThrows(IllegalStateException.class, prefetcher::next));
+  }
+
+  @Test
+  void close_cancels_scheduled_fetch() {
+    mockResponse(client, new ExprValue[] {employee(1, "John", "IT")});
+    BatchPrefetcher prefetcher = new BatchPrefetcher(client, request, 10, 1);
+    prefetcher.next();
+
+    prefetcher.close();
+    scheduled.get(0).run();
+    verify(client, times(1)).search(request);
+  }
+
+  @Test
+  void close_without_fetch_ahead() {
+    BatchPrefetcher prefetcher = new BatchPrefetcher(client, request, 10, 1);
+    prefetcher.close();
+    verify(client, never()).search(any());
+  }
+
+  @Test
+  void fetched_batches_and_bytes_are_counted() {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(false);
+    when(response.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    when(response.getSourceBytes()).thenReturn(100L);
+    OpenSearchResponse empty = mock(OpenSearchResponse.class);
+    when(empty.isEmpty()).thenReturn(true);
+    when(client.search(request)).thenReturn(response, empty);
+    BatchPrefetcher prefetcher = new BatchPrefetcher(client, request, 10, 0);
+
+    prefetcher.next();
+    assertNull(prefetcher.next());
+    assertEquals(1, prefetcher.getFetchedBatches());
+    assertEquals(100L, prefetcher.getFetchedBytes());
+  }
+}
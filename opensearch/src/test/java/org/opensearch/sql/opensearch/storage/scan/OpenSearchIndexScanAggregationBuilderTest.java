@@ -8,6 +8,13 @@ package org.opensearch.sql.opensearch.storage.scan;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,6 +72,18 @@ class OpenSearchIndexScanAggregationBuilderTest {
     assertFalse(builder.pushDownPageSize(mock(LogicalPaginate.class)));
   }
 
+  @Test
+  void pushDownPageSize_with_group_by() {
+    when(logicalAggregation.getGroupByList())
+        .thenReturn(List.of(named("name", ref("name", STRING))));
+    var paginate = mock(LogicalPaginate.class);
+    when(paginate.getPageSize()).thenReturn(5);
+
+    builder = new OpenSearchIndexScanAggregationBuilder(requestBuilder, logicalAggregation);
+    assertTrue(builder.pushDownPageSize(paginate));
+    verify(requestBuilder).pushDownPageSize(5);
+  }
+
   @Test
   void pushDownNested() {
     assertFalse(builder.pushDownNested(mock(LogicalNested.class)));
@@ -6,7 +6,11 @@
 package org.opensearch.sql.opensearch.storage.scan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -18,22 +22,27 @@ import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.nested;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.paginate;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_AGGREGATION;
+import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_DEDUPE;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_FILTER;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_HIGHLIGHT;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_LIMIT;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_NESTED;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_PROJECT;
+import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_RARE_TOP_N;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_SORT;
 
 import com.google.common.collect.ImmutableList;
@@ -56,6 +65,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.sort.NestedSortBuilder;
@@ -63,20 +73,25 @@ import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.ast.expression.Literal;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.HighlightExpression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
@@ -90,6 +105,8 @@ import org.opensearch.sql.storage.Table;
 @ExtendWith(MockitoExtension.class)
 class OpenSearchIndexScanOptimizationTest {
 
+  private static final int MAX_RESULT_WINDOW = 10000;
+
   @Mock private Table table;
 
   @Mock private OpenSearchIndexScan indexScan;
@@ -102,7 +119,9 @@ class OpenSearchIndexScanOptimizationTest {
 
   @BeforeEach
   void setUp() {
-    indexScanBuilder = new OpenSearchIndexScanBuilder(requestBuilder, requestBuilder -> indexScan);
+    indexScanBuilder =
+        new OpenSearchIndexScanBuilder(
+            requestBuilder, () -> MAX_RESULT_WINDOW, requestBuilder -> indexScan);
     when(table.createScanBuilder()).thenReturn(indexScanBuilder);
   }
 
@@ -327,6 +346,405 @@ class OpenSearchIndexScanOptimizationTest {
             limit(relation("schema", table), 1, 1), DSL.named("intV", DSL.ref("intV", INTEGER))));
   }
 
+  @Test
+  void test_dedupe_push_down() {
+    assertEqualsAfterOptimization(
+        project(
+            indexScanBuilder(withDedupePushedDown("stringV")),
+            DSL.named("intV", DSL.ref("intV", INTEGER))),
+        project(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            DSL.named("intV", DSL.ref("intV", INTEGER))));
+  }
+
+  @Test
+  void test_dedupe_text_field_with_keyword_push_down() {
+    ReferenceExpression textV =
+        DSL.ref(
+            "textV",
+            OpenSearchTextType.of(Map.of("keyword", OpenSearchDataType.of(MappingType.Keyword))));
+    assertEqualsAfterOptimization(
+        indexScanBuilder(withDedupePushedDown("textV.keyword")),
+        dedupe(relation("schema", table), textV));
+  }
+
+  /** Only the dedupe of a single keyword or numeric field without keeping empty is pushed down. */
+  @Test
+  void test_dedupe_not_push_down() {
+    List.<List<Object>>of(
+            List.of(1, true, false, DSL.ref("stringV", STRING)),
+            List.of(1, false, true, DSL.ref("stringV", STRING)),
+            List.of(2, false, false, DSL.ref("stringV", STRING)),
+            List.of(1, false, false, DSL.ref("stringV", STRING), DSL.ref("intV", INTEGER)),
+            List.of(1, false, false, DSL.abs(DSL.ref("intV", INTEGER))),
+            List.of(1, false, false, DSL.ref("timestampV", TIMESTAMP)),
+            List.of(1, false, false, DSL.ref("textV", OpenSearchTextType.of())),
+            List.of(1, false, false, DSL.ref("objectV.stringV", STRING)),
+            List.of(1, false, false, DSL.ref("_id", STRING)))
+        .forEach(
+            args -> {
+              reset(requestBuilder);
+              int allowedDuplication = (int) args.get(0);
+              boolean keepEmpty = (boolean) args.get(1);
+              boolean consecutive = (boolean) args.get(2);
+              Expression[] fields = args.subList(3, args.size()).toArray(new Expression[0]);
+              assertEqualsAfterOptimization(
+                  dedupe(
+                      indexScanBuilder(withNoDedupePushedDown()),
+                      allowedDuplication,
+                      keepEmpty,
+                      consecutive,
+                      fields),
+                  dedupe(
+                      relation("schema", table),
+                      allowedDuplication,
+                      keepEmpty,
+                      consecutive,
+                      fields));
+            });
+  }
+
+  @Test
+  void test_filter_sort_dedupe_limit_push_down() {
+    assertEqualsAfterOptimization(
+        indexScanBuilder(
+            withFilterPushedDown(QueryBuilders.termQuery("intV", 1)),
+            withSortPushedDown(
+                SortBuilders.fieldSort("longV").order(SortOrder.ASC).missing("_first")),
+            withDedupePushedDown("stringV"),
+            withLimitPushedDown(10, 0)),
+        limit(
+            dedupe(
+                sort(
+                    filter(
+                        relation("schema", table),
+                        DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+                    Pair.of(SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))),
+                DSL.ref("stringV", STRING)),
+            10,
+            0));
+  }
+
+  /**
+   * Dedupe keeping more than one document of each value runs in memory on the sorted rows, as the
+   * documents kept must stay in the sort order instead of being grouped by value.
+   */
+  @Test
+  void test_sort_dedupe_with_duplication_not_push_down() {
+    assertEqualsAfterOptimization(
+        dedupe(
+            indexScanBuilder(
+                withSortPushedDown(
+                    SortBuilders.fieldSort("longV").order(SortOrder.ASC).missing("_first")),
+                withNoDedupePushedDown()),
+            2,
+            false,
+            false,
+            DSL.ref("stringV", STRING)),
+        dedupe(
+            sort(
+                relation("schema", table),
+                Pair.of(SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))),
+            2,
+            false,
+            false,
+            DSL.ref("stringV", STRING)));
+  }
+
+  /** Collapsed search can't be scrolled, so dedupe exceeding max result window runs in memory. */
+  @Test
+  void test_dedupe_not_push_down_if_exceeding_max_result_window() {
+    when(requestBuilder.getRequestedTotalSize()).thenReturn(MAX_RESULT_WINDOW + 1);
+    assertEqualsAfterOptimization(
+        dedupe(indexScanBuilder(withNoDedupePushedDown()), DSL.ref("stringV", STRING)),
+        dedupe(relation("schema", table), DSL.ref("stringV", STRING)));
+  }
+
+  @Test
+  void test_limit_not_push_down_after_dedupe_if_exceeding_max_result_window() {
+    assertEqualsAfterOptimization(
+        limit(
+            indexScanBuilder(withDedupePushedDown("stringV"), withNoLimitPushedDown()),
+            10,
+            MAX_RESULT_WINDOW),
+        limit(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)), 10, MAX_RESULT_WINDOW));
+  }
+
+  /** Filter after dedupe is applied to the collapsed documents. */
+  @Test
+  void test_filter_not_push_down_after_dedupe() {
+    assertEqualsAfterOptimization(
+        filter(
+            indexScanBuilder(withDedupePushedDown("stringV"), withNoFilterPushedDown()),
+            DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+        filter(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))));
+  }
+
+  /** Sort after dedupe doesn't change which documents are kept. */
+  @Test
+  void test_sort_not_push_down_after_dedupe() {
+    assertEqualsAfterOptimization(
+        sort(
+            indexScanBuilder(withDedupePushedDown("stringV"), withNoSortPushedDown()),
+            Pair.of(SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))),
+        sort(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            Pair.of(SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))));
+  }
+
+  @Test
+  void test_dedupe_not_push_down_after_dedupe() {
+    assertEqualsAfterOptimization(
+        aggregation(
+            dedupe(
+                indexScanBuilder(withDedupePushedDown("stringV")), DSL.ref("intV", INTEGER)),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of()),
+        aggregation(
+            dedupe(
+                dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+                DSL.ref("intV", INTEGER)),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of()));
+  }
+
+  @Test
+  void test_aggregation_not_push_down_after_dedupe() {
+    assertEqualsAfterOptimization(
+        aggregation(
+            indexScanBuilder(withDedupePushedDown("intV")),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of()),
+        aggregation(
+            dedupe(relation("schema", table), DSL.ref("intV", INTEGER)),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of()));
+  }
+
+  @Test
+  void test_dedupe_not_push_down_after_limit() {
+    assertEqualsAfterOptimization(
+        dedupe(indexScanBuilder(withLimitPushedDown(10, 0)), DSL.ref("stringV", STRING)),
+        dedupe(limit(relation("schema", table), 10, 0), DSL.ref("stringV", STRING)));
+  }
+
+  @Test
+  void test_top_push_down() {
+    assertEqualsAfterOptimization(
+        indexScanBuilder(
+            withRareTopNPushedDown(
+                AggregationBuilders.composite(
+                        "composite_buckets",
+                        List.of(
+                            new TermsValuesSourceBuilder("longV")
+                                .field("longV")
+                                .missingBucket(true)
+                                .missingOrder("first")
+                                .order("asc")))
+                    .subAggregation(
+                        AggregationBuilders.terms("stringV")
+                            .field("stringV")
+                            .size(10)
+                            .order(BucketOrder.count(false)))
+                    .size(AggregationQueryBuilder.AGGREGATION_BUCKET_SIZE),
+                "stringV",
+                Map.of("longV", LONG, "stringV", STRING))),
+        rareTopN(
+            relation("schema", table),
+            CommandType.TOP,
+            ImmutableList.of(DSL.ref("longV", LONG)),
+            DSL.ref("stringV", STRING)));
+  }
+
+  @Test
+  void test_top_text_field_with_keyword_push_down() {
+    ReferenceExpression textV =
+        DSL.ref(
+            "textV",
+            OpenSearchTextType.of(Map.of("keyword", OpenSearchDataType.of(MappingType.Keyword))));
+    assertEqualsAfterOptimization(
+        indexScanBuilder(
+            withRareTopNPushedDown(
+                AggregationBuilders.terms("textV")
+                    .field("textV.keyword")
+                    .size(3)
+                    .order(BucketOrder.count(false)),
+                "textV",
+                Map.of("textV", textV.type()))),
+        rareTopN(relation("schema", table), CommandType.TOP, 3, ImmutableList.of(), textV));
+  }
+
+  /** Rare is counted in memory, as terms ordered by ascending count aren't rare on every shard. */
+  @Test
+  void test_rare_not_push_down() {
+    assertEqualsAfterOptimization(
+        rareTopN(
+            indexScanBuilder(withNoAggregationPushedDown()),
+            CommandType.RARE,
+            ImmutableList.of(),
+            DSL.ref("stringV", STRING)),
+        rareTopN(
+            relation("schema", table),
+            CommandType.RARE,
+            ImmutableList.of(),
+            DSL.ref("stringV", STRING)));
+  }
+
+  /** Only the top of a single keyword or numeric field grouped by fields is pushed down. */
+  @Test
+  void test_rare_top_n_not_push_down() {
+    List.<List<Expression>>of(
+            List.of(DSL.ref("stringV", STRING), DSL.ref("intV", INTEGER)),
+            List.of(DSL.abs(DSL.ref("intV", INTEGER))),
+            List.of(DSL.ref("timestampV", TIMESTAMP)),
+            List.of(DSL.ref("textV", OpenSearchTextType.of())),
+            List.of(DSL.ref("objectV.stringV", STRING)),
+            List.of(DSL.ref("_id", STRING)))
+        .forEach(
+            fields ->
+                assertEqualsAfterOptimization(
+                    rareTopN(
+                        indexScanBuilder(withNoAggregationPushedDown()),
+                        CommandType.TOP,
+                        ImmutableList.of(),
+                        fields.toArray(new Expression[0])),
+                    rareTopN(
+                        relation("schema", table),
+                        CommandType.TOP,
+                        ImmutableList.of(),
+                        fields.toArray(new Expression[0]))));
+    List.<List<Expression>>of(
+            List.of(DSL.abs(DSL.ref("longV", LONG))), List.of(DSL.ref("stringV", STRING)))
+        .forEach(
+            groups ->
+                assertEqualsAfterOptimization(
+                    rareTopN(
+                        indexScanBuilder(withNoAggregationPushedDown()),
+                        CommandType.TOP,
+                        groups,
+                        DSL.ref("stringV", STRING)),
+                    rareTopN(
+                        relation("schema", table),
+                        CommandType.TOP,
+                        groups,
+                        DSL.ref("stringV", STRING))));
+  }
+
+  @Test
+  void test_filter_top_push_down() {
+    assertEqualsAfterOptimization(
+        indexScanBuilder(
+            withFilterPushedDown(QueryBuilders.termQuery("intV", 1)),
+            withRareTopNPushedDown(
+                AggregationBuilders.terms("stringV")
+                    .field("stringV")
+                    .size(10)
+                    .order(BucketOrder.count(false)),
+                "stringV",
+                Map.of("stringV", STRING))),
+        rareTopN(
+            filter(
+                relation("schema", table),
+                DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("stringV", STRING)));
+  }
+
+  /** Operators after rare or top are applied to the values counted. */
+  @Test
+  void test_filter_sort_limit_not_push_down_after_top() {
+    assertEqualsAfterOptimization(
+        limit(
+            sort(
+                filter(
+                    indexScanBuilder(withNoFilterPushedDown(), withNoSortPushedDown()),
+                    DSL.equal(DSL.ref("stringV", STRING), DSL.literal("a"))),
+                Pair.of(SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING))),
+            1,
+            0),
+        limit(
+            sort(
+                filter(
+                    rareTopN(
+                        relation("schema", table),
+                        CommandType.TOP,
+                        ImmutableList.of(),
+                        DSL.ref("stringV", STRING)),
+                    DSL.equal(DSL.ref("stringV", STRING), DSL.literal("a"))),
+                Pair.of(SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING))),
+            1,
+            0));
+  }
+
+  @Test
+  void test_aggregation_not_push_down_after_top() {
+    assertEqualsAfterOptimization(
+        aggregation(
+            indexScanBuilder(),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of()),
+        aggregation(
+            rareTopN(
+                relation("schema", table),
+                CommandType.TOP,
+                ImmutableList.of(),
+                DSL.ref("intV", INTEGER)),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of()));
+  }
+
+  @Test
+  void test_top_not_push_down_after_aggregation() {
+    assertEqualsAfterOptimization(
+        rareTopN(
+            indexScanBuilder(),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("AVG(intV)", DOUBLE)),
+        rareTopN(
+            aggregation(
+                relation("schema", table),
+                ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+                ImmutableList.of(DSL.named("longV", DSL.ref("longV", LONG)))),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("AVG(intV)", DOUBLE)));
+  }
+
+  @Test
+  void test_top_not_push_down_after_dedupe() {
+    assertEqualsAfterOptimization(
+        rareTopN(
+            indexScanBuilder(withDedupePushedDown("stringV")),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("intV", INTEGER)),
+        rareTopN(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("intV", INTEGER)));
+  }
+
+  @Test
+  void test_top_not_push_down_after_limit() {
+    assertEqualsAfterOptimization(
+        rareTopN(
+            indexScanBuilder(withLimitPushedDown(10, 0)),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("intV", INTEGER)),
+        rareTopN(
+            limit(relation("schema", table), 10, 0),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("intV", INTEGER)));
+  }
+
   @Test
   void test_highlight_push_down() {
     assertEqualsAfterOptimization(
@@ -605,7 +1023,8 @@ class OpenSearchIndexScanOptimizationTest {
   private OpenSearchIndexScanBuilder indexScanBuilder(Runnable... verifyPushDownCalls) {
     this.verifyPushDownCalls = verifyPushDownCalls;
     return new OpenSearchIndexScanBuilder(
-        new OpenSearchIndexScanQueryBuilder(requestBuilder), requestBuilder -> indexScan);
+        new OpenSearchIndexScanQueryBuilder(requestBuilder, () -> MAX_RESULT_WINDOW),
+        requestBuilder -> indexScan);
   }
 
   private OpenSearchIndexScanBuilder indexScanAggBuilder(Runnable... verifyPushDownCalls) {
@@ -667,10 +1086,48 @@ class OpenSearchIndexScanOptimizationTest {
     };
   }
 
+  private Runnable withRareTopNPushedDown(
+      AggregationBuilder aggBuilder, String field, Map<String, ExprType> resultTypes) {
+    return () -> {
+      verify(requestBuilder, times(1))
+          .pushDownAggregation(Pair.of(List.of(aggBuilder), new RareTopNParser(field)));
+      verify(requestBuilder, times(1))
+          .pushTypeMapping(
+              resultTypes.entrySet().stream()
+                  .collect(
+                      Collectors.toMap(
+                          Map.Entry::getKey, e -> OpenSearchDataType.of(e.getValue()))));
+    };
+  }
+
+  private Runnable withNoAggregationPushedDown() {
+    return () -> verify(requestBuilder, never()).pushDownAggregation(any());
+  }
+
   private Runnable withSortPushedDown(SortBuilder<?>... sorts) {
     return () -> verify(requestBuilder, times(1)).pushDownSort(Arrays.asList(sorts));
   }
 
+  private Runnable withDedupePushedDown(String field) {
+    return () -> verify(requestBuilder, times(1)).pushDownDedupe(field);
+  }
+
+  private Runnable withNoFilterPushedDown() {
+    return () -> verify(requestBuilder, never()).pushDownFilter(any());
+  }
+
+  private Runnable withNoSortPushedDown() {
+    return () -> verify(requestBuilder, never()).pushDownSort(any());
+  }
+
+  private Runnable withNoDedupePushedDown() {
+    return () -> verify(requestBuilder, never()).pushDownDedupe(anyString());
+  }
+
+  private Runnable withNoLimitPushedDown() {
+    return () -> verify(requestBuilder, never()).pushDownLimit(anyInt(), anyInt());
+  }
+
   private Runnable withLimitPushedDown(int size, int offset) {
     return () -> verify(requestBuilder, times(1)).pushDownLimit(size, offset);
   }
@@ -726,7 +1183,9 @@ class OpenSearchIndexScanOptimizationTest {
                 new PushDownPageSize(),
                 PUSH_DOWN_FILTER,
                 PUSH_DOWN_AGGREGATION,
+                PUSH_DOWN_RARE_TOP_N,
                 PUSH_DOWN_SORT,
+                PUSH_DOWN_DEDUPE,
                 PUSH_DOWN_LIMIT,
                 PUSH_DOWN_HIGHLIGHT,
                 PUSH_DOWN_NESTED,
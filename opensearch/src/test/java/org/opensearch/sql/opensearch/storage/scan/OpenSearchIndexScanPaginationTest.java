@@ -98,6 +98,7 @@ public class OpenSearchIndexScanPaginationTest {
     OpenSearchResponse response = mock();
     when(builder.build(any(), anyInt(), any())).thenReturn(request);
     when(client.search(any())).thenReturn(response);
+    when(response.isEmpty()).thenReturn(true);
     try (var indexScan =
         new OpenSearchIndexScan(
             client,
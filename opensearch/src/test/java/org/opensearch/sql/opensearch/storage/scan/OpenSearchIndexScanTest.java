@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
+import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -46,8 +47,11 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.sql.ast.expression.DataType;
@@ -59,11 +63,14 @@ import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchCompositeAggregationRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 
@@ -144,12 +151,73 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  @SneakyThrows
+  @Test
+  void serialize_pit_request() {
+    var searchSourceBuilder =
+        new SearchSourceBuilder().size(1).query(QueryBuilders.termQuery("name", "John"));
+
+    var factory = mock(OpenSearchExprValueFactory.class);
+    var engine = mock(OpenSearchStorageEngine.class);
+    var index = mock(OpenSearchIndex.class);
+    when(engine.getClient()).thenReturn(client);
+    when(engine.getTable(any(), any())).thenReturn(index);
+    var request =
+        new OpenSearchPitRequest(
+            INDEX_NAME, CURSOR_KEEP_ALIVE, searchSourceBuilder, factory, List.of());
+    request.setPitId("valid-id");
+    // a full page of hits, so the request has another batch to search after the last hit
+    var hit = new SearchHit(1);
+    hit.sortValues(new Object[] {1L}, new DocValueFormat[] {DocValueFormat.RAW});
+    var response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {hit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
+    request.search((req) -> response, null);
+
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      var planSerializer = new PlanSerializer(engine);
+      var cursor = planSerializer.convertToCursor(indexScan);
+      var newPlan = planSerializer.convertToPlan(cursor.toString());
+      assertEquals(indexScan, newPlan);
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void serialize_composite_aggregation_request() {
+    var composite =
+        AggregationBuilders.composite(
+            "composite_buckets", List.of(new TermsValuesSourceBuilder("name").field("name")));
+    var searchSourceBuilder = new SearchSourceBuilder().size(0).aggregation(composite);
+
+    var factory = new OpenSearchExprValueFactory(Map.of());
+    factory.setParser(new CompositeAggregationParser(List.of()));
+    var engine = mock(OpenSearchStorageEngine.class);
+    var index = mock(OpenSearchIndex.class);
+    when(engine.getClient()).thenReturn(client);
+    when(engine.getTable(any(), any())).thenReturn(index);
+    var request =
+        new OpenSearchCompositeAggregationRequest(
+            INDEX_NAME, searchSourceBuilder, factory, List.of());
+    composite.aggregateAfter(Map.of("name", "John"));
+
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      var planSerializer = new PlanSerializer(engine);
+      var cursor = planSerializer.convertToCursor(indexScan);
+      var newPlan = planSerializer.convertToPlan(cursor.toString());
+      assertEquals(indexScan, newPlan);
+    }
+  }
+
   @SneakyThrows
   @Test
   void throws_io_exception_if_too_short() {
     var request = mock(OpenSearchRequest.class);
     ByteArrayOutputStream output = new ByteArrayOutputStream();
     ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeUTF("SCROLL");
     objectOutput.writeInt(4);
     objectOutput.flush();
     ObjectInputStream objectInput =
@@ -208,6 +276,29 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void fetched_batches_are_counted() {
+    mockResponse(
+        client,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT")});
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE, exprValueFactory);
+    try (OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(
+            client, 10, requestBuilder.build(INDEX_NAME, 10000, CURSOR_KEEP_ALIVE))) {
+      assertEquals(0, indexScan.getFetchedBatches());
+      assertEquals(0, indexScan.getFetchedBytes());
+
+      indexScan.open();
+      while (indexScan.hasNext()) {
+        indexScan.next();
+      }
+      assertEquals(2, indexScan.getFetchedBatches());
+      assertEquals(0, indexScan.getFetchedBytes());
+    }
+  }
+
   static final OpenSearchRequest.IndexName EMPLOYEES_INDEX =
       new OpenSearchRequest.IndexName("employees");
 
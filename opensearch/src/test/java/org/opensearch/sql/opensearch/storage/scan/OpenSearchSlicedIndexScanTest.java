@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanTest.employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchSlicedIndexScanTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchRequest slice1;
+
+  @Mock private OpenSearchRequest slice2;
+
+  /** Tasks scheduled in the background, run by the test. */
+  private final List<Runnable> scheduled = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(slice1.hasAnotherBatch()).thenReturn(true);
+    lenient().when(slice2.hasAnotherBatch()).thenReturn(true);
+    lenient()
+        .doAnswer(
+            invocation -> {
+              scheduled.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(client)
+        .scheduleAsync(any());
+  }
+
+  @Test
+  void rows_of_all_slices_are_returned() {
+    mockSlice(
+        slice1,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT")});
+    mockSlice(slice2, new ExprValue[] {employee(4, "Bob", "HR")});
+
+    try (OpenSearchSlicedIndexScan scan =
+        new OpenSearchSlicedIndexScan(client, 10, List.of(slice1, slice2), 1)) {
+      scan.open();
+      assertEquals(2, scheduled.size());
+
+      List<ExprValue> rows = new ArrayList<>();
+      scan.forEachRemaining(rows::add);
+      assertThat(
+          rows,
+          containsInAnyOrder(
+              employee(1, "John", "IT"),
+              employee(2, "Smith", "HR"),
+              employee(3, "Allen", "IT"),
+              employee(4, "Bob", "HR")));
+    }
+  }
+
+  @Test
+  void slice_with_fetched_batch_is_read_first() {
+    mockSlice(slice1, new ExprValue[] {employee(1, "John", "IT")});
+    mockSlice(slice2, new ExprValue[] {employee(2, "Smith", "HR")});
+
+    try (OpenSearchSlicedIndexScan scan =
+        new OpenSearchSlicedIndexScan(client, 10, List.of(slice1, slice2), 1)) {
+      scan.open();
+      scheduled.get(1).run();
+
+      assertTrue(scan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), scan.next());
+      assertTrue(scan.hasNext());
+      assertEquals(employee(1, "John", "IT"), scan.next());
+      assertFalse(scan.hasNext());
+    }
+  }
+
+  @Test
+  void rows_are_limited_by_max_response_size() {
+    mockSlice(
+        slice1,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT")});
+    mockSlice(slice2, new ExprValue[] {employee(4, "Bob", "HR")});
+
+    try (OpenSearchSlicedIndexScan scan =
+        new OpenSearchSlicedIndexScan(client, 2, List.of(slice1, slice2), 1)) {
+      scan.open();
+      List<ExprValue> rows = new ArrayList<>();
+      scan.forEachRemaining(rows::add);
+      assertEquals(2, rows.size());
+    }
+  }
+
+  @Test
+  void other_slices_stop_fetching_once_max_response_size_reached() {
+    mockSlice(slice1, new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")});
+
+    try (OpenSearchSlicedIndexScan scan =
+        new OpenSearchSlicedIndexScan(client, 1, List.of(slice1, slice2), 1)) {
+      scan.open();
+      assertTrue(scan.hasNext());
+      assertEquals(employee(1, "John", "IT"), scan.next());
+      assertFalse(scan.hasNext());
+
+      scheduled.forEach(Runnable::run);
+      verify(client, never()).search(slice2);
+    }
+  }
+
+  @Test
+  void fetched_batches_and_bytes_are_summed_over_slices() {
+    mockSlice(
+        slice1,
+        new ExprValue[] {employee(1, "John", "IT")},
+        new ExprValue[] {employee(2, "Smith", "HR")});
+    mockSlice(slice2, new ExprValue[] {employee(3, "Allen", "IT")});
+
+    try (OpenSearchSlicedIndexScan scan =
+        new OpenSearchSlicedIndexScan(client, 10, List.of(slice1, slice2), 1)) {
+      assertEquals(0, scan.getFetchedBatches());
+      scan.open();
+      scan.forEachRemaining(row -> {});
+      assertEquals(3, scan.getFetchedBatches());
+      assertEquals(30L, scan.getFetchedBytes());
+    }
+  }
+
+  @Test
+  void close_cleans_up_all_slices() {
+    OpenSearchSlicedIndexScan scan =
+        new OpenSearchSlicedIndexScan(client, 10, List.of(slice1, slice2), 1);
+    scan.open();
+    scan.close();
+
+    verify(client).cleanup(slice1);
+    verify(client).cleanup(slice2);
+  }
+
+  @Test
+  void explain_all_slices() {
+    when(slice1.toString()).thenReturn("slice 0");
+    when(slice2.toString()).thenReturn("slice 1");
+    assertEquals(
+        "slice 0, slice 1",
+        new OpenSearchSlicedIndexScan(client, 10, List.of(slice1, slice2), 1).explain());
+  }
+
+  /** Mock the batches of a slice, which may not all be fetched if the scan stops early. */
+  private void mockSlice(OpenSearchRequest request, ExprValue[]... batches) {
+    OpenSearchResponse[] responses = new OpenSearchResponse[batches.length + 1];
+    for (int i = 0; i < batches.length; i++) {
+      responses[i] = mock(OpenSearchResponse.class);
+      lenient().when(responses[i].isEmpty()).thenReturn(false);
+      lenient().when(responses[i].iterator()).thenReturn(Arrays.asList(batches[i]).iterator());
+      lenient().when(responses[i].getSourceBytes()).thenReturn(10L);
+    }
+    responses[batches.length] = mock(OpenSearchResponse.class);
+    lenient().when(responses[batches.length].isEmpty()).thenReturn(true);
+
+    lenient()
+        .when(client.search(request))
+        .thenReturn(responses[0], Arrays.copyOfRange(responses, 1, responses.length));
+  }
+}
@@ -9,8 +9,12 @@ import static java.util.Collections.emptyMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +66,18 @@ class ExpressionScriptEngineTest {
     assertEquals(new ExpressionFilterScriptFactory(expression), actualFactory);
   }
 
+  @Test
+  void compiled_script_factory_is_cached_by_script_code_and_context() {
+    when(serializer.deserialize("test code")).thenReturn(expression);
+
+    Object factory = scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap());
+    assertSame(
+        factory, scriptEngine.compile("other", "test code", FilterScript.CONTEXT, emptyMap()));
+    assertNotSame(
+        factory, scriptEngine.compile("test", "test code", AggregationScript.CONTEXT, emptyMap()));
+    verify(serializer, times(2)).deserialize("test code");
+  }
+
   @Test
   void should_throw_exception_for_unsupported_script_context() {
     ScriptContext<?> unknownCtx = mock(ScriptContext.class);
@@ -43,6 +43,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
@@ -54,6 +59,7 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDateType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.response.agg.RareTopNParser;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -664,6 +670,52 @@ class AggregationQueryBuilderTest {
                 Arrays.asList(named(span(ref("age", INTEGER), literal(1), "invalid_unit")))));
   }
 
+  @Test
+  void should_build_terms_aggregation_for_top() {
+    assertEquals(
+        Pair.of(
+            List.of(
+                AggregationBuilders.terms("name")
+                    .field("name.keyword")
+                    .size(5)
+                    .order(BucketOrder.count(false))),
+            new RareTopNParser("name")),
+        queryBuilder.buildRareTopNAggregationBuilder(
+            ref(
+                "name",
+                OpenSearchTextType.of(
+                    Map.of(
+                        "keyword",
+                        OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword)))),
+            List.of(),
+            5,
+            false));
+  }
+
+  @Test
+  void should_build_composite_aggregation_with_terms_for_rare_by_group() {
+    assertEquals(
+        Pair.of(
+            List.of(
+                AggregationBuilders.composite(
+                        "composite_buckets",
+                        List.of(
+                            new TermsValuesSourceBuilder("host")
+                                .field("host")
+                                .missingBucket(true)
+                                .missingOrder(MissingOrder.FIRST)
+                                .order(SortOrder.ASC)))
+                    .subAggregation(
+                        AggregationBuilders.terms("age")
+                            .field("age")
+                            .size(10)
+                            .order(BucketOrder.count(true)))
+                    .size(AggregationQueryBuilder.AGGREGATION_BUCKET_SIZE)),
+            new RareTopNParser("age")),
+        queryBuilder.buildRareTopNAggregationBuilder(
+            ref("age", INTEGER), List.of(named("host", ref("host", STRING))), 10, true));
+  }
+
   @SneakyThrows
   private String buildQuery(
       List<NamedAggregator> namedAggregatorList, List<NamedExpression> groupByList) {
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionScriptTest {
+
+  @Test
+  void numbers_are_converted_to_field_type() {
+    assertEquals(new ExprByteValue(1), execute(ref("f", BYTE), 1L));
+    assertEquals(new ExprShortValue(1), execute(ref("f", SHORT), 1L));
+    assertEquals(new ExprIntegerValue(1), execute(ref("f", INTEGER), 1L));
+    assertEquals(new ExprLongValue(1L), execute(ref("f", LONG), 1L));
+    assertEquals(new ExprDoubleValue(1.5), execute(ref("f", DOUBLE), 1.5));
+  }
+
+  @Test
+  void non_number_of_number_field_is_converted_by_value_factory() {
+    assertEquals(new ExprIntegerValue(1), execute(ref("f", INTEGER), "1"));
+  }
+
+  @Test
+  void timestamp_is_converted_from_zoned_date_time_or_string() {
+    ZonedDateTime timestamp = ZonedDateTime.of(2020, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+    assertEquals(
+        new ExprTimestampValue(timestamp.toInstant()), execute(ref("f", TIMESTAMP), timestamp));
+    assertEquals(
+        new ExprTimestampValue(Instant.parse("2020-01-01T12:00:00Z")),
+        execute(ref("f", TIMESTAMP), "2020-01-01 12:00:00"));
+  }
+
+  @Test
+  void keyword_and_other_types_are_converted() {
+    assertEquals(new ExprStringValue("test"), execute(ref("f", STRING), "test"));
+    assertEquals(ExprBooleanValue.of(true), execute(ref("f", BOOLEAN), true));
+  }
+
+  @Test
+  void missing_or_empty_doc_value_is_null() {
+    ExpressionScript script = new ExpressionScript(ref("f", INTEGER));
+    assertEquals(ExprNullValue.of(), script.execute(script.newSlots(), ImmutableMap.of()));
+    assertEquals(
+        ExprNullValue.of(),
+        script.execute(
+            script.newSlots(), ImmutableMap.of("f", new FakeScriptDocValues<>(emptyList()))));
+  }
+
+  @Test
+  void equal_references_are_read_once() {
+    ExpressionScript script = new ExpressionScript(DSL.add(ref("f", INTEGER), ref("f", INTEGER)));
+    assertEquals(
+        new ExprIntegerValue(2),
+        script.execute(
+            script.newSlots(), ImmutableMap.of("f", new FakeScriptDocValues<>(singletonList(1L)))));
+  }
+
+  @Test
+  void references_of_same_field_with_different_types_are_read() {
+    ExpressionScript script =
+        new ExpressionScript(
+            DSL.and(
+                DSL.equal(ref("f", INTEGER), literal(1)), DSL.equal(ref("f", LONG), literal(1L))));
+    assertEquals(
+        ExprBooleanValue.of(true),
+        script.execute(
+            script.newSlots(), ImmutableMap.of("f", new FakeScriptDocValues<>(singletonList(1L)))));
+  }
+
+  @Test
+  void unknown_reference_is_not_resolved() {
+    ExpressionScript script = new ExpressionScript(ref("f", INTEGER));
+    assertNull(script.newSlots().resolve(ref("other", INTEGER)));
+  }
+
+  private ExprValue execute(Expression expr, Object docValue) {
+    ExpressionScript script = new ExpressionScript(expr);
+    Map<String, ScriptDocValues<?>> doc =
+        ImmutableMap.of("f", new FakeScriptDocValues<>(singletonList(docValue)));
+    return script.execute(script.newSlots(), doc);
+  }
+
+  private static class FakeScriptDocValues<T> extends ScriptDocValues<T> {
+    private final List<T> values;
+
+    public FakeScriptDocValues(List<T> values) {
+      this.values = values;
+    }
+
+    @Override
+    public void setNextDocId(int docId) {
+      throw new UnsupportedOperationException("Fake script doc values doesn't implement this yet");
+    }
+
+    @Override
+    public T get(int index) {
+      return values.get(index);
+    }
+
+    @Override
+    public int size() {
+      return values.size();
+    }
+  }
+}
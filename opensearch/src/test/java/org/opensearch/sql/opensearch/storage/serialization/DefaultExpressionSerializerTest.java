@@ -7,10 +7,16 @@ package org.opensearch.sql.opensearch.storage.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.ref;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Base64;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -54,6 +60,30 @@ class DefaultExpressionSerializerTest {
     assertEquals(original, actual);
   }
 
+  @Test
+  public void serialized_code_is_compact_and_url_safe() throws IOException {
+    Expression original = DSL.or(literal(true), DSL.less(ref("age", INTEGER), literal(2)));
+    String code = serializer.serialize(original);
+
+    assertTrue(code.matches("[A-Za-z0-9_-]+"));
+    assertEquals(
+        DefaultExpressionSerializer.FORMAT_VERSION, Base64.getUrlDecoder().decode(code)[0]);
+    assertTrue(code.length() < legacySerialize(original).length());
+  }
+
+  @Test
+  public void can_deserialize_code_of_legacy_encoding() throws IOException {
+    Expression original = DSL.abs(literal(30.0));
+    assertEquals(original, serializer.deserialize(legacySerialize(original)));
+  }
+
+  @Test
+  public void cannot_deserialize_code_of_unsupported_version() {
+    String code = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] {2, 0});
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(code));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(""));
+  }
+
   @Test
   public void cannot_serialize_illegal_expression() {
     Expression illegalExpr =
@@ -82,4 +112,12 @@ class DefaultExpressionSerializerTest {
   public void cannot_deserialize_illegal_expression_code() {
     assertThrows(IllegalStateException.class, () -> serializer.deserialize("hello world"));
   }
+
+  private String legacySerialize(Expression expr) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(expr);
+    objectOutput.flush();
+    return Base64.getEncoder().encodeToString(output.toByteArray());
+  }
 }
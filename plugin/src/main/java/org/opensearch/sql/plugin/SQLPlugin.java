@@ -35,11 +35,14 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
+import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.plugins.ActionPlugin;
+import org.opensearch.plugins.CircuitBreakerPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.ScriptPlugin;
 import org.opensearch.repositories.RepositoriesService;
@@ -65,6 +68,8 @@ import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.mapping.IndexMetadataCache;
+import org.opensearch.sql.opensearch.monitor.QueryCircuitBreaker;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
@@ -96,7 +101,7 @@ import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.watcher.ResourceWatcherService;
 
-public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
+public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin, CircuitBreakerPlugin {
 
   private static final Logger LOGGER = LogManager.getLogger(SQLPlugin.class);
 
@@ -109,6 +114,9 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
   private DataSourceServiceImpl dataSourceService;
   private Injector injector;
 
+  /** Circuit breaker of the query memory, set by the node before the components are created. */
+  private QueryCircuitBreaker queryCircuitBreaker = QueryCircuitBreaker.noop();
+
   public String name() {
     return "sql";
   }
@@ -202,6 +210,7 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     dataSourceService.createDataSource(defaultOpenSearchDataSourceMetadata());
     LocalClusterState.state().setClusterService(clusterService);
     LocalClusterState.state().setPluginSettings((OpenSearchSettings) pluginSettings);
+    IndexMetadataCache indexMetadataCache = LocalClusterState.state().getIndexMetadataCache();
     ModulesBuilder modules = new ModulesBuilder();
     modules.add(new OpenSearchPluginModule());
     modules.add(
@@ -210,6 +219,8 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
           b.bind(org.opensearch.sql.common.setting.Settings.class).toInstance(pluginSettings);
           b.bind(DataSourceService.class).toInstance(dataSourceService);
           b.bind(ClusterService.class).toInstance(clusterService);
+          b.bind(IndexMetadataCache.class).toInstance(indexMetadataCache);
+          b.bind(QueryCircuitBreaker.class).toInstance(queryCircuitBreaker);
         });
     modules.add(new AsyncExecutorServiceModule());
     injector = modules.createInjector();
@@ -231,7 +242,22 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
         dataSourceService,
         injector.getInstance(AsyncQueryExecutorService.class),
         clusterManagerEventListener,
-        pluginSettings);
+        pluginSettings,
+        indexMetadataCache,
+        queryCircuitBreaker);
+  }
+
+  @Override
+  public BreakerSettings getCircuitBreaker(Settings settings) {
+    return new BreakerSettings(
+        QueryCircuitBreaker.NAME,
+        OpenSearchSettings.QUERY_BREAKER_LIMIT_SETTING.get(settings).getBytes(),
+        1.0);
+  }
+
+  @Override
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.queryCircuitBreaker = new QueryCircuitBreaker(circuitBreaker);
   }
 
   @Override
@@ -280,7 +306,12 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
         new ImmutableSet.Builder<DataSourceFactory>()
             .add(
                 new OpenSearchDataSourceFactory(
-                    new OpenSearchNodeClient(this.client), pluginSettings))
+                    new OpenSearchNodeClient(
+                        this.client,
+                        LocalClusterState.state().getIndexMetadataCache(),
+                        OpenSearchNodeClient.isSecurityInstalled(
+                            clusterService.getClusterSettings())),
+                    pluginSettings))
             .add(new PrometheusStorageFactory(pluginSettings))
             .add(new GlueDataSourceFactory(pluginSettings))
             .build(),
@@ -5,11 +5,16 @@
 
 package org.opensearch.sql.plugin.config;
 
+import static org.opensearch.sql.legacy.metrics.MetricName.STATEMENT_CACHE_HIT_COUNT;
+import static org.opensearch.sql.legacy.metrics.MetricName.STATEMENT_CACHE_MISS_COUNT;
+
 import lombok.RequiredArgsConstructor;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.AbstractModule;
 import org.opensearch.common.inject.Provides;
 import org.opensearch.common.inject.Singleton;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.analysis.ExpressionAnalyzer;
 import org.opensearch.sql.common.setting.Settings;
@@ -17,9 +22,12 @@ import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.pagination.CursorStore;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
@@ -27,8 +35,10 @@ import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
 import org.opensearch.sql.opensearch.executor.OpenSearchQueryManager;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.mapping.IndexMetadataCache;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
+import org.opensearch.sql.opensearch.monitor.QueryCircuitBreaker;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
@@ -48,8 +58,12 @@ public class OpenSearchPluginModule extends AbstractModule {
   protected void configure() {}
 
   @Provides
-  public OpenSearchClient openSearchClient(NodeClient nodeClient) {
-    return new OpenSearchNodeClient(nodeClient);
+  public OpenSearchClient openSearchClient(
+      NodeClient nodeClient, IndexMetadataCache indexMetadataCache, ClusterService clusterService) {
+    return new OpenSearchNodeClient(
+        nodeClient,
+        indexMetadataCache,
+        OpenSearchNodeClient.isSecurityInstalled(clusterService.getClusterSettings()));
   }
 
   @Provides
@@ -64,8 +78,10 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public ResourceMonitor resourceMonitor(Settings settings) {
-    return new OpenSearchResourceMonitor(settings, new OpenSearchMemoryHealthy());
+  public ResourceMonitor resourceMonitor(
+      Settings settings, QueryCircuitBreaker queryCircuitBreaker) {
+    return new OpenSearchResourceMonitor(
+        settings, new OpenSearchMemoryHealthy(), queryCircuitBreaker);
   }
 
   @Provides
@@ -74,8 +90,18 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public PlanSerializer planSerializer(StorageEngine storageEngine) {
-    return new PlanSerializer(storageEngine);
+  public PlanSerializer planSerializer(StorageEngine storageEngine, CursorStore cursorStore) {
+    return new PlanSerializer(storageEngine, cursorStore);
+  }
+
+  /** {@link CursorStore} of the node, keeping the cursors for the cursor keep alive time. */
+  @Provides
+  @Singleton
+  public CursorStore cursorStore(Settings settings) {
+    return new CursorStore(
+        () -> settings.<Boolean>getSettingValue(Settings.Key.SQL_CURSOR_STORE_ENABLED),
+        () ->
+            settings.<TimeValue>getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE).getMillis());
   }
 
   @Provides
@@ -84,25 +110,39 @@ public class OpenSearchPluginModule extends AbstractModule {
     return new OpenSearchQueryManager(nodeClient);
   }
 
+  /** {@link StatementCache} shared by the services, counting hits and misses in {@link Metrics}. */
+  @Provides
+  @Singleton
+  public StatementCache statementCache(Settings settings) {
+    return new StatementCache(
+        () -> settings.<Long>getSettingValue(Settings.Key.QUERY_STATEMENT_CACHE_SIZE),
+        () -> Metrics.getInstance().getNumericalMetric(STATEMENT_CACHE_HIT_COUNT).increment(),
+        () -> Metrics.getInstance().getNumericalMetric(STATEMENT_CACHE_MISS_COUNT).increment());
+  }
+
   @Provides
-  public PPLService pplService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory);
+  public PPLService pplService(
+      QueryManager queryManager, QueryPlanFactory queryPlanFactory, StatementCache cache) {
+    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory, cache);
   }
 
   @Provides
-  public SQLService sqlService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new SQLService(new SQLSyntaxParser(), queryManager, queryPlanFactory);
+  public SQLService sqlService(
+      QueryManager queryManager, QueryPlanFactory queryPlanFactory, StatementCache cache) {
+    return new SQLService(new SQLSyntaxParser(), queryManager, queryPlanFactory, cache);
   }
 
   /** {@link QueryPlanFactory}. */
   @Provides
   public QueryPlanFactory queryPlanFactory(
-      DataSourceService dataSourceService, ExecutionEngine executionEngine) {
+      DataSourceService dataSourceService,
+      ExecutionEngine executionEngine,
+      CursorStore cursorStore) {
     Analyzer analyzer =
         new Analyzer(
             new ExpressionAnalyzer(functionRepository), dataSourceService, functionRepository);
     Planner planner = new Planner(LogicalPlanOptimizer.create());
     QueryService queryService = new QueryService(analyzer, executionEngine, planner);
-    return new QueryPlanFactory(queryService);
+    return new QueryPlanFactory(queryService, cursorStore);
   }
 }
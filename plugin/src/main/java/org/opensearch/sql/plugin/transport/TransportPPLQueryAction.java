@@ -19,6 +19,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.inject.Injector;
 import org.opensearch.common.inject.ModulesBuilder;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
@@ -28,18 +29,22 @@ import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.opensearch.mapping.IndexMetadataCache;
+import org.opensearch.sql.opensearch.monitor.QueryCircuitBreaker;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.ppl.PPLService;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.StreamingQueryResponseListener;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 import org.opensearch.sql.protocol.response.format.RawResponseFormatter;
 import org.opensearch.sql.protocol.response.format.ResponseFormatter;
 import org.opensearch.sql.protocol.response.format.SimpleJsonResponseFormatter;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter;
 import org.opensearch.sql.protocol.response.format.VisualizationResponseFormatter;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -60,6 +65,8 @@ public class TransportPPLQueryAction
       NodeClient client,
       ClusterService clusterService,
       DataSourceServiceImpl dataSourceService,
+      IndexMetadataCache indexMetadataCache,
+      QueryCircuitBreaker queryCircuitBreaker,
       org.opensearch.common.settings.Settings clusterSettings) {
     super(PPLQueryAction.NAME, transportService, actionFilters, TransportPPLQueryRequest::new);
 
@@ -71,6 +78,8 @@ public class TransportPPLQueryAction
           b.bind(org.opensearch.sql.common.setting.Settings.class)
               .toInstance(new OpenSearchSettings(clusterService.getClusterSettings()));
           b.bind(DataSourceService.class).toInstance(dataSourceService);
+          b.bind(IndexMetadataCache.class).toInstance(indexMetadataCache);
+          b.bind(QueryCircuitBreaker.class).toInstance(queryCircuitBreaker);
         });
     this.injector = modules.createInjector();
     this.pplEnabled =
@@ -144,17 +153,38 @@ public class TransportPPLQueryAction
   private ResponseListener<ExecutionEngine.QueryResponse> createListener(
       PPLQueryRequest pplRequest, ActionListener<TransportPPLQueryResponse> listener) {
     Format format = format(pplRequest);
-    ResponseFormatter<QueryResult> formatter;
+    if (format.equals(Format.VIZ)) {
+      return createVisualizationListener(pplRequest, listener);
+    }
+
+    StreamingResponseFormatter formatter;
     if (format.equals(Format.CSV)) {
       formatter = new CsvResponseFormatter(pplRequest.sanitize());
     } else if (format.equals(Format.RAW)) {
       formatter = new RawResponseFormatter();
-    } else if (format.equals(Format.VIZ)) {
-      formatter = new VisualizationResponseFormatter(pplRequest.style());
     } else {
       formatter = new SimpleJsonResponseFormatter(JsonResponseFormatter.Style.PRETTY);
     }
 
+    BytesStreamOutput out = new BytesStreamOutput();
+    return new StreamingQueryResponseListener(formatter, out) {
+      @Override
+      protected void onFinished() {
+        listener.onResponse(new TransportPPLQueryResponse(out.bytes().utf8ToString()));
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        listener.onFailure(e);
+      }
+    };
+  }
+
+  /** Visualization format needs all rows to build the response, so it isn't streamed. */
+  private ResponseListener<ExecutionEngine.QueryResponse> createVisualizationListener(
+      PPLQueryRequest pplRequest, ActionListener<TransportPPLQueryResponse> listener) {
+    ResponseFormatter<QueryResult> formatter =
+        new VisualizationResponseFormatter(pplRequest.style());
     return new ResponseListener<ExecutionEngine.QueryResponse>() {
       @Override
       public void onResponse(ExecutionEngine.QueryResponse response) {
@@ -17,8 +17,10 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.ppl.parser.AstBuilder;
@@ -26,7 +28,7 @@ import org.opensearch.sql.ppl.parser.AstExpressionBuilder;
 import org.opensearch.sql.ppl.parser.AstStatementBuilder;
 import org.opensearch.sql.ppl.utils.PPLQueryDataAnonymizer;
 
-/** PPLService. */
+/** PPLService. The statements parsed are reused through {@link StatementCache}. */
 @RequiredArgsConstructor
 public class PPLService {
   private final PPLSyntaxParser parser;
@@ -35,10 +37,18 @@ public class PPLService {
 
   private final QueryPlanFactory queryExecutionFactory;
 
+  private final StatementCache statementCache;
+
   private final PPLQueryDataAnonymizer anonymizer = new PPLQueryDataAnonymizer();
 
   private static final Logger LOG = LogManager.getLogger();
 
+  /** Constructor of the service which parses each query. */
+  public PPLService(
+      PPLSyntaxParser parser, QueryManager queryManager, QueryPlanFactory queryExecutionFactory) {
+    this(parser, queryManager, queryExecutionFactory, StatementCache.disabled());
+  }
+
   /**
    * Execute the {@link PPLQueryRequest}, using {@link ResponseListener} to get response.
    *
@@ -73,14 +83,17 @@ public class PPLService {
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
     // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-    ParseTree cst = parser.parse(request.getRequest());
-    Statement statement =
-        cst.accept(
-            new AstStatementBuilder(
-                new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
-                AstStatementBuilder.StatementBuilderContext.builder()
-                    .isExplain(request.isExplainRequest())
-                    .build()));
+    Statement statement;
+    if (request.isProfileRequest()) {
+      // A profiled statement is not cached, so that it is parsed in the profile
+      QueryProfile profile = new QueryProfile();
+      statement = profile.time(QueryProfile.PARSE, () -> parse(request, profile));
+    } else {
+      statement =
+          statementCache.get(
+              new StatementCache.Key("ppl", request.getRequest(), request.isExplainRequest(), 0),
+              () -> parse(request, null));
+    }
 
     LOG.info(
         "[{}] Incoming request {}",
@@ -89,4 +102,15 @@ public class PPLService {
 
     return queryExecutionFactory.create(statement, queryListener, explainListener);
   }
+
+  private Statement parse(PPLQueryRequest request, QueryProfile profile) {
+    ParseTree cst = parser.parse(request.getRequest());
+    return cst.accept(
+        new AstStatementBuilder(
+            new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
+            AstStatementBuilder.StatementBuilderContext.builder()
+                .isExplain(request.isExplainRequest())
+                .profile(profile)
+                .build()));
+  }
 }
@@ -60,6 +60,15 @@ public class PPLQueryRequest {
     return path.endsWith("/_explain");
   }
 
+  /**
+   * Check if request is to execute the query and explain it with the profile of the execution.
+   *
+   * @return true if it is a explain request with profile enabled
+   */
+  public boolean isProfileRequest() {
+    return isExplainRequest() && jsonContent != null && jsonContent.optBoolean("profile", false);
+  }
+
   /** Decide on the formatter by the requested format. */
   public Format format() {
     Optional<Format> optionalFormat = Format.of(format);
@@ -16,6 +16,7 @@ import org.opensearch.sql.ast.expression.AllFields;
 import org.opensearch.sql.ast.statement.Explain;
 import org.opensearch.sql.ast.statement.Query;
 import org.opensearch.sql.ast.statement.Statement;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.ast.tree.Project;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
@@ -32,7 +33,7 @@ public class AstStatementBuilder extends OpenSearchPPLParserBaseVisitor<Statemen
   @Override
   public Statement visitDmlStatement(OpenSearchPPLParser.DmlStatementContext ctx) {
     Query query = new Query(addSelectAll(astBuilder.visit(ctx)), context.getFetchSize());
-    return context.isExplain ? new Explain(query) : query;
+    return context.isExplain ? new Explain(query, context.profile) : query;
   }
 
   @Override
@@ -45,6 +46,9 @@ public class AstStatementBuilder extends OpenSearchPPLParserBaseVisitor<Statemen
   public static class StatementBuilderContext {
     private final boolean isExplain;
     private final int fetchSize;
+
+    /** Profile of the query explained, or null to explain without executing. */
+    private final QueryProfile profile;
   }
 
   private UnresolvedPlan addSelectAll(UnresolvedPlan plan) {
@@ -10,6 +10,8 @@ import static org.mockito.Mockito.doAnswer;
 
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.JSONObject;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -24,8 +26,10 @@ import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 
@@ -130,6 +134,35 @@ public class PPLServiceTest {
         });
   }
 
+  @Test
+  public void testProfileShouldPass() {
+    doAnswer(
+            invocation -> {
+              QueryProfile profile = invocation.getArgument(1);
+              Assert.assertTrue(profile.phaseTimes().containsKey("parse_time_in_nanos"));
+              ResponseListener<ExplainResponse> listener = invocation.getArgument(2);
+              listener.onResponse(new ExplainResponse(new ExplainResponseNode("test")));
+              return null;
+            })
+        .when(queryService)
+        .profile(any(), any(), any());
+
+    pplService.explain(
+        new PPLQueryRequest(
+            "search source=t a=1",
+            new JSONObject("{\"query\": \"search source=t a=1\", \"profile\": true}"),
+            EXPLAIN),
+        new ResponseListener<ExplainResponse>() {
+          @Override
+          public void onResponse(ExplainResponse pplQueryResponse) {}
+
+          @Override
+          public void onFailure(Exception e) {
+            Assert.fail();
+          }
+        });
+  }
+
   @Test
   public void testExecuteWithIllegalQueryShouldBeCaughtByHandler() {
     pplService.execute(
@@ -198,4 +231,32 @@ public class PPLServiceTest {
           public void onFailure(Exception e) {}
         });
   }
+
+  @Test
+  public void testStatementOfSameQueryIsParsedOnce() {
+    AtomicInteger hits = new AtomicInteger();
+    AtomicInteger misses = new AtomicInteger();
+    PPLService cachingService =
+        new PPLService(
+            new PPLSyntaxParser(),
+            queryManager,
+            new QueryPlanFactory(queryService),
+            new StatementCache(() -> 1000L, hits::incrementAndGet, misses::incrementAndGet));
+    ResponseListener<QueryResponse> listener =
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse pplQueryResponse) {}
+
+          @Override
+          public void onFailure(Exception e) {
+            Assert.fail();
+          }
+        };
+
+    cachingService.execute(new PPLQueryRequest("search source=t a=1", null, QUERY), listener);
+    cachingService.execute(new PPLQueryRequest("search source=t a=1", null, QUERY), listener);
+    cachingService.execute(new PPLQueryRequest("search source=t a=2", null, QUERY), listener);
+    Assert.assertEquals(1, hits.get());
+    Assert.assertEquals(2, misses.get());
+  }
 }
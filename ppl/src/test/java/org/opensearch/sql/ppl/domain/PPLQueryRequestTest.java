@@ -6,8 +6,10 @@
 package org.opensearch.sql.ppl.domain;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import org.json.JSONObject;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -29,6 +31,16 @@ public class PPLQueryRequestTest {
     assertTrue(request.isExplainRequest());
   }
 
+  @Test
+  public void testProfileRequest() {
+    JSONObject profile = new JSONObject("{\"query\": \"source=t\", \"profile\": true}");
+    assertTrue(
+        new PPLQueryRequest("source=t", profile, "/_plugins/_ppl/_explain").isProfileRequest());
+    assertFalse(new PPLQueryRequest("source=t", profile, "/_plugins/_ppl").isProfileRequest());
+    assertFalse(
+        new PPLQueryRequest("source=t", null, "/_plugins/_ppl/_explain").isProfileRequest());
+  }
+
   @Test
   public void testDefaultFormat() {
     PPLQueryRequest request = new PPLQueryRequest("source=test", null, "/_plugins/_ppl");
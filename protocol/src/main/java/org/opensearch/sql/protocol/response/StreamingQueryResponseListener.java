@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.StreamingResponseListener;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter.ResultWriter;
+
+/**
+ * Streaming response listener which formats each batch of rows into the output stream as soon as
+ * it arrives, so the rows of a batch can be released before the next batch is produced.
+ */
+@RequiredArgsConstructor
+public abstract class StreamingQueryResponseListener implements StreamingResponseListener {
+
+  private final StreamingResponseFormatter formatter;
+
+  private final OutputStream out;
+
+  private Schema schema;
+
+  private ResultWriter writer;
+
+  @Override
+  public void onSchema(Schema schema) {
+    this.schema = schema;
+    try {
+      writer = formatter.start(schema, out);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write query response", e);
+    }
+  }
+
+  @Override
+  public void onBatch(List<ExprValue> rows) {
+    try {
+      writer.write(new QueryResult(schema, rows));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write query response", e);
+    }
+  }
+
+  @Override
+  public void onComplete(Cursor cursor) {
+    try {
+      writer.finish(cursor);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write query response", e);
+    }
+    onFinished();
+  }
+
+  /** Handle the complete response, which has been written to the output stream. */
+  protected abstract void onFinished();
+}
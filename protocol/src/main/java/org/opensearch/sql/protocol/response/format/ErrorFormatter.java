@@ -36,6 +36,11 @@ public class ErrorFormatter {
     return prettyJsonify(error);
   }
 
+  /** Gson of the JSON style, for formatters which write JSON incrementally. */
+  static Gson gson(JsonResponseFormatter.Style style) {
+    return style == JsonResponseFormatter.Style.PRETTY ? PRETTY_PRINT_GSON : GSON;
+  }
+
   public static String compactJsonify(Object jsonObject) {
     return AccessController.doPrivileged((PrivilegedAction<String>) () -> GSON.toJson(jsonObject));
   }
@@ -7,17 +7,26 @@ package org.opensearch.sql.protocol.response.format;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 @RequiredArgsConstructor
-public abstract class FlatResponseFormatter implements ResponseFormatter<QueryResult> {
+public abstract class FlatResponseFormatter
+    implements ResponseFormatter<QueryResult>, StreamingResponseFormatter {
   private static String INLINE_SEPARATOR = ",";
   private static final String INTERLINE_SEPARATOR = System.lineSeparator();
   private static final Set<String> SENSITIVE_CHAR = ImmutableSet.of("=", "+", "-", "@");
@@ -41,6 +50,28 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
     return result.getFlat();
   }
 
+  @Override
+  public ResultWriter start(Schema schema, OutputStream out) throws IOException {
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    writer.write(
+        new FlatResult(new QueryResult(schema, Collections.emptyList()), sanitize).headerLine());
+
+    return new ResultWriter() {
+      @Override
+      public void write(QueryResult rows) throws IOException {
+        for (String line : new FlatResult(rows, sanitize).dataLines()) {
+          writer.write(INTERLINE_SEPARATOR);
+          writer.write(line);
+        }
+      }
+
+      @Override
+      public void finish(Cursor cursor) throws IOException {
+        writer.flush();
+      }
+    };
+  }
+
   @Override
   public String format(Throwable t) {
     return ErrorFormatter.prettyFormat(t);
@@ -58,11 +89,19 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
 
     public String getFlat() {
       List<String> headersAndData = new ArrayList<>();
-      headersAndData.add(getHeaderLine(response, sanitize));
-      headersAndData.addAll(getDataLines(response, sanitize));
+      headersAndData.add(headerLine());
+      headersAndData.addAll(dataLines());
       return String.join(INTERLINE_SEPARATOR, headersAndData);
     }
 
+    String headerLine() {
+      return getHeaderLine(response, sanitize);
+    }
+
+    List<String> dataLines() {
+      return getDataLines(response, sanitize);
+    }
+
     private String getHeaderLine(QueryResult response, boolean sanitize) {
       List<String> headers = getHeaders(response, sanitize);
       return String.join(INLINE_SEPARATOR, headers);
@@ -5,6 +5,9 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +27,8 @@ import org.opensearch.sql.protocol.response.QueryResult;
  * avoid impact on client side. The only difference is a new "version" that indicates the response
  * was produced by new query engine.
  */
-public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
+public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult>
+    implements StreamingResponseFormatter {
 
   public JdbcResponseFormatter(Style style) {
     super(style);
@@ -47,6 +51,33 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     return json.build();
   }
 
+  @Override
+  public ResultWriter start(Schema schema, OutputStream out) throws IOException {
+    JsonWriter json = newJsonWriter(out);
+    json.beginObject().name("schema").beginArray();
+    schema.getColumns().forEach(col -> writeJson(json, fetchColumn(col), Column.class));
+    json.endArray().name("datarows").beginArray();
+
+    return new ResultWriter() {
+      private long size = 0;
+
+      @Override
+      public void write(QueryResult rows) {
+        size += writeDataRows(json, rows);
+      }
+
+      @Override
+      public void finish(Cursor cursor) throws IOException {
+        json.endArray();
+        json.name("total").value(size).name("size").value(size).name("status").value(200);
+        if (!cursor.equals(Cursor.None)) {
+          json.name("cursor").value(cursor.toString());
+        }
+        json.endObject().flush();
+      }
+    };
+  }
+
   @Override
   public String format(Throwable t) {
     int status = getStatus(t);
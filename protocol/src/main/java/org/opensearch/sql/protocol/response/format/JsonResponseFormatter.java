@@ -11,9 +11,16 @@ import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyF
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyJsonify;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.protocol.response.QueryResult;
 
 /**
  * Abstract class for all JSON formatter.
@@ -62,4 +69,48 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
         (PrivilegedAction<String>)
             () -> (style == PRETTY) ? prettyJsonify(jsonObject) : compactJsonify(jsonObject));
   }
+
+  /**
+   * Create a JSON writer in the format style, for formatters which write the response
+   * incrementally. Content written by it is the same as the content of {@link #jsonify(Object)}.
+   *
+   * @param out output stream
+   * @return JSON writer
+   */
+  protected JsonWriter newJsonWriter(OutputStream out) throws IOException {
+    return ErrorFormatter.gson(style)
+        .newJsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Write an object in the format style.
+   *
+   * @param json JSON writer
+   * @param object object to write
+   * @param type type of the object
+   */
+  protected void writeJson(JsonWriter json, Object object, Type type) {
+    AccessController.doPrivileged(
+        (PrivilegedAction<Void>)
+            () -> {
+              ErrorFormatter.gson(style).toJson(object, type, json);
+              return null;
+            });
+  }
+
+  /**
+   * Write the rows of a query result as JSON arrays of values.
+   *
+   * @param json JSON writer
+   * @param rows query result rows
+   * @return number of rows written
+   */
+  protected int writeDataRows(JsonWriter json, QueryResult rows) {
+    int count = 0;
+    for (Object[] row : rows) {
+      writeJson(json, row, Object[].class);
+      count++;
+    }
+    return count;
+  }
 }
@@ -5,11 +5,17 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Singular;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /**
@@ -32,7 +38,8 @@ import org.opensearch.sql.protocol.response.QueryResult;
  *  }
  * </pre>
  */
-public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResult> {
+public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResult>
+    implements StreamingResponseFormatter {
 
   public SimpleJsonResponseFormatter(Style style) {
     super(style);
@@ -50,6 +57,30 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
     return json.build();
   }
 
+  @Override
+  public ResultWriter start(Schema schema, OutputStream out) throws IOException {
+    JsonWriter json = newJsonWriter(out);
+    json.beginObject().name("schema").beginArray();
+    new QueryResult(schema, Collections.emptyList())
+        .columnNameTypes()
+        .forEach((name, type) -> writeJson(json, new Column(name, type), Column.class));
+    json.endArray().name("datarows").beginArray();
+
+    return new ResultWriter() {
+      private long size = 0;
+
+      @Override
+      public void write(QueryResult rows) {
+        size += writeDataRows(json, rows);
+      }
+
+      @Override
+      public void finish(Cursor cursor) throws IOException {
+        json.endArray().name("total").value(size).name("size").value(size).endObject().flush();
+      }
+    };
+  }
+
   private Object[][] fetchDataRows(QueryResult response) {
     Object[][] rows = new Object[response.size()][];
     int i = 0;
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+/**
+ * Response formatter which writes a query result to an output stream batch by batch, so the
+ * response is produced while rows arrive instead of from a result holding all rows. The content
+ * written is the same as the content {@link ResponseFormatter#format(Object)} returns for the whole
+ * result.
+ */
+public interface StreamingResponseFormatter {
+
+  /**
+   * Start writing a response.
+   *
+   * @param schema response schema
+   * @param out output stream, UTF-8 encoded content is written to it
+   * @return writer of the response rows
+   */
+  ResultWriter start(Schema schema, OutputStream out) throws IOException;
+
+  /**
+   * Getter for the content type header of the response.
+   *
+   * @return string
+   */
+  String contentType();
+
+  /** Writer of the rows of one response. */
+  interface ResultWriter {
+
+    /**
+     * Write a batch of rows.
+     *
+     * @param rows rows of the batch
+     */
+    void write(QueryResult rows) throws IOException;
+
+    /**
+     * Write the end of the response and flush it.
+     *
+     * @param cursor cursor of the next page, or {@link Cursor#None}
+     */
+    void finish(Cursor cursor) throws IOException;
+  }
+}
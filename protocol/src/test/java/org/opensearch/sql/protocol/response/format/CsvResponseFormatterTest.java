@@ -17,10 +17,14 @@ import static org.opensearch.sql.protocol.response.format.FlatResponseFormatter.
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Unit test for {@link CsvResponseFormatter}. */
@@ -157,6 +161,29 @@ public class CsvResponseFormatterTest {
     assertEquals(format(expected), formatter.format(response));
   }
 
+  @Test
+  void streamResponse() throws IOException {
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(
+                new ExecutionEngine.Schema.Column("name", "name", STRING),
+                new ExecutionEngine.Schema.Column("city", "city", STRING)));
+    CsvResponseFormatter formatter = new CsvResponseFormatter();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingResponseFormatter.ResultWriter writer = formatter.start(schema, out);
+    writer.write(
+        new QueryResult(
+            schema, Arrays.asList(tupleValue(ImmutableMap.of("name", "=John", "city", "A,B")))));
+    writer.write(new QueryResult(schema, ImmutableList.of()));
+    writer.write(
+        new QueryResult(
+            schema, Arrays.asList(tupleValue(ImmutableMap.of("name", "Smith", "city", "C")))));
+    writer.finish(Cursor.None);
+
+    String expected = "name,city%n'=John,\"A,B\"%nSmith,C";
+    assertEquals(format(expected), out.toString(StandardCharsets.UTF_8));
+  }
+
   @Test
   void testContentType() {
     assertEquals(formatter.contentType(), CONTENT_TYPE);
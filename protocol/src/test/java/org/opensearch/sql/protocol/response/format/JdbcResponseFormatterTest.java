@@ -17,10 +17,14 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.executor.ExecutionEngine.Schema;
 import static org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.COMPACT;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -29,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchException;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
@@ -207,6 +212,28 @@ class JdbcResponseFormatterTest {
                 "all shards failed", new IllegalStateException("Execution error"))));
   }
 
+  @Test
+  void stream_response_same_as_format_response() throws IOException {
+    Schema schema =
+        new Schema(
+            ImmutableList.of(
+                new Column("name", "name", STRING), new Column("age", "age", INTEGER)));
+    ExprValue john = tupleValue(ImmutableMap.of("name", "John", "age", 20));
+    ExprValue smith = tupleValue(ImmutableMap.of("name", "Smith", "age", 30));
+    JdbcResponseFormatter formatter = new JdbcResponseFormatter(PRETTY);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingResponseFormatter.ResultWriter writer = formatter.start(schema, out);
+    writer.write(new QueryResult(schema, ImmutableList.of(john)));
+    writer.write(new QueryResult(schema, ImmutableList.of(smith)));
+    writer.finish(new Cursor("test_cursor"));
+
+    assertEquals(
+        formatter.format(
+            new QueryResult(schema, ImmutableList.of(john, smith), new Cursor("test_cursor"))),
+        out.toString(StandardCharsets.UTF_8));
+  }
+
   private static void assertJsonEquals(String expected, String actual) {
     assertEquals(JsonParser.parseString(expected), JsonParser.parseString(actual));
   }
@@ -16,10 +16,15 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 class SimpleJsonResponseFormatterTest {
@@ -160,6 +165,35 @@ class SimpleJsonResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void streamResponseSameAsFormatResponse() throws IOException {
+    SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(PRETTY);
+    ExprValue john = tupleValue(ImmutableMap.of("firstname", "John", "age", 20));
+    ExprValue smith = tupleValue(ImmutableMap.of("firstname", "Smith", "age", 30));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingResponseFormatter.ResultWriter writer = formatter.start(schema, out);
+    writer.write(new QueryResult(schema, ImmutableList.of(john)));
+    writer.write(new QueryResult(schema, ImmutableList.of(smith)));
+    writer.finish(Cursor.None);
+
+    assertEquals(
+        formatter.format(new QueryResult(schema, ImmutableList.of(john, smith))),
+        out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void streamEmptyResponseSameAsFormatResponse() throws IOException {
+    SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(COMPACT);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    formatter.start(schema, out).finish(Cursor.None);
+
+    assertEquals(
+        formatter.format(new QueryResult(schema, ImmutableList.of())),
+        out.toString(StandardCharsets.UTF_8));
+  }
+
   @Test
   void formatError() {
     SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(COMPACT);
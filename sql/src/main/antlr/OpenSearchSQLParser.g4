@@ -157,13 +157,29 @@ windowFunction
    ;
 
 overClause
-   : OVER LR_BRACKET partitionByClause? orderByClause? RR_BRACKET
+   : OVER LR_BRACKET partitionByClause? orderByClause? frameClause? RR_BRACKET
    ;
 
 partitionByClause
    : PARTITION BY expression (COMMA expression)*
    ;
 
+frameClause
+   : unit = (ROWS | RANGE) (BETWEEN frameStart = frameBound AND frameEnd = frameBound | frameStart = frameBound)
+   ;
+
+frameBound
+   : UNBOUNDED PRECEDING                                      # unboundedPrecedingFrameBound
+   | CURRENT ROW                                              # currentRowFrameBound
+   | UNBOUNDED FOLLOWING                                      # unboundedFollowingFrameBound
+   | offset = frameOffset direction = (PRECEDING | FOLLOWING) # offsetFrameBound
+   ;
+
+frameOffset
+   : decimalLiteral
+   | realLiteral
+   ;
+
 // Literals
 constant
    : stringLiteral          # string
@@ -831,4 +847,10 @@ keywordsCanBeId
    | FIRST
    | LAST
    | TYPE // TODO: Type is keyword required by relevancy function. Remove this when relevancy functions moved out
+   | CURRENT
+   | FOLLOWING
+   | PRECEDING
+   | ROW
+   | ROWS
+   | UNBOUNDED
    ;
@@ -13,14 +13,16 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 import org.opensearch.sql.sql.parser.AstBuilder;
 import org.opensearch.sql.sql.parser.AstStatementBuilder;
 
-/** SQL service. */
+/** SQL service. The statements parsed are reused through {@link StatementCache}. */
 @RequiredArgsConstructor
 public class SQLService {
 
@@ -30,6 +32,14 @@ public class SQLService {
 
   private final QueryPlanFactory queryExecutionFactory;
 
+  private final StatementCache statementCache;
+
+  /** Constructor of the service which parses each query. */
+  public SQLService(
+      SQLSyntaxParser parser, QueryManager queryManager, QueryPlanFactory queryExecutionFactory) {
+    this(parser, queryManager, queryExecutionFactory, StatementCache.disabled());
+  }
+
   /**
    * Given {@link SQLQueryRequest}, execute it. Using listener to listen result.
    *
@@ -81,17 +91,32 @@ public class SQLService {
           explainListener.orElse(null));
     } else {
       // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-      ParseTree cst = parser.parse(request.getQuery());
-      Statement statement =
-          cst.accept(
-              new AstStatementBuilder(
-                  new AstBuilder(request.getQuery()),
-                  AstStatementBuilder.StatementBuilderContext.builder()
-                      .isExplain(isExplainRequest)
-                      .fetchSize(request.getFetchSize())
-                      .build()));
+      Statement statement;
+      if (request.isProfileRequest()) {
+        // A profiled statement is not cached, so that it is parsed in the profile
+        QueryProfile profile = new QueryProfile();
+        statement = profile.time(QueryProfile.PARSE, () -> parse(request, profile));
+      } else {
+        statement =
+            statementCache.get(
+                new StatementCache.Key(
+                    "sql", request.getQuery(), isExplainRequest, request.getFetchSize()),
+                () -> parse(request, null));
+      }
 
       return queryExecutionFactory.create(statement, queryListener, explainListener);
     }
   }
+
+  private Statement parse(SQLQueryRequest request, QueryProfile profile) {
+    ParseTree cst = parser.parse(request.getQuery());
+    return cst.accept(
+        new AstStatementBuilder(
+            new AstBuilder(request.getQuery()),
+            AstStatementBuilder.StatementBuilderContext.builder()
+                .isExplain(request.isExplainRequest())
+                .fetchSize(request.getFetchSize())
+                .profile(profile)
+                .build()));
+  }
 }
@@ -25,8 +25,9 @@ import org.opensearch.sql.protocol.response.format.Format;
 @RequiredArgsConstructor
 public class SQLQueryRequest {
   private static final String QUERY_FIELD_CURSOR = "cursor";
+  private static final String QUERY_FIELD_PROFILE = "profile";
   private static final Set<String> SUPPORTED_FIELDS =
-      Set.of("query", "fetch_size", "parameters", QUERY_FIELD_CURSOR);
+      Set.of("query", "fetch_size", "parameters", QUERY_FIELD_CURSOR, QUERY_FIELD_PROFILE);
   private static final String QUERY_PARAMS_FORMAT = "format";
   private static final String QUERY_PARAMS_SANITIZE = "sanitize";
 
@@ -107,6 +108,17 @@ public class SQLQueryRequest {
     return path.endsWith("/_explain");
   }
 
+  /**
+   * Check if request is to execute the query and explain it with the profile of the execution.
+   *
+   * @return true if it is an explain request with profile enabled
+   */
+  public boolean isProfileRequest() {
+    return isExplainRequest()
+        && jsonContent != null
+        && jsonContent.optBoolean(QUERY_FIELD_PROFILE, false);
+  }
+
   public boolean isCursorCloseRequest() {
     return path.endsWith("/close");
   }
@@ -64,6 +64,7 @@ import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.TimeLitera
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.TimestampFunctionCallContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.TimestampLiteralContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.WindowFunctionClauseContext;
+import static org.opensearch.sql.sql.parser.ParserUtils.createFrame;
 import static org.opensearch.sql.sql.parser.ParserUtils.createSortOption;
 
 import com.google.common.collect.ImmutableList;
@@ -236,7 +237,12 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
               .map(item -> ImmutablePair.of(createSortOption(item), visit(item.expression())))
               .collect(Collectors.toList());
     }
-    return new WindowFunction(visit(ctx.function), partitionByList, sortList);
+
+    WindowFunction.Frame frame = null;
+    if (overClause.frameClause() != null) {
+      frame = createFrame(overClause.frameClause());
+    }
+    return new WindowFunction(visit(ctx.function), partitionByList, sortList, frame);
   }
 
   @Override
@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.ast.statement.Explain;
 import org.opensearch.sql.ast.statement.Query;
 import org.opensearch.sql.ast.statement.Statement;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParserBaseVisitor;
 
@@ -27,7 +28,7 @@ public class AstStatementBuilder extends OpenSearchSQLParserBaseVisitor<Statemen
   @Override
   public Statement visitSqlStatement(OpenSearchSQLParser.SqlStatementContext ctx) {
     Query query = new Query(astBuilder.visit(ctx), context.fetchSize);
-    return context.isExplain ? new Explain(query) : query;
+    return context.isExplain ? new Explain(query, context.profile) : query;
   }
 
   @Override
@@ -40,5 +41,8 @@ public class AstStatementBuilder extends OpenSearchSQLParserBaseVisitor<Statemen
   public static class StatementBuilderContext {
     private final boolean isExplain;
     private final int fetchSize;
+
+    /** Profile of the query explained, or null to explain without executing. */
+    private final QueryProfile profile;
   }
 }
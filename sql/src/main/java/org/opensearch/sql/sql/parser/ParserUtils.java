@@ -5,10 +5,20 @@
 
 package org.opensearch.sql.sql.parser;
 
+import static org.opensearch.sql.ast.expression.WindowFunction.BoundType;
+import static org.opensearch.sql.ast.expression.WindowFunction.Frame;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import static org.opensearch.sql.ast.expression.WindowFunction.FrameUnit;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder;
 import static org.opensearch.sql.ast.tree.Sort.SortOption;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.CurrentRowFrameBoundContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameBoundContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameClauseContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameOffsetContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.OffsetFrameBoundContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.OrderByElementContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.UnboundedPrecedingFrameBoundContext;
 
 import lombok.experimental.UtilityClass;
 import org.antlr.v4.runtime.ParserRuleContext;
@@ -50,4 +60,37 @@ public class ParserUtils {
       return null;
     }
   }
+
+  /** Create window frame from syntax tree node, which ends at current row if no end bound. */
+  public static Frame createFrame(FrameClauseContext ctx) {
+    FrameBound end =
+        (ctx.frameEnd == null)
+            ? new FrameBound(BoundType.CURRENT_ROW, null)
+            : createFrameBound(ctx.frameEnd);
+    return new Frame(
+        FrameUnit.valueOf(ctx.unit.getText().toUpperCase()), createFrameBound(ctx.frameStart), end);
+  }
+
+  /** Create window frame bound from syntax tree node. */
+  public static FrameBound createFrameBound(FrameBoundContext ctx) {
+    if (ctx instanceof UnboundedPrecedingFrameBoundContext) {
+      return new FrameBound(BoundType.UNBOUNDED_PRECEDING, null);
+    } else if (ctx instanceof CurrentRowFrameBoundContext) {
+      return new FrameBound(BoundType.CURRENT_ROW, null);
+    } else if (ctx instanceof OffsetFrameBoundContext) {
+      OffsetFrameBoundContext bound = (OffsetFrameBoundContext) ctx;
+      return new FrameBound(
+          BoundType.valueOf(bound.direction.getText().toUpperCase()),
+          createFrameOffset(bound.offset));
+    } else {
+      return new FrameBound(BoundType.UNBOUNDED_FOLLOWING, null);
+    }
+  }
+
+  private static Number createFrameOffset(FrameOffsetContext ctx) {
+    if (ctx.decimalLiteral() != null) {
+      return Long.valueOf(ctx.getText());
+    }
+    return Double.valueOf(ctx.getText());
+  }
 }
@@ -7,6 +7,7 @@ package org.opensearch.sql.sql;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -14,6 +15,7 @@ import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,7 +30,9 @@ import org.opensearch.sql.executor.DefaultQueryManager;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 
@@ -153,6 +157,38 @@ class SQLServiceTest {
         });
   }
 
+  @Test
+  public void can_profile_sql_query() {
+    doAnswer(
+            invocation -> {
+              QueryProfile profile = invocation.getArgument(1);
+              assertTrue(profile.phaseTimes().containsKey("parse_time_in_nanos"));
+              ResponseListener<ExplainResponse> listener = invocation.getArgument(2);
+              listener.onResponse(new ExplainResponse(new ExplainResponseNode("Test")));
+              return null;
+            })
+        .when(queryService)
+        .profile(any(), any(), any());
+
+    sqlService.explain(
+        new SQLQueryRequest(
+            new JSONObject("{\"query\": \"SELECT 123\", \"profile\": true}"),
+            "SELECT 123",
+            EXPLAIN,
+            "jdbc"),
+        new ResponseListener<ExplainResponse>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            assertNotNull(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail(e);
+          }
+        });
+  }
+
   @Test
   public void cannot_explain_cursor_query() {
     sqlService.explain(
@@ -206,4 +242,37 @@ class SQLServiceTest {
           }
         });
   }
+
+  @Test
+  public void can_reuse_statement_of_same_query() {
+    AtomicInteger hits = new AtomicInteger();
+    AtomicInteger misses = new AtomicInteger();
+    SQLService cachingService =
+        new SQLService(
+            new SQLSyntaxParser(),
+            queryManager,
+            new QueryPlanFactory(queryService),
+            new StatementCache(() -> 1000L, hits::incrementAndGet, misses::incrementAndGet));
+
+    cachingService.execute(
+        new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "jdbc"), noOpListener());
+    cachingService.execute(
+        new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "jdbc"), noOpListener());
+    cachingService.explain(
+        new SQLQueryRequest(new JSONObject(), "SELECT 123", EXPLAIN, "jdbc"), noOpListener());
+    assertEquals(1, hits.get());
+    assertEquals(2, misses.get());
+  }
+
+  private static <T> ResponseListener<T> noOpListener() {
+    return new ResponseListener<>() {
+      @Override
+      public void onResponse(T response) {}
+
+      @Override
+      public void onFailure(Exception e) {
+        fail(e);
+      }
+    };
+  }
 }
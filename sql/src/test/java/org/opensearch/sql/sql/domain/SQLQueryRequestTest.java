@@ -91,6 +91,27 @@ public class SQLQueryRequestTest {
         () -> assertTrue(explainRequest.isSupported()));
   }
 
+  @Test
+  public void should_support_explain_with_profile() {
+    SQLQueryRequest profileRequest =
+        SQLQueryRequestBuilder.request("SELECT 1")
+            .jsonContent("{\"query\": \"SELECT 1\", \"profile\": true}")
+            .path("_plugins/_sql/_explain")
+            .build();
+    SQLQueryRequest queryRequest =
+        SQLQueryRequestBuilder.request("SELECT 1")
+            .jsonContent("{\"query\": \"SELECT 1\", \"profile\": true}")
+            .build();
+    SQLQueryRequest explainRequest =
+        SQLQueryRequestBuilder.request("SELECT 1").path("_plugins/_sql/_explain").build();
+
+    assertAll(
+        () -> assertTrue(profileRequest.isSupported()),
+        () -> assertTrue(profileRequest.isProfileRequest()),
+        () -> assertFalse(queryRequest.isProfileRequest()),
+        () -> assertFalse(explainRequest.isProfileRequest()));
+  }
+
   @Test
   public void should_support_cursor_request() {
     SQLQueryRequest fetchSizeRequest =
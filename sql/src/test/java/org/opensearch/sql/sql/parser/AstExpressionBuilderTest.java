@@ -44,6 +44,10 @@ import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.ast.expression.RelevanceFieldList;
+import org.opensearch.sql.ast.expression.WindowFunction.BoundType;
+import org.opensearch.sql.ast.expression.WindowFunction.Frame;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFunction.FrameUnit;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
@@ -316,6 +320,58 @@ class AstExpressionBuilderTest {
         buildExprAst("AVG(age) OVER (PARTITION BY state ORDER BY age)"));
   }
 
+  @Test
+  public void canBuildWindowFunctionWithFrame() {
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(ImmutablePair.of(new SortOption(null, null), qualifiedName("age"))),
+            new Frame(
+                FrameUnit.ROWS,
+                new FrameBound(BoundType.UNBOUNDED_PRECEDING, null),
+                new FrameBound(BoundType.CURRENT_ROW, null))),
+        buildExprAst(
+            "SUM(age) OVER (ORDER BY age ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW)"));
+
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(ImmutablePair.of(new SortOption(null, null), qualifiedName("age"))),
+            new Frame(
+                FrameUnit.RANGE,
+                new FrameBound(BoundType.PRECEDING, 1.5),
+                new FrameBound(BoundType.UNBOUNDED_FOLLOWING, null))),
+        buildExprAst(
+            "SUM(age) OVER (ORDER BY age range between 1.5 preceding and unbounded following)"));
+  }
+
+  @Test
+  public void canBuildWindowFunctionWithFrameOfOffsets() {
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(),
+            new Frame(
+                FrameUnit.ROWS,
+                new FrameBound(BoundType.CURRENT_ROW, null),
+                new FrameBound(BoundType.FOLLOWING, 3L))),
+        buildExprAst("SUM(age) OVER (ROWS BETWEEN CURRENT ROW AND 3 FOLLOWING)"));
+
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(),
+            new Frame(
+                FrameUnit.ROWS,
+                new FrameBound(BoundType.PRECEDING, 2L),
+                new FrameBound(BoundType.CURRENT_ROW, null))),
+        buildExprAst("SUM(age) OVER (ROWS 2 PRECEDING)"));
+  }
+
   @Test
   public void canBuildCaseConditionStatement() {
     assertEquals(